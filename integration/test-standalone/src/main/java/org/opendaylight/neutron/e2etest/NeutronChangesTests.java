@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.e2etest;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.junit.Assert;
+
+/**
+ * Tests of the feed of the changes, which has to be enabled (change-feed-size) on the tested controller.
+ */
+public class NeutronChangesTests {
+
+    private static final String NETWORK_ID = "6a5b8c4e-2d3f-4e1a-9b7c-0d1e2f3a4b5c";
+
+    String base;
+
+    public NeutronChangesTests(String base) {
+        this.base = base;
+    }
+
+    // an empty list of changes may be left out
+    private static JsonArray changesOf(JsonObject changes) {
+        return changes.has("changes") ? changes.getAsJsonArray("changes") : new JsonArray();
+    }
+
+    public String cursor_get_test() {
+        JsonObject changes = HttpUtils.test_fetch_gson(base + "/changes", "Changes Cursor GET failed");
+        Assert.assertEquals("Changes Cursor GET failed", 0, changesOf(changes).size());
+        return changes.get("cursor").getAsString();
+    }
+
+    public String changes_get_test(String cursor) {
+        String url = base + "/networks";
+        String content = "{ \"network\": { \"name\": \"changes\", \"admin_state_up\": true, "
+                + " \"tenant_id\": \"9bacb3c5d39d41a79512987f338cf177\", \"shared\": false, "
+                + " \"id\": \"" + NETWORK_ID + "\" } }";
+        HttpUtils.test_create(url, content, "Changes Network Post Failed");
+
+        JsonObject changes = HttpUtils.test_fetch_gson(base + "/changes?timeout=10&cursor=" + cursor,
+                "Changes GET failed");
+        JsonArray found = changesOf(changes);
+        Assert.assertEquals("Changes GET failed", 1, found.size());
+        JsonObject change = found.get(0).getAsJsonObject();
+        Assert.assertEquals("create", change.get("action").getAsString());
+        Assert.assertEquals("networks", change.get("resource").getAsString());
+        Assert.assertEquals(NETWORK_ID, change.get("id").getAsString());
+        Assert.assertNotEquals(cursor, changes.get("cursor").getAsString());
+        return changes.get("cursor").getAsString();
+    }
+
+    public void filtered_changes_get_test(String cursor) {
+        HttpUtils.test_delete(base + "/networks/" + NETWORK_ID, "Changes Network Delete Failed");
+
+        JsonObject changes = HttpUtils.test_fetch_gson(base + "/changes?timeout=10&resource=networks&cursor="
+                + cursor, "Changes Filtered GET failed");
+        JsonArray found = changesOf(changes);
+        Assert.assertEquals("Changes Filtered GET failed", 1, found.size());
+        Assert.assertEquals("delete", found.get(0).getAsJsonObject().get("action").getAsString());
+        // the deletion of the network isn't a change of the ports, but the cursor moves past it
+        JsonObject portChanges = HttpUtils.test_fetch_gson(base + "/changes?resource=ports&cursor=" + cursor,
+                "Changes Filtered GET failed");
+        Assert.assertEquals("Changes Filtered GET failed", 0, changesOf(portChanges).size());
+        Assert.assertEquals(changes.get("cursor").getAsString(), portChanges.get("cursor").getAsString());
+    }
+
+    public void gone_cursor_test() {
+        // a cursor of another epoch, e.g. from before a restart
+        HttpUtils.test_fetch(base + "/changes?cursor=0-1", 410, "Changes Gone Cursor GET failed");
+    }
+
+    public void bad_request_test(String cursor) {
+        HttpUtils.test_fetch(base + "/changes?limit=0&cursor=" + cursor, 400, "Changes Bad Limit GET failed");
+    }
+
+    public static void runTests(String base) {
+        NeutronChangesTests tester = new NeutronChangesTests(base);
+        String cursor = tester.cursor_get_test();
+        String next = tester.changes_get_test(cursor);
+        tester.filtered_changes_get_test(next);
+        tester.gone_cursor_test();
+        tester.bad_request_test(next);
+    }
+}
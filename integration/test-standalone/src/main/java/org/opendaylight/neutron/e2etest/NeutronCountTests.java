@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.e2etest;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Assert;
+
+/**
+ * Tests of the counts of the objects (resource/count).
+ */
+public class NeutronCountTests {
+
+    private static final String NETWORK1_ID = "8c7d0e6a-4f5b-4a3c-9d9e-2f3a4b5c6d01";
+    private static final String NETWORK2_ID = "8c7d0e6a-4f5b-4a3c-9d9e-2f3a4b5c6d02";
+    private static final String NETWORK3_ID = "8c7d0e6a-4f5b-4a3c-9d9e-2f3a4b5c6d03";
+    // tenants of their own, so that the networks of the other tests aren't counted
+    private static final String TENANT1_ID = "4c1d7e2f9a8b4c3d8e7f6a5b4c3d2e01";
+    private static final String TENANT2_ID = "4c1d7e2f9a8b4c3d8e7f6a5b4c3d2e02";
+
+    String base;
+
+    public NeutronCountTests(String base) {
+        this.base = base;
+    }
+
+    private void create(String id, String name, String tenantId) {
+        String content = "{ \"network\": { \"name\": \"" + name + "\", \"admin_state_up\": true, "
+                + " \"tenant_id\": \"" + tenantId + "\", \"shared\": false, "
+                + " \"id\": \"" + id + "\" } }";
+        HttpUtils.test_create(base + "/networks", content, "Count Network Post Failed");
+    }
+
+    private JsonObject count(String query, String context) {
+        return HttpUtils.test_fetch_gson(base + "/networks/count?" + query, context);
+    }
+
+    // the counts by value of the group_by attribute
+    private static Map<String, Long> countsOf(JsonObject count) {
+        Map<String, Long> counts = new HashMap<>();
+        if (count.has("counts")) {
+            for (JsonElement group : count.getAsJsonArray("counts")) {
+                counts.put(group.getAsJsonObject().get("value").getAsString(),
+                        group.getAsJsonObject().get("count").getAsLong());
+            }
+        }
+        return counts;
+    }
+
+    public void count_test() {
+        create(NETWORK1_ID, "count1", TENANT1_ID);
+        create(NETWORK2_ID, "count2", TENANT1_ID);
+        create(NETWORK3_ID, "count1", TENANT2_ID);
+
+        Assert.assertEquals("Count GET Failed", 2,
+                count("tenant_id=" + TENANT1_ID, "Count GET Failed").get("count").getAsLong());
+        Assert.assertEquals("Count GET Failed", 1,
+                count("tenant_id=" + TENANT1_ID + "&name=count2", "Count GET Failed").get("count").getAsLong());
+        Assert.assertEquals("Count GET Failed", 0,
+                count("tenant_id=" + TENANT2_ID + "&name=count2", "Count GET Failed").get("count").getAsLong());
+    }
+
+    public void count_ignores_list_parameters_test() {
+        // the parameters of the list don't change what is counted
+        JsonObject count = count("tenant_id=" + TENANT1_ID + "&fields=id&fields=name&limit=1&marker=" + NETWORK1_ID
+                + "&page_reverse=true&sort_key=name&sort_dir=asc", "Count With List Parameters GET Failed");
+        Assert.assertEquals("Count With List Parameters GET Failed", 2, count.get("count").getAsLong());
+    }
+
+    public void count_group_by_test() {
+        JsonObject count = count("tenant_id=" + TENANT1_ID + "&group_by=name", "Count Group By GET Failed");
+        Assert.assertEquals("Count Group By GET Failed", 2, count.get("count").getAsLong());
+        Assert.assertEquals("Count Group By GET Failed", "name", count.get("group_by").getAsString());
+        Map<String, Long> expected = new HashMap<>();
+        expected.put("count1", 1L);
+        expected.put("count2", 1L);
+        Assert.assertEquals("Count Group By GET Failed", expected, countsOf(count));
+
+        JsonObject byTenant = count("name=count1&group_by=tenant_id", "Count Group By GET Failed");
+        Assert.assertEquals("Count Group By GET Failed", 1L, (long) countsOf(byTenant).get(TENANT1_ID));
+        Assert.assertEquals("Count Group By GET Failed", 1L, (long) countsOf(byTenant).get(TENANT2_ID));
+    }
+
+    public void count_bad_request_test() {
+        HttpUtils.test_fetch(base + "/networks/count?group_by=subnets", 400, "Count Bad Group By GET Failed");
+        HttpUtils.test_fetch(base + "/networks/count?subnets=x", 400, "Count Bad Filter GET Failed");
+        HttpUtils.test_fetch(base + "/networks/count?name=a&name=b", 400, "Count Two Values GET Failed");
+    }
+
+    public void delete_test() {
+        HttpUtils.test_delete(base + "/networks/" + NETWORK1_ID, "Count Network Delete Failed");
+        HttpUtils.test_delete(base + "/networks/" + NETWORK2_ID, "Count Network Delete Failed");
+        HttpUtils.test_delete(base + "/networks/" + NETWORK3_ID, "Count Network Delete Failed");
+    }
+
+    public static void runTests(String base) {
+        NeutronCountTests tester = new NeutronCountTests(base);
+        tester.count_test();
+        tester.count_ignores_list_parameters_test();
+        tester.count_group_by_test();
+        tester.count_bad_request_test();
+        tester.delete_test();
+    }
+}
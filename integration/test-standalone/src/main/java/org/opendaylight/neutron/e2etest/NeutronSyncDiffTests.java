@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.e2etest;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.Assert;
+
+/**
+ * Tests of the comparison of the revisions known to a client with the stored ones (resource/sync_diff).
+ */
+public class NeutronSyncDiffTests {
+
+    private static final String NETWORK1_ID = "7b6c9d5f-3e4a-4f2b-8c8d-1e2f3a4b5c01";
+    private static final String NETWORK2_ID = "7b6c9d5f-3e4a-4f2b-8c8d-1e2f3a4b5c02";
+    private static final String NETWORK3_ID = "7b6c9d5f-3e4a-4f2b-8c8d-1e2f3a4b5c03";
+    private static final String MISSING_ID = "7b6c9d5f-3e4a-4f2b-8c8d-1e2f3a4b5c99";
+
+    String base;
+
+    public NeutronSyncDiffTests(String base) {
+        this.base = base;
+    }
+
+    private void create(String id, long revisionNumber) {
+        String content = "{ \"network\": { \"name\": \"sync\", \"admin_state_up\": true, "
+                + " \"tenant_id\": \"9bacb3c5d39d41a79512987f338cf177\", \"shared\": false, "
+                + " \"revision_number\": " + revisionNumber + ", \"id\": \"" + id + "\" } }";
+        HttpUtils.test_create(base + "/networks", content, "Sync Diff Network Post Failed");
+    }
+
+    private JsonObject syncDiff(String content) {
+        try {
+            HttpURLConnection httpConn = HttpUtils.httpURLConnectionFactoryPost(new URL(base + "/networks/sync_diff"),
+                    content);
+            Assert.assertEquals("Sync Diff Post Failed", 200, httpConn.getResponseCode());
+            try (BufferedReader in = new BufferedReader(
+                    new InputStreamReader(httpConn.getInputStream(), StandardCharsets.UTF_8))) {
+                return new Gson().fromJson(in.lines().collect(Collectors.joining()), JsonObject.class);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // an empty list may be left out
+    private static Set<String> ids(JsonObject diff, String name) {
+        Set<String> ids = new HashSet<>();
+        if (diff.has(name)) {
+            for (JsonElement id : diff.getAsJsonArray(name)) {
+                ids.add(id.getAsString());
+            }
+        }
+        return ids;
+    }
+
+    public void sync_diff_test() {
+        create(NETWORK1_ID, 2);
+        create(NETWORK2_ID, 2);
+        create(NETWORK3_ID, 2);
+
+        String content = "{ \"revisions\": [ "
+                + "{ \"id\": \"" + NETWORK1_ID + "\", \"revision_number\": 2 }, "
+                + "{ \"id\": \"" + NETWORK2_ID + "\", \"revision_number\": 1 }, "
+                + "{ \"id\": \"" + MISSING_ID + "\", \"revision_number\": 1 } ] }";
+        JsonObject diff = syncDiff(content);
+        Assert.assertEquals("Sync Diff Missing Failed", Collections.singleton(MISSING_ID), ids(diff, "missing"));
+        Assert.assertEquals("Sync Diff Stale Failed", Collections.singleton(NETWORK2_ID), ids(diff, "stale"));
+        // the networks of the other tests are extra too
+        Set<String> extra = ids(diff, "extra");
+        Assert.assertTrue("Sync Diff Extra Failed", extra.contains(NETWORK3_ID));
+        Assert.assertFalse("Sync Diff Extra Failed", extra.contains(NETWORK1_ID) || extra.contains(NETWORK2_ID));
+    }
+
+    public void sync_diff_bad_request_test() {
+        HttpUtils.test_create(base + "/networks/sync_diff", 400, "{ \"revisions\": [ { \"revision_number\": 1 } ] }",
+                "Sync Diff Without Id Post Failed");
+    }
+
+    public void delete_test() {
+        HttpUtils.test_delete(base + "/networks/" + NETWORK1_ID, "Sync Diff Network Delete Failed");
+        HttpUtils.test_delete(base + "/networks/" + NETWORK2_ID, "Sync Diff Network Delete Failed");
+        HttpUtils.test_delete(base + "/networks/" + NETWORK3_ID, "Sync Diff Network Delete Failed");
+    }
+
+    public static void runTests(String base) {
+        NeutronSyncDiffTests tester = new NeutronSyncDiffTests(base);
+        tester.sync_diff_test();
+        tester.sync_diff_bad_request_test();
+        tester.delete_test();
+    }
+}
@@ -11,6 +11,7 @@ import static org.ops4j.pax.exam.CoreOptions.maven;
 import static org.ops4j.pax.exam.CoreOptions.vmOption;
 import static org.ops4j.pax.exam.CoreOptions.when;
 import static org.ops4j.pax.exam.karaf.options.KarafDistributionOption.configureConsole;
+import static org.ops4j.pax.exam.karaf.options.KarafDistributionOption.editConfigurationFilePut;
 import static org.ops4j.pax.exam.karaf.options.KarafDistributionOption.keepRuntimeFolder;
 import static org.ops4j.pax.exam.karaf.options.KarafDistributionOption.logLevel;
 
@@ -34,6 +35,8 @@ public class ITNeutronE2E extends AbstractMdsalTestBase {
 
     private static final String KARAF_DEBUG_PORT = "5005";
     private static final String KARAF_DEBUG_PROP = "karaf.debug";
+    private static final String BASE_URL = "http://127.0.0.1:8181/controller/nb/v2/neutron";
+    private static final String TRANSCRIBER_CONFIG = "etc/org.opendaylight.neutron.transcriber.cfg";
 
     @Override
     public MavenUrlReference getFeatureRepo() {
@@ -69,13 +72,30 @@ public class ITNeutronE2E extends AbstractMdsalTestBase {
             vmOption("-javaagent:../../pax/jars/org.jacoco.agent.jar=destfile=../../jacoco-it.exec"),
             keepRuntimeFolder(), configureConsole().ignoreLocalConsole(),
             logLevel(LogLevel.INFO),
+            // the change feed is disabled by default
+            editConfigurationFilePut(TRANSCRIBER_CONFIG, "change-feed-size", "1024"),
             when(Boolean.getBoolean(KARAF_DEBUG_PROP)).useOptions(
                 KarafDistributionOption.debugConfiguration(KARAF_DEBUG_PORT, true)),};
     }
 
     @Test
     public void test() throws IOException, InterruptedException {
-        NeutronAllTests.testNeutron("http://127.0.0.1:8181/controller/nb/v2/neutron");
+        NeutronAllTests.testNeutron(BASE_URL);
+    }
+
+    @Test
+    public void testChanges() {
+        NeutronChangesTests.runTests(BASE_URL);
+    }
+
+    @Test
+    public void testSyncDiff() {
+        NeutronSyncDiffTests.runTests(BASE_URL);
+    }
+
+    @Test
+    public void testCount() {
+        NeutronCountTests.runTests(BASE_URL);
     }
 
 }
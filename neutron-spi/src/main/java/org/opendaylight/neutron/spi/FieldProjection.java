@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.spi;
+
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import javax.xml.bind.annotation.XmlElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Projection of neutron objects to a list of fields, see {@link INeutronObject#extractFields(List)}.
+ *
+ * <p>A projection is compiled once per class and field list: the fields named like the JSON name of an
+ * {@link XmlElement} field (e.g. "binding:host_id") are bound to method handles, so that projecting an object
+ * only copies these fields; other names are left to {@link NeutronObject#extractField(String, NeutronObject)}.
+ */
+public final class FieldProjection<T extends INeutronObject<T>> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FieldProjection.class);
+
+    // projections compiled for other field lists aren't cached any more past this number, per class
+    private static final int MAX_CACHED_PROJECTIONS = 256;
+    private static final String DEFAULT_NAME = "##default";
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class);
+
+    private static final ClassValue<ConcurrentMap<List<String>, FieldProjection<?>>> PROJECTIONS =
+        new ClassValue<ConcurrentMap<List<String>, FieldProjection<?>>>() {
+            @Override
+            protected ConcurrentMap<List<String>, FieldProjection<?>> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+    // the JSON names of all the fields of a class
+    private static final ClassValue<List<String>> ALL_FIELDS = new ClassValue<List<String>>() {
+        @Override
+        protected List<String> computeValue(Class<?> type) {
+            return ImmutableList.copyOf(elements(type).keySet());
+        }
+    };
+
+    private static final class Accessor {
+        final MethodHandle getter;
+        final MethodHandle setter;
+
+        Accessor(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+
+    private final Class<T> type;
+    private final List<String> fields;
+    private final MethodHandle constructor;
+    private final String[] accessorFields;
+    private final Accessor[] accessors;
+    private final List<String> otherFields = new ArrayList<>();
+
+    private FieldProjection(Class<T> type, List<String> fields) {
+        this.type = type;
+        this.fields = fields;
+        final Map<String, Field> elements = elements(type);
+        final List<String> names = new ArrayList<>();
+        final List<Accessor> handles = new ArrayList<>();
+        try {
+            constructor = MethodHandles.lookup().findConstructor(type, MethodType.methodType(void.class))
+                    .asType(FACTORY_TYPE);
+            for (String name : fields) {
+                final Field field = elements.get(name);
+                if (field != null) {
+                    names.add(name);
+                    handles.add(new Accessor(MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE),
+                            MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE)));
+                } else {
+                    otherFields.add(name);
+                }
+            }
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException("Can't project " + type, e);
+        }
+        this.accessorFields = names.toArray(new String[0]);
+        this.accessors = handles.toArray(new Accessor[0]);
+    }
+
+    /**
+     * Returns the projection of objects of the given class to the given fields.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends INeutronObject<T>> FieldProjection<T> of(Class<T> type, List<String> fields) {
+        final ConcurrentMap<List<String>, FieldProjection<?>> projections = PROJECTIONS.get(type);
+        FieldProjection<T> projection = (FieldProjection<T>) projections.get(fields);
+        if (projection == null) {
+            projection = new FieldProjection<>(type, ImmutableList.copyOf(fields));
+            if (projections.size() < MAX_CACHED_PROJECTIONS) {
+                projections.putIfAbsent(projection.fields, projection);
+            }
+        }
+        return projection;
+    }
+
+    /**
+     * Returns a copy of the given object with all its fields, lists and maps being copied, so that setting its
+     * fields doesn't change the given object.
+     */
+    public static <T extends INeutronObject<T>> T copy(T object) {
+        @SuppressWarnings("unchecked")
+        final Class<T> type = (Class<T>) object.getClass();
+        return of(type, ALL_FIELDS.get(type)).project(object);
+    }
+
+    /**
+     * Returns the fields of a class with an {@link XmlElement}, by JSON name, the fields of the subclasses first.
+     */
+    private static Map<String, Field> elements(Class<?> type) {
+        final Map<String, Field> elements = new LinkedHashMap<>();
+        for (Class<?> cls = type; cls != null && !Object.class.equals(cls); cls = cls.getSuperclass()) {
+            for (Field field : cls.getDeclaredFields()) {
+                final XmlElement element = field.getAnnotation(XmlElement.class);
+                if (element != null && !Modifier.isStatic(field.getModifiers())) {
+                    elements.putIfAbsent(jsonName(element, field), field);
+                }
+            }
+        }
+        return elements;
+    }
+
+    private static String jsonName(XmlElement element, Field field) {
+        final String name = DEFAULT_NAME.equals(element.name()) ? field.getName() : element.name();
+        final String namespace = element.namespace();
+        return DEFAULT_NAME.equals(namespace) || namespace.isEmpty() ? name : namespace + ':' + name;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public List<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * Whether all fields are copied directly, i.e. {@link #build(Function)} can be used.
+     */
+    public boolean isDirect() {
+        return otherFields.isEmpty();
+    }
+
+    /**
+     * Returns a new object with the projected fields of the given object, lists and maps being copied.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public T project(T object) {
+        final T answer = newInstance();
+        for (Accessor accessor : accessors) {
+            Object value = invokeGetter(accessor.getter, object);
+            if (value instanceof List) {
+                value = new ArrayList<>((List<?>) value);
+            } else if (value instanceof Map) {
+                value = new HashMap<>((Map<?, ?>) value);
+            }
+            invokeSetter(accessor.setter, answer, value);
+        }
+        for (String field : otherFields) {
+            if (!((NeutronObject) object).extractField(field, (NeutronObject) answer)) {
+                LOG.warn("Unknown {} {}.", type.getSimpleName(), field);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Returns a new object with only the projected fields set, to the given values.
+     *
+     * @param valueOf returns the value of a field, in the type of the object field
+     * @throws IllegalStateException if the projection isn't {@link #isDirect()}
+     */
+    public T build(Function<String, ?> valueOf) {
+        if (!isDirect()) {
+            throw new IllegalStateException("Can't build " + type.getSimpleName() + " with " + otherFields);
+        }
+        final T answer = newInstance();
+        for (int i = 0; i < accessors.length; i++) {
+            invokeSetter(accessors[i].setter, answer, valueOf.apply(accessorFields[i]));
+        }
+        return answer;
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private T newInstance() {
+        try {
+            return type.cast(constructor.invokeExact());
+        } catch (Throwable e) {
+            Throwables.throwIfUnchecked(e);
+            // should not happen.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private static Object invokeGetter(MethodHandle getter, Object object) {
+        try {
+            return getter.invokeExact(object);
+        } catch (Throwable e) {
+            Throwables.throwIfUnchecked(e);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private static void invokeSetter(MethodHandle setter, Object object, Object value) {
+        try {
+            setter.invokeExact(object, value);
+        } catch (Throwable e) {
+            Throwables.throwIfUnchecked(e);
+            throw new IllegalStateException(e);
+        }
+    }
+}
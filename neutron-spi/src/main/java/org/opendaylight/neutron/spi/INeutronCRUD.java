@@ -7,12 +7,22 @@
  */
 package org.opendaylight.neutron.spi;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 /**
  * This interface defines the methods for CRUD of NB neutron objects.
+ * The methods block until the datastore operation completed, see
+ * {@link INeutronCRUDAsync} for the non-blocking variants.
+ *
+ * <p>The Neutron objects returned belong to the caller, they aren't shared
+ * with other callers or kept by the implementation, so the caller may modify
+ * them.
  */
-public interface INeutronCRUD<T extends INeutronObject<T>> {
+public interface INeutronCRUD<T extends INeutronObject<T>> extends INeutronCRUDAsync<T> {
 
     /**
      * Applications call this interface method to determine if a particular
@@ -35,6 +45,73 @@ public interface INeutronCRUD<T extends INeutronObject<T>> {
      */
     T get(String uuid);
 
+    /**
+     * Applications call this interface method to return a tag of the current
+     * content of a particular Neutron object, without converting the whole
+     * object. The tag changes whenever the object is updated, whether its
+     * revision number is bumped or not, so that it can be used to tell
+     * whether the object has changed since it was last read.
+     *
+     * @param uuid
+     *            UUID of the Neutron object
+     * @return tag of the object, null if the object doesn't exist
+     */
+    String getVersionTag(String uuid);
+
+    /**
+     * Applications call this interface method to return a tag of the current
+     * content of the whole collection of Neutron objects. The tag changes
+     * whenever an object is added, updated or removed, so that it can be used
+     * to tell whether a list has changed since it was last read.
+     *
+     * @return tag of the collection, null if changes aren't tracked for it
+     */
+    String getChangeTag();
+
+    /**
+     * Applications call this interface method to compare the revisions of
+     * the Neutron objects they know with the stored ones, e.g. to find out
+     * what to resynchronize, without reading the objects.
+     *
+     * @param revisionNumbers
+     *            revision numbers of the known objects by UUID, null for an
+     *            object whose revision isn't to be compared
+     * @return the known objects which aren't stored, those stored with
+     *         another revision number, and the stored objects which aren't
+     *         known
+     */
+    NeutronRevisionDiff diffRevisions(Map<String, Long> revisionNumbers);
+
+    /**
+     * Applications call this interface method to count the Neutron objects
+     * whose attributes have the given values, and to count them by the value
+     * of another attribute, e.g. the ports of a tenant by network, without
+     * reading the objects.
+     *
+     * @param filters
+     *            attribute values of the counted objects, by attribute name
+     * @param groupBy
+     *            attribute by whose value the objects are counted too; null
+     *            to only count them
+     * @return the number of matching objects, and their numbers by value of
+     *         the groupBy attribute
+     * @throws IllegalArgumentException
+     *             if the objects can't be counted by one of the attributes
+     */
+    NeutronCount count(Map<String, String> filters, String groupBy);
+
+    /**
+     * Applications call this interface method to return several particular
+     * Neutron objects at once. All objects are read concurrently in one
+     * transaction.
+     *
+     * @param uuids
+     *            UUIDs of the Neutron objects
+     * @return the existing objects by UUID, in the order of the given UUIDs;
+     *         UUIDs of objects which don't exist are left out
+     */
+    Map<String, T> getMany(Collection<String> uuids);
+
     /**
      * Applications call this interface method to return all Neutron objects.
      *
@@ -42,34 +119,109 @@ public interface INeutronCRUD<T extends INeutronObject<T>> {
      */
     List<T> getAll();
 
+    /**
+     * Applications call this interface method to return the Neutron objects
+     * matching a query. Implementations evaluate the filters they can on the
+     * stored data, so that only the matching objects are converted.
+     *
+     * @param query
+     *            filters, sort keys, projection and page of the query
+     * @return the matching objects, projected to the query fields; ordered by
+     *         the sort keys and UUID if sort keys or a page were requested
+     */
+    List<T> query(NeutronQuery<T> query);
+
+    /**
+     * Applications call this interface method to stream the Neutron objects
+     * matching a query, see {@link #query(NeutronQuery)}. The objects are
+     * converted as the stream is consumed, so that a large result doesn't
+     * have to be held in memory at once. The stream may hold a read
+     * transaction, so it has to be closed.
+     *
+     * @param query
+     *            filters, sort keys, projection and page of the query
+     * @return the matching objects, in the order of {@link #query(NeutronQuery)}
+     */
+    Stream<T> stream(NeutronQuery<T> query);
+
     /**
      * Applications call this interface method to add a Neutron object to the
      * concurrent map.
      *
      * @param input
      *            OpenStackNeutron object
-     * @return boolean on whether the object was added or not
+     * @return boolean on whether the object was added or not (false if an
+     *         object with the same UUID already exists); if the transaction
+     *         fails, the failure is thrown as an unchecked exception
      */
     boolean add(T input);
 
+    /**
+     * Applications call this interface method to add several Neutron objects
+     * at once. The existence of all objects is checked in one read and all new
+     * objects are written in one transaction.
+     *
+     * @param input
+     *            OpenStackNeutron objects
+     * @return for each input object, in the same order, whether it was added
+     *         (false if an object with the same UUID already exists); if the
+     *         transaction fails, none is added and the failure is thrown as an
+     *         unchecked exception
+     */
+    List<Boolean> addAll(List<T> input);
+
     /**
      * Applications call this interface method to remove a Neutron object to the
      * concurrent map.
      *
      * @param uuid
      *            identifier for the neutron object
-     * @return boolean on whether the object was removed or not
+     * @return boolean on whether the object was removed or not (false if it
+     *         doesn't exist); if the transaction fails, the failure is thrown
+     *         as an unchecked exception
      */
     boolean remove(String uuid);
 
     /**
-     * Applications call this interface method to edit a Neutron object.
+     * Applications call this interface method to edit a Neutron object. If
+     * the implementation merges the updates, the delta is merged into the
+     * object named by uuid as in {@link #updateIfRevision}, otherwise it
+     * replaces the object.
      *
      * @param uuid
      *            identifier of the neutron object
      * @param delta
      *            OpenStackNeutron object containing changes to apply
-     * @return boolean on whether the object was updated or not
+     * @return boolean on whether the object was updated or not (false if it
+     *         doesn't exist); if the transaction fails, the failure is thrown
+     *         as an unchecked exception
      */
     boolean update(String uuid, T delta);
+
+    /**
+     * Applications call this interface method to edit a Neutron object unless
+     * a newer revision of it is stored. The stored object is read, its
+     * revision compared, the delta completed and written in one transaction.
+     *
+     * @param uuid
+     *            identifier of the neutron object
+     * @param delta
+     *            OpenStackNeutron object containing changes to apply
+     * @param expectedRevision
+     *            the delta is only applied if the stored revision number is
+     *            not greater than this one; null to apply it in any case
+     * @param merge
+     *            called with a copy of the delta, whose ID is uuid, and the
+     *            stored object before the copy is written, to complete it
+     *            from the stored object and to keep the attributes which
+     *            can't be updated; may be null. It's also called if the delta
+     *            is merged into the stored object, and is called again, with
+     *            a new copy, if the stored object is read again after a
+     *            conflict. The delta itself isn't changed
+     * @return the object as it is stored after the call: the updated object,
+     *         or the unchanged stored object if its revision number is greater
+     *         than expectedRevision; null if the object doesn't exist. If the
+     *         transaction fails, the failure is thrown as an unchecked exception
+     */
+    T updateIfRevision(String uuid, T delta, Long expectedRevision, BiConsumer<T, T> merge);
 }
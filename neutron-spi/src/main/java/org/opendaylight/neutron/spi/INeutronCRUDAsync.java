@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.spi;
+
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * This interface defines non-blocking variants of the {@link INeutronCRUD}
+ * methods. The calling thread doesn't wait for the datastore; the returned
+ * futures complete once the underlying read or commit completed, and fail if
+ * it failed.
+ */
+public interface INeutronCRUDAsync<T extends INeutronObject<T>> {
+
+    /**
+     * Applications call this interface method to read a particular Neutron
+     * object.
+     *
+     * @param uuid
+     *            UUID of the Neutron object
+     * @return future of the OpenStack Neutron object, or of null if it
+     *         doesn't exist
+     */
+    ListenableFuture<T> getAsync(String uuid);
+
+    /**
+     * Applications call this interface method to add a Neutron object.
+     *
+     * @param input
+     *            OpenStackNeutron object
+     * @return future of whether the object was added or not
+     */
+    ListenableFuture<Boolean> addAsync(T input);
+
+    /**
+     * Applications call this interface method to edit a Neutron object, as
+     * {@link INeutronCRUD#update(String, INeutronObject)} does.
+     *
+     * @param uuid
+     *            identifier of the neutron object
+     * @param delta
+     *            OpenStackNeutron object containing changes to apply
+     * @return future of whether the object was updated or not
+     */
+    ListenableFuture<Boolean> updateAsync(String uuid, T delta);
+
+    /**
+     * Applications call this interface method to remove a Neutron object.
+     *
+     * @param uuid
+     *            identifier for the neutron object
+     * @return future of whether the object was removed or not
+     */
+    ListenableFuture<Boolean> removeAsync(String uuid);
+}
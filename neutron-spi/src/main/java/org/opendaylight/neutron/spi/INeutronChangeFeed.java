@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.spi;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This interface defines the feed of the changes of the Neutron objects, so that applications can follow the
+ * changes instead of reading the objects again and again.
+ *
+ * <p>The changes are numbered in the order they were made, and a cursor designates the position after a change.
+ * Only a bounded number of the last changes is kept: an application which falls behind further, or which holds a
+ * cursor of before a restart, has to read the objects again, after taking the {@link #getCursor() current
+ * cursor}.
+ */
+public interface INeutronChangeFeed {
+
+    /**
+     * Whether the changes are kept, otherwise there are never any.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the cursor after the last change.
+     */
+    String getCursor();
+
+    /**
+     * Returns the changes after a cursor, waiting for one if there is none yet.
+     *
+     * @param cursor
+     *            cursor after which the changes are returned
+     * @param resources
+     *            resources of the changes to return, all if empty
+     * @param limit
+     *            maximum number of changes to return
+     * @param timeout
+     *            how long to wait for a change, 0 not to wait
+     * @param unit
+     *            unit of the timeout
+     * @return the changes, empty if there were none within the timeout, and the cursor after them; null if the
+     *         changes after the cursor aren't kept any more, or the cursor isn't one of this feed
+     * @throws InterruptedException
+     *            if the thread was interrupted while waiting
+     */
+    NeutronChanges getChanges(String cursor, Set<String> resources, int limit, long timeout, TimeUnit unit)
+            throws InterruptedException;
+}
@@ -7,10 +7,60 @@
  */
 package org.opendaylight.neutron.spi;
 
+import java.util.List;
+
 /**
  * This interface defines the methods for CRUD of NB Port objects.
  */
 public interface INeutronPortCRUD extends INeutronCRUD<NeutronPort> {
-    // Nothing Here.
-    // This class is defined to use reflection.
+
+    /**
+     * Applications call this interface method to return all Port objects
+     * attached to a network.
+     *
+     * @param networkUUID
+     *            UUID of the network, as returned by {@link NeutronPort#getNetworkUUID()}
+     * @return List of the matching ports
+     */
+    List<NeutronPort> getByNetworkUUID(String networkUUID);
+
+    /**
+     * Applications call this interface method to return all Port objects
+     * of a device.
+     *
+     * @param deviceID
+     *            device ID, as returned by {@link NeutronPort#getDeviceID()}
+     * @return List of the matching ports
+     */
+    List<NeutronPort> getByDeviceID(String deviceID);
+
+    /**
+     * Applications call this interface method to return all Port objects
+     * with a device owner.
+     *
+     * @param deviceOwner
+     *            device owner, as returned by {@link NeutronPort#getDeviceOwner()}
+     * @return List of the matching ports
+     */
+    List<NeutronPort> getByDeviceOwner(String deviceOwner);
+
+    /**
+     * Applications call this interface method to return all Port objects
+     * with a MAC address.
+     *
+     * @param macAddress
+     *            MAC address, as returned by {@link NeutronPort#getMacAddress()}
+     * @return List of the matching ports
+     */
+    List<NeutronPort> getByMacAddress(String macAddress);
+
+    /**
+     * Applications call this interface method to return all Port objects
+     * of a tenant.
+     *
+     * @param tenantID
+     *            tenant ID, as returned by {@link NeutronPort#getTenantID()}
+     * @return List of the matching ports
+     */
+    List<NeutronPort> getByTenantID(String tenantID);
 }
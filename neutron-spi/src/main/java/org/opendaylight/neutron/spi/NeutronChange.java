@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.spi;
+
+import java.io.Serializable;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Change of a Neutron object, as given by the {@link INeutronChangeFeed}.
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.NONE)
+public final class NeutronChange implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public static final String CREATE = "create";
+    public static final String UPDATE = "update";
+    public static final String DELETE = "delete";
+
+    // one of CREATE, UPDATE or DELETE
+    @XmlElement(name = "action")
+    String action;
+
+    // lower case name of the MD-SAL container of the object, e.g. "ports"
+    @XmlElement(name = "resource")
+    String resource;
+
+    @XmlElement(name = "id")
+    String id;
+
+    // revision of the created or updated object, if it has one
+    @XmlElement(name = "revision_number")
+    Long revisionNumber;
+
+    public NeutronChange() {
+    }
+
+    public NeutronChange(String action, String resource, String id, Long revisionNumber) {
+        this.action = action;
+        this.resource = resource;
+        this.id = id;
+        this.revisionNumber = revisionNumber;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getResource() {
+        return resource;
+    }
+
+    public String getID() {
+        return id;
+    }
+
+    public Long getRevisionNumber() {
+        return revisionNumber;
+    }
+
+    @Override
+    public String toString() {
+        return "NeutronChange [action=" + action + ", resource=" + resource + ", id=" + id + ", revisionNumber="
+                + revisionNumber + "]";
+    }
+}
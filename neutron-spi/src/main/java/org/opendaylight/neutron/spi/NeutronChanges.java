@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.spi;
+
+import java.io.Serializable;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Changes of the Neutron objects after a cursor of the {@link INeutronChangeFeed}, in the order they were made,
+ * and the cursor after them.
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.NONE)
+public final class NeutronChanges implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @XmlElement(name = "changes")
+    List<NeutronChange> changes;
+
+    @XmlElement(name = "cursor")
+    String cursor;
+
+    public NeutronChanges() {
+    }
+
+    public NeutronChanges(List<NeutronChange> changes, String cursor) {
+        this.changes = changes;
+        this.cursor = cursor;
+    }
+
+    public List<NeutronChange> getChanges() {
+        return changes;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.spi;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Number of the Neutron objects matching some attribute values, and their numbers by the value of another
+ * attribute, see {@link INeutronCRUD#count(Map, String)}.
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.NONE)
+public final class NeutronCount implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Number of the objects with one value of the group_by attribute.
+     */
+    @XmlAccessorType(XmlAccessType.NONE)
+    public static final class Group implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        @XmlElement(name = "value")
+        String value;
+
+        @XmlElement(name = "count")
+        Long count;
+
+        Group() {
+        }
+
+        Group(String value, Long count) {
+            this.value = value;
+            this.count = count;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public Long getCount() {
+            return count;
+        }
+    }
+
+    @XmlElement(name = "count")
+    Long count;
+
+    @XmlElement(name = "group_by")
+    String groupBy;
+
+    // by value of the group_by attribute, the objects without value aren't counted
+    @XmlElement(name = "counts")
+    List<Group> counts;
+
+    public NeutronCount() {
+    }
+
+    /**
+     * Creates a count, with the counts by value of the groupBy attribute unless it is null.
+     */
+    public NeutronCount(long count, String groupBy, Map<String, Long> counts) {
+        this.count = count;
+        this.groupBy = groupBy;
+        if (groupBy != null) {
+            this.counts = new ArrayList<>(counts.size());
+            // ordered by value, so that equal counts have the same representation
+            new TreeMap<>(counts).forEach((value, valueCount) -> this.counts.add(new Group(value, valueCount)));
+        }
+    }
+
+    public Long getCount() {
+        return count;
+    }
+
+    public String getGroupBy() {
+        return groupBy;
+    }
+
+    /**
+     * Returns the number of objects by value of the group_by attribute, null without group_by attribute.
+     */
+    public Map<String, Long> getCounts() {
+        if (counts == null) {
+            return null;
+        }
+        final Map<String, Long> result = new LinkedHashMap<>();
+        for (Group group : counts) {
+            result.put(group.getValue(), group.getCount());
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "NeutronCount [count=" + count + ", groupBy=" + groupBy + ", counts=" + getCounts() + "]";
+    }
+}
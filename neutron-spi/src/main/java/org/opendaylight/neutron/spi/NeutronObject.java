@@ -9,8 +9,6 @@
 
 package org.opendaylight.neutron.spi;
 
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
 import java.util.List;
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -18,17 +16,10 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlTransient;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Uuid;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 @XmlRootElement
 @XmlAccessorType(XmlAccessType.NONE)
 public abstract class NeutronObject<T extends NeutronObject<T>> extends NeutronID implements INeutronObject<T> {
-    // T extends NeutronObject as 0th type argument. Used by extractFields()
-    private static final int NEUTRON_OBJECT_CLASS_TYPE_INDEX = 0;
-
-    private static final Logger LOG = LoggerFactory.getLogger(NeutronFirewallRule.class);
-
     private static final long serialVersionUID = 1L;
 
     @XmlElement(name = "tenant_id")
@@ -101,7 +92,8 @@ public abstract class NeutronObject<T extends NeutronObject<T>> extends NeutronI
 
     /**
      * This method copies selected fields from the object and returns them
-     * as a new object, suitable for marshaling.
+     * as a new object, suitable for marshaling. See {@link FieldProjection},
+     * which is compiled once per class and field list.
      *
      * @param fields
      *            List of attributes to be extracted
@@ -111,23 +103,9 @@ public abstract class NeutronObject<T extends NeutronObject<T>> extends NeutronI
 
     @Override
     public T extractFields(List<String> fields) {
-        ParameterizedType parameterizedType = (ParameterizedType) getClass().getGenericSuperclass();
-        Type[] types = parameterizedType.getActualTypeArguments();
         @SuppressWarnings("unchecked")
-        Class<T> cls = (Class<T>) types[NEUTRON_OBJECT_CLASS_TYPE_INDEX];
-        T ans;
-        try {
-            ans = cls.newInstance();
-        } catch (IllegalAccessException | InstantiationException e) {
-            // should not happen.
-            throw new IllegalStateException(e);
-        }
-        for (String s : fields) {
-            if (!extractField(s, ans)) {
-                LOG.warn("Unknown {} {}.", cls.getSimpleName(), s);
-            }
-        }
-        return ans;
+        final Class<T> cls = (Class<T>) getClass();
+        return FieldProjection.of(cls, fields).project(cls.cast(this));
     }
 
     protected boolean extractField(String field, T ans) {
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.spi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Query of Neutron objects, see {@link INeutronCRUD#query(NeutronQuery)}.
+ *
+ * <p>A query consists of equality filters, sort keys, a field projection and a page. Each filter names the neutron
+ * attribute (e.g. "tenant_id") and its value in the format the neutron-spi object has it, so that the
+ * implementation can evaluate it on the stored data before converting it, and also carries the equivalent
+ * predicate on the neutron-spi object, which is used for the attributes the implementation can't evaluate
+ * on the stored data.
+ *
+ * <p>The page is given by a marker and a limit: the matching objects are ordered by the sort keys and then
+ * by their UUID, the page starts right after the marker (or before it, if reversed) and contains at most
+ * limit objects. Without sort keys, the marker doesn't have to be the UUID of an existing object.
+ */
+public final class NeutronQuery<T extends INeutronObject<T>> {
+
+    public static final class Filter<T> {
+        private final String attribute;
+        private final String value;
+        private final Predicate<T> predicate;
+
+        Filter(String attribute, String value, Predicate<T> predicate) {
+            this.attribute = attribute;
+            this.value = value;
+            this.predicate = predicate;
+        }
+
+        public String getAttribute() {
+            return attribute;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public Predicate<T> getPredicate() {
+            return predicate;
+        }
+    }
+
+    public static final class Sort<T> {
+        private final String attribute;
+        private final boolean descending;
+        private final Comparator<T> comparator;
+
+        Sort(String attribute, boolean descending, Comparator<T> comparator) {
+            this.attribute = attribute;
+            this.descending = descending;
+            this.comparator = comparator;
+        }
+
+        public String getAttribute() {
+            return attribute;
+        }
+
+        public boolean isDescending() {
+            return descending;
+        }
+
+        public Comparator<T> getComparator() {
+            return comparator;
+        }
+    }
+
+    private final List<Filter<T>> filters = new ArrayList<>();
+    private final List<Sort<T>> sorts = new ArrayList<>();
+    private Comparator<T> order;
+    private List<String> fields = Collections.emptyList();
+    private FieldProjection<T> projection;
+    private Integer limit;
+    private String marker;
+    private boolean pageReverse;
+
+    /**
+     * Adds an equality filter, unless the value is null.
+     *
+     * @param attribute neutron name of the attribute
+     * @param value value of the attribute in the format of the neutron-spi object, null to not filter
+     * @param predicate equivalent check on the neutron-spi object
+     * @return this query
+     */
+    public NeutronQuery<T> filter(String attribute, String value, Predicate<T> predicate) {
+        if (value != null) {
+            filters.add(new Filter<>(attribute, value, predicate));
+        }
+        return this;
+    }
+
+    /**
+     * Adds a filter which can only be evaluated on the neutron-spi object, unless the value is null.
+     */
+    public NeutronQuery<T> filter(Object value, Predicate<T> predicate) {
+        if (value != null) {
+            filters.add(new Filter<>(null, null, predicate));
+        }
+        return this;
+    }
+
+    /**
+     * Adds a sort key. The objects are ordered by the sort keys in the order they were added, and then by UUID,
+     * in the direction of the last sort key.
+     *
+     * @param attribute neutron name of the attribute
+     * @param descending whether to sort in descending order
+     * @param comparator ascending order of the attribute, which has to put the objects without the attribute
+     *                   first and compare string values with {@link String#compareTo(String)}, so that the
+     *                   implementation can use an index instead
+     * @return this query
+     */
+    public NeutronQuery<T> sort(String attribute, boolean descending, Comparator<T> comparator) {
+        sorts.add(new Sort<>(attribute, descending, comparator));
+        order = null;
+        return this;
+    }
+
+    /**
+     * Projects the result to the given fields, see {@link INeutronObject#extractFields(List)}.
+     */
+    public NeutronQuery<T> fields(List<String> newFields) {
+        this.fields = newFields != null ? newFields : Collections.emptyList();
+        projection = null;
+        return this;
+    }
+
+    public NeutronQuery<T> page(Integer newLimit, String newMarker, boolean newPageReverse) {
+        this.limit = newLimit;
+        this.marker = newMarker;
+        this.pageReverse = newPageReverse;
+        return this;
+    }
+
+    public List<Filter<T>> getFilters() {
+        return Collections.unmodifiableList(filters);
+    }
+
+    public List<Sort<T>> getSorts() {
+        return Collections.unmodifiableList(sorts);
+    }
+
+    public List<String> getFields() {
+        return fields;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public String getMarker() {
+        return marker;
+    }
+
+    public boolean isPageReverse() {
+        return pageReverse;
+    }
+
+    /**
+     * Whether the results have to be ordered by UUID, i.e. a page was requested.
+     */
+    public boolean isPaged() {
+        return limit != null || marker != null;
+    }
+
+    public boolean isSorted() {
+        return !sorts.isEmpty();
+    }
+
+    /**
+     * Order of the results: by the sort keys, then by UUID.
+     */
+    public Comparator<T> getOrder() {
+        if (order == null) {
+            Comparator<T> bySortKeys = null;
+            for (Sort<T> sort : sorts) {
+                final Comparator<T> comparator = sort.descending ? sort.comparator.reversed() : sort.comparator;
+                bySortKeys = bySortKeys == null ? comparator : bySortKeys.thenComparing(comparator);
+            }
+            final Comparator<T> byId = Comparator.comparing(INeutronObject::getID);
+            order = bySortKeys == null ? byId
+                    : bySortKeys.thenComparing(sorts.get(sorts.size() - 1).descending ? byId.reversed() : byId);
+        }
+        return order;
+    }
+
+    /**
+     * Checks all filters on the neutron-spi object.
+     */
+    public boolean matches(T object) {
+        for (Filter<T> filter : filters) {
+            if (!filter.predicate.test(object)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the UUID is on the requested page side of the marker.
+     */
+    public boolean isAfterMarker(String uuid) {
+        if (marker == null) {
+            return true;
+        }
+        final int comparison = uuid.compareTo(marker);
+        return pageReverse ? comparison < 0 : comparison > 0;
+    }
+
+    /**
+     * Whether the object is on the requested page side of the marker object, in the order of the results.
+     */
+    public boolean isAfterMarker(T object, T markerObject) {
+        final int comparison = getOrder().compare(object, markerObject);
+        return pageReverse ? comparison < 0 : comparison > 0;
+    }
+
+    /**
+     * Returns the projection of objects of the given class to the query fields, null if no fields were requested.
+     */
+    public FieldProjection<T> getProjection(Class<T> type) {
+        if (fields.isEmpty()) {
+            return null;
+        }
+        FieldProjection<T> current = projection;
+        if (current == null || !current.getType().equals(type)) {
+            current = FieldProjection.of(type, fields);
+            projection = current;
+        }
+        return current;
+    }
+
+    /**
+     * Projects an object which matched the query.
+     */
+    @SuppressWarnings("unchecked")
+    public T project(T object) {
+        return fields.isEmpty() ? object : getProjection((Class<T>) object.getClass()).project(object);
+    }
+}
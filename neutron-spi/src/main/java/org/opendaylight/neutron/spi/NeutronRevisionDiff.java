@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.spi;
+
+import java.io.Serializable;
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Differences between the revisions of the Neutron objects known to an application and the stored ones, see
+ * {@link INeutronCRUD#diffRevisions(java.util.Map)}.
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.NONE)
+public final class NeutronRevisionDiff implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    // UUIDs known to the application which aren't stored
+    @XmlElement(name = "missing")
+    List<String> missing;
+
+    // UUIDs whose stored revision differs from the one known to the application
+    @XmlElement(name = "stale")
+    List<String> stale;
+
+    // UUIDs stored which aren't known to the application
+    @XmlElement(name = "extra")
+    List<String> extra;
+
+    public NeutronRevisionDiff() {
+    }
+
+    public NeutronRevisionDiff(List<String> missing, List<String> stale, List<String> extra) {
+        this.missing = missing;
+        this.stale = stale;
+        this.extra = extra;
+    }
+
+    public List<String> getMissing() {
+        return missing;
+    }
+
+    public List<String> getStale() {
+        return stale;
+    }
+
+    public List<String> getExtra() {
+        return extra;
+    }
+
+    @Override
+    public String toString() {
+        return "NeutronRevisionDiff [missing=" + missing + ", stale=" + stale + ", extra=" + extra + "]";
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.spi;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FieldProjectionTest {
+
+    @Test
+    public void projectTest() {
+        NeutronNetworkSegment segment = new NeutronNetworkSegment();
+        segment.setProviderNetworkType("vxlan");
+        NeutronNetwork network = new NeutronNetwork();
+        network.setID("4e8e5957-649f-477b-9e5b-f1f75b21c03c");
+        network.setName("net1");
+        network.setStatus("ACTIVE");
+        network.setProviderNetworkType("vlan");
+        network.setRouterExternal(true);
+        network.setSegments(Collections.singletonList(segment));
+
+        FieldProjection<NeutronNetwork> projection = FieldProjection.of(NeutronNetwork.class,
+                Arrays.asList("id", "provider:network_type", "segments", "external"));
+        Assert.assertSame("projections should be cached", projection, FieldProjection.of(NeutronNetwork.class,
+                Arrays.asList("id", "provider:network_type", "segments", "external")));
+        Assert.assertFalse("external is only known to extractField", projection.isDirect());
+
+        NeutronNetwork projected = projection.project(network);
+        Assert.assertEquals(network.getID(), projected.getID());
+        Assert.assertEquals("vlan", projected.getProviderNetworkType());
+        Assert.assertEquals(network.getSegments(), projected.getSegments());
+        Assert.assertNotSame("lists should be copied", network.getSegments(), projected.getSegments());
+        Assert.assertEquals(Boolean.TRUE, projected.getRouterExternal());
+        Assert.assertNull(projected.getName());
+        Assert.assertNull(projected.getStatus());
+    }
+
+    @Test
+    public void copyTest() {
+        NeutronBgpvpn bgpvpn = new NeutronBgpvpn();
+        bgpvpn.setID("4e8e5957-649f-477b-9e5b-f1f75b21c03c");
+        bgpvpn.setTenantID("9bacb3c5d39d41a79512987f338cf177");
+        bgpvpn.setType("l2");
+        bgpvpn.setRouteTargets(Arrays.asList("64512:1"));
+
+        NeutronBgpvpn copy = FieldProjection.copy(bgpvpn);
+        Assert.assertEquals(bgpvpn.getID(), copy.getID());
+        Assert.assertEquals(bgpvpn.getTenantID(), copy.getTenantID());
+        Assert.assertEquals("l2", copy.getType());
+        Assert.assertEquals(bgpvpn.getRouteTargets(), copy.getRouteTargets());
+        Assert.assertNotSame("lists should be copied", bgpvpn.getRouteTargets(), copy.getRouteTargets());
+        // setting the fields of the copy leaves the object unchanged
+        copy.initDefaults();
+        copy.setType("l3");
+        Assert.assertEquals("l2", bgpvpn.getType());
+        Assert.assertNull(bgpvpn.getAdminStateUp());
+    }
+
+    @Test
+    public void buildTest() {
+        Map<String, String> values = new HashMap<>();
+        values.put("id", "4e8e5957-649f-477b-9e5b-f1f75b21c03c");
+        values.put("status", "DOWN");
+        values.put("binding:host_id", "compute-1");
+
+        FieldProjection<NeutronPort> projection = FieldProjection.of(NeutronPort.class,
+                Arrays.asList("id", "status", "binding:host_id"));
+        Assert.assertTrue(projection.isDirect());
+        NeutronPort port = projection.build(values::get);
+        Assert.assertEquals("4e8e5957-649f-477b-9e5b-f1f75b21c03c", port.getID());
+        Assert.assertEquals("DOWN", port.getStatus());
+        Assert.assertEquals("compute-1", port.getBindinghostID());
+        Assert.assertNull(port.getName());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.spi;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NeutronQueryTest {
+
+    private static NeutronNetwork network(String uuid, String name) {
+        NeutronNetwork network = new NeutronNetwork();
+        network.setID(uuid);
+        network.setName(name);
+        return network;
+    }
+
+    @Test
+    public void matchesTest() {
+        NeutronQuery<NeutronNetwork> query = new NeutronQuery<NeutronNetwork>()
+                .filter("name", "net1", network -> "net1".equals(network.getName()))
+                .filter("status", null, network -> false);
+        Assert.assertEquals("null filter values should be ignored", 1, query.getFilters().size());
+        Assert.assertTrue(query.matches(network("4e8e5957-649f-477b-9e5b-f1f75b21c03c", "net1")));
+        Assert.assertFalse(query.matches(network("4e8e5957-649f-477b-9e5b-f1f75b21c03c", "net2")));
+    }
+
+    @Test
+    public void markerTest() {
+        NeutronQuery<NeutronNetwork> query = new NeutronQuery<>();
+        Assert.assertFalse(query.isPaged());
+        Assert.assertTrue(query.isAfterMarker("1"));
+
+        query.page(2, "5", false);
+        Assert.assertTrue(query.isPaged());
+        Assert.assertTrue(query.isAfterMarker("6"));
+        Assert.assertFalse(query.isAfterMarker("5"));
+        Assert.assertFalse(query.isAfterMarker("4"));
+
+        query.page(2, "5", true);
+        Assert.assertTrue(query.isAfterMarker("4"));
+        Assert.assertFalse(query.isAfterMarker("5"));
+    }
+
+    @Test
+    public void sortTest() {
+        NeutronNetwork net1 = network("1", "b");
+        NeutronNetwork net2 = network("2", "a");
+        NeutronNetwork net3 = network("3", "b");
+        NeutronNetwork net4 = network("4", null);
+        List<NeutronNetwork> networks = Arrays.asList(net1, net2, net3, net4);
+
+        NeutronQuery<NeutronNetwork> query = new NeutronQuery<>();
+        Assert.assertFalse(query.isSorted());
+        networks.sort(query.getOrder());
+        Assert.assertEquals(Arrays.asList(net1, net2, net3, net4), networks);
+
+        query.sort("name", true, Comparator.comparing(NeutronNetwork::getName,
+                Comparator.nullsFirst(Comparator.naturalOrder())));
+        Assert.assertTrue(query.isSorted());
+        networks.sort(query.getOrder());
+        Assert.assertEquals("ties should be broken by descending UUID", Arrays.asList(net3, net1, net2, net4),
+                networks);
+
+        query.page(2, net1.getID(), false);
+        Assert.assertTrue(query.isAfterMarker(net2, net1));
+        Assert.assertFalse(query.isAfterMarker(net3, net1));
+        query.page(2, net1.getID(), true);
+        Assert.assertTrue(query.isAfterMarker(net3, net1));
+        Assert.assertFalse(query.isAfterMarker(net4, net1));
+    }
+
+    @Test
+    public void projectTest() {
+        NeutronNetwork network = network("4e8e5957-649f-477b-9e5b-f1f75b21c03c", "net1");
+        NeutronQuery<NeutronNetwork> query = new NeutronQuery<>();
+        Assert.assertSame(network, query.project(network));
+
+        NeutronNetwork projected = query.fields(Collections.singletonList("id")).project(network);
+        Assert.assertEquals(network.getID(), projected.getID());
+        Assert.assertNull(projected.getName());
+    }
+}
@@ -8,15 +8,46 @@
 
 package org.opendaylight.neutron.northbound.api;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hashing;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.ext.Providers;
+import javax.xml.bind.annotation.XmlElement;
+import org.codehaus.enunciate.jaxrs.ResponseCode;
+import org.codehaus.enunciate.jaxrs.StatusCodes;
+import org.opendaylight.neutron.northbound.api.PaginatedRequestFactory.PaginationResults;
+import org.opendaylight.neutron.spi.INeutronAdminAttributes;
+import org.opendaylight.neutron.spi.INeutronBaseAttributes;
 import org.opendaylight.neutron.spi.INeutronCRUD;
 import org.opendaylight.neutron.spi.INeutronObject;
+import org.opendaylight.neutron.spi.NeutronCount;
 import org.opendaylight.neutron.spi.NeutronCRUDInterfaces;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 public abstract class AbstractNeutronNorthbound<T extends INeutronObject<T>, R extends INeutronRequest<T>,
         I extends INeutronCRUD<T>> {
@@ -33,6 +64,38 @@ public abstract class AbstractNeutronNorthbound<T extends INeutronObject<T>, R e
     private static final String INTERFACE_NAME_BASE = " CRUD Interface";
     private static final String UUID_NO_EXIST_BASE = " UUID does not exist.";
 
+    private static final String SORT_ASC = "asc";
+    private static final String GROUP_BY = "group_by";
+    private static final String SORT_DESC = "desc";
+
+    // the parameters of the list which aren't attributes, they don't filter what is counted
+    private static final Set<String> LIST_PARAMETERS =
+            ImmutableSet.of("fields", "limit", "marker", "page_reverse", "sort_key", "sort_dir");
+
+    @Context
+    protected UriInfo uriInfo;
+
+    @Context
+    private Providers providers;
+
+    @Context
+    private Request request;
+
+    @Context
+    private HttpHeaders httpHeaders;
+
+    // the type arguments, and the accessors of the request class, are only resolved once
+    private final Class<T> neutronClass = getActualTypeArgument(NEUTRON_ARGUMENT_TYPE_INDEX);
+    private final Class<R> requestClass = getActualTypeArgument(NEUTRON_REQUEST_TYPE_INDEX);
+    private final Class<I> crudClass = getActualTypeArgument(NEUTRON_CRUD_TYPE_INDEX);
+    private final NeutronRequestAccessors requestAccessors = NeutronRequestAccessors.of(requestClass);
+
+    private volatile String collectionName;
+
+    private volatile NeutronCRUDServices crudServices;
+
+    private volatile WriteBulkhead writeBulkhead;
+
     protected final String serviceUnavailable() {
         return getResourceName() + INTERFACE_NAME_BASE + RestMessages.SERVICEUNAVAILABLE.toString();
     }
@@ -52,50 +115,221 @@ public abstract class AbstractNeutronNorthbound<T extends INeutronObject<T>, R e
 
     private R newNeutronRequest(T neutronObject) {
         // return new R(neutronObject)
+        return requestClass.cast(requestAccessors.newRequest(neutronObject));
+    }
 
-        // argumentClass = T.class
-        Class<T> argumentClass = getActualTypeArgument(NEUTRON_ARGUMENT_TYPE_INDEX);
-        // cls = NeturonRequest.class
-        Class<R> cls = getActualTypeArgument(NEUTRON_REQUEST_TYPE_INDEX);
-        try {
-            // ctor = R constructor
-            Constructor<R> ctor = cls.getDeclaredConstructor(argumentClass);
-            return ctor.newInstance(neutronObject);
-        } catch (NoSuchMethodException | InstantiationException
-                 | IllegalAccessException | InvocationTargetException e) {
-            // This case shouldn't happen
-            throw new IllegalArgumentException(e);
+    private R newNeutronRequest(List<T> bulk, List<NeutronPageLink> links) {
+        // return new R(bulk, links)
+        return requestClass.cast(requestAccessors.newRequest(bulk, links));
+    }
+
+    /**
+     * Returns the JSON name of the list of a request, e.g. "ports".
+     */
+    private String getCollectionName() {
+        String name = collectionName;
+        if (name == null) {
+            // name = the XmlElement name of the List<T> field of R
+            for (Field field : requestClass.getDeclaredFields()) {
+                XmlElement element = field.getAnnotation(XmlElement.class);
+                if (element != null && field.getGenericType() instanceof ParameterizedType) {
+                    ParameterizedType fieldType = (ParameterizedType) field.getGenericType();
+                    if (List.class.equals(fieldType.getRawType())
+                            && neutronClass.equals(fieldType.getActualTypeArguments()[0])) {
+                        name = element.name();
+                    }
+                }
+            }
+            if (name == null) {
+                throw new IllegalArgumentException(requestClass + " has no list of " + neutronClass);
+            }
+            collectionName = name;
         }
+        return name;
+    }
+
+    /**
+     * Sets the tracked CRUD services, so that they aren't looked up in the service registry on every request.
+     */
+    void setNeutronCRUDServices(NeutronCRUDServices services) {
+        this.crudServices = services;
+    }
+
+    /**
+     * Limits the concurrent writes of this resource, see {@link WriteBulkhead}.
+     */
+    void limitWrites(int maxConcurrentWrites, int maxQueuedWrites, int maxWaitSeconds, int retryAfterSeconds) {
+        this.writeBulkhead = new WriteBulkhead(getResourceName(), maxConcurrentWrites, maxQueuedWrites,
+                maxWaitSeconds, retryAfterSeconds);
+    }
+
+    /**
+     * Carries out a write (POST, PUT or DELETE) of this resource within its limit of concurrent writes, if any.
+     *
+     * @throws ServiceUnavailableException if too many writes of this resource are waiting already, or the write
+     *     waited too long for its turn
+     */
+    protected Response write(Supplier<Response> operation) {
+        WriteBulkhead bulkhead = writeBulkhead;
+        return bulkhead != null ? bulkhead.call(operation) : operation.get();
     }
 
     protected I getNeutronCRUD() {
-        // cls = I.class
-        Class<I> cls = getActualTypeArgument(NEUTRON_CRUD_TYPE_INDEX);
-        I neutronCrud = NeutronCRUDInterfaces.fetchINeutronCRUD(cls, (Object) this);
+        NeutronCRUDServices services = crudServices;
+        I neutronCrud = services != null ? services.get(crudClass)
+                : NeutronCRUDInterfaces.fetchINeutronCRUD(crudClass, (Object) this);
         if (neutronCrud == null) {
             throw new ServiceUnavailableException(serviceUnavailable());
         }
         return neutronCrud;
     }
 
+    /**
+     * Returns the strong entity tag of a representation of the given version, which differs between the variants
+     * of the representation, e.g. between the projections of an object. The variant is digested from its string,
+     * so that the tag is the same on every node.
+     */
+    private static EntityTag entityTag(String version, Object variant) {
+        return new EntityTag(version + ';' + Hashing.sha256().hashString(variant.toString(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the response to a conditional request if the representation with the given tag is still current,
+     * i.e. 304 (Not Modified) on a GET, or null if the request has to be carried out.
+     */
+    private Response evaluatePreconditions(EntityTag tag) {
+        ResponseBuilder builder = request.evaluatePreconditions(tag);
+        return builder != null ? builder.build() : null;
+    }
+
+    private boolean isConditional() {
+        List<String> ifNoneMatch = httpHeaders.getRequestHeader(HttpHeaders.IF_NONE_MATCH);
+        return ifNoneMatch != null && !ifNoneMatch.isEmpty();
+    }
+
+    /**
+     * Shows an object, tagged with the version tag of its stored content. A conditional request is answered from
+     * the version tag, before the object is converted.
+     */
     protected Response show(String uuid,
             // return fields
             List<String> fields) {
         I neutronCRUD = getNeutronCRUD();
+        // read before the object, so that the tag is never newer than the object shown
+        String versionTag = neutronCRUD.getVersionTag(uuid);
+        if (versionTag != null && isConditional()) {
+            Response notModified = evaluatePreconditions(entityTag(versionTag, fields));
+            if (notModified != null) {
+                return notModified;
+            }
+        }
         T ans = neutronCRUD.get(uuid);
         if (ans == null) {
             throw new ResourceNotFoundException(uuidNoExist());
         }
 
+        ResponseBuilder builder;
         if (fields.size() > 0) {
-            return Response.status(HttpURLConnection.HTTP_OK).entity(newNeutronRequest(ans.extractFields(fields)))
-                    .build();
+            builder = Response.status(HttpURLConnection.HTTP_OK).entity(newNeutronRequest(ans.extractFields(fields)));
         } else {
-            return Response.status(HttpURLConnection.HTTP_OK).entity(newNeutronRequest(ans)).build();
+            builder = Response.status(HttpURLConnection.HTTP_OK).entity(newNeutronRequest(ans));
         }
+        if (versionTag != null) {
+            builder.tag(entityTag(versionTag, fields));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the ascending order of the attribute, or null if lists can't be sorted by it. The attributes
+     * supported are the ones the transcriber keeps ordered, so that sorted pages don't sort the whole list.
+     */
+    protected Comparator<T> getSortComparator(String attribute) {
+        switch (attribute) {
+            case "id":
+                return nullsFirst(T::getID);
+            case "tenant_id":
+                return nullsFirst(T::getTenantID);
+            case "name":
+                return INeutronBaseAttributes.class.isAssignableFrom(neutronClass)
+                        ? nullsFirst(object -> ((INeutronBaseAttributes<?>) object).getName()) : null;
+            case "status":
+                return INeutronAdminAttributes.class.isAssignableFrom(neutronClass)
+                        ? nullsFirst(object -> ((INeutronAdminAttributes<?>) object).getStatus()) : null;
+            default:
+                return null;
+        }
+    }
+
+    private static <T> Comparator<T> nullsFirst(Function<T, String> attribute) {
+        return Comparator.comparing(attribute, Comparator.nullsFirst(Comparator.naturalOrder()));
+    }
+
+    private void sort(NeutronQuery<T> query, List<String> sortKeys, List<String> sortDirs) {
+        if (sortKeys == null || sortKeys.isEmpty()) {
+            return;
+        }
+        if (sortDirs != null && !sortDirs.isEmpty() && sortDirs.size() != sortKeys.size()) {
+            throw new BadRequestException("The number of sort_key and sort_dir parameters must be the same");
+        }
+        for (int i = 0; i < sortKeys.size(); i++) {
+            String sortKey = sortKeys.get(i);
+            String sortDir = sortDirs != null && !sortDirs.isEmpty() ? sortDirs.get(i) : SORT_ASC;
+            if (!SORT_ASC.equals(sortDir) && !SORT_DESC.equals(sortDir)) {
+                throw new BadRequestException("Invalid sort_dir " + sortDir + ", must be asc or desc");
+            }
+            Comparator<T> comparator = getSortComparator(sortKey);
+            if (comparator == null) {
+                throw new BadRequestException(getResourceName() + " can't be sorted by " + sortKey);
+            }
+            query.sort(sortKey, SORT_DESC.equals(sortDir), comparator);
+        }
+    }
+
+    /**
+     * Lists the objects matching the query, in the order of the sort keys if any, the whole list unless a limit
+     * is given. The whole list is streamed, so that it isn't held in memory at once.
+     *
+     * <p>The list is tagged with the change tag of the collection, if changes are tracked, and the request URI,
+     * which holds the query. The tag is read before the objects, so that it is never newer than the list.
+     */
+    protected Response list(NeutronQuery<T> query, Integer limit, String marker, Boolean pageReverse,
+            List<String> sortKeys, List<String> sortDirs) {
+        I neutronCRUD = getNeutronCRUD();
+        sort(query, sortKeys, sortDirs);
+        String changeTag = neutronCRUD.getChangeTag();
+        EntityTag tag = changeTag != null ? entityTag(changeTag, uriInfo.getRequestUri()) : null;
+        if (tag != null) {
+            Response notModified = evaluatePreconditions(tag);
+            if (notModified != null) {
+                return notModified;
+            }
+        }
+        ResponseBuilder builder;
+        if (limit == null) {
+            // the objects are written with their codec if it is enabled, i.e. its provider is registered
+            JsonCodec<T> codec = providers.getMessageBodyWriter(neutronClass, neutronClass, new Annotation[0],
+                    MediaType.APPLICATION_JSON_TYPE) instanceof JsonCodecProvider
+                    ? JsonCodec.forClass(neutronClass) : null;
+            builder = Response.status(HttpURLConnection.HTTP_OK).entity(new StreamingListOutput<>(
+                    getCollectionName(), neutronClass, codec, neutronCRUD.stream(query)));
+        } else {
+            PaginationResults<T> results = PaginatedRequestFactory.paginate(neutronCRUD, query, limit, marker,
+                    Boolean.TRUE.equals(pageReverse), uriInfo);
+            builder = Response.status(HttpURLConnection.HTTP_OK).entity(newNeutronRequest(results.collection,
+                    results.links));
+        }
+        if (tag != null) {
+            builder.tag(tag);
+        }
+        return builder.build();
     }
 
     protected Response create(final R input) {
+        return write(() -> doCreate(input));
+    }
+
+    private Response doCreate(final R input) {
         I neutronCRUD = getNeutronCRUD();
         if (input.isSingleton()) {
             T singleton = input.getSingleton();
@@ -108,8 +342,8 @@ public abstract class AbstractNeutronNorthbound<T extends INeutronObject<T>, R e
             }
             for (T test : input.getBulk()) {
                 test.initDefaults();
-                neutronCRUD.add(test);
             }
+            neutronCRUD.addAll(input.getBulk());
         }
         return Response.status(HttpURLConnection.HTTP_CREATED).entity(input).build();
     }
@@ -133,30 +367,35 @@ public abstract class AbstractNeutronNorthbound<T extends INeutronObject<T>, R e
     }
 
     protected Response update(String uuid, final R input) {
+        return write(() -> doUpdate(uuid, input));
+    }
+
+    private Response doUpdate(String uuid, final R input) {
         I neutronCRUD = getNeutronCRUD();
         if (!input.isSingleton()) {
             throw new BadRequestException("Only singleton edit supported");
         }
         T delta = input.getSingleton();
-        T original = neutronCRUD.get(uuid);
-        if (original == null) {
-            throw new ResourceNotFoundException(uuidNoExist());
-        }
-        if (checkRevisionNumber(original, delta)) {
-            return Response.status(HttpURLConnection.HTTP_OK).build();
-        }
-        updateDelta(uuid, delta, original);
         /*
-         * update the object and return it
+         * update the object unless a newer revision is stored, and return it
          */
-        if (!neutronCRUD.update(uuid, delta)) {
+        T updated = neutronCRUD.updateIfRevision(uuid, delta, delta.getRevisionNumber(),
+            (completedDelta, original) -> updateDelta(uuid, completedDelta, original));
+        if (updated == null) {
             throw new ResourceNotFoundException(uuidNoExist());
         }
-        T updated = neutronCRUD.get(uuid);
+        // a newer revision was stored, so the update was skipped
+        if (checkRevisionNumber(updated, delta)) {
+            return Response.status(HttpURLConnection.HTTP_OK).build();
+        }
         return Response.status(HttpURLConnection.HTTP_OK).entity(newNeutronRequest(updated)).build();
     }
 
     protected Response delete(String uuid) {
+        return write(() -> doDelete(uuid));
+    }
+
+    private Response doDelete(String uuid) {
         final I neutronCRUD = getNeutronCRUD();
 
         /*
@@ -168,4 +407,86 @@ public abstract class AbstractNeutronNorthbound<T extends INeutronObject<T>, R e
 
         return Response.status(HttpURLConnection.HTTP_NO_CONTENT).build();
     }
+
+    /**
+     * Compares the revisions of the objects known to the client with the stored ones, and returns the known
+     * objects which aren't stored (missing), those stored with another revision (stale) and the stored objects
+     * which aren't known (extra), so that a full synchronization only transfers what differs.
+     *
+     * <p>Declared once here for all the resources, at resource/sync_diff.
+     */
+    @POST
+    @Path("sync_diff")
+    @Produces({ MediaType.APPLICATION_JSON })
+    @Consumes({ MediaType.APPLICATION_JSON })
+    @StatusCodes({ @ResponseCode(code = HttpURLConnection.HTTP_OK, condition = "Operation successful"),
+            @ResponseCode(code = HttpURLConnection.HTTP_BAD_REQUEST, condition = "Bad Request"),
+            @ResponseCode(code = HttpURLConnection.HTTP_UNAUTHORIZED, condition = "Unauthorized"),
+            @ResponseCode(code = HttpURLConnection.HTTP_UNAVAILABLE, condition = "No providers available") })
+    public Response syncDiff(final NeutronSyncDiffRequest input) {
+        if (input == null) {
+            throw new BadRequestException("Invalid requests");
+        }
+        final Map<String, Long> revisionNumbers = new HashMap<>();
+        if (input.getRevisions() != null) {
+            for (NeutronSyncDiffRequest.Revision revision : input.getRevisions()) {
+                if (revision.getID() == null) {
+                    throw new BadRequestException("Revision without id");
+                }
+                revisionNumbers.put(revision.getID(), revision.getRevisionNumber());
+            }
+        }
+        return Response.status(HttpURLConnection.HTTP_OK).entity(getNeutronCRUD().diffRevisions(revisionNumbers))
+                .build();
+    }
+
+    /**
+     * Counts the objects whose attributes have the values of the query parameters, e.g. ports/count?tenant_id=X,
+     * and with a group_by parameter also counts them by the value of that attribute, e.g.
+     * ports/count?group_by=network_id. The parameters of the list, e.g. fields or limit, are ignored: they don't
+     * change the number of objects which match. The objects are counted from the indexes of the transcriber if it
+     * has them, and are never converted.
+     *
+     * <p>Declared once here for all the resources, at resource/count.
+     */
+    @GET
+    @Path("count")
+    @Produces({ MediaType.APPLICATION_JSON })
+    @StatusCodes({ @ResponseCode(code = HttpURLConnection.HTTP_OK, condition = "Operation successful"),
+            @ResponseCode(code = HttpURLConnection.HTTP_BAD_REQUEST, condition = "Bad Request"),
+            @ResponseCode(code = HttpURLConnection.HTTP_UNAUTHORIZED, condition = "Unauthorized"),
+            @ResponseCode(code = HttpURLConnection.HTTP_UNAVAILABLE, condition = "No providers available") })
+    public Response count(@QueryParam(GROUP_BY) String groupBy) {
+        I neutronCRUD = getNeutronCRUD();
+        Map<String, String> filters = new HashMap<>();
+        for (Map.Entry<String, List<String>> parameter : uriInfo.getQueryParameters().entrySet()) {
+            if (GROUP_BY.equals(parameter.getKey()) || LIST_PARAMETERS.contains(parameter.getKey())) {
+                continue;
+            }
+            if (parameter.getValue().size() != 1) {
+                throw new BadRequestException("Only one value of " + parameter.getKey() + " can be counted");
+            }
+            filters.put(parameter.getKey(), parameter.getValue().get(0));
+        }
+        // tagged like the list, the count changes with it
+        String changeTag = neutronCRUD.getChangeTag();
+        EntityTag tag = changeTag != null ? entityTag(changeTag, uriInfo.getRequestUri()) : null;
+        if (tag != null) {
+            Response notModified = evaluatePreconditions(tag);
+            if (notModified != null) {
+                return notModified;
+            }
+        }
+        NeutronCount count;
+        try {
+            count = neutronCRUD.count(filters, groupBy);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+        ResponseBuilder builder = Response.status(HttpURLConnection.HTTP_OK).entity(count);
+        if (tag != null) {
+            builder.tag(tag);
+        }
+        return builder.build();
+    }
 }
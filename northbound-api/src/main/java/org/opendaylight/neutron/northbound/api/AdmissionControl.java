@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.northbound.api;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Admission control of the northbound requests, so that one tenant can't starve the others.
+ *
+ * <p>The requests of each tenant to each resource are limited by a token bucket: a request takes a token, the
+ * tokens are refilled at the configured rate up to the burst size, and a request which finds no token is rejected.
+ * The requests of each tenant handled at once are limited too. The limits are read on every admission, so that
+ * they can be changed at runtime through JMX.
+ */
+final class AdmissionControl implements AdmissionControlMXBean, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdmissionControl.class);
+
+    private static final String OBJECT_NAME = "org.opendaylight.neutron:type=AdmissionControl";
+    // buckets which weren't used for this long are full again, so they can be dropped
+    private static final long IDLE_BUCKET_MINUTES = 10;
+    // the tenants are named by the clients, so that the buckets of made up tenants mustn't exhaust the memory; an
+    // evicted bucket is full again, as if it were idle
+    private static final long MAX_BUCKETS = 100_000;
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static final class TokenBucket {
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.lastRefill = now;
+        }
+
+        /**
+         * Takes a token, returns 0 if there was one, otherwise the number of seconds until there is one.
+         */
+        synchronized int take(long now, double rate, int burst) {
+            tokens = Math.min(burst, tokens + (now - lastRefill) * rate / NANOS_PER_SECOND);
+            lastRefill = now;
+            if (tokens >= 1) {
+                tokens--;
+                return 0;
+            }
+            return (int) Math.max(1, Math.ceil((1 - tokens) / rate));
+        }
+    }
+
+    private volatile double requestsPerSecond;
+    private volatile int requestBurst;
+    private volatile int maxConcurrentRequests;
+
+    private final LoadingCache<String, TokenBucket> buckets = CacheBuilder.newBuilder()
+            .expireAfterAccess(IDLE_BUCKET_MINUTES, TimeUnit.MINUTES)
+            .maximumSize(MAX_BUCKETS)
+            .build(new CacheLoader<String, TokenBucket>() {
+                @Override
+                public TokenBucket load(String key) {
+                    return new TokenBucket(Math.max(1, requestBurst), System.nanoTime());
+                }
+            });
+    private final ConcurrentMap<String, Integer> concurrentRequests = new ConcurrentHashMap<>();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder concurrencyLimited = new LongAdder();
+    private ObjectName objectName;
+
+    AdmissionControl(double requestsPerSecond, int requestBurst, int maxConcurrentRequests) {
+        setRequestsPerSecond(requestsPerSecond);
+        setRequestBurst(requestBurst);
+        setMaxConcurrentRequests(maxConcurrentRequests);
+    }
+
+    /**
+     * Whether any limit is set, i.e. the requests have to be admitted.
+     */
+    boolean isEnabled() {
+        return requestsPerSecond > 0 || maxConcurrentRequests > 0;
+    }
+
+    /**
+     * Admits a request of a tenant to a resource. An admitted request has to be released once it is handled.
+     *
+     * @return 0 if the request is admitted, otherwise the number of seconds after which it may be retried
+     */
+    int admit(String tenant, String resource) {
+        final double rate = requestsPerSecond;
+        if (rate > 0) {
+            final int retryAfter = buckets.getUnchecked(tenant + ' ' + resource)
+                    .take(System.nanoTime(), rate, Math.max(1, requestBurst));
+            if (retryAfter > 0) {
+                rateLimited.increment();
+                return retryAfter;
+            }
+        }
+        // the requests are counted even without limit, so that a limit set at runtime applies right away
+        final int max = maxConcurrentRequests;
+        final boolean[] rejected = new boolean[1];
+        concurrentRequests.compute(tenant, (key, count) -> {
+            final int current = count != null ? count : 0;
+            if (max > 0 && current >= max) {
+                rejected[0] = true;
+                return count;
+            }
+            return current + 1;
+        });
+        if (rejected[0]) {
+            concurrencyLimited.increment();
+            return 1;
+        }
+        admitted.increment();
+        return 0;
+    }
+
+    void release(String tenant) {
+        concurrentRequests.computeIfPresent(tenant, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    void register() {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName name = new ObjectName(OBJECT_NAME);
+            server.registerMBean(this, name);
+            objectName = name;
+        } catch (JMException e) {
+            LOG.warn("Failed to register {}, its limits can't be changed at runtime", OBJECT_NAME, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            } catch (JMException e) {
+                LOG.warn("Failed to unregister {}", objectName, e);
+            }
+            objectName = null;
+        }
+    }
+
+    @Override
+    public double getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    @Override
+    public void setRequestsPerSecond(double requestsPerSecond) {
+        Preconditions.checkArgument(requestsPerSecond >= 0, "Negative rate %s", requestsPerSecond);
+        this.requestsPerSecond = requestsPerSecond;
+    }
+
+    @Override
+    public int getRequestBurst() {
+        return requestBurst;
+    }
+
+    @Override
+    public void setRequestBurst(int requestBurst) {
+        Preconditions.checkArgument(requestBurst >= 0, "Negative burst %s", requestBurst);
+        this.requestBurst = requestBurst;
+    }
+
+    @Override
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    @Override
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        Preconditions.checkArgument(maxConcurrentRequests >= 0, "Negative maximum %s", maxConcurrentRequests);
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    @Override
+    public long getAdmittedRequests() {
+        return admitted.sum();
+    }
+
+    @Override
+    public long getRateLimitedRequests() {
+        return rateLimited.sum();
+    }
+
+    @Override
+    public long getConcurrencyLimitedRequests() {
+        return concurrencyLimited.sum();
+    }
+
+    @Override
+    public Map<String, Integer> getConcurrentRequestsByTenant() {
+        return new HashMap<>(concurrentRequests);
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.northbound.api;
+
+import com.google.common.io.ByteStreams;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Filter of the northbound requests through the {@link AdmissionControl}; the rejected requests are answered with
+ * 429 (Too Many Requests) and a Retry-After header.
+ *
+ * <p>The tenant of a request is the tenant_id or project_id query parameter, or the tenant_id or project_id of the
+ * (first) object in the request body; or else the authenticated user, or the client address. The resource is the
+ * request path up to the first UUID, e.g. "ports" or "lbaas/pools".
+ *
+ * <p>The tenants are named by the clients: the northbound is used by the neutron server on behalf of all the
+ * tenants, with the credentials of its service user, so the tenants aren't known to the authentication. They are
+ * therefore trusted only within the authenticated user: the requests are admitted by user and tenant,
+ * so that a client naming the tenants of others only spends the tokens of its own user. This relies on the filter
+ * being installed after the authentication.
+ */
+final class AdmissionControlFilter implements Filter {
+
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    private static final String RETRY_AFTER = "Retry-After";
+    private static final String[] TENANT_ATTRIBUTES = {"tenant_id", "project_id"};
+    // the tenant is looked for in this many bytes of the body at most, the rest is streamed to the resource as is
+    private static final int MAX_INSPECTED_BODY = 64 * 1024;
+    private static final Pattern UUID_SEGMENT = Pattern.compile("[0-9a-fA-F]{8}-?([0-9a-fA-F]{4}-?){3}[0-9a-fA-F]{12}");
+
+    /**
+     * Request whose body was partly read by the filter, and which is read again from the read bytes followed by the
+     * rest of the body.
+     */
+    private static final class InspectedRequest extends HttpServletRequestWrapper {
+        private final byte[] head;
+
+        InspectedRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            head = ByteStreams.toByteArray(ByteStreams.limit(request.getInputStream(), MAX_INSPECTED_BODY));
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            final ByteArrayInputStream in = new ByteArrayInputStream(head);
+            final ServletInputStream rest = super.getInputStream();
+            return new ServletInputStream() {
+                @Override
+                public int read() throws IOException {
+                    return in.available() > 0 ? in.read() : rest.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    return in.available() > 0 ? in.read(buffer, offset, length) : rest.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0 && rest.isFinished();
+                }
+
+                @Override
+                public boolean isReady() {
+                    return in.available() > 0 || rest.isReady();
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    // the read bytes are available along with the rest, or on their own once the rest is read
+                    rest.setReadListener(new ReadListener() {
+                        @Override
+                        public void onDataAvailable() throws IOException {
+                            readListener.onDataAvailable();
+                        }
+
+                        @Override
+                        public void onAllDataRead() throws IOException {
+                            if (in.available() > 0) {
+                                readListener.onDataAvailable();
+                            }
+                            readListener.onAllDataRead();
+                        }
+
+                        @Override
+                        public void onError(Throwable error) {
+                            readListener.onError(error);
+                        }
+                    });
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            final String encoding = getCharacterEncoding();
+            final Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+
+    private final AdmissionControl admissionControl;
+
+    AdmissionControlFilter(AdmissionControl admissionControl) {
+        this.admissionControl = admissionControl;
+    }
+
+    @Override
+    public void init(FilterConfig filterConfig) {
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        if (!admissionControl.isEnabled() || !(request instanceof HttpServletRequest)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        String tenant = tenantOfQuery(httpRequest);
+        if (tenant == null && ("POST".equals(httpRequest.getMethod()) || "PUT".equals(httpRequest.getMethod()))) {
+            final InspectedRequest inspectedRequest = new InspectedRequest(httpRequest);
+            tenant = tenantOfBody(inspectedRequest.head);
+            httpRequest = inspectedRequest;
+        }
+        final String user = httpRequest.getRemoteUser();
+        if (tenant == null) {
+            tenant = user != null ? user : httpRequest.getRemoteAddr();
+        } else if (user != null) {
+            tenant = user + '/' + tenant;
+        }
+        final String resource = resourceOf(httpRequest);
+
+        final int retryAfter = admissionControl.admit(tenant, resource);
+        if (retryAfter > 0) {
+            final HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(HTTP_TOO_MANY_REQUESTS);
+            httpResponse.setHeader(RETRY_AFTER, Integer.toString(retryAfter));
+            httpResponse.setContentType("text/plain");
+            httpResponse.getWriter().write("Too many requests to " + resource + " of " + tenant + ", retry later");
+            return;
+        }
+        try {
+            chain.doFilter(httpRequest, response);
+        } finally {
+            admissionControl.release(tenant);
+        }
+    }
+
+    @Override
+    public void destroy() {
+    }
+
+    private static String tenantOfQuery(HttpServletRequest request) {
+        for (String attribute : TENANT_ATTRIBUTES) {
+            final String tenant = request.getParameter(attribute);
+            if (tenant != null && !tenant.isEmpty()) {
+                return normalize(tenant);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the tenant of the object of a request body, or of the first object of a bulk request, null if there
+     * is none. A malformed or truncated body is left to be reported by the resource.
+     */
+    static String tenantOfBody(byte[] body) {
+        final JsonReader reader = new JsonReader(
+                new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8));
+        try {
+            if (reader.peek() != JsonReader.Token.OBJECT) {
+                return null;
+            }
+            reader.beginObject();
+            while (reader.hasNext()) {
+                reader.nextName();
+                switch (reader.peek()) {
+                    case OBJECT:
+                        final String tenant = tenantOfObject(reader);
+                        if (tenant != null) {
+                            return tenant;
+                        }
+                        break;
+                    case ARRAY:
+                        reader.beginArray();
+                        return reader.hasNext() && reader.peek() == JsonReader.Token.OBJECT
+                                ? tenantOfObject(reader) : null;
+                    default:
+                        reader.skipValue();
+                        break;
+                }
+            }
+        } catch (IOException | BadRequestException e) {
+            return null;
+        }
+        return null;
+    }
+
+    private static String tenantOfObject(JsonReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if ((TENANT_ATTRIBUTES[0].equals(name) || TENANT_ATTRIBUTES[1].equals(name))
+                    && reader.peek() == JsonReader.Token.STRING) {
+                final String tenant = reader.nextScalar();
+                if (!tenant.isEmpty()) {
+                    return normalize(tenant);
+                }
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return null;
+    }
+
+    private static String normalize(String tenant) {
+        // the tenants are stored without dashes
+        return tenant.replace("-", "").toLowerCase(Locale.ROOT);
+    }
+
+    static String resourceOf(HttpServletRequest request) {
+        final String path = request.getPathInfo();
+        if (path == null) {
+            return "";
+        }
+        final StringBuilder resource = new StringBuilder();
+        for (String segment : path.split("/")) {
+            if (UUID_SEGMENT.matcher(segment).matches()) {
+                break;
+            }
+            if (!segment.isEmpty()) {
+                if (resource.length() > 0) {
+                    resource.append('/');
+                }
+                resource.append(segment);
+            }
+        }
+        return resource.toString();
+    }
+}
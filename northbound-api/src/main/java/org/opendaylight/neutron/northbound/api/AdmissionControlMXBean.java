@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.northbound.api;
+
+import java.util.Map;
+
+/**
+ * Limits and metrics of the admission control of the northbound requests, see {@link AdmissionControl}. The
+ * limits can be changed at runtime, they apply to the following requests.
+ */
+public interface AdmissionControlMXBean {
+
+    /**
+     * Rate of the requests of a tenant to a resource, per second; 0 for no limit.
+     */
+    double getRequestsPerSecond();
+
+    void setRequestsPerSecond(double requestsPerSecond);
+
+    /**
+     * Number of requests of a tenant to a resource which may exceed the rate at once.
+     */
+    int getRequestBurst();
+
+    void setRequestBurst(int requestBurst);
+
+    /**
+     * Maximum number of requests of a tenant handled at once; 0 for no limit.
+     */
+    int getMaxConcurrentRequests();
+
+    void setMaxConcurrentRequests(int maxConcurrentRequests);
+
+    long getAdmittedRequests();
+
+    /**
+     * Number of requests rejected because their tenant exceeded its rate.
+     */
+    long getRateLimitedRequests();
+
+    /**
+     * Number of requests rejected because their tenant had too many requests handled at once.
+     */
+    long getConcurrencyLimitedRequests();
+
+    /**
+     * Number of requests handled at once, by tenant.
+     */
+    Map<String, Integer> getConcurrentRequestsByTenant();
+}
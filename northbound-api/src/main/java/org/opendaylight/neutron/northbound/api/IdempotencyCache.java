@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.northbound.api;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of the responses of the requests with an idempotency key, so that a retried request gets the response of
+ * the original one instead of being carried out again.
+ *
+ * <p>The responses are kept for a limited time, and up to a limited total size, after which the least recently
+ * used ones are evicted. A request is pending from its {@link #begin(String) beginning} until it is
+ * {@link #complete(String, CachedResponse) completed} or {@link #abort(String) aborted}; the responses of server
+ * errors, and of the client errors which depend on when the request was made rather than on the request, such as
+ * 429 (Too Many Requests), aren't kept, so that the request can be carried out again. The digest of the body of the
+ * request is kept along with its response, so that a retry is only replayed if it has the same body.
+ */
+final class IdempotencyCache {
+
+    /**
+     * Response of a request, as it was sent, and the digest of the body of the request.
+     */
+    static final class CachedResponse {
+        private final int status;
+        private final List<Map.Entry<String, String>> headers;
+        private final byte[] body;
+        private final byte[] requestDigest;
+
+        CachedResponse(int status, List<Map.Entry<String, String>> headers, byte[] body, byte[] requestDigest) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+            this.requestDigest = requestDigest;
+        }
+
+        int getStatus() {
+            return status;
+        }
+
+        List<Map.Entry<String, String>> getHeaders() {
+            return headers;
+        }
+
+        byte[] getBody() {
+            return body;
+        }
+
+        byte[] getRequestDigest() {
+            return requestDigest;
+        }
+
+        private int getWeight() {
+            // roughly the header entries besides the body
+            return body.length + requestDigest.length + headers.size() * 64;
+        }
+    }
+
+    /**
+     * Marker of a request which is still being carried out.
+     */
+    static final CachedResponse PENDING = new CachedResponse(0, Collections.emptyList(), new byte[0], new byte[0]);
+
+    private static final int HTTP_SERVER_ERROR = 500;
+    // Request Timeout, Conflict (e.g. a request with the same key in progress), Locked, Too Early, Too Many Requests
+    private static final Set<Integer> TRANSIENT_CLIENT_ERRORS = ImmutableSet.of(408, 409, 423, 425, 429);
+
+    private final Cache<String, CachedResponse> responses;
+
+    IdempotencyCache(long maxBytes, long ttlSeconds) {
+        responses = CacheBuilder.newBuilder()
+                .maximumWeight(maxBytes)
+                .<String, CachedResponse>weigher((key, response) -> key.length() + response.getWeight())
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Begins a request with the given key, unless there was one already.
+     *
+     * @return null if the request is to be carried out, and is pending now; {@link #PENDING} if a request with the
+     *         key is pending; otherwise the response of the completed request with the key
+     */
+    CachedResponse begin(String key) {
+        return responses.asMap().putIfAbsent(key, PENDING);
+    }
+
+    /**
+     * Completes the pending request with the given key; its response is kept unless it is transient.
+     */
+    void complete(String key, CachedResponse response) {
+        if (response.getStatus() >= HTTP_SERVER_ERROR || TRANSIENT_CLIENT_ERRORS.contains(response.getStatus())) {
+            responses.invalidate(key);
+        } else {
+            responses.put(key, response);
+        }
+    }
+
+    /**
+     * Aborts the pending request with the given key, which failed without response.
+     */
+    void abort(String key) {
+        responses.asMap().remove(key, PENDING);
+    }
+}
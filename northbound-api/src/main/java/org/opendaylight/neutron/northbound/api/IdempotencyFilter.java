@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.northbound.api;
+
+import com.google.common.io.ByteStreams;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import org.opendaylight.neutron.northbound.api.IdempotencyCache.CachedResponse;
+
+/**
+ * Filter of the writes (POST, PUT, DELETE) with an Idempotency-Key header: the first request with a key is carried
+ * out and its response recorded, a retried request with the same key gets the recorded response, with an
+ * Idempotent-Replayed header, without being carried out again. A retry while the first request is still being
+ * carried out is answered with 409 (Conflict), and a retry with another body than the first request with 422
+ * (Unprocessable Entity), since the key was reused for another request.
+ *
+ * <p>The keys are scoped by user, method and request URI, so that the same key can't replay the response of
+ * another user or of another request. The filter comes after the admission control, so that the requests rejected
+ * before being carried out never get to the cache.
+ */
+final class IdempotencyFilter implements Filter {
+
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final int HTTP_UNPROCESSABLE_ENTITY = 422;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String RETRY_AFTER = "Retry-After";
+    private static final String CONTENT_TYPE = "Content-Type";
+
+    /**
+     * Response which records what is sent.
+     */
+    private static final class RecordingResponse extends HttpServletResponseWrapper {
+        private final List<Map.Entry<String, String>> headers = new ArrayList<>();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private int status = HttpServletResponse.SC_OK;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        RecordingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        CachedResponse toCachedResponse(byte[] requestDigest) {
+            if (writer != null) {
+                writer.flush();
+            }
+            return new CachedResponse(status, new ArrayList<>(headers), body.toByteArray(), requestDigest);
+        }
+
+        @Override
+        public void setStatus(int sc) {
+            status = sc;
+            super.setStatus(sc);
+        }
+
+        @Override
+        @Deprecated
+        public void setStatus(int sc, String sm) {
+            status = sc;
+            super.setStatus(sc, sm);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            status = sc;
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            status = sc;
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            headers.removeIf(header -> header.getKey().equalsIgnoreCase(name));
+            headers.add(new SimpleImmutableEntry<>(name, value));
+            super.setHeader(name, value);
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            headers.add(new SimpleImmutableEntry<>(name, value));
+            super.addHeader(name, value);
+        }
+
+        @Override
+        public void setIntHeader(String name, int value) {
+            setHeader(name, Integer.toString(value));
+        }
+
+        @Override
+        public void addIntHeader(String name, int value) {
+            addHeader(name, Integer.toString(value));
+        }
+
+        @Override
+        public void setContentType(String type) {
+            headers.removeIf(header -> header.getKey().equalsIgnoreCase(CONTENT_TYPE));
+            headers.add(new SimpleImmutableEntry<>(CONTENT_TYPE, type));
+            super.setContentType(type);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                final ServletOutputStream out = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int byteValue) throws IOException {
+                        out.write(byteValue);
+                        body.write(byteValue);
+                    }
+
+                    @Override
+                    public void write(byte[] bytes, int offset, int length) throws IOException {
+                        out.write(bytes, offset, length);
+                        body.write(bytes, offset, length);
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        out.flush();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return out.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        out.setWriteListener(writeListener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(),
+                        Charset.forName(getCharacterEncoding())));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            super.flushBuffer();
+        }
+    }
+
+    /**
+     * Request whose body is digested as it is read.
+     */
+    private static final class DigestingRequest extends HttpServletRequestWrapper {
+        private final MessageDigest messageDigest = newDigest();
+        private ServletInputStream inputStream;
+
+        DigestingRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                final ServletInputStream in = super.getInputStream();
+                inputStream = new ServletInputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        final int byteValue = in.read();
+                        if (byteValue >= 0) {
+                            messageDigest.update((byte) byteValue);
+                        }
+                        return byteValue;
+                    }
+
+                    @Override
+                    public int read(byte[] buffer, int offset, int length) throws IOException {
+                        final int read = in.read(buffer, offset, length);
+                        if (read > 0) {
+                            messageDigest.update(buffer, offset, read);
+                        }
+                        return read;
+                    }
+
+                    @Override
+                    public boolean isFinished() {
+                        return in.isFinished();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return in.isReady();
+                    }
+
+                    @Override
+                    public void setReadListener(ReadListener readListener) {
+                        in.setReadListener(readListener);
+                    }
+                };
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            final String encoding = getCharacterEncoding();
+            final Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        /**
+         * Returns the digest of the body, once the rest of the body which wasn't read is read.
+         */
+        byte[] digest() throws IOException {
+            ByteStreams.exhaust(getInputStream());
+            return messageDigest.digest();
+        }
+    }
+
+    private final IdempotencyCache cache;
+
+    IdempotencyFilter(IdempotencyCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void init(FilterConfig filterConfig) {
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        final String idempotencyKey = request instanceof HttpServletRequest
+                ? ((HttpServletRequest) request).getHeader(IDEMPOTENCY_KEY) : null;
+        if (idempotencyKey == null || !isWrite(((HttpServletRequest) request).getMethod())) {
+            chain.doFilter(request, response);
+            return;
+        }
+        final HttpServletRequest httpRequest = (HttpServletRequest) request;
+        final HttpServletResponse httpResponse = (HttpServletResponse) response;
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            sendText(httpResponse, HttpServletResponse.SC_BAD_REQUEST,
+                    IDEMPOTENCY_KEY + " must have 1 to " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        final String key = scopedKey(httpRequest, idempotencyKey);
+        final CachedResponse cached = cache.begin(key);
+        if (cached == IdempotencyCache.PENDING) {
+            httpResponse.setHeader(RETRY_AFTER, "1");
+            sendText(httpResponse, HttpServletResponse.SC_CONFLICT,
+                    "A request with this " + IDEMPOTENCY_KEY + " is in progress, retry later");
+            return;
+        }
+        if (cached != null) {
+            if (!MessageDigest.isEqual(cached.getRequestDigest(), new DigestingRequest(httpRequest).digest())) {
+                sendText(httpResponse, HTTP_UNPROCESSABLE_ENTITY,
+                        "This " + IDEMPOTENCY_KEY + " was used by a request with another body");
+                return;
+            }
+            replay(cached, httpResponse);
+            return;
+        }
+
+        final DigestingRequest digestingRequest = new DigestingRequest(httpRequest);
+        final RecordingResponse recordingResponse = new RecordingResponse(httpResponse);
+        boolean completed = false;
+        try {
+            chain.doFilter(digestingRequest, recordingResponse);
+            cache.complete(key, recordingResponse.toCachedResponse(digestingRequest.digest()));
+            completed = true;
+        } finally {
+            if (!completed) {
+                cache.abort(key);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform has it
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+
+    private static boolean isWrite(String method) {
+        return "POST".equals(method) || "PUT".equals(method) || "DELETE".equals(method);
+    }
+
+    private static String scopedKey(HttpServletRequest request, String idempotencyKey) {
+        final StringBuilder key = new StringBuilder();
+        if (request.getRemoteUser() != null) {
+            key.append(request.getRemoteUser());
+        }
+        key.append('\n').append(request.getMethod()).append('\n').append(request.getRequestURI());
+        if (request.getQueryString() != null) {
+            key.append('?').append(request.getQueryString());
+        }
+        return key.append('\n').append(idempotencyKey).toString();
+    }
+
+    private static void replay(CachedResponse cached, HttpServletResponse response) throws IOException {
+        response.setStatus(cached.getStatus());
+        for (Map.Entry<String, String> header : cached.getHeaders()) {
+            if (CONTENT_TYPE.equalsIgnoreCase(header.getKey())) {
+                response.setContentType(header.getValue());
+            } else {
+                response.addHeader(header.getKey(), header.getValue());
+            }
+        }
+        response.setHeader(IDEMPOTENT_REPLAYED, "true");
+        if (cached.getBody().length > 0) {
+            response.setContentLength(cached.getBody().length);
+            response.getOutputStream().write(cached.getBody());
+        }
+    }
+
+    private static void sendText(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType("text/plain");
+        response.getWriter().write(message);
+    }
+}
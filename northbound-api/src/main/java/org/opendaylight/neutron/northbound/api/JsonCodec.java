@@ -0,0 +1,524 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.northbound.api;
+
+import com.google.common.base.Throwables;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlTransient;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+import org.opendaylight.neutron.spi.NeutronResourceMapPropertyAdapter;
+
+/**
+ * JSON codec of a JAXB annotated class, which reads and writes the same JSON as the MOXy provider configured
+ * in {@link NeutronNorthboundRSApplication}, in compact form.
+ *
+ * <p>The codec of a class is compiled once, from the {@link XmlElement} fields of the class and its superclasses
+ * (in that order, as MOXy does): the JSON names, including the namespace prefixes like "binding:", are resolved
+ * and pre-quoted, and the fields are bound to method handles. Reading and writing an object then doesn't look
+ * at the annotations any more. Classes using other JAXB features than the ones of the neutron-spi and request
+ * classes have no codec, see {@link #forClass(Class)}, and are left to MOXy.
+ */
+final class JsonCodec<T> {
+
+    private static final String DEFAULT_NAME = "##default";
+    private static final Map<String, String> NAMESPACE_PREFIXES =
+            NeutronNorthboundRSApplication.getNamespacePrefixMapper();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class);
+
+    // classes whose codec is being compiled by the current thread, so that recursive types can be compiled
+    private static final ThreadLocal<Set<Class<?>>> COMPILING = ThreadLocal.withInitial(HashSet::new);
+
+    private static final ClassValue<Optional<JsonCodec<?>>> CODECS = new ClassValue<Optional<JsonCodec<?>>>() {
+        @Override
+        protected Optional<JsonCodec<?>> computeValue(Class<?> type) {
+            return Optional.ofNullable(compile(type));
+        }
+    };
+
+    /**
+     * How a field value is written and read.
+     */
+    private interface ValueType {
+        void write(Object value, Writer out) throws IOException;
+
+        Object read(JsonReader in) throws IOException;
+    }
+
+    private enum Scalar implements ValueType {
+        STRING(String.class, text -> text),
+        BOOLEAN(Boolean.class, Scalar::parseBoolean),
+        SHORT(Short.class, Short::valueOf),
+        INTEGER(Integer.class, Integer::valueOf),
+        LONG(Long.class, Long::valueOf),
+        BIG_INTEGER(BigInteger.class, BigInteger::new);
+
+        private final Class<?> javaClass;
+        private final Function<String, Object> parser;
+
+        Scalar(Class<?> javaClass, Function<String, Object> parser) {
+            this.javaClass = javaClass;
+            this.parser = parser;
+        }
+
+        static Scalar forClass(Class<?> type) {
+            for (Scalar scalar : values()) {
+                if (scalar.javaClass.equals(type)) {
+                    return scalar;
+                }
+            }
+            return null;
+        }
+
+        private static Boolean parseBoolean(String text) {
+            switch (text) {
+                case "true":
+                case "1":
+                    return Boolean.TRUE;
+                case "false":
+                case "0":
+                    return Boolean.FALSE;
+                default:
+                    throw new IllegalArgumentException("Invalid boolean " + text);
+            }
+        }
+
+        @Override
+        public void write(Object value, Writer out) throws IOException {
+            if (this == STRING) {
+                writeString((String) value, out);
+            } else {
+                out.write(value.toString());
+            }
+        }
+
+        @Override
+        public Object read(JsonReader in) throws IOException {
+            final String text = in.nextScalar();
+            if (text == null) {
+                return null;
+            }
+            try {
+                return parser.apply(text);
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Invalid " + javaClass.getSimpleName() + " value: " + text);
+            }
+        }
+    }
+
+    private static final class ObjectType implements ValueType {
+        private final Class<?> javaClass;
+
+        ObjectType(Class<?> javaClass) {
+            this.javaClass = javaClass;
+        }
+
+        private JsonCodec<?> codec() {
+            final JsonCodec<?> codec = forClass(javaClass);
+            if (codec == null) {
+                throw new IllegalStateException("No JSON codec for " + javaClass);
+            }
+            return codec;
+        }
+
+        @Override
+        public void write(Object value, Writer out) throws IOException {
+            codec().writeObject(value, out);
+        }
+
+        @Override
+        public Object read(JsonReader in) throws IOException {
+            return codec().read(in);
+        }
+    }
+
+    private static final class ListType implements ValueType {
+        private final ValueType elementType;
+
+        ListType(ValueType elementType) {
+            this.elementType = elementType;
+        }
+
+        @Override
+        public void write(Object value, Writer out) throws IOException {
+            out.write('[');
+            boolean first = true;
+            for (Object element : (List<?>) value) {
+                if (element != null) {
+                    if (!first) {
+                        out.write(',');
+                    }
+                    first = false;
+                    elementType.write(element, out);
+                }
+            }
+            out.write(']');
+        }
+
+        @Override
+        public Object read(JsonReader in) throws IOException {
+            final List<Object> list = new ArrayList<>();
+            switch (in.peek()) {
+                case NULL:
+                    in.nextNull();
+                    return null;
+                case ARRAY:
+                    in.beginArray();
+                    while (in.hasNext()) {
+                        final Object element = elementType.read(in);
+                        if (element != null) {
+                            list.add(element);
+                        }
+                    }
+                    in.endArray();
+                    return list;
+                default:
+                    // a single value is read as a list of one
+                    list.add(elementType.read(in));
+                    return list;
+            }
+        }
+    }
+
+    /**
+     * Map of strings written as an object, as {@link NeutronResourceMapPropertyAdapter} maps it.
+     */
+    private static final class StringMapType implements ValueType {
+        static final StringMapType INSTANCE = new StringMapType();
+
+        @Override
+        public void write(Object value, Writer out) throws IOException {
+            out.write('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!first) {
+                    out.write(',');
+                }
+                first = false;
+                writeString((String) entry.getKey(), out);
+                out.write(':');
+                writeString((String) entry.getValue(), out);
+            }
+            out.write('}');
+        }
+
+        @Override
+        public Object read(JsonReader in) throws IOException {
+            if (in.peek() == JsonReader.Token.NULL) {
+                in.nextNull();
+                return null;
+            }
+            final Map<String, String> map = new HashMap<>();
+            in.beginObject();
+            while (in.hasNext()) {
+                map.put(in.nextName(), in.nextScalar());
+            }
+            in.endObject();
+            return map;
+        }
+    }
+
+    private static final class Property {
+        final String name;
+        // "name":
+        final String prefix;
+        final MethodHandle getter;
+        final MethodHandle setter;
+        final ValueType type;
+        // whether null is written, instead of leaving the member out
+        final boolean nillable;
+
+        Property(String name, MethodHandle getter, MethodHandle setter, ValueType type, boolean nillable) {
+            this.name = name;
+            final StringBuilder sb = new StringBuilder();
+            try {
+                writeString(name, sb);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            this.prefix = sb.append(':').toString();
+            this.getter = getter;
+            this.setter = setter;
+            this.type = type;
+            this.nillable = nillable;
+        }
+    }
+
+    private final Class<T> javaClass;
+    private final MethodHandle constructor;
+    private final Property[] properties;
+    private final Map<String, Property> propertiesByName = new HashMap<>();
+
+    private JsonCodec(Class<T> javaClass, MethodHandle constructor, List<Property> properties) {
+        this.javaClass = javaClass;
+        this.constructor = constructor;
+        this.properties = properties.toArray(new Property[0]);
+        for (Property property : properties) {
+            propertiesByName.put(property.name, property);
+        }
+    }
+
+    /**
+     * Returns the codec of the given class, or null if the class can't be handled by a codec.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> JsonCodec<T> forClass(Class<T> type) {
+        return (JsonCodec<T>) CODECS.get(type).orElse(null);
+    }
+
+    private static boolean hasCodec(Class<?> type) {
+        return COMPILING.get().contains(type) || forClass(type) != null;
+    }
+
+    private static <T> JsonCodec<T> compile(Class<T> type) {
+        final XmlAccessorType accessorType = type.getAnnotation(XmlAccessorType.class);
+        if (accessorType == null || accessorType.value() != XmlAccessType.NONE || type.isInterface()
+                || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        final Set<Class<?>> compiling = COMPILING.get();
+        compiling.add(type);
+        try {
+            final Constructor<T> defaultConstructor = type.getDeclaredConstructor();
+            defaultConstructor.setAccessible(true);
+            final MethodHandle constructor =
+                    MethodHandles.lookup().unreflectConstructor(defaultConstructor).asType(FACTORY_TYPE);
+
+            final Deque<Class<?>> hierarchy = new ArrayDeque<>();
+            for (Class<?> cls = type; cls != null && !Object.class.equals(cls); cls = cls.getSuperclass()) {
+                hierarchy.push(cls);
+            }
+            final List<Property> properties = new ArrayList<>();
+            for (Class<?> cls : hierarchy) {
+                for (Field field : cls.getDeclaredFields()) {
+                    final XmlElement element = field.getAnnotation(XmlElement.class);
+                    if (element == null || field.isAnnotationPresent(XmlTransient.class)
+                            || Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    final String name = jsonName(element, field);
+                    final ValueType valueType = valueType(field);
+                    if (name == null || valueType == null) {
+                        return null;
+                    }
+                    field.setAccessible(true);
+                    final MethodHandle getter = MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+                    final MethodHandle setter = MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+                    properties.add(new Property(name, getter, setter, valueType, element.nillable()));
+                }
+            }
+            return new JsonCodec<>(type, constructor, properties);
+        } catch (NoSuchMethodException | IllegalAccessException | SecurityException e) {
+            return null;
+        } finally {
+            compiling.remove(type);
+        }
+    }
+
+    private static String jsonName(XmlElement element, Field field) {
+        final String name = DEFAULT_NAME.equals(element.name()) ? field.getName() : element.name();
+        final String namespace = element.namespace();
+        if (DEFAULT_NAME.equals(namespace) || namespace.isEmpty()) {
+            return name;
+        }
+        final String prefix = NAMESPACE_PREFIXES.get(namespace);
+        return prefix != null ? prefix + ':' + name : null;
+    }
+
+    private static ValueType valueType(Field field) {
+        final XmlJavaTypeAdapter adapter = field.getAnnotation(XmlJavaTypeAdapter.class);
+        if (adapter != null) {
+            return NeutronResourceMapPropertyAdapter.class.equals(adapter.value()) ? StringMapType.INSTANCE : null;
+        }
+        return valueType(field.getGenericType());
+    }
+
+    private static ValueType valueType(Type type) {
+        if (type instanceof ParameterizedType) {
+            final ParameterizedType parameterizedType = (ParameterizedType) type;
+            if (!List.class.equals(parameterizedType.getRawType())) {
+                return null;
+            }
+            final ValueType elementType = valueType(parameterizedType.getActualTypeArguments()[0]);
+            return elementType != null && !(elementType instanceof ListType) ? new ListType(elementType) : null;
+        }
+        if (type instanceof Class) {
+            final Scalar scalar = Scalar.forClass((Class<?>) type);
+            if (scalar != null) {
+                return scalar;
+            }
+            return hasCodec((Class<?>) type) ? new ObjectType((Class<?>) type) : null;
+        }
+        return null;
+    }
+
+    Class<T> getJavaClass() {
+        return javaClass;
+    }
+
+    /**
+     * Writes the object as a JSON object.
+     */
+    void write(T object, Writer out) throws IOException {
+        writeObject(object, out);
+    }
+
+    private void writeObject(Object object, Writer out) throws IOException {
+        out.write('{');
+        boolean first = true;
+        for (Property property : properties) {
+            final Object value = get(property, object);
+            if (value == null && !property.nillable) {
+                continue;
+            }
+            if (!first) {
+                out.write(',');
+            }
+            first = false;
+            out.write(property.prefix);
+            if (value != null) {
+                property.type.write(value, out);
+            } else {
+                out.write("null");
+            }
+        }
+        out.write('}');
+    }
+
+    /**
+     * Reads the next JSON value as an object of this codec's class. Unknown members are ignored; a value which
+     * isn't an object is read as an empty object, as MOXy does.
+     *
+     * @return the object, null for a JSON null
+     */
+    T read(JsonReader in) throws IOException {
+        switch (in.peek()) {
+            case NULL:
+                in.nextNull();
+                return null;
+            case OBJECT:
+                break;
+            default:
+                in.skipValue();
+                return newInstance();
+        }
+        final T object = newInstance();
+        in.beginObject();
+        while (in.hasNext()) {
+            final Property property = propertiesByName.get(in.nextName());
+            if (property != null) {
+                set(property, object, property.type.read(in));
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+        return object;
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private T newInstance() {
+        try {
+            return javaClass.cast(constructor.invokeExact());
+        } catch (Throwable e) {
+            Throwables.throwIfUnchecked(e);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private static Object get(Property property, Object object) {
+        try {
+            return property.getter.invokeExact(object);
+        } catch (Throwable e) {
+            Throwables.throwIfUnchecked(e);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private static void set(Property property, Object object, Object value) {
+        try {
+            property.setter.invokeExact(object, value);
+        } catch (Throwable e) {
+            Throwables.throwIfUnchecked(e);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Writes a JSON string, escaped the way MOXy escapes it.
+     */
+    static void writeString(String value, Appendable out) throws IOException {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char ch = value.charAt(i);
+            switch (ch) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\b':
+                    out.append("\\b");
+                    break;
+                case '\f':
+                    out.append("\\f");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (Character.isISOControl(ch)) {
+                        final String hex = Integer.toHexString(ch).toUpperCase(Locale.ROOT);
+                        out.append("\\u");
+                        for (int pad = hex.length(); pad < 4; pad++) {
+                            out.append('0');
+                        }
+                        out.append(hex);
+                    } else {
+                        out.append(ch);
+                    }
+                    break;
+            }
+        }
+        out.append('"');
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.northbound.api;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Pull parser of a JSON document, used by {@link JsonCodec}. Malformed input is reported as
+ * {@link BadRequestException}.
+ */
+final class JsonReader {
+
+    enum Token {
+        OBJECT, ARRAY, STRING, NUMBER, BOOLEAN, NULL
+    }
+
+    private static final int MAX_DEPTH = 64;
+
+    private final Reader in;
+    // whether the current object or array still has to read its first member
+    private final boolean[] first = new boolean[MAX_DEPTH + 1];
+    private int depth;
+    private int peeked = -1;
+
+    JsonReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * Returns the type of the next value, without consuming it.
+     */
+    Token peek() throws IOException {
+        final int ch = peekChar();
+        switch (ch) {
+            case '{':
+                return Token.OBJECT;
+            case '[':
+                return Token.ARRAY;
+            case '"':
+                return Token.STRING;
+            case 't':
+            case 'f':
+                return Token.BOOLEAN;
+            case 'n':
+                return Token.NULL;
+            default:
+                if (ch == '-' || ch >= '0' && ch <= '9') {
+                    return Token.NUMBER;
+                }
+                throw malformed("unexpected " + describe(ch));
+        }
+    }
+
+    void beginObject() throws IOException {
+        begin('{');
+    }
+
+    void endObject() throws IOException {
+        end('}');
+    }
+
+    void beginArray() throws IOException {
+        begin('[');
+    }
+
+    void endArray() throws IOException {
+        end(']');
+    }
+
+    /**
+     * Whether the current object or array has another member, consuming the separating comma.
+     */
+    boolean hasNext() throws IOException {
+        final int ch = peekChar();
+        if (ch == '}' || ch == ']') {
+            return false;
+        }
+        if (first[depth]) {
+            first[depth] = false;
+        } else {
+            expect(',');
+        }
+        return true;
+    }
+
+    String nextName() throws IOException {
+        if (peekChar() != '"') {
+            throw malformed("expected a member name");
+        }
+        final String name = readString();
+        expect(':');
+        return name;
+    }
+
+    /**
+     * Returns the text of the next string, number or boolean, or null for null.
+     */
+    String nextScalar() throws IOException {
+        switch (peek()) {
+            case STRING:
+                return readString();
+            case NUMBER:
+                return readLiteral();
+            case BOOLEAN:
+                final String literal = readLiteral();
+                if (!"true".equals(literal) && !"false".equals(literal)) {
+                    throw malformed("unexpected " + literal);
+                }
+                return literal;
+            case NULL:
+                nextNull();
+                return null;
+            default:
+                throw malformed("expected a value instead of an object or array");
+        }
+    }
+
+    void nextNull() throws IOException {
+        final String literal = readLiteral();
+        if (!"null".equals(literal)) {
+            throw malformed("unexpected " + literal);
+        }
+    }
+
+    void skipValue() throws IOException {
+        switch (peek()) {
+            case OBJECT:
+                beginObject();
+                while (hasNext()) {
+                    nextName();
+                    skipValue();
+                }
+                endObject();
+                break;
+            case ARRAY:
+                beginArray();
+                while (hasNext()) {
+                    skipValue();
+                }
+                endArray();
+                break;
+            default:
+                nextScalar();
+                break;
+        }
+    }
+
+    /**
+     * Checks that nothing but white space follows the document.
+     */
+    void endDocument() throws IOException {
+        final int ch = peekChar();
+        if (ch != -1) {
+            throw malformed("unexpected " + describe(ch) + " after the document");
+        }
+    }
+
+    private void begin(char open) throws IOException {
+        expect(open);
+        if (depth == MAX_DEPTH) {
+            throw malformed("nested too deeply");
+        }
+        first[++depth] = true;
+    }
+
+    private void end(char close) throws IOException {
+        expect(close);
+        depth--;
+    }
+
+    private String readString() throws IOException {
+        expect('"');
+        final StringBuilder sb = new StringBuilder();
+        for (int ch = read(); ch != '"'; ch = read()) {
+            if (ch == -1) {
+                throw malformed("unterminated string");
+            }
+            if (ch < 0x20) {
+                throw malformed("unescaped control character in string");
+            }
+            if (ch == '\\') {
+                ch = read();
+                switch (ch) {
+                    case '"':
+                    case '\\':
+                    case '/':
+                        break;
+                    case 'b':
+                        ch = '\b';
+                        break;
+                    case 'f':
+                        ch = '\f';
+                        break;
+                    case 'n':
+                        ch = '\n';
+                        break;
+                    case 'r':
+                        ch = '\r';
+                        break;
+                    case 't':
+                        ch = '\t';
+                        break;
+                    case 'u':
+                        ch = readHex();
+                        break;
+                    default:
+                        throw malformed("invalid escape sequence");
+                }
+            }
+            sb.append((char) ch);
+        }
+        return sb.toString();
+    }
+
+    private int readHex() throws IOException {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            final int digit = Character.digit(read(), 16);
+            if (digit < 0) {
+                throw malformed("invalid unicode escape");
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
+    private String readLiteral() throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        int ch = peekChar();
+        while (isLiteralChar(ch)) {
+            sb.append((char) ch);
+            ch = in.read();
+        }
+        peeked = ch;
+        if (sb.length() == 0) {
+            throw malformed("expected a value");
+        }
+        return sb.toString();
+    }
+
+    private static boolean isLiteralChar(int ch) {
+        return ch >= 'a' && ch <= 'z' || ch >= '0' && ch <= '9' || ch == '-' || ch == '+' || ch == '.'
+                || ch == 'E';
+    }
+
+    private void expect(char expected) throws IOException {
+        final int ch = peekChar();
+        if (ch != expected) {
+            throw malformed("expected '" + expected + "' instead of " + describe(ch));
+        }
+        peeked = -1;
+    }
+
+    /**
+     * Returns the next non white space character without consuming it, -1 at the end of the input.
+     */
+    private int peekChar() throws IOException {
+        int ch = peeked != -1 ? peeked : in.read();
+        while (ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r') {
+            ch = in.read();
+        }
+        peeked = ch;
+        return ch;
+    }
+
+    private int read() throws IOException {
+        if (peeked != -1) {
+            final int ch = peeked;
+            peeked = -1;
+            return ch;
+        }
+        return in.read();
+    }
+
+    private static String describe(int ch) {
+        return ch == -1 ? "end of input" : "'" + (char) ch + "'";
+    }
+
+    private static BadRequestException malformed(String message) {
+        return new BadRequestException("Malformed JSON: " + message);
+    }
+}
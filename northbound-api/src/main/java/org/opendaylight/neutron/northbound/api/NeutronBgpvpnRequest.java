@@ -29,6 +29,9 @@ public final class NeutronBgpvpnRequest implements INeutronRequest<NeutronBgpvpn
     @XmlElement(name = "bgpvpns")
     List<NeutronBgpvpn> bulkRequest;
 
+    @XmlElement(name = "bgpvpns_links")
+    List<NeutronPageLink> links;
+
     NeutronBgpvpnRequest() {
     }
 
@@ -36,6 +39,11 @@ public final class NeutronBgpvpnRequest implements INeutronRequest<NeutronBgpvpn
         singleton = bgpvpn;
     }
 
+    NeutronBgpvpnRequest(List<NeutronBgpvpn> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronBgpvpnRequest(List<NeutronBgpvpn> bulk) {
         bulkRequest = bulk;
     }
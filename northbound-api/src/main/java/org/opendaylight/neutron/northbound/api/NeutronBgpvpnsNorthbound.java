@@ -9,7 +9,6 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
@@ -21,15 +20,14 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
-import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
-import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.codehaus.enunciate.jaxrs.TypeHint;
 import org.opendaylight.neutron.spi.INeutronBgpvpnCRUD;
 import org.opendaylight.neutron.spi.NeutronBgpvpn;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs for Bgpvpn.<br>
@@ -53,9 +51,6 @@ import org.opendaylight.neutron.spi.NeutronBgpvpn;
 public final class NeutronBgpvpnsNorthbound
         extends AbstractNeutronNorthbound<NeutronBgpvpn, NeutronBgpvpnRequest, INeutronBgpvpnCRUD> {
 
-    @Context
-    UriInfo uriInfo;
-
     private static final String RESOURCE_NAME = "Bgpvpn";
 
     @Override
@@ -88,39 +83,23 @@ public final class NeutronBgpvpnsNorthbound
             // pagination
             @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronBgpvpnCRUD bgpvpnInterface = getNeutronCRUD();
-        List<NeutronBgpvpn> allBgpvpns = bgpvpnInterface.getAll();
-        List<NeutronBgpvpn> ans = new ArrayList<>();
-        for (NeutronBgpvpn bgpvpn : allBgpvpns) {
-            //match filters: TODO provider extension
-            Boolean adminStateUp = queryAdminStateUp != null ? Boolean.valueOf(queryAdminStateUp) : null;
-            Boolean autoAggregate = queryAutoAggregate != null ? Boolean.valueOf(queryAutoAggregate) : null;
-            if ((queryID == null || queryID.equals(bgpvpn.getID()))
-                    && (queryName == null || queryName.equals(bgpvpn.getName()))
-                    && (adminStateUp == null || adminStateUp.booleanValue() == bgpvpn.isAdminStateUp())
-                    && (queryStatus == null || queryStatus.equals(bgpvpn.getStatus()))
-                    && (autoAggregate == null || autoAggregate.booleanValue() == bgpvpn.isAutoAggregate())
-                    && (queryTenantID == null || queryTenantID.equals(bgpvpn.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(bgpvpn.extractFields(fields));
-                } else {
-                    ans.add(bgpvpn);
-                }
-            }
-        }
-
-        if (limit != null && ans.size() > 1) {
-            // Return a paginated request
-            NeutronBgpvpnRequest request = (NeutronBgpvpnRequest) PaginatedRequestFactory.createRequest(limit, marker,
-                    pageReverse, uriInfo, ans, NeutronBgpvpn.class);
-            return Response.status(HttpURLConnection.HTTP_OK).entity(request).build();
-        }
-
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronBgpvpnRequest(ans)).build();
-
+        //match filters: TODO provider extension
+        Boolean adminStateUp = queryAdminStateUp != null ? Boolean.valueOf(queryAdminStateUp) : null;
+        Boolean autoAggregate = queryAutoAggregate != null ? Boolean.valueOf(queryAutoAggregate) : null;
+        NeutronQuery<NeutronBgpvpn> query = new NeutronQuery<NeutronBgpvpn>()
+                .filter("id", queryID, bgpvpn -> queryID.equals(bgpvpn.getID()))
+                .filter("name", queryName, bgpvpn -> queryName.equals(bgpvpn.getName()))
+                .filter(adminStateUp, bgpvpn -> adminStateUp.booleanValue() == bgpvpn.isAdminStateUp())
+                .filter("status", queryStatus, bgpvpn -> queryStatus.equals(bgpvpn.getStatus()))
+                .filter(autoAggregate, bgpvpn -> autoAggregate.booleanValue() == bgpvpn.isAutoAggregate())
+                .filter("tenant_id", queryTenantID, bgpvpn -> queryTenantID.equals(bgpvpn.getTenantID()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
@@ -160,7 +139,19 @@ public final class NeutronBgpvpnsNorthbound
      */
     @Override
     protected void updateDelta(String uuid, NeutronBgpvpn delta, NeutronBgpvpn original) {
-        //Fill in defaults if they're missing in update
+        //Keep the stored values of the attributes missing in update, and fill in defaults if they're missing there too
+        if (delta.getType() == null) {
+            delta.setType(original.getType());
+        }
+        if (delta.getAutoAggregate() == null && original.getAutoAggregate() != null) {
+            delta.setAutoAggregate(original.getAutoAggregate());
+        }
+        if (delta.getAdminStateUp() == null) {
+            delta.setAdminStateUp(original.getAdminStateUp());
+        }
+        if (delta.getStatus() == null) {
+            delta.setStatus(original.getStatus());
+        }
         delta.initDefaults();
         delta.setID(uuid);
         delta.setTenantID(original.getTenantID());
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.northbound.api;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.opendaylight.neutron.spi.INeutronCRUD;
+import org.osgi.framework.BundleContext;
+import org.osgi.util.tracker.ServiceTracker;
+
+/**
+ * The CRUD services of the northbound, and the other services it uses such as the change feed, tracked once per
+ * interface instead of being looked up in the service registry on every request.
+ *
+ * <p>A tracker is opened on the first lookup of its interface and follows the service events from then on, so
+ * that the service of a restarted transcriber bundle is picked up, and a service which went away isn't used any
+ * more. The trackers are closed, which releases the services, when the northbound is shut down.
+ */
+final class NeutronCRUDServices implements AutoCloseable {
+
+    private final BundleContext bundleContext;
+    private final ConcurrentMap<Class<?>, ServiceTracker<?, ?>> trackers = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    NeutronCRUDServices(BundleContext bundleContext) {
+        this.bundleContext = bundleContext;
+    }
+
+    /**
+     * Returns the current service of the given CRUD interface, null if there is none.
+     */
+    <I extends INeutronCRUD<?>> I get(Class<I> crudInterface) {
+        return getService(crudInterface);
+    }
+
+    /**
+     * Returns the current service of the given interface, null if there is none.
+     */
+    <I> I getService(Class<I> serviceInterface) {
+        if (closed) {
+            return null;
+        }
+        ServiceTracker<?, ?> tracker = trackers.get(serviceInterface);
+        if (tracker == null) {
+            tracker = trackers.computeIfAbsent(serviceInterface, key -> {
+                ServiceTracker<I, I> newTracker = new ServiceTracker<>(bundleContext, serviceInterface, null);
+                newTracker.open();
+                return newTracker;
+            });
+            if (closed) {
+                // closed concurrently, after which no tracker may stay open
+                tracker.close();
+                return null;
+            }
+        }
+        return serviceInterface.cast(tracker.getService());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        trackers.values().forEach(ServiceTracker::close);
+        trackers.clear();
+    }
+}
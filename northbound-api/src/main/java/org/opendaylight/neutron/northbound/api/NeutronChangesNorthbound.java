@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.northbound.api;
+
+import java.net.HttpURLConnection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.codehaus.enunciate.jaxrs.ResponseCode;
+import org.codehaus.enunciate.jaxrs.StatusCodes;
+import org.opendaylight.neutron.spi.INeutronChangeFeed;
+import org.opendaylight.neutron.spi.NeutronChanges;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.ServiceReference;
+
+/**
+ * Neutron Northbound REST APIs.<br>
+ * This class provides the feed of the changes of the neutron objects, so that clients can follow them instead of
+ * listing the objects again and again.
+ *
+ * <p>A client takes the current cursor (a request without cursor), lists the objects it follows, and then asks for
+ * the changes after the cursor, waiting for them up to the given timeout (long polling); every answer gives the
+ * cursor to ask with next. A change gives the action (create, update or delete), the resource (e.g. "ports") and
+ * the id of the object, which is read again if needed. If the changes after a cursor aren't kept any more, e.g.
+ * because the client fell behind or after a restart, the answer is 410 (Gone) and the client starts over.
+ *
+ * <br>
+ * <br>
+ * Authentication scheme : <b>HTTP Basic</b><br>
+ * Authentication realm : <b>opendaylight</b><br>
+ * Transport : <b>HTTP and HTTPS</b><br>
+ * <br>
+ */
+
+@Path("/changes")
+public final class NeutronChangesNorthbound {
+
+    private static final int DEFAULT_LIMIT = 1000;
+    // a waiting request holds a web container thread
+    private static final int MAX_TIMEOUT_SECONDS = 60;
+
+    private volatile NeutronCRUDServices services;
+
+    void setNeutronCRUDServices(NeutronCRUDServices services) {
+        this.services = services;
+    }
+
+    /**
+     * Returns the changes after a cursor.
+     */
+
+    @GET
+    @Produces({ MediaType.APPLICATION_JSON })
+    @StatusCodes({ @ResponseCode(code = HttpURLConnection.HTTP_OK, condition = "Operation successful"),
+            @ResponseCode(code = HttpURLConnection.HTTP_BAD_REQUEST, condition = "Bad Request"),
+            @ResponseCode(code = HttpURLConnection.HTTP_UNAUTHORIZED, condition = "Unauthorized"),
+            @ResponseCode(code = HttpURLConnection.HTTP_GONE, condition = "Changes not kept any more"),
+            @ResponseCode(code = HttpURLConnection.HTTP_NOT_IMPLEMENTED, condition = "Not Implemented"),
+            @ResponseCode(code = HttpURLConnection.HTTP_UNAVAILABLE, condition = "No providers available") })
+    public Response listChanges(
+            // cursor after which the changes are returned, none for the current cursor
+            @QueryParam("cursor") String cursor,
+            // resources of the changes, e.g. ports, all if none
+            @QueryParam("resource") List<String> resources,
+            @QueryParam("limit") Integer limit,
+            // seconds to wait for a change
+            @DefaultValue("0") @QueryParam("timeout") int timeout) {
+        final NeutronCRUDServices crudServices = services;
+        if (crudServices != null) {
+            return listChanges(crudServices.getService(INeutronChangeFeed.class), cursor, resources, limit, timeout);
+        }
+        // the services aren't tracked, the change feed is got for this request and released after it
+        final BundleContext bundleContext = FrameworkUtil.getBundle(getClass()).getBundleContext();
+        final ServiceReference<INeutronChangeFeed> reference =
+                bundleContext.getServiceReference(INeutronChangeFeed.class);
+        final INeutronChangeFeed changeFeed = reference != null ? bundleContext.getService(reference) : null;
+        try {
+            return listChanges(changeFeed, cursor, resources, limit, timeout);
+        } finally {
+            if (changeFeed != null) {
+                bundleContext.ungetService(reference);
+            }
+        }
+    }
+
+    private Response listChanges(INeutronChangeFeed changeFeed, String cursor, List<String> resources, Integer limit,
+            int timeout) {
+        if (changeFeed == null) {
+            throw new ServiceUnavailableException("Change feed " + RestMessages.SERVICEUNAVAILABLE.toString());
+        }
+        if (!changeFeed.isEnabled()) {
+            throw new UnimplementedException("The change feed is not enabled");
+        }
+        if (cursor == null) {
+            return Response.status(HttpURLConnection.HTTP_OK)
+                    .entity(new NeutronChanges(Collections.emptyList(), changeFeed.getCursor())).build();
+        }
+        if (limit != null && limit <= 0 || timeout < 0) {
+            throw new BadRequestException("limit must be positive and timeout not negative");
+        }
+
+        final NeutronChanges changes;
+        try {
+            changes = changeFeed.getChanges(cursor, new HashSet<>(resources), limit != null ? limit : DEFAULT_LIMIT,
+                    Math.min(timeout, MAX_TIMEOUT_SECONDS), TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while waiting for changes");
+        }
+        if (changes == null) {
+            throw new ResourceGoneException("The changes after " + cursor + " are not kept any more, start over");
+        }
+        return Response.status(HttpURLConnection.HTTP_OK).entity(changes).build();
+    }
+}
@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -26,6 +26,7 @@ import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronFirewallCRUD;
 import org.opendaylight.neutron.spi.NeutronFirewall;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs for Firewall.<br>
@@ -76,30 +77,23 @@ public final class NeutronFirewallNorthbound
             @QueryParam("shared") Boolean queryFirewallIsShared,
             @QueryParam("firewall_policy_id") String queryFirewallPolicyID,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronFirewallCRUD firewallInterface = getNeutronCRUD();
-        List<NeutronFirewall> ans = new ArrayList<>();
-        for (NeutronFirewall nsg : firewallInterface.getAll()) {
-            if ((queryFirewallUUID == null || queryFirewallUUID.equals(nsg.getID()))
-                    && (queryFirewallTenantID == null || queryFirewallTenantID.equals(nsg.getTenantID()))
-                    && (queryFirewallName == null || queryFirewallName.equals(nsg.getName()))
-                    && (queryFirewallAdminStateIsUp == null
-                            || queryFirewallAdminStateIsUp.equals(nsg.getFirewallAdminStateIsUp()))
-                    && (queryFirewallIsShared == null || queryFirewallIsShared.equals(nsg.getFirewallIsShared()))
-                    && (queryFirewallPolicyID == null || queryFirewallPolicyID.equals(nsg.getFirewallPolicyID()))) {
-                if (fields.size() > 0) {
-                    ans.add(nsg.extractFields(fields));
-                } else {
-                    ans.add(nsg);
-                }
-            }
-        }
-        //TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronFirewallRequest(ans)).build();
+        NeutronQuery<NeutronFirewall> query = new NeutronQuery<NeutronFirewall>()
+                .filter("id", queryFirewallUUID, nsg -> queryFirewallUUID.equals(nsg.getID()))
+                .filter("tenant_id", queryFirewallTenantID, nsg -> queryFirewallTenantID.equals(nsg.getTenantID()))
+                .filter("name", queryFirewallName, nsg -> queryFirewallName.equals(nsg.getName()))
+                .filter(queryFirewallAdminStateIsUp,
+                    nsg -> queryFirewallAdminStateIsUp.equals(nsg.getFirewallAdminStateIsUp()))
+                .filter(queryFirewallIsShared, nsg -> queryFirewallIsShared.equals(nsg.getFirewallIsShared()))
+                .filter(queryFirewallPolicyID, nsg -> queryFirewallPolicyID.equals(nsg.getFirewallPolicyID()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -26,6 +26,7 @@ import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronFirewallPolicyCRUD;
 import org.opendaylight.neutron.spi.NeutronFirewallPolicy;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs for Firewall Policies.<br>
@@ -75,30 +76,24 @@ public final class NeutronFirewallPolicyNorthbound extends
             @QueryParam("shared") Boolean querySecurityPolicyIsShared,
             @QueryParam("audited") Boolean querySecurityPolicyIsAudited,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronFirewallPolicyCRUD firewallPolicyInterface = getNeutronCRUD();
-        List<NeutronFirewallPolicy> ans = new ArrayList<>();
-        for (NeutronFirewallPolicy nsg : firewallPolicyInterface.getAll()) {
-            if ((queryFirewallPolicyUUID == null || queryFirewallPolicyUUID.equals(nsg.getID()))
-                    && (queryFirewallPolicyTenantID == null || queryFirewallPolicyTenantID.equals(nsg.getTenantID()))
-                    && (queryFirewallPolicyName == null || queryFirewallPolicyName.equals(nsg.getName()))
-                    && (querySecurityPolicyIsShared == null
-                            || querySecurityPolicyIsShared.equals(nsg.getFirewallPolicyIsShared()))
-                    && (querySecurityPolicyIsAudited == null
-                            || querySecurityPolicyIsAudited.equals(nsg.getFirewallPolicyIsAudited()))) {
-                if (fields.size() > 0) {
-                    ans.add(nsg.extractFields(fields));
-                } else {
-                    ans.add(nsg);
-                }
-            }
-        }
-        //TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronFirewallPolicyRequest(ans)).build();
+        NeutronQuery<NeutronFirewallPolicy> query = new NeutronQuery<NeutronFirewallPolicy>()
+                .filter("id", queryFirewallPolicyUUID, nsg -> queryFirewallPolicyUUID.equals(nsg.getID()))
+                .filter("tenant_id", queryFirewallPolicyTenantID,
+                    nsg -> queryFirewallPolicyTenantID.equals(nsg.getTenantID()))
+                .filter("name", queryFirewallPolicyName, nsg -> queryFirewallPolicyName.equals(nsg.getName()))
+                .filter(querySecurityPolicyIsShared,
+                    nsg -> querySecurityPolicyIsShared.equals(nsg.getFirewallPolicyIsShared()))
+                .filter(querySecurityPolicyIsAudited,
+                    nsg -> querySecurityPolicyIsAudited.equals(nsg.getFirewallPolicyIsAudited()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
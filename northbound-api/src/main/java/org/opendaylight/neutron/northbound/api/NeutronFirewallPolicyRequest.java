@@ -32,9 +32,17 @@ public final class NeutronFirewallPolicyRequest implements INeutronRequest<Neutr
     @XmlElement(name = "firewall_policies")
     List<NeutronFirewallPolicy> bulkRequest;
 
+    @XmlElement(name = "firewall_policies_links")
+    List<NeutronPageLink> links;
+
     NeutronFirewallPolicyRequest() {
     }
 
+    NeutronFirewallPolicyRequest(List<NeutronFirewallPolicy> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronFirewallPolicyRequest(List<NeutronFirewallPolicy> bulk) {
         bulkRequest = bulk;
     }
@@ -31,9 +31,17 @@ public final class NeutronFirewallRequest implements INeutronRequest<NeutronFire
     @XmlElement(name = "firewalls")
     List<NeutronFirewall> bulkRequest;
 
+    @XmlElement(name = "firewalls_links")
+    List<NeutronPageLink> links;
+
     NeutronFirewallRequest() {
     }
 
+    NeutronFirewallRequest(List<NeutronFirewall> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronFirewallRequest(List<NeutronFirewall> bulk) {
         bulkRequest = bulk;
     }
@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -26,6 +26,7 @@ import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronFirewallRuleCRUD;
 import org.opendaylight.neutron.spi.NeutronFirewallRule;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs for Firewall Rule.<br>
@@ -84,50 +85,44 @@ public final class NeutronFirewallRulesNorthbound
             @QueryParam("action") String queryFirewallRuleAction,
             @QueryParam("enabled") Boolean queryFirewallRuleIsEnabled,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronFirewallRuleCRUD firewallRuleInterface = getNeutronCRUD();
-        List<NeutronFirewallRule> ans = new ArrayList<>();
-        for (NeutronFirewallRule nsr : firewallRuleInterface.getAll()) {
-            if ((queryFirewallRuleUUID == null || queryFirewallRuleUUID.equals(nsr.getID()))
-                    && (queryFirewallRuleTenantID == null || queryFirewallRuleTenantID.equals(nsr.getTenantID()))
-                    && (queryFirewallRuleName == null || queryFirewallRuleName.equals(nsr.getName()))
-                    && (queryFirewallRuleIsShared == null
-                            || queryFirewallRuleIsShared.equals(nsr.getFirewallRuleIsShared()))
-                    && (queryFirewallRulePolicyID == null
-                            || queryFirewallRulePolicyID.equals(nsr.getFirewallRulePolicyID()))
-                    && (queryFirewallRuleProtocol == null
-                            || queryFirewallRuleProtocol.equals(nsr.getFirewallRuleProtocol()))
-                    && (queryFirewallRuleIpVer == null || queryFirewallRuleIpVer.equals(nsr.getFirewallRuleIpVer()))
-                    && (queryFirewallRuleSrcIpAddr == null
-                            || queryFirewallRuleSrcIpAddr.equals(nsr.getFirewallRuleSrcIpAddr()))
-                    && (queryFirewallRuleDstIpAddr == null
-                            || queryFirewallRuleDstIpAddr.equals(nsr.getFirewallRuleDstIpAddr()))
-                    && (queryFirewallRuleSrcPortRangeMin == null
-                            || queryFirewallRuleSrcPortRangeMin.equals(nsr.getFirewallRuleSrcPortRangeMin()))
-                    && (queryFirewallRuleSrcPortRangeMax == null
-                            || queryFirewallRuleSrcPortRangeMax.equals(nsr.getFirewallRuleSrcPortRangeMax()))
-                    && (queryFirewallRuleDstPortRangeMin == null
-                            || queryFirewallRuleDstPortRangeMin.equals(nsr.getFirewallRuleDstPortRangeMin()))
-                    && (queryFirewallRuleDstPortRangeMax == null
-                            || queryFirewallRuleDstPortRangeMax.equals(nsr.getFirewallRuleDstPortRangeMax()))
-                    && (queryFirewallRulePosition == null
-                            || queryFirewallRulePosition.equals(nsr.getFirewallRulePosition()))
-                    && (queryFirewallRuleAction == null || queryFirewallRuleAction.equals(nsr.getFirewallRuleAction()))
-                    && (queryFirewallRuleIsEnabled == null
-                            || queryFirewallRuleIsEnabled.equals(nsr.getFirewallRuleIsEnabled()))) {
-                if (fields.size() > 0) {
-                    ans.add(nsr.extractFields(fields));
-                } else {
-                    ans.add(nsr);
-                }
-            }
-        }
-        //TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronFirewallRuleRequest(ans)).build();
+        NeutronQuery<NeutronFirewallRule> query = new NeutronQuery<NeutronFirewallRule>()
+                .filter("id", queryFirewallRuleUUID, nsr -> queryFirewallRuleUUID.equals(nsr.getID()))
+                .filter("tenant_id", queryFirewallRuleTenantID,
+                    nsr -> queryFirewallRuleTenantID.equals(nsr.getTenantID()))
+                .filter("name", queryFirewallRuleName, nsr -> queryFirewallRuleName.equals(nsr.getName()))
+                .filter(queryFirewallRuleIsShared,
+                    nsr -> queryFirewallRuleIsShared.equals(nsr.getFirewallRuleIsShared()))
+                .filter(queryFirewallRulePolicyID,
+                    nsr -> queryFirewallRulePolicyID.equals(nsr.getFirewallRulePolicyID()))
+                .filter(queryFirewallRuleProtocol,
+                    nsr -> queryFirewallRuleProtocol.equals(nsr.getFirewallRuleProtocol()))
+                .filter(queryFirewallRuleIpVer, nsr -> queryFirewallRuleIpVer.equals(nsr.getFirewallRuleIpVer()))
+                .filter(queryFirewallRuleSrcIpAddr,
+                    nsr -> queryFirewallRuleSrcIpAddr.equals(nsr.getFirewallRuleSrcIpAddr()))
+                .filter(queryFirewallRuleDstIpAddr,
+                    nsr -> queryFirewallRuleDstIpAddr.equals(nsr.getFirewallRuleDstIpAddr()))
+                .filter(queryFirewallRuleSrcPortRangeMin,
+                    nsr -> queryFirewallRuleSrcPortRangeMin.equals(nsr.getFirewallRuleSrcPortRangeMin()))
+                .filter(queryFirewallRuleSrcPortRangeMax,
+                    nsr -> queryFirewallRuleSrcPortRangeMax.equals(nsr.getFirewallRuleSrcPortRangeMax()))
+                .filter(queryFirewallRuleDstPortRangeMin,
+                    nsr -> queryFirewallRuleDstPortRangeMin.equals(nsr.getFirewallRuleDstPortRangeMin()))
+                .filter(queryFirewallRuleDstPortRangeMax,
+                    nsr -> queryFirewallRuleDstPortRangeMax.equals(nsr.getFirewallRuleDstPortRangeMax()))
+                .filter(queryFirewallRulePosition,
+                    nsr -> queryFirewallRulePosition.equals(nsr.getFirewallRulePosition()))
+                .filter(queryFirewallRuleAction, nsr -> queryFirewallRuleAction.equals(nsr.getFirewallRuleAction()))
+                .filter(queryFirewallRuleIsEnabled,
+                    nsr -> queryFirewallRuleIsEnabled.equals(nsr.getFirewallRuleIsEnabled()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -26,6 +26,7 @@ import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronFloatingIpCRUD;
 import org.opendaylight.neutron.spi.NeutronFloatingIp;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs.<br>
@@ -78,35 +79,28 @@ public final class NeutronFloatingIpsNorthbound
             @QueryParam("router_id") String queryRouterID,
             @QueryParam("status") String queryStatus,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronFloatingIpCRUD floatingIpInterface = getNeutronCRUD();
-        List<NeutronFloatingIp> allFloatingIps = floatingIpInterface.getAll();
-        List<NeutronFloatingIp> ans = new ArrayList<>();
-        for (NeutronFloatingIp floatingIp : allFloatingIps) {
-            //match filters: TODO provider extension and router extension
-            if ((queryID == null || queryID.equals(floatingIp.getID()))
-                    && (queryFloatingNetworkId == null
-                        || queryFloatingNetworkId.equals(floatingIp.getFloatingNetworkUUID()))
-                    && (queryPortId == null || queryPortId.equals(floatingIp.getPortUUID()))
-                    && (queryFixedIpAddress == null || queryFixedIpAddress.equals(floatingIp.getFixedIpAddress()))
-                    && (queryFloatingIpAddress == null
-                        || queryFloatingIpAddress.equals(floatingIp.getFloatingIpAddress()))
-                    && (queryStatus == null || queryStatus.equals(floatingIp.getStatus()))
-                    && (queryRouterID == null || queryRouterID.equals(floatingIp.getRouterUUID()))
-                    && (queryTenantID == null || queryTenantID.equals(floatingIp.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(floatingIp.extractFields(fields));
-                } else {
-                    ans.add(floatingIp);
-                }
-            }
-        }
-        //TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronFloatingIpRequest(ans)).build();
+        //match filters: TODO provider extension and router extension
+        NeutronQuery<NeutronFloatingIp> query = new NeutronQuery<NeutronFloatingIp>()
+                .filter("id", queryID, floatingIp -> queryID.equals(floatingIp.getID()))
+                .filter("floating_network_id", queryFloatingNetworkId,
+                    floatingIp -> queryFloatingNetworkId.equals(floatingIp.getFloatingNetworkUUID()))
+                .filter("port_id", queryPortId, floatingIp -> queryPortId.equals(floatingIp.getPortUUID()))
+                .filter(queryFixedIpAddress,
+                    floatingIp -> queryFixedIpAddress.equals(floatingIp.getFixedIpAddress()))
+                .filter(queryFloatingIpAddress,
+                    floatingIp -> queryFloatingIpAddress.equals(floatingIp.getFloatingIpAddress()))
+                .filter("status", queryStatus, floatingIp -> queryStatus.equals(floatingIp.getStatus()))
+                .filter("router_id", queryRouterID, floatingIp -> queryRouterID.equals(floatingIp.getRouterUUID()))
+                .filter("tenant_id", queryTenantID, floatingIp -> queryTenantID.equals(floatingIp.getTenantID()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
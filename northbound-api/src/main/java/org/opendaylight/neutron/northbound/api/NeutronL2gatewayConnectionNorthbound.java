@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
@@ -25,6 +25,7 @@ import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronL2gatewayConnectionCRUD;
 import org.opendaylight.neutron.spi.NeutronL2gatewayConnection;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -99,30 +100,22 @@ public final class NeutronL2gatewayConnectionNorthbound extends AbstractNeutronN
             @QueryParam("network_id") String queryNetworkID,
             @QueryParam("segment_id") String querySegmentID,
             @QueryParam("port_id") String queryPortID,
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronL2gatewayConnectionCRUD l2gatewayConnectionInterface = getNeutronCRUD();
-        List<NeutronL2gatewayConnection> allL2gatewayConnections = l2gatewayConnectionInterface.getAll();
-        List<NeutronL2gatewayConnection> ans = new ArrayList<>();
-        for (NeutronL2gatewayConnection connection : allL2gatewayConnections) {
-            if ((queryTenantID == null || queryTenantID.equals(connection.getTenantID()))
-                    && (queryConnectionID == null || queryConnectionID.equals(connection.getID()))
-                    && (queryL2gatewayID == null || queryL2gatewayID.equals(connection.getL2gatewayID()))
-                    && (queryNetworkID == null || queryNetworkID.equals(connection.getNetworkID()))
-                    && (querySegmentID == null || (Integer.valueOf(querySegmentID).equals(connection.getSegmentID())))
-                    && (queryPortID == null || queryPortID.equals(connection.getPortID()))) {
-                if (fields.size() > 0) {
-                    ans.add(connection.extractFields(fields));
-                } else {
-                    ans.add(connection);
-                }
-            }
-        }
-        // TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronL2gatewayConnectionRequest(ans)).build();
+        NeutronQuery<NeutronL2gatewayConnection> query = new NeutronQuery<NeutronL2gatewayConnection>()
+                .filter("tenant_id", queryTenantID, connection -> queryTenantID.equals(connection.getTenantID()))
+                .filter("id", queryConnectionID, connection -> queryConnectionID.equals(connection.getID()))
+                .filter(queryL2gatewayID, connection -> queryL2gatewayID.equals(connection.getL2gatewayID()))
+                .filter(queryNetworkID, connection -> queryNetworkID.equals(connection.getNetworkID()))
+                .filter(querySegmentID, connection -> Integer.valueOf(querySegmentID).equals(connection.getSegmentID()))
+                .filter(queryPortID, connection -> queryPortID.equals(connection.getPortID()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
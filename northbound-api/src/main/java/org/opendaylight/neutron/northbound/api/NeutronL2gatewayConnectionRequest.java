@@ -26,6 +26,9 @@ public final class NeutronL2gatewayConnectionRequest implements INeutronRequest<
     @XmlElement(name = "l2gateway_connections")
     List<NeutronL2gatewayConnection> bulkRequest;
 
+    @XmlElement(name = "l2gateway_connections_links")
+    List<NeutronPageLink> links;
+
     NeutronL2gatewayConnectionRequest() {
     }
 
@@ -33,6 +36,11 @@ public final class NeutronL2gatewayConnectionRequest implements INeutronRequest<
         this.singleton = l2gatewayConnection;
     }
 
+    NeutronL2gatewayConnectionRequest(List<NeutronL2gatewayConnection> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronL2gatewayConnectionRequest(List<NeutronL2gatewayConnection> bulk) {
         bulkRequest = bulk;
     }
@@ -8,10 +8,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -25,6 +25,7 @@ import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronL2gatewayCRUD;
 import org.opendaylight.neutron.spi.NeutronL2gateway;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -97,27 +98,19 @@ public final class NeutronL2gatewayNorthbound
             @QueryParam("tenant_id") String queryTenantID,
             @QueryParam("devices") String queryNeutronL2gatewayDevice,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronL2gatewayCRUD l2gatewayInterface = getNeutronCRUD();
-        List<NeutronL2gateway> allL2gateways = l2gatewayInterface.getAll();
-        List<NeutronL2gateway> ans = new ArrayList<>();
-        for (NeutronL2gateway l2gateway : allL2gateways) {
-            if ((queryID == null || queryID.equals(l2gateway.getID()))
-                    && (queryName == null || queryName.equals(l2gateway.getName()))
-                    && (queryTenantID == null || queryTenantID.equals(l2gateway.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(l2gateway.extractFields(fields));
-                } else {
-                    ans.add(l2gateway);
-                }
-            }
-        }
-        //TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronL2gatewayRequest(ans)).build();
+        NeutronQuery<NeutronL2gateway> query = new NeutronQuery<NeutronL2gateway>()
+                .filter("id", queryID, l2gateway -> queryID.equals(l2gateway.getID()))
+                .filter("name", queryName, l2gateway -> queryName.equals(l2gateway.getName()))
+                .filter("tenant_id", queryTenantID, l2gateway -> queryTenantID.equals(l2gateway.getTenantID()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
@@ -21,6 +21,9 @@ public final class NeutronL2gatewayRequest implements INeutronRequest<NeutronL2g
     @XmlElement(name = "l2_gateways")
     List<NeutronL2gateway> bulkRequest;
 
+    @XmlElement(name = "l2_gateways_links")
+    List<NeutronPageLink> links;
+
     NeutronL2gatewayRequest() {
     }
 
@@ -28,6 +31,11 @@ public final class NeutronL2gatewayRequest implements INeutronRequest<NeutronL2g
         this.singleton = l2gateway;
     }
 
+    NeutronL2gatewayRequest(List<NeutronL2gateway> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronL2gatewayRequest(List<NeutronL2gateway> bulk) {
         bulkRequest = bulk;
     }
@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -26,6 +26,7 @@ import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronLoadBalancerHealthMonitorCRUD;
 import org.opendaylight.neutron.spi.NeutronLoadBalancerHealthMonitor;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs for Load Balancer HealthMonitor.<br>
@@ -82,46 +83,40 @@ public final class NeutronLoadBalancerHealthMonitorNorthbound
             @QueryParam("expected_codes") String queryLoadBalancerHealthMonitorExpectedCodes,
             @QueryParam("admin_state_up") Boolean queryLoadBalancerHealthMonitorIsAdminStateUp,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronLoadBalancerHealthMonitorCRUD loadBalancerHealthMonitorInterface = getNeutronCRUD();
-        List<NeutronLoadBalancerHealthMonitor> allLoadBalancerHealthMonitors = loadBalancerHealthMonitorInterface
-                .getAll();
-        List<NeutronLoadBalancerHealthMonitor> ans = new ArrayList<>();
-        for (NeutronLoadBalancerHealthMonitor nsg : allLoadBalancerHealthMonitors) {
-            if ((queryLoadBalancerHealthMonitorID == null || queryLoadBalancerHealthMonitorID.equals(nsg.getID()))
-                    && (queryLoadBalancerHealthMonitorTenantID == null
-                            || queryLoadBalancerHealthMonitorTenantID.equals(nsg.getTenantID()))
-                    && (queryLoadBalancerHealthMonitorType == null
-                            || queryLoadBalancerHealthMonitorType.equals(nsg.getLoadBalancerHealthMonitorType()))
-                    && (queryLoadBalancerHealthMonitorDelay == null
-                            || queryLoadBalancerHealthMonitorDelay.equals(nsg.getLoadBalancerHealthMonitorDelay()))
-                    && (queryLoadBalancerHealthMonitorTimeout == null
-                            || queryLoadBalancerHealthMonitorTimeout.equals(nsg.getLoadBalancerHealthMonitorTimeout()))
-                    && (queryLoadBalancerHealthMonitorMaxRetries == null || queryLoadBalancerHealthMonitorMaxRetries
+        NeutronQuery<NeutronLoadBalancerHealthMonitor> query = new NeutronQuery<NeutronLoadBalancerHealthMonitor>()
+                .filter("id", queryLoadBalancerHealthMonitorID,
+                    nsg -> queryLoadBalancerHealthMonitorID.equals(nsg.getID()))
+                .filter("tenant_id", queryLoadBalancerHealthMonitorTenantID,
+                    nsg -> queryLoadBalancerHealthMonitorTenantID.equals(nsg.getTenantID()))
+                .filter(queryLoadBalancerHealthMonitorType,
+                    nsg -> queryLoadBalancerHealthMonitorType.equals(nsg.getLoadBalancerHealthMonitorType()))
+                .filter(queryLoadBalancerHealthMonitorDelay,
+                    nsg -> queryLoadBalancerHealthMonitorDelay.equals(nsg.getLoadBalancerHealthMonitorDelay()))
+                .filter(queryLoadBalancerHealthMonitorTimeout,
+                    nsg -> queryLoadBalancerHealthMonitorTimeout.equals(nsg.getLoadBalancerHealthMonitorTimeout()))
+                .filter(queryLoadBalancerHealthMonitorMaxRetries,
+                    nsg -> queryLoadBalancerHealthMonitorMaxRetries
                             .equals(nsg.getLoadBalancerHealthMonitorMaxRetries()))
-                    && (queryLoadBalancerHealthMonitorHttpMethod == null || queryLoadBalancerHealthMonitorHttpMethod
+                .filter(queryLoadBalancerHealthMonitorHttpMethod,
+                    nsg -> queryLoadBalancerHealthMonitorHttpMethod
                             .equals(nsg.getLoadBalancerHealthMonitorHttpMethod()))
-                    && (queryLoadBalancerHealthMonitorUrlPath == null
-                            || queryLoadBalancerHealthMonitorUrlPath.equals(nsg.getLoadBalancerHealthMonitorUrlPath()))
-                    && (queryLoadBalancerHealthMonitorExpectedCodes == null
-                            || queryLoadBalancerHealthMonitorExpectedCodes
-                                    .equals(nsg.getLoadBalancerHealthMonitorExpectedCodes()))
-                    && (queryLoadBalancerHealthMonitorIsAdminStateUp == null
-                            || queryLoadBalancerHealthMonitorIsAdminStateUp
-                                    .equals(nsg.getLoadBalancerHealthMonitorAdminStateIsUp()))) {
-                if (fields.size() > 0) {
-                    ans.add(nsg.extractFields(fields));
-                } else {
-                    ans.add(nsg);
-                }
-            }
-        }
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronLoadBalancerHealthMonitorRequest(ans))
-                .build();
+                .filter(queryLoadBalancerHealthMonitorUrlPath,
+                    nsg -> queryLoadBalancerHealthMonitorUrlPath.equals(nsg.getLoadBalancerHealthMonitorUrlPath()))
+                .filter(queryLoadBalancerHealthMonitorExpectedCodes,
+                    nsg -> queryLoadBalancerHealthMonitorExpectedCodes
+                            .equals(nsg.getLoadBalancerHealthMonitorExpectedCodes()))
+                .filter(queryLoadBalancerHealthMonitorIsAdminStateUp,
+                    nsg -> queryLoadBalancerHealthMonitorIsAdminStateUp
+                            .equals(nsg.getLoadBalancerHealthMonitorAdminStateIsUp()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
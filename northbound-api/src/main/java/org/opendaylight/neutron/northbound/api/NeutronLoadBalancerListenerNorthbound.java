@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -26,6 +26,7 @@ import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronLoadBalancerListenerCRUD;
 import org.opendaylight.neutron.spi.NeutronLoadBalancerListener;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs for LoadBalancerListener Policies.<br>
@@ -77,36 +78,31 @@ public final class NeutronLoadBalancerListenerNorthbound extends AbstractNeutron
             @QueryParam("protocol_port") String queryLoadBalancerListenerProtocolPort,
             @QueryParam("admin_state_up") Boolean queryLoadBalancerListenerAdminIsUp,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronLoadBalancerListenerCRUD loadBalancerListenerInterface = getNeutronCRUD();
-        List<NeutronLoadBalancerListener> allLoadBalancerListeners = loadBalancerListenerInterface.getAll();
-        List<NeutronLoadBalancerListener> ans = new ArrayList<>();
-        for (NeutronLoadBalancerListener nsg : allLoadBalancerListeners) {
-            if ((queryLoadBalancerListenerID == null || queryLoadBalancerListenerID.equals(nsg.getID()))
-                    && (queryLoadBalancerListenerDefaultPoolID == null || queryLoadBalancerListenerDefaultPoolID
+        NeutronQuery<NeutronLoadBalancerListener> query = new NeutronQuery<NeutronLoadBalancerListener>()
+                .filter("id", queryLoadBalancerListenerID, nsg -> queryLoadBalancerListenerID.equals(nsg.getID()))
+                .filter(queryLoadBalancerListenerDefaultPoolID,
+                    nsg -> queryLoadBalancerListenerDefaultPoolID
                             .equals(nsg.getNeutronLoadBalancerListenerDefaultPoolID()))
-                    && (queryLoadBalancerListenerTenantID == null
-                            || queryLoadBalancerListenerTenantID.equals(nsg.getTenantID()))
-                    && (queryLoadBalancerListenerName == null
-                            || queryLoadBalancerListenerName.equals(nsg.getName()))
-                    && (queryLoadBalancerListenerProtocol == null
-                            || queryLoadBalancerListenerProtocol.equals(nsg.getNeutronLoadBalancerListenerProtocol()))
-                    && (queryLoadBalancerListenerProtocolPort == null || queryLoadBalancerListenerProtocolPort
+                .filter("tenant_id", queryLoadBalancerListenerTenantID,
+                    nsg -> queryLoadBalancerListenerTenantID.equals(nsg.getTenantID()))
+                .filter("name", queryLoadBalancerListenerName,
+                    nsg -> queryLoadBalancerListenerName.equals(nsg.getName()))
+                .filter(queryLoadBalancerListenerProtocol,
+                    nsg -> queryLoadBalancerListenerProtocol.equals(nsg.getNeutronLoadBalancerListenerProtocol()))
+                .filter(queryLoadBalancerListenerProtocolPort,
+                    nsg -> queryLoadBalancerListenerProtocolPort
                             .equals(nsg.getNeutronLoadBalancerListenerProtocolPort()))
-                    && (queryLoadBalancerListenerAdminIsUp == null || queryLoadBalancerListenerAdminIsUp
-                            .equals(nsg.getLoadBalancerListenerAdminStateIsUp()))) {
-                if (fields.size() > 0) {
-                    ans.add(nsg.extractFields(fields));
-                } else {
-                    ans.add(nsg);
-                }
-            }
-        }
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronLoadBalancerListenerRequest(ans)).build();
+                .filter(queryLoadBalancerListenerAdminIsUp,
+                    nsg -> queryLoadBalancerListenerAdminIsUp.equals(nsg.getLoadBalancerListenerAdminStateIsUp()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -26,6 +26,7 @@ import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronLoadBalancerCRUD;
 import org.opendaylight.neutron.spi.NeutronLoadBalancer;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs for LoadBalancers.<br>
@@ -76,30 +77,24 @@ public final class NeutronLoadBalancerNorthbound
             @QueryParam("vip_address") String queryLoadBalancerVipAddress,
             @QueryParam("vip_subnet") String queryLoadBalancerVipSubnet,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronLoadBalancerCRUD loadBalancerInterface = getNeutronCRUD();
-        List<NeutronLoadBalancer> allLoadBalancers = loadBalancerInterface.getAll();
-        List<NeutronLoadBalancer> ans = new ArrayList<>();
-        for (NeutronLoadBalancer nsg : allLoadBalancers) {
-            if ((queryLoadBalancerID == null || queryLoadBalancerID.equals(nsg.getID()))
-                    && (queryLoadBalancerTenantID == null || queryLoadBalancerTenantID.equals(nsg.getTenantID()))
-                    && (queryLoadBalancerName == null || queryLoadBalancerName.equals(nsg.getName()))
-                    && (queryLoadBalancerVipAddress == null
-                            || queryLoadBalancerVipAddress.equals(nsg.getLoadBalancerVipAddress()))
-                    && (queryLoadBalancerVipSubnet == null
-                            || queryLoadBalancerVipSubnet.equals(nsg.getLoadBalancerVipSubnetID()))) {
-                if (fields.size() > 0) {
-                    ans.add(nsg.extractFields(fields));
-                } else {
-                    ans.add(nsg);
-                }
-            }
-        }
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronLoadBalancerRequest(ans)).build();
+        NeutronQuery<NeutronLoadBalancer> query = new NeutronQuery<NeutronLoadBalancer>()
+                .filter("id", queryLoadBalancerID, nsg -> queryLoadBalancerID.equals(nsg.getID()))
+                .filter("tenant_id", queryLoadBalancerTenantID,
+                    nsg -> queryLoadBalancerTenantID.equals(nsg.getTenantID()))
+                .filter("name", queryLoadBalancerName, nsg -> queryLoadBalancerName.equals(nsg.getName()))
+                .filter(queryLoadBalancerVipAddress,
+                    nsg -> queryLoadBalancerVipAddress.equals(nsg.getLoadBalancerVipAddress()))
+                .filter(queryLoadBalancerVipSubnet,
+                    nsg -> queryLoadBalancerVipSubnet.equals(nsg.getLoadBalancerVipSubnetID()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
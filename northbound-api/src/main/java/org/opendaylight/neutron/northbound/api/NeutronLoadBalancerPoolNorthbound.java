@@ -13,6 +13,7 @@ import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -27,6 +28,7 @@ import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronLoadBalancerPoolCRUD;
 import org.opendaylight.neutron.spi.NeutronLoadBalancerPool;
 import org.opendaylight.neutron.spi.NeutronLoadBalancerPoolMember;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs for LoadBalancerPool Policies.<br>
@@ -85,36 +87,29 @@ public final class NeutronLoadBalancerPoolNorthbound extends AbstractNeutronNort
             @QueryParam("admin_state_up") Boolean queryLoadBalancerIsAdminStateUp,
             @QueryParam("members") List<NeutronLoadBalancerPoolMember> queryLoadBalancerPoolMembers,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronLoadBalancerPoolCRUD loadBalancerPoolInterface = getNeutronCRUD();
-        List<NeutronLoadBalancerPool> allLoadBalancerPools = loadBalancerPoolInterface.getAll();
-        List<NeutronLoadBalancerPool> ans = new ArrayList<>();
-        for (NeutronLoadBalancerPool nsg : allLoadBalancerPools) {
-            if ((queryLoadBalancerPoolID == null || queryLoadBalancerPoolID.equals(nsg.getID()))
-                    && (queryLoadBalancerPoolTenantID == null
-                            || queryLoadBalancerPoolTenantID.equals(nsg.getTenantID()))
-                    && (queryLoadBalancerPoolName == null
-                            || queryLoadBalancerPoolName.equals(nsg.getName()))
-                    && (queryLoadBalancerPoolLbAlgorithm == null
-                            || queryLoadBalancerPoolLbAlgorithm.equals(nsg.getLoadBalancerPoolLbAlgorithm()))
-                    && (queryLoadBalancerPoolHealthMonitorID == null || queryLoadBalancerPoolHealthMonitorID
-                            .equals(nsg.getLoadBalancerPoolHealthMonitorID()))
-                    && (queryLoadBalancerIsAdminStateUp == null
-                            || queryLoadBalancerIsAdminStateUp.equals(nsg.getLoadBalancerPoolAdminIsStateIsUp()))
-                    && (queryLoadBalancerPoolMembers.size() == 0
-                            || queryLoadBalancerPoolMembers.equals(nsg.getLoadBalancerPoolMembers()))) {
-                if (fields.size() > 0) {
-                    ans.add(nsg.extractFields(fields));
-                } else {
-                    ans.add(nsg);
-                }
-            }
-        }
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronLoadBalancerPoolRequest(ans)).build();
+        List<NeutronLoadBalancerPoolMember> poolMembers =
+                queryLoadBalancerPoolMembers.isEmpty() ? null : queryLoadBalancerPoolMembers;
+        NeutronQuery<NeutronLoadBalancerPool> query = new NeutronQuery<NeutronLoadBalancerPool>()
+                .filter("id", queryLoadBalancerPoolID, nsg -> queryLoadBalancerPoolID.equals(nsg.getID()))
+                .filter("tenant_id", queryLoadBalancerPoolTenantID,
+                    nsg -> queryLoadBalancerPoolTenantID.equals(nsg.getTenantID()))
+                .filter("name", queryLoadBalancerPoolName, nsg -> queryLoadBalancerPoolName.equals(nsg.getName()))
+                .filter(queryLoadBalancerPoolLbAlgorithm,
+                    nsg -> queryLoadBalancerPoolLbAlgorithm.equals(nsg.getLoadBalancerPoolLbAlgorithm()))
+                .filter(queryLoadBalancerPoolHealthMonitorID,
+                    nsg -> queryLoadBalancerPoolHealthMonitorID.equals(nsg.getLoadBalancerPoolHealthMonitorID()))
+                .filter(queryLoadBalancerIsAdminStateUp,
+                    nsg -> queryLoadBalancerIsAdminStateUp.equals(nsg.getLoadBalancerPoolAdminIsStateIsUp()))
+                .filter(poolMembers, nsg -> poolMembers.equals(nsg.getLoadBalancerPoolMembers()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
@@ -286,26 +281,27 @@ public final class NeutronLoadBalancerPoolNorthbound extends AbstractNeutronNort
             @ResponseCode(code = HttpURLConnection.HTTP_UNAVAILABLE, condition = "No providers available") })
     public Response createLoadBalancerPoolMember(@PathParam("loadBalancerPoolUUID") String loadBalancerPoolUUID,
             final NeutronLoadBalancerPoolMemberRequest input) {
+        return write(() -> {
+            INeutronLoadBalancerPoolCRUD loadBalancerPoolInterface = getNeutronCRUD();
 
-        INeutronLoadBalancerPoolCRUD loadBalancerPoolInterface = getNeutronCRUD();
+            if (input.isSingleton()) {
+                NeutronLoadBalancerPoolMember singleton = input.getSingleton();
+                singleton.setPoolID(loadBalancerPoolUUID);
+                /**
+                 * Add the member from the neutron load balancer pool as well
+                 */
 
-        if (input.isSingleton()) {
-            NeutronLoadBalancerPoolMember singleton = input.getSingleton();
-            singleton.setPoolID(loadBalancerPoolUUID);
-            /**
-             * Add the member from the neutron load balancer pool as well
-             */
-
-            loadBalancerPoolInterface.addNeutronLoadBalancerPoolMember(loadBalancerPoolUUID, singleton);
-        } else {
-            /*
-             * now, each element of the bulk request can be added to the cache
-             */
-            for (NeutronLoadBalancerPoolMember test : input.getBulk()) {
-                loadBalancerPoolInterface.addNeutronLoadBalancerPoolMember(loadBalancerPoolUUID, test);
+                loadBalancerPoolInterface.addNeutronLoadBalancerPoolMember(loadBalancerPoolUUID, singleton);
+            } else {
+                /*
+                 * now, each element of the bulk request can be added to the cache
+                 */
+                for (NeutronLoadBalancerPoolMember test : input.getBulk()) {
+                    loadBalancerPoolInterface.addNeutronLoadBalancerPoolMember(loadBalancerPoolUUID, test);
+                }
             }
-        }
-        return Response.status(HttpURLConnection.HTTP_CREATED).entity(input).build();
+            return Response.status(HttpURLConnection.HTTP_CREATED).entity(input).build();
+        });
     }
 
     /**
@@ -321,17 +317,19 @@ public final class NeutronLoadBalancerPoolNorthbound extends AbstractNeutronNort
     public Response updateLoadBalancerPoolMember(@PathParam("loadBalancerPoolUUID") String loadBalancerPoolUUID,
             @PathParam("loadBalancerPoolMemberUUID") String loadBalancerPoolMemberUUID,
             final NeutronLoadBalancerPoolMemberRequest input) {
-        INeutronLoadBalancerPoolCRUD loadBalancerPoolInterface = getNeutronCRUD();
-        NeutronLoadBalancerPool singletonPool = loadBalancerPoolInterface.get(loadBalancerPoolUUID);
-        NeutronLoadBalancerPoolMember singleton = input.getSingleton();
-        singleton.setPoolID(loadBalancerPoolUUID);
+        return write(() -> {
+            INeutronLoadBalancerPoolCRUD loadBalancerPoolInterface = getNeutronCRUD();
+            NeutronLoadBalancerPool singletonPool = loadBalancerPoolInterface.get(loadBalancerPoolUUID);
+            NeutronLoadBalancerPoolMember singleton = input.getSingleton();
+            singleton.setPoolID(loadBalancerPoolUUID);
 
-        if (singletonPool == null) {
-            throw new ResourceNotFoundException("Pool doesn't Exist");
-        }
-        loadBalancerPoolInterface.updateNeutronLoadBalancerPoolMember(loadBalancerPoolUUID, loadBalancerPoolMemberUUID,
-                singleton);
-        return Response.status(HttpURLConnection.HTTP_OK).entity(input).build();
+            if (singletonPool == null) {
+                throw new ResourceNotFoundException("Pool doesn't Exist");
+            }
+            loadBalancerPoolInterface.updateNeutronLoadBalancerPoolMember(loadBalancerPoolUUID,
+                    loadBalancerPoolMemberUUID, singleton);
+            return Response.status(HttpURLConnection.HTTP_OK).entity(input).build();
+        });
     }
 
     /**
@@ -345,27 +343,30 @@ public final class NeutronLoadBalancerPoolNorthbound extends AbstractNeutronNort
             @ResponseCode(code = HttpURLConnection.HTTP_UNAVAILABLE, condition = "No providers available") })
     public Response deleteLoadBalancerPoolMember(@PathParam("loadBalancerPoolUUID") String loadBalancerPoolUUID,
             @PathParam("loadBalancerPoolMemberUUID") String loadBalancerPoolMemberUUID) {
-        INeutronLoadBalancerPoolCRUD loadBalancerPoolInterface = getNeutronCRUD();
-
-        //Verify that the LB pool member exists
-        NeutronLoadBalancerPoolMember singleton = null;
-        List<NeutronLoadBalancerPoolMember> members = loadBalancerPoolInterface.get(loadBalancerPoolUUID)
-                .getLoadBalancerPoolMembers();
-        for (NeutronLoadBalancerPoolMember member : members) {
-            if (member.getID().equals(loadBalancerPoolMemberUUID)) {
-                singleton = member;
-                break;
+        return write(() -> {
+            INeutronLoadBalancerPoolCRUD loadBalancerPoolInterface = getNeutronCRUD();
+
+            //Verify that the LB pool member exists
+            NeutronLoadBalancerPoolMember singleton = null;
+            List<NeutronLoadBalancerPoolMember> members = loadBalancerPoolInterface.get(loadBalancerPoolUUID)
+                    .getLoadBalancerPoolMembers();
+            for (NeutronLoadBalancerPoolMember member : members) {
+                if (member.getID().equals(loadBalancerPoolMemberUUID)) {
+                    singleton = member;
+                    break;
+                }
+            }
+            if (singleton == null) {
+                throw new BadRequestException("LoadBalancerPoolMember UUID does not exist.");
             }
-        }
-        if (singleton == null) {
-            throw new BadRequestException("LoadBalancerPoolMember UUID does not exist.");
-        }
 
-        /**
-         * Remove the member from the neutron load balancer pool
-         */
-        loadBalancerPoolInterface.removeNeutronLoadBalancerPoolMember(loadBalancerPoolUUID, loadBalancerPoolMemberUUID);
+            /**
+             * Remove the member from the neutron load balancer pool
+             */
+            loadBalancerPoolInterface.removeNeutronLoadBalancerPoolMember(loadBalancerPoolUUID,
+                    loadBalancerPoolMemberUUID);
 
-        return Response.status(HttpURLConnection.HTTP_NO_CONTENT).build();
+            return Response.status(HttpURLConnection.HTTP_NO_CONTENT).build();
+        });
     }
 }
@@ -29,6 +29,9 @@ public final class NeutronMeteringLabelRequest implements INeutronRequest<Neutro
     @XmlElement(name = "metering_labels")
     List<NeutronMeteringLabel> bulkRequest;
 
+    @XmlElement(name = "metering_labels_links")
+    List<NeutronPageLink> links;
+
     NeutronMeteringLabelRequest() {
     }
 
@@ -36,6 +39,11 @@ public final class NeutronMeteringLabelRequest implements INeutronRequest<Neutro
         singleton = label;
     }
 
+    NeutronMeteringLabelRequest(List<NeutronMeteringLabel> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronMeteringLabelRequest(List<NeutronMeteringLabel> bulk) {
         bulkRequest = bulk;
     }
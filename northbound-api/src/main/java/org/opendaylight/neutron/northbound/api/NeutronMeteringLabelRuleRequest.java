@@ -29,6 +29,9 @@ public final class NeutronMeteringLabelRuleRequest implements INeutronRequest<Ne
     @XmlElement(name = "metering_label_rules")
     List<NeutronMeteringLabelRule> buldRequest;
 
+    @XmlElement(name = "metering_label_rules_links")
+    List<NeutronPageLink> links;
+
     NeutronMeteringLabelRuleRequest() {
     }
 
@@ -36,6 +39,11 @@ public final class NeutronMeteringLabelRuleRequest implements INeutronRequest<Ne
         singleton = rule;
     }
 
+    NeutronMeteringLabelRuleRequest(List<NeutronMeteringLabelRule> bulkRequest, List<NeutronPageLink> links) {
+        this.buldRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronMeteringLabelRuleRequest(List<NeutronMeteringLabelRule> bulk) {
         buldRequest = bulk;
     }
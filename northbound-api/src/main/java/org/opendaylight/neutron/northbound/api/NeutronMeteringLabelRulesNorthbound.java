@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
@@ -25,6 +25,7 @@ import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronMeteringLabelRuleCRUD;
 import org.opendaylight.neutron.spi.NeutronMeteringLabelRule;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs for Metering Lable Rules.<br>
@@ -72,27 +73,23 @@ public final class NeutronMeteringLabelRulesNorthbound extends AbstractNeutronNo
             @QueryParam("id") String queryID,
             @QueryParam("direction") String queryDirection,
             @QueryParam("remote_ip_prefix") String queryRemoteIpPrefix,
-            @QueryParam("metering_label_id") String queryLabelID
-    // pagination and sorting are TODO
+            @QueryParam("metering_label_id") String queryLabelID,
+            // pagination
+            @QueryParam("limit") Integer limit,
+            @QueryParam("marker") String marker,
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronMeteringLabelRuleCRUD ruleInterface = getNeutronCRUD();
-        List<NeutronMeteringLabelRule> allNeutronMeteringLabelRule = ruleInterface.getAll();
-        List<NeutronMeteringLabelRule> ans = new ArrayList<>();
-        for (NeutronMeteringLabelRule rule : allNeutronMeteringLabelRule) {
-            if ((queryID == null || queryID.equals(rule.getID()))
-                    && (queryDirection == null || queryDirection.equals(rule.getMeteringLabelRuleDirection()))
-                    && (queryRemoteIpPrefix == null
-                            || queryRemoteIpPrefix.equals(rule.getMeteringLabelRuleRemoteIpPrefix()))
-                    && (queryLabelID == null || queryLabelID.equals(rule.getMeteringLabelRuleLabelID()))) {
-                if (fields.size() > 0) {
-                    ans.add(rule.extractFields(fields));
-                } else {
-                    ans.add(rule);
-                }
-            }
-        }
-        //TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronMeteringLabelRuleRequest(ans)).build();
+        NeutronQuery<NeutronMeteringLabelRule> query = new NeutronQuery<NeutronMeteringLabelRule>()
+                .filter("id", queryID, rule -> queryID.equals(rule.getID()))
+                .filter(queryDirection, rule -> queryDirection.equals(rule.getMeteringLabelRuleDirection()))
+                .filter(queryRemoteIpPrefix,
+                    rule -> queryRemoteIpPrefix.equals(rule.getMeteringLabelRuleRemoteIpPrefix()))
+                .filter(queryLabelID, rule -> queryLabelID.equals(rule.getMeteringLabelRuleLabelID()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
@@ -124,22 +121,24 @@ public final class NeutronMeteringLabelRulesNorthbound extends AbstractNeutronNo
     @StatusCodes({ @ResponseCode(code = HttpURLConnection.HTTP_CREATED, condition = "Created"),
             @ResponseCode(code = HttpURLConnection.HTTP_UNAVAILABLE, condition = "No providers available") })
     public Response createMeteringLabelRule(final NeutronMeteringLabelRuleRequest input) {
-        INeutronMeteringLabelRuleCRUD meteringLabelRuleInterface = getNeutronCRUD();
-        if (input.isSingleton()) {
-            NeutronMeteringLabelRule singleton = input.getSingleton();
+        return write(() -> {
+            INeutronMeteringLabelRuleCRUD meteringLabelRuleInterface = getNeutronCRUD();
+            if (input.isSingleton()) {
+                NeutronMeteringLabelRule singleton = input.getSingleton();
 
-            /*
-             * add meteringLabelRule to the cache
-             */
-            meteringLabelRuleInterface.add(singleton);
-        } else {
+                /*
+                 * add meteringLabelRule to the cache
+                 */
+                meteringLabelRuleInterface.add(singleton);
+            } else {
 
-            /*
-             * only singleton meteringLabelRule creates supported
-             */
-            throw new BadRequestException("Only singleton meteringLabelRule creates supported");
-        }
-        return Response.status(HttpURLConnection.HTTP_CREATED).entity(input).build();
+                /*
+                 * only singleton meteringLabelRule creates supported
+                 */
+                throw new BadRequestException("Only singleton meteringLabelRule creates supported");
+            }
+            return Response.status(HttpURLConnection.HTTP_CREATED).entity(input).build();
+        });
     }
 
     /**
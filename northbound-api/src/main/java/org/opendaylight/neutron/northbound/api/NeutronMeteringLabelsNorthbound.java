@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
@@ -25,6 +25,7 @@ import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronMeteringLabelCRUD;
 import org.opendaylight.neutron.spi.NeutronMeteringLabel;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs for Metering Lables.<br>
@@ -71,25 +72,21 @@ public final class NeutronMeteringLabelsNorthbound extends
             // filter fields
             @QueryParam("id") String queryID,
             @QueryParam("name") String queryName,
-            @QueryParam("tenant_id") String queryTenantID
-    // pagination and sorting are TODO
+            @QueryParam("tenant_id") String queryTenantID,
+            // pagination
+            @QueryParam("limit") Integer limit,
+            @QueryParam("marker") String marker,
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronMeteringLabelCRUD labelInterface = getNeutronCRUD();
-        List<NeutronMeteringLabel> allNeutronMeteringLabel = labelInterface.getAll();
-        List<NeutronMeteringLabel> ans = new ArrayList<>();
-        for (NeutronMeteringLabel label : allNeutronMeteringLabel) {
-            if ((queryID == null || queryID.equals(label.getID()))
-                    && (queryName == null || queryName.equals(label.getName()))
-                    && (queryTenantID == null || queryTenantID.equals(label.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(label.extractFields(fields));
-                } else {
-                    ans.add(label);
-                }
-            }
-        }
-        //TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronMeteringLabelRequest(ans)).build();
+        NeutronQuery<NeutronMeteringLabel> query = new NeutronQuery<NeutronMeteringLabel>()
+                .filter("id", queryID, label -> queryID.equals(label.getID()))
+                .filter("name", queryName, label -> queryName.equals(label.getName()))
+                .filter("tenant_id", queryTenantID, label -> queryTenantID.equals(label.getTenantID()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
@@ -9,7 +9,6 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
@@ -21,15 +20,14 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
-import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
-import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.codehaus.enunciate.jaxrs.TypeHint;
 import org.opendaylight.neutron.spi.INeutronNetworkCRUD;
 import org.opendaylight.neutron.spi.NeutronNetwork;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs for Network.<br>
@@ -53,9 +51,6 @@ import org.opendaylight.neutron.spi.NeutronNetwork;
 public final class NeutronNetworksNorthbound
         extends AbstractNeutronNorthbound<NeutronNetwork, NeutronNetworkRequest, INeutronNetworkCRUD> {
 
-    @Context
-    UriInfo uriInfo;
-
     private static final String RESOURCE_NAME = "Network";
 
     @Override
@@ -92,42 +87,26 @@ public final class NeutronNetworksNorthbound
             // linkTitle
             @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronNetworkCRUD networkInterface = getNeutronCRUD();
-        List<NeutronNetwork> allNetworks = networkInterface.getAll();
-        List<NeutronNetwork> ans = new ArrayList<>();
-        for (NeutronNetwork network : allNetworks) {
-            //match filters: TODO provider extension
-            Boolean adminStateUp = queryAdminStateUp != null ? Boolean.valueOf(queryAdminStateUp) : null;
-            Boolean shared = queryShared != null ? Boolean.valueOf(queryShared) : null;
-            Boolean routerExternal = queryRouterExternal != null ? Boolean.valueOf(queryRouterExternal) : null;
-            if ((queryID == null || queryID.equals(network.getID()))
-                    && (queryName == null || queryName.equals(network.getName()))
-                    && (adminStateUp == null || adminStateUp.booleanValue() == network.isAdminStateUp())
-                    && (queryStatus == null || queryStatus.equals(network.getStatus()))
-                    && (shared == null || shared.booleanValue() == network.isShared())
-                    && (routerExternal == null || routerExternal.booleanValue() == network.isRouterExternal())
-                    && (queryTenantID == null || queryTenantID.equals(network.getTenantID()))
-                    && (queryQosPolicyId == null || queryQosPolicyId.equals(network.getQosPolicyId()))) {
-                if (fields.size() > 0) {
-                    ans.add(network.extractFields(fields));
-                } else {
-                    ans.add(network);
-                }
-            }
-        }
-
-        if (limit != null && ans.size() > 1) {
-            // Return a paginated request
-            NeutronNetworkRequest request = (NeutronNetworkRequest) PaginatedRequestFactory.createRequest(limit, marker,
-                    pageReverse, uriInfo, ans, NeutronNetwork.class);
-            return Response.status(HttpURLConnection.HTTP_OK).entity(request).build();
-        }
-
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronNetworkRequest(ans)).build();
-
+        //match filters: TODO provider extension
+        Boolean adminStateUp = queryAdminStateUp != null ? Boolean.valueOf(queryAdminStateUp) : null;
+        Boolean shared = queryShared != null ? Boolean.valueOf(queryShared) : null;
+        Boolean routerExternal = queryRouterExternal != null ? Boolean.valueOf(queryRouterExternal) : null;
+        NeutronQuery<NeutronNetwork> query = new NeutronQuery<NeutronNetwork>()
+                .filter("id", queryID, network -> queryID.equals(network.getID()))
+                .filter("name", queryName, network -> queryName.equals(network.getName()))
+                .filter(adminStateUp, network -> adminStateUp.booleanValue() == network.isAdminStateUp())
+                .filter("status", queryStatus, network -> queryStatus.equals(network.getStatus()))
+                .filter(shared, network -> shared.booleanValue() == network.isShared())
+                .filter(routerExternal, network -> routerExternal.booleanValue() == network.isRouterExternal())
+                .filter("tenant_id", queryTenantID, network -> queryTenantID.equals(network.getTenantID()))
+                .filter(queryQosPolicyId, network -> queryQosPolicyId.equals(network.getQosPolicyId()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.northbound.api;
+
+/**
+ * Configuration of the northbound, see the org.opendaylight.neutron.northbound
+ * configuration (blueprint.xml) for the available properties.
+ */
+public class NeutronNorthboundConfig {
+
+    private boolean jsonCodecEnabled;
+    private int maxConcurrentWrites;
+    private int maxQueuedWrites;
+    private int maxWriteWait;
+    private int writeRetryAfter;
+    private double requestsPerSecond;
+    private int requestBurst;
+    private int maxConcurrentRequests;
+    private int idempotencyCacheSize;
+    private int idempotencyKeyTtl;
+
+    public void setJsonCodecEnabled(boolean jsonCodecEnabled) {
+        this.jsonCodecEnabled = jsonCodecEnabled;
+    }
+
+    public boolean isJsonCodecEnabled() {
+        return jsonCodecEnabled;
+    }
+
+    public void setMaxConcurrentWrites(int maxConcurrentWrites) {
+        this.maxConcurrentWrites = maxConcurrentWrites;
+    }
+
+    /**
+     * Maximum number of writes of one resource carried out at once, 0 for no limit.
+     */
+    public int getMaxConcurrentWrites() {
+        return maxConcurrentWrites;
+    }
+
+    public void setMaxQueuedWrites(int maxQueuedWrites) {
+        this.maxQueuedWrites = maxQueuedWrites;
+    }
+
+    /**
+     * Maximum number of writes of one resource waiting for their turn, if the concurrent writes are limited.
+     */
+    public int getMaxQueuedWrites() {
+        return maxQueuedWrites;
+    }
+
+    public void setMaxWriteWait(int maxWriteWait) {
+        this.maxWriteWait = maxWriteWait;
+    }
+
+    /**
+     * Maximum time in seconds a write of one resource waits for its turn, if the concurrent writes are limited.
+     */
+    public int getMaxWriteWait() {
+        return maxWriteWait;
+    }
+
+    public void setWriteRetryAfter(int writeRetryAfter) {
+        this.writeRetryAfter = writeRetryAfter;
+    }
+
+    /**
+     * Delay in seconds after which a rejected write may be retried.
+     */
+    public int getWriteRetryAfter() {
+        return writeRetryAfter;
+    }
+
+    public void setRequestsPerSecond(double requestsPerSecond) {
+        this.requestsPerSecond = requestsPerSecond;
+    }
+
+    /**
+     * Initial rate of the requests of a tenant to a resource, per second, 0 for no limit.
+     */
+    public double getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    public void setRequestBurst(int requestBurst) {
+        this.requestBurst = requestBurst;
+    }
+
+    /**
+     * Initial number of requests of a tenant to a resource which may exceed the rate at once.
+     */
+    public int getRequestBurst() {
+        return requestBurst;
+    }
+
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    /**
+     * Initial maximum number of requests of a tenant handled at once, 0 for no limit.
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public void setIdempotencyCacheSize(int idempotencyCacheSize) {
+        this.idempotencyCacheSize = idempotencyCacheSize;
+    }
+
+    /**
+     * Maximum size in MiB of the responses kept for the requests with an idempotency key, 0 to ignore the keys.
+     */
+    public int getIdempotencyCacheSize() {
+        return idempotencyCacheSize;
+    }
+
+    public void setIdempotencyKeyTtl(int idempotencyKeyTtl) {
+        this.idempotencyKeyTtl = idempotencyKeyTtl;
+    }
+
+    /**
+     * Time in seconds for which the response of a request with an idempotency key is kept.
+     */
+    public int getIdempotencyKeyTtl() {
+        return idempotencyKeyTtl;
+    }
+}
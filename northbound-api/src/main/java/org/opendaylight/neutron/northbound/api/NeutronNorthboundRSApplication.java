@@ -24,6 +24,24 @@ import org.eclipse.persistence.jaxb.rs.MOXyJsonProvider;
 public final class NeutronNorthboundRSApplication extends Application {
     private static final int HASHMAP_SIZE = 3;
 
+    private final NeutronNorthboundConfig config;
+    private final NeutronCRUDServices crudServices;
+
+    public NeutronNorthboundRSApplication(NeutronNorthboundConfig config) {
+        this(config, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param config configuration of the northbound
+     * @param crudServices the CRUD services of the resources, null to look them up on every request
+     */
+    NeutronNorthboundRSApplication(NeutronNorthboundConfig config, NeutronCRUDServices crudServices) {
+        this.config = config;
+        this.crudServices = crudServices;
+    }
+
     @Override
     public Set<Class<?>> getClasses() {
         return emptySet();
@@ -31,7 +49,12 @@ public final class NeutronNorthboundRSApplication extends Application {
 
     @Override
     public Set<Object> getSingletons() {
-        return ImmutableSet.builderWithExpectedSize(32)
+        final ImmutableSet.Builder<Object> singletons = ImmutableSet.builderWithExpectedSize(34);
+        if (config.isJsonCodecEnabled()) {
+            // ahead of MOXy, which handles what the codecs don't
+            singletons.add(new JsonCodecProvider());
+        }
+        singletons
                 .add(getMOXyJsonProvider())
                 // Northbound URIs JAX RS Resources:
                 .add(new NeutronNetworksNorthbound())
@@ -65,7 +88,23 @@ public final class NeutronNorthboundRSApplication extends Application {
                 .add(new NeutronTrunksNorthbound())
                 .add(new NeutronTapServiceNorthbound())
                 .add(new NeutronTapFlowNorthbound())
-                .build();
+                .add(new NeutronChangesNorthbound());
+        final Set<Object> built = singletons.build();
+        for (Object singleton : built) {
+            if (singleton instanceof AbstractNeutronNorthbound) {
+                final AbstractNeutronNorthbound<?, ?, ?> northbound = (AbstractNeutronNorthbound<?, ?, ?>) singleton;
+                if (crudServices != null) {
+                    northbound.setNeutronCRUDServices(crudServices);
+                }
+                if (config.getMaxConcurrentWrites() > 0) {
+                    northbound.limitWrites(config.getMaxConcurrentWrites(), config.getMaxQueuedWrites(),
+                            config.getMaxWriteWait(), config.getWriteRetryAfter());
+                }
+            } else if (singleton instanceof NeutronChangesNorthbound && crudServices != null) {
+                ((NeutronChangesNorthbound) singleton).setNeutronCRUDServices(crudServices);
+            }
+        }
+        return built;
     }
 
     private MOXyJsonProvider getMOXyJsonProvider() {
@@ -76,15 +115,18 @@ public final class NeutronNorthboundRSApplication extends Application {
         moxyJsonProvider.setIncludeRoot(false);
         moxyJsonProvider.setMarshalEmptyCollections(true);
         moxyJsonProvider.setValueWrapper("$");
+        moxyJsonProvider.setNamespacePrefixMapper(getNamespacePrefixMapper());
+        moxyJsonProvider.setNamespaceSeparator(':');
 
+        return moxyJsonProvider;
+    }
+
+    static Map<String, String> getNamespacePrefixMapper() {
         Map<String, String> namespacePrefixMapper = new HashMap<>(HASHMAP_SIZE);
         // FIXME: fill in next two with XSD
         namespacePrefixMapper.put("router", "router");
         namespacePrefixMapper.put("provider", "provider");
         namespacePrefixMapper.put("binding", "binding");
-        moxyJsonProvider.setNamespacePrefixMapper(namespacePrefixMapper);
-        moxyJsonProvider.setNamespaceSeparator(':');
-
-        return moxyJsonProvider;
+        return namespacePrefixMapper;
     }
 }
@@ -9,7 +9,6 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
@@ -21,14 +20,13 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
-import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
-import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronPortCRUD;
 import org.opendaylight.neutron.spi.NeutronPort;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 /**
  * Neutron Northbound REST APIs.<br>
@@ -59,9 +57,6 @@ public final class NeutronPortsNorthbound
         return RESOURCE_NAME;
     }
 
-    @Context
-    UriInfo uriInfo;
-
     /**
      * Returns a list of all Ports.
      */
@@ -91,41 +86,26 @@ public final class NeutronPortsNorthbound
             // linkTitle
             @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronPortCRUD portInterface = getNeutronCRUD();
-        List<NeutronPort> allPorts = portInterface.getAll();
-        List<NeutronPort> ans = new ArrayList<>();
-        for (NeutronPort port: allPorts) {
-            if ((queryID == null || queryID.equals(port.getID()))
-                    && (queryNetworkID == null || queryNetworkID.equals(port.getNetworkUUID()))
-                    && (queryName == null || queryName.equals(port.getName()))
-                    && (queryAdminStateUp == null || queryAdminStateUp.equals(port.getAdminStateUp()))
-                    && (queryStatus == null || queryStatus.equals(port.getStatus()))
-                    && (queryMACAddress == null || queryMACAddress.equals(port.getMacAddress()))
-                    && (queryDeviceID == null || queryDeviceID.equals(port.getDeviceID()))
-                    && (queryDeviceOwner == null || queryDeviceOwner.equals(port.getDeviceOwner()))
-                    && (queryTenantID == null || queryTenantID.equals(port.getTenantID()))
-                    && (queryPortSecurityEnabled == null
-                            || queryPortSecurityEnabled.equals(port.getPortSecurityEnabled()))
-                    && (queryQosPolicyId == null || queryQosPolicyId.equals(port.getQosPolicyId()))) {
-                if (fields.size() > 0) {
-                    ans.add(port.extractFields(fields));
-                } else {
-                    ans.add(port);
-                }
-            }
-        }
-
-        if (limit != null && ans.size() > 1) {
-            // Return a paginated request
-            NeutronPortRequest request = (NeutronPortRequest) PaginatedRequestFactory.createRequest(limit, marker,
-                    pageReverse, uriInfo, ans, NeutronPort.class);
-            return Response.status(HttpURLConnection.HTTP_OK).entity(request).build();
-        }
-
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronPortRequest(ans)).build();
+        NeutronQuery<NeutronPort> query = new NeutronQuery<NeutronPort>()
+                .filter("mac_address", queryMACAddress, port -> queryMACAddress.equals(port.getMacAddress()))
+                .filter("device_id", queryDeviceID, port -> queryDeviceID.equals(port.getDeviceID()))
+                .filter("network_id", queryNetworkID, port -> queryNetworkID.equals(port.getNetworkUUID()))
+                .filter("tenant_id", queryTenantID, port -> queryTenantID.equals(port.getTenantID()))
+                .filter("device_owner", queryDeviceOwner, port -> queryDeviceOwner.equals(port.getDeviceOwner()))
+                .filter("id", queryID, port -> queryID.equals(port.getID()))
+                .filter("name", queryName, port -> queryName.equals(port.getName()))
+                .filter(queryAdminStateUp, port -> queryAdminStateUp.equals(port.getAdminStateUp()))
+                .filter("status", queryStatus, port -> queryStatus.equals(port.getStatus()))
+                .filter(queryPortSecurityEnabled,
+                    port -> queryPortSecurityEnabled.equals(port.getPortSecurityEnabled()))
+                .filter(queryQosPolicyId, port -> queryQosPolicyId.equals(port.getQosPolicyId()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
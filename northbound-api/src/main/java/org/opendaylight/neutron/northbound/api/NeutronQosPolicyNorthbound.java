@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -26,6 +26,7 @@ import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronQosPolicyCRUD;
 import org.opendaylight.neutron.spi.NeutronQosPolicy;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 @Path("/qos/policies")
 public final class NeutronQosPolicyNorthbound
@@ -56,24 +57,19 @@ public final class NeutronQosPolicyNorthbound
             @QueryParam("name") String queryQosPolicyName,
             @QueryParam("shared") Boolean queryQosPolicyIsShared,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse) {
-        INeutronQosPolicyCRUD qosPolicyInterface = getNeutronCRUD();
-        List<NeutronQosPolicy> ans = new ArrayList<>();
-        for (NeutronQosPolicy nsg : qosPolicyInterface.getAll()) {
-            if ((queryQosPolicyUUID == null || queryQosPolicyUUID.equals(nsg.getID()))
-                    && (queryQosPolicyTenantID == null || queryQosPolicyTenantID.equals(nsg.getTenantID()))
-                    && (queryQosPolicyName == null || queryQosPolicyName.equals(nsg.getName()))
-                    && (queryQosPolicyIsShared == null || queryQosPolicyIsShared.equals(nsg.getPolicyIsShared()))) {
-                if (fields.size() > 0) {
-                    ans.add(nsg.extractFields(fields));
-                } else {
-                    ans.add(nsg);
-                }
-            }
-        }
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronQosPolicyRequest(ans)).build();
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs) {
+        NeutronQuery<NeutronQosPolicy> query = new NeutronQuery<NeutronQosPolicy>()
+                .filter("id", queryQosPolicyUUID, nsg -> queryQosPolicyUUID.equals(nsg.getID()))
+                .filter("tenant_id", queryQosPolicyTenantID, nsg -> queryQosPolicyTenantID.equals(nsg.getTenantID()))
+                .filter("name", queryQosPolicyName, nsg -> queryQosPolicyName.equals(nsg.getName()))
+                .filter(queryQosPolicyIsShared, nsg -> queryQosPolicyIsShared.equals(nsg.getPolicyIsShared()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
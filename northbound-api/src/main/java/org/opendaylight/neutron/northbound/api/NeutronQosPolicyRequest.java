@@ -26,9 +26,17 @@ public final class NeutronQosPolicyRequest implements INeutronRequest<NeutronQos
     @XmlElement(name = "policies")
     List<NeutronQosPolicy> bulkRequest;
 
+    @XmlElement(name = "policies_links")
+    List<NeutronPageLink> links;
+
     NeutronQosPolicyRequest() {
     }
 
+    NeutronQosPolicyRequest(List<NeutronQosPolicy> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronQosPolicyRequest(List<NeutronQosPolicy> bulk) {
         bulkRequest = bulk;
     }
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.northbound.api;
+
+import com.google.common.base.Throwables;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * Accessors and constructors of a request class, bound to method handles once per class, which is what the
+ * {@link INeutronRequest} default methods and the northbound use instead of reflection on every request.
+ *
+ * <p>The request classes follow a convention: the object is held by the "singleton" field, the list by the
+ * "bulkRequest" field, and there are constructors taking the object, and the list and its page links. An accessor
+ * or constructor which doesn't follow it throws {@link IllegalArgumentException} when it is used.
+ */
+final class NeutronRequestAccessors {
+
+    private static final String SINGLETON = "singleton";
+    private static final String BULK_REQUEST = "bulkRequest";
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SINGLETON_FACTORY_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType PAGE_FACTORY_TYPE =
+            MethodType.methodType(Object.class, Object.class, Object.class);
+
+    private static final ClassValue<NeutronRequestAccessors> ACCESSORS = new ClassValue<NeutronRequestAccessors>() {
+        @Override
+        protected NeutronRequestAccessors computeValue(Class<?> requestClass) {
+            return new NeutronRequestAccessors(requestClass);
+        }
+    };
+
+    private final Class<?> requestClass;
+    private final MethodHandle singletonGetter;
+    private final MethodHandle bulkGetter;
+    private final MethodHandle singletonConstructor;
+    private final MethodHandle pageConstructor;
+
+    private NeutronRequestAccessors(Class<?> requestClass) {
+        this.requestClass = requestClass;
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final Field singleton = findField(requestClass, SINGLETON);
+        singletonGetter = singleton != null ? unreflectGetter(lookup, singleton) : null;
+        final Field bulk = findField(requestClass, BULK_REQUEST);
+        bulkGetter = bulk != null ? unreflectGetter(lookup, bulk) : null;
+        singletonConstructor = singleton != null ? findConstructor(lookup, requestClass,
+                MethodType.methodType(void.class, singleton.getType()), SINGLETON_FACTORY_TYPE) : null;
+        pageConstructor = findConstructor(lookup, requestClass,
+                MethodType.methodType(void.class, List.class, List.class), PAGE_FACTORY_TYPE);
+    }
+
+    static NeutronRequestAccessors of(Class<?> requestClass) {
+        return ACCESSORS.get(requestClass);
+    }
+
+    private static Field findField(Class<?> requestClass, String name) {
+        try {
+            return requestClass.getDeclaredField(name);
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflectGetter(MethodHandles.Lookup lookup, Field field) {
+        try {
+            return lookup.unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static MethodHandle findConstructor(MethodHandles.Lookup lookup, Class<?> requestClass,
+            MethodType constructorType, MethodType factoryType) {
+        try {
+            return lookup.findConstructor(requestClass, constructorType).asType(factoryType);
+        } catch (NoSuchMethodException e) {
+            return null;
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private IllegalArgumentException missing(String what) {
+        return new IllegalArgumentException(requestClass.getName() + " has no " + what);
+    }
+
+    /**
+     * Returns the object of a request, null if it holds a list.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    Object getSingleton(Object request) {
+        if (singletonGetter == null) {
+            throw missing(SINGLETON);
+        }
+        try {
+            return singletonGetter.invokeExact(request);
+        } catch (Throwable e) {
+            Throwables.throwIfUnchecked(e);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the list of a request, null if it holds a single object.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    List<?> getBulk(Object request) {
+        if (bulkGetter == null) {
+            throw missing(BULK_REQUEST);
+        }
+        try {
+            final Object bulk = bulkGetter.invokeExact(request);
+            return (List<?>) bulk;
+        } catch (Throwable e) {
+            Throwables.throwIfUnchecked(e);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns a new request holding a single object.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    Object newRequest(Object singleton) {
+        if (singletonConstructor == null) {
+            throw missing("singleton constructor");
+        }
+        try {
+            return singletonConstructor.invokeExact(singleton);
+        } catch (Throwable e) {
+            Throwables.throwIfUnchecked(e);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns a new request holding a list and its page links.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    Object newRequest(List<?> bulk, List<NeutronPageLink> links) {
+        if (pageConstructor == null) {
+            throw missing("page constructor");
+        }
+        try {
+            return pageConstructor.invokeExact((Object) bulk, (Object) links);
+        } catch (Throwable e) {
+            Throwables.throwIfUnchecked(e);
+            throw new IllegalStateException(e);
+        }
+    }
+}
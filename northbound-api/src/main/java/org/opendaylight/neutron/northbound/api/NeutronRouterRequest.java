@@ -29,9 +29,17 @@ public final class NeutronRouterRequest implements INeutronRequest<NeutronRouter
     @XmlElement(name = "routers")
     List<NeutronRouter> bulkRequest;
 
+    @XmlElement(name = "routers_links")
+    List<NeutronPageLink> links;
+
     NeutronRouterRequest() {
     }
 
+    NeutronRouterRequest(List<NeutronRouter> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronRouterRequest(List<NeutronRouter> bulk) {
         bulkRequest = bulk;
     }
@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -25,6 +25,7 @@ import javax.ws.rs.core.Response;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronRouterCRUD;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronRouter;
 import org.opendaylight.neutron.spi.NeutronRouterInterface;
 
@@ -80,32 +81,21 @@ public final class NeutronRoutersNorthbound
             @QueryParam("tenant_id") String queryTenantID,
             @QueryParam("external_gateway_info") String queryExternalGatewayInfo,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronRouterCRUD routerInterface = getNeutronCRUD();
-        if (routerInterface == null) {
-            throw new ServiceUnavailableException(serviceUnavailable());
-        }
-        List<NeutronRouter> allRouters = routerInterface.getAll();
-        List<NeutronRouter> ans = new ArrayList<>();
-        for (NeutronRouter router : allRouters) {
-            if ((queryID == null || queryID.equals(router.getID()))
-                    && (queryName == null || queryName.equals(router.getName()))
-                    && (queryAdminStateUp == null || queryAdminStateUp.equals(router.getAdminStateUp()))
-                    && (queryStatus == null || queryStatus.equals(router.getStatus()))
-                    && (queryTenantID == null || queryTenantID.equals(router.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(router.extractFields(fields));
-                } else {
-                    ans.add(router);
-                }
-            }
-        }
-        //TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronRouterRequest(ans)).build();
+        NeutronQuery<NeutronRouter> query = new NeutronQuery<NeutronRouter>()
+                .filter("id", queryID, router -> queryID.equals(router.getID()))
+                .filter("name", queryName, router -> queryName.equals(router.getName()))
+                .filter(queryAdminStateUp, router -> queryAdminStateUp.equals(router.getAdminStateUp()))
+                .filter("status", queryStatus, router -> queryStatus.equals(router.getStatus()))
+                .filter("tenant_id", queryTenantID, router -> queryTenantID.equals(router.getTenantID()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
@@ -28,9 +28,17 @@ public final class NeutronSFCFlowClassifierRequest implements INeutronRequest<Ne
     @XmlElement(name = "flowclassifiers")
     List<NeutronSFCFlowClassifier> bulkRequest;
 
+    @XmlElement(name = "flowclassifiers_links")
+    List<NeutronPageLink> links;
+
     NeutronSFCFlowClassifierRequest() {
     }
 
+    NeutronSFCFlowClassifierRequest(List<NeutronSFCFlowClassifier> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronSFCFlowClassifierRequest(List<NeutronSFCFlowClassifier> bulkRequest) {
         this.bulkRequest = bulkRequest;
     }
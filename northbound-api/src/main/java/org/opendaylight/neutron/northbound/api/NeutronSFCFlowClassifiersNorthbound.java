@@ -8,10 +8,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -24,6 +24,7 @@ import javax.ws.rs.core.Response;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronSFCFlowClassifierCRUD;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronSFCFlowClassifier;
 
 /**
@@ -80,41 +81,38 @@ public final class NeutronSFCFlowClassifiersNorthbound extends AbstractNeutronNo
             @QueryParam("source_ip_prefix") String querySourceIpPrefix,
             @QueryParam("destination_ip_prefix") String queryDestinationIpPrefix,
             @QueryParam("logical_source_port") String queryLogicalSourcePort,
-            @QueryParam("logical_destination_port") String queryLogicalDestinationPort) {
-        INeutronSFCFlowClassifierCRUD sfcFlowClassifierInterface = getNeutronCRUD();
-        List<NeutronSFCFlowClassifier> allSFCFlowClassifier = sfcFlowClassifierInterface.getAll();
-        List<NeutronSFCFlowClassifier> ans = new ArrayList<>();
-        for (NeutronSFCFlowClassifier classifier : allSFCFlowClassifier) {
-            if ((queryID == null || queryID.equals(classifier.getID()))
-                    && (queryName == null || queryName.equals(classifier.getName()))
-                    && (queryEthertype == null || queryEthertype.equals(classifier.getEthertype()))
-                    && (queryProtocol == null || queryProtocol.equals(classifier.getProtocol()))
-                    && (querySourcePortRangeMin == null
-                        || querySourcePortRangeMin.equals(classifier.getSourcePortRangeMin()))
-                    && (querySourcePortRangeMax == null
-                        || querySourcePortRangeMax.equals(classifier.getSourcePortRangeMax()))
-                    && (queryDestinationPortRangeMin == null
-                            || queryDestinationPortRangeMin.equals(classifier.getDestinationPortRangeMin()))
-                    && (queryDestinationPortRangeMax == null
-                            || queryDestinationPortRangeMax.equals(classifier.getDestinationPortRangeMax()))
-                    && (querySourceIpPrefix == null || querySourceIpPrefix.equals(classifier.getSourceIpPrefix()))
-                    && (queryDestinationIpPrefix == null
-                            || queryDestinationIpPrefix.equals(classifier.getDestinationIpPrefix()))
-                    && (queryLogicalSourcePort == null
-                            || queryLogicalSourcePort.equals(classifier.getLogicalSourcePortUUID()))
-                    && (queryLogicalDestinationPort == null
-                            || queryLogicalDestinationPort.equals(classifier.getLogicalDestinationPortUUID()))
-                    && (queryTenantID == null || queryTenantID.equals(classifier.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(classifier.extractFields(fields));
-                } else {
-                    ans.add(classifier);
-                }
-            }
-        }
-
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronSFCFlowClassifierRequest(ans)).build();
-
+            @QueryParam("logical_destination_port") String queryLogicalDestinationPort,
+            // pagination
+            @QueryParam("limit") Integer limit,
+            @QueryParam("marker") String marker,
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
+    ) {
+        NeutronQuery<NeutronSFCFlowClassifier> query = new NeutronQuery<NeutronSFCFlowClassifier>()
+                .filter("id", queryID, classifier -> queryID.equals(classifier.getID()))
+                .filter("name", queryName, classifier -> queryName.equals(classifier.getName()))
+                .filter(queryEthertype, classifier -> queryEthertype.equals(classifier.getEthertype()))
+                .filter(queryProtocol, classifier -> queryProtocol.equals(classifier.getProtocol()))
+                .filter(querySourcePortRangeMin,
+                    classifier -> querySourcePortRangeMin.equals(classifier.getSourcePortRangeMin()))
+                .filter(querySourcePortRangeMax,
+                    classifier -> querySourcePortRangeMax.equals(classifier.getSourcePortRangeMax()))
+                .filter(queryDestinationPortRangeMin,
+                    classifier -> queryDestinationPortRangeMin.equals(classifier.getDestinationPortRangeMin()))
+                .filter(queryDestinationPortRangeMax,
+                    classifier -> queryDestinationPortRangeMax.equals(classifier.getDestinationPortRangeMax()))
+                .filter(querySourceIpPrefix, classifier -> querySourceIpPrefix.equals(classifier.getSourceIpPrefix()))
+                .filter(queryDestinationIpPrefix,
+                    classifier -> queryDestinationIpPrefix.equals(classifier.getDestinationIpPrefix()))
+                .filter(queryLogicalSourcePort,
+                    classifier -> queryLogicalSourcePort.equals(classifier.getLogicalSourcePortUUID()))
+                .filter(queryLogicalDestinationPort,
+                    classifier -> queryLogicalDestinationPort.equals(classifier.getLogicalDestinationPortUUID()))
+                .filter("tenant_id", queryTenantID, classifier -> queryTenantID.equals(classifier.getTenantID()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
@@ -8,10 +8,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -24,6 +24,7 @@ import javax.ws.rs.core.Response;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronSFCPortChainCRUD;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronSFCPortChain;
 
 /**
@@ -70,24 +71,21 @@ public final class NeutronSFCPortChainsNorthbound
             @QueryParam("fields") List<String> fields,
             @QueryParam("id") String queryID,
             @QueryParam("name") String queryName,
-            @QueryParam("tenant_id") String queryTenantID) {
-        INeutronSFCPortChainCRUD sfcPortChainInterface = getNeutronCRUD();
-        List<NeutronSFCPortChain> allSFCPortChain = sfcPortChainInterface.getAll();
-        List<NeutronSFCPortChain> ans = new ArrayList<>();
-        for (NeutronSFCPortChain sfcPortChain : allSFCPortChain) {
-            if ((queryID == null || queryID.equals(sfcPortChain.getID()))
-                    && (queryName == null || queryName.equals(sfcPortChain.getName()))
-                    && (queryTenantID == null || queryTenantID.equals(sfcPortChain.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(sfcPortChain.extractFields(fields));
-                } else {
-                    ans.add(sfcPortChain);
-                }
-            }
-        }
-
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronSFCPortChainRequest(ans)).build();
-
+            @QueryParam("tenant_id") String queryTenantID,
+            // pagination
+            @QueryParam("limit") Integer limit,
+            @QueryParam("marker") String marker,
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
+    ) {
+        NeutronQuery<NeutronSFCPortChain> query = new NeutronQuery<NeutronSFCPortChain>()
+                .filter("id", queryID, sfcPortChain -> queryID.equals(sfcPortChain.getID()))
+                .filter("name", queryName, sfcPortChain -> queryName.equals(sfcPortChain.getName()))
+                .filter("tenant_id", queryTenantID, sfcPortChain -> queryTenantID.equals(sfcPortChain.getTenantID()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
@@ -28,9 +28,17 @@ public final class NeutronSFCPortPairGroupRequest implements INeutronRequest<Neu
     @XmlElement(name = "portpairgroups")
     List<NeutronSFCPortPairGroup> bulkRequest;
 
+    @XmlElement(name = "portpairgroups_links")
+    List<NeutronPageLink> links;
+
     NeutronSFCPortPairGroupRequest() {
     }
 
+    NeutronSFCPortPairGroupRequest(List<NeutronSFCPortPairGroup> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronSFCPortPairGroupRequest(List<NeutronSFCPortPairGroup> bulkRequest) {
         this.bulkRequest = bulkRequest;
     }
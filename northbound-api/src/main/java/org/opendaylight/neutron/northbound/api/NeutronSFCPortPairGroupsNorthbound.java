@@ -8,10 +8,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -24,6 +24,7 @@ import javax.ws.rs.core.Response;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronSFCPortPairGroupCRUD;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronSFCPortPairGroup;
 
 /**
@@ -71,24 +72,22 @@ public final class NeutronSFCPortPairGroupsNorthbound extends AbstractNeutronNor
             @QueryParam("id") String queryID,
             @QueryParam("name") String queryName,
             @QueryParam("tenant_id") String queryTenantID,
-            @QueryParam("port_pairs") List<String> queryPortPairsUUID) {
-        INeutronSFCPortPairGroupCRUD sfcPortPairGroupInterface = getNeutronCRUD();
-        List<NeutronSFCPortPairGroup> allSFCPortPairGroup = sfcPortPairGroupInterface.getAll();
-        List<NeutronSFCPortPairGroup> ans = new ArrayList<>();
-        for (NeutronSFCPortPairGroup sfcPortPairGroup : allSFCPortPairGroup) {
-            if ((queryID == null || queryID.equals(sfcPortPairGroup.getID()))
-                    && (queryName == null || queryName.equals(sfcPortPairGroup.getName()))
-                    && (queryTenantID == null || queryTenantID.equals(sfcPortPairGroup.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(sfcPortPairGroup.extractFields(fields));
-                } else {
-                    ans.add(sfcPortPairGroup);
-                }
-            }
-        }
-
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronSFCPortPairGroupRequest(ans)).build();
-
+            @QueryParam("port_pairs") List<String> queryPortPairsUUID,
+            // pagination
+            @QueryParam("limit") Integer limit,
+            @QueryParam("marker") String marker,
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
+    ) {
+        NeutronQuery<NeutronSFCPortPairGroup> query = new NeutronQuery<NeutronSFCPortPairGroup>()
+                .filter("id", queryID, sfcPortPairGroup -> queryID.equals(sfcPortPairGroup.getID()))
+                .filter("name", queryName, sfcPortPairGroup -> queryName.equals(sfcPortPairGroup.getName()))
+                .filter("tenant_id", queryTenantID,
+                    sfcPortPairGroup -> queryTenantID.equals(sfcPortPairGroup.getTenantID()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
@@ -8,10 +8,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -24,6 +24,7 @@ import javax.ws.rs.core.Response;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronSFCPortPairCRUD;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronSFCPortPair;
 
 /**
@@ -72,26 +73,23 @@ public final class NeutronSFCPortPairsNorthbound
             @QueryParam("name") String queryName,
             @QueryParam("tenant_id") String queryTenantID,
             @QueryParam("ingress") String queryIngressPort,
-            @QueryParam("egress") String queryEgressPort) {
-        INeutronSFCPortPairCRUD sfcPortPairInterface = getNeutronCRUD();
-        List<NeutronSFCPortPair> allSFCPortPair = sfcPortPairInterface.getAll();
-        List<NeutronSFCPortPair> ans = new ArrayList<>();
-        for (NeutronSFCPortPair sfcPortPair : allSFCPortPair) {
-            if ((queryID == null || queryID.equals(sfcPortPair.getID()))
-                    && (queryName == null || queryName.equals(sfcPortPair.getName()))
-                    && (queryIngressPort == null || queryIngressPort.equals(sfcPortPair.getIngressPortUUID()))
-                    && (queryEgressPort == null || queryEgressPort.equals(sfcPortPair.getEgressPortUUID()))
-                    && (queryTenantID == null || queryTenantID.equals(sfcPortPair.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(sfcPortPair.extractFields(fields));
-                } else {
-                    ans.add(sfcPortPair);
-                }
-            }
-        }
-
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronSFCPortPairRequest(ans)).build();
-
+            @QueryParam("egress") String queryEgressPort,
+            // pagination
+            @QueryParam("limit") Integer limit,
+            @QueryParam("marker") String marker,
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
+    ) {
+        NeutronQuery<NeutronSFCPortPair> query = new NeutronQuery<NeutronSFCPortPair>()
+                .filter("id", queryID, sfcPortPair -> queryID.equals(sfcPortPair.getID()))
+                .filter("name", queryName, sfcPortPair -> queryName.equals(sfcPortPair.getName()))
+                .filter(queryIngressPort, sfcPortPair -> queryIngressPort.equals(sfcPortPair.getIngressPortUUID()))
+                .filter(queryEgressPort, sfcPortPair -> queryEgressPort.equals(sfcPortPair.getEgressPortUUID()))
+                .filter("tenant_id", queryTenantID, sfcPortPair -> queryTenantID.equals(sfcPortPair.getTenantID()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
@@ -31,9 +31,17 @@ public final class NeutronSecurityRuleRequest implements INeutronRequest<Neutron
     @XmlElement(name = "security_group_rules")
     List<NeutronSecurityRule> bulkRequest;
 
+    @XmlElement(name = "security_group_rules_links")
+    List<NeutronPageLink> links;
+
     NeutronSecurityRuleRequest() {
     }
 
+    NeutronSecurityRuleRequest(List<NeutronSecurityRule> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronSecurityRuleRequest(List<NeutronSecurityRule> bulk) {
         bulkRequest = bulk;
     }
@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -25,6 +25,7 @@ import javax.ws.rs.core.Response;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronSecurityRuleCRUD;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronSecurityRule;
 
 /**
@@ -78,39 +79,31 @@ public final class NeutronSecurityRulesNorthbound
             @QueryParam("remote_group_id") String querySecurityRemoteGroupID,
             @QueryParam("security_group_id") String querySecurityRuleGroupID,
             @QueryParam("tenant_id") String querySecurityRuleTenantID,
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse) {
-        INeutronSecurityRuleCRUD securityRuleInterface = getNeutronCRUD();
-        List<NeutronSecurityRule> allSecurityRules = securityRuleInterface.getAll();
-        List<NeutronSecurityRule> ans = new ArrayList<>();
-        for (NeutronSecurityRule nsr : allSecurityRules) {
-            if ((querySecurityRuleUUID == null || querySecurityRuleUUID.equals(nsr.getID()))
-                    && (querySecurityRuleDirection == null
-                            || querySecurityRuleDirection.equals(nsr.getSecurityRuleDirection()))
-                    && (querySecurityRuleProtocol == null
-                            || querySecurityRuleProtocol.equals(nsr.getSecurityRuleProtocol()))
-                    && (querySecurityRulePortMin == null
-                            || querySecurityRulePortMin.equals(nsr.getSecurityRulePortMin()))
-                    && (querySecurityRulePortMax == null
-                            || querySecurityRulePortMax.equals(nsr.getSecurityRulePortMax()))
-                    && (querySecurityRuleEthertype == null
-                            || querySecurityRuleEthertype.equals(nsr.getSecurityRuleEthertype()))
-                    && (querySecurityRuleIpPrefix == null
-                            || querySecurityRuleIpPrefix.equals(nsr.getSecurityRuleRemoteIpPrefix()))
-                    && (querySecurityRuleGroupID == null
-                            || querySecurityRuleGroupID.equals(nsr.getSecurityRuleGroupID()))
-                    && (querySecurityRemoteGroupID == null
-                            || querySecurityRemoteGroupID.equals(nsr.getSecurityRemoteGroupID()))
-                    && (querySecurityRuleTenantID == null || querySecurityRuleTenantID.equals(nsr.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(nsr.extractFields(fields));
-                } else {
-                    ans.add(nsr);
-                }
-            }
-        }
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronSecurityRuleRequest(ans)).build();
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs) {
+        NeutronQuery<NeutronSecurityRule> query = new NeutronQuery<NeutronSecurityRule>()
+                .filter("id", querySecurityRuleUUID, nsr -> querySecurityRuleUUID.equals(nsr.getID()))
+                .filter(querySecurityRuleDirection,
+                    nsr -> querySecurityRuleDirection.equals(nsr.getSecurityRuleDirection()))
+                .filter(querySecurityRuleProtocol,
+                    nsr -> querySecurityRuleProtocol.equals(nsr.getSecurityRuleProtocol()))
+                .filter(querySecurityRulePortMin, nsr -> querySecurityRulePortMin.equals(nsr.getSecurityRulePortMin()))
+                .filter(querySecurityRulePortMax, nsr -> querySecurityRulePortMax.equals(nsr.getSecurityRulePortMax()))
+                .filter(querySecurityRuleEthertype,
+                    nsr -> querySecurityRuleEthertype.equals(nsr.getSecurityRuleEthertype()))
+                .filter(querySecurityRuleIpPrefix,
+                    nsr -> querySecurityRuleIpPrefix.equals(nsr.getSecurityRuleRemoteIpPrefix()))
+                .filter(querySecurityRuleGroupID, nsr -> querySecurityRuleGroupID.equals(nsr.getSecurityRuleGroupID()))
+                .filter(querySecurityRemoteGroupID,
+                    nsr -> querySecurityRemoteGroupID.equals(nsr.getSecurityRemoteGroupID()))
+                .filter("tenant_id", querySecurityRuleTenantID,
+                    nsr -> querySecurityRuleTenantID.equals(nsr.getTenantID()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
@@ -9,7 +9,6 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
@@ -21,13 +20,12 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
-import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
-import javax.ws.rs.core.UriInfo;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronSubnetCRUD;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronSubnet;
 
 /**
@@ -58,9 +56,6 @@ public final class NeutronSubnetsNorthbound
         return RESOURCE_NAME;
     }
 
-    @Context
-    UriInfo uriInfo;
-
     /**
      * Returns a list of all Subnets.
      */
@@ -88,39 +83,24 @@ public final class NeutronSubnetsNorthbound
             // linkTitle
             @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronSubnetCRUD subnetInterface = getNeutronCRUD();
-        List<NeutronSubnet> allSubnets = subnetInterface.getAll();
-        List<NeutronSubnet> ans = new ArrayList<>();
-        for (NeutronSubnet subnet : allSubnets) {
-            if ((queryID == null || queryID.equals(subnet.getID()))
-                    && (queryNetworkID == null || queryNetworkID.equals(subnet.getNetworkUUID()))
-                    && (queryName == null || queryName.equals(subnet.getName()))
-                    && (queryIPVersion == null || queryIPVersion.equals(subnet.getIpVersion()))
-                    && (queryCIDR == null || queryCIDR.equals(subnet.getCidr()))
-                    && (queryGatewayIp == null || queryGatewayIp.equals(subnet.getGatewayIp()))
-                    && (queryEnableDHCP == null || queryEnableDHCP.equals(subnet.getEnableDHCP()))
-                    && (queryTenantID == null || queryTenantID.equals(subnet.getTenantID()))
-                    && (queryIpV6AddressMode == null || queryIpV6AddressMode.equals(subnet.getIpV6AddressMode()))
-                    && (queryIpV6RaMode == null || queryIpV6RaMode.equals(subnet.getIpV6RaMode()))) {
-                if (fields.size() > 0) {
-                    ans.add(subnet.extractFields(fields));
-                } else {
-                    ans.add(subnet);
-                }
-            }
-        }
-
-        if (limit != null && ans.size() > 1) {
-            // Return a paginated request
-            NeutronSubnetRequest request = (NeutronSubnetRequest) PaginatedRequestFactory.createRequest(limit, marker,
-                    pageReverse, uriInfo, ans, NeutronSubnet.class);
-            return Response.status(HttpURLConnection.HTTP_OK).entity(request).build();
-        }
-
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronSubnetRequest(ans)).build();
+        NeutronQuery<NeutronSubnet> query = new NeutronQuery<NeutronSubnet>()
+                .filter("id", queryID, subnet -> queryID.equals(subnet.getID()))
+                .filter("network_id", queryNetworkID, subnet -> queryNetworkID.equals(subnet.getNetworkUUID()))
+                .filter("name", queryName, subnet -> queryName.equals(subnet.getName()))
+                .filter(queryIPVersion, subnet -> queryIPVersion.equals(subnet.getIpVersion()))
+                .filter("cidr", queryCIDR, subnet -> queryCIDR.equals(subnet.getCidr()))
+                .filter(queryGatewayIp, subnet -> queryGatewayIp.equals(subnet.getGatewayIp()))
+                .filter(queryEnableDHCP, subnet -> queryEnableDHCP.equals(subnet.getEnableDHCP()))
+                .filter("tenant_id", queryTenantID, subnet -> queryTenantID.equals(subnet.getTenantID()))
+                .filter(queryIpV6AddressMode, subnet -> queryIpV6AddressMode.equals(subnet.getIpV6AddressMode()))
+                .filter(queryIpV6RaMode, subnet -> queryIpV6RaMode.equals(subnet.getIpV6RaMode()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
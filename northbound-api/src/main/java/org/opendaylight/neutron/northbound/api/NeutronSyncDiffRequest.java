@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.northbound.api;
+
+import java.util.List;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Revisions of the objects of one resource known to a client, to be compared with the stored ones.
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.NONE)
+public final class NeutronSyncDiffRequest {
+
+    @XmlAccessorType(XmlAccessType.NONE)
+    public static final class Revision {
+        @XmlElement(name = "id")
+        String id;
+
+        // null not to compare the revision, only whether the object exists
+        @XmlElement(name = "revision_number")
+        Long revisionNumber;
+
+        Revision() {
+        }
+
+        Revision(String id, Long revisionNumber) {
+            this.id = id;
+            this.revisionNumber = revisionNumber;
+        }
+
+        public String getID() {
+            return id;
+        }
+
+        public Long getRevisionNumber() {
+            return revisionNumber;
+        }
+    }
+
+    @XmlElement(name = "revisions")
+    List<Revision> revisions;
+
+    NeutronSyncDiffRequest() {
+    }
+
+    NeutronSyncDiffRequest(List<Revision> revisions) {
+        this.revisions = revisions;
+    }
+
+    public List<Revision> getRevisions() {
+        return revisions;
+    }
+}
@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -25,6 +25,7 @@ import javax.ws.rs.core.Response;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronTapFlowCRUD;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronTapFlow;
 
 @Path("/tap/flows")
@@ -58,28 +59,21 @@ public final class NeutronTapFlowNorthbound
             @QueryParam("tap_service_id") String queryTapServiceID,
             @QueryParam("direction") String queryTapFlowDirection,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse) {
-
-        INeutronTapFlowCRUD tapFlowInterface = getNeutronCRUD();
-        List<NeutronTapFlow> ans = new ArrayList<>();
-        for (NeutronTapFlow nsg : tapFlowInterface.getAll()) {
-            if ((queryTapFlowUUID == null || queryTapFlowUUID.equals(nsg.getID()))
-                    && (queryTapFlowTenantID == null || queryTapFlowTenantID.equals(nsg.getTenantID()))
-                    && (queryTapFlowName == null || queryTapFlowName.equals(nsg.getName()))
-                    && (queryTapServiceID == null || queryTapServiceID.equals(nsg.getTapFlowServiceID()))
-                    && (queryTapFlowDirection == null || queryTapFlowDirection.equals(nsg.getTapFlowDirection()))
-                    && (queryTapFlowSourcePort == null
-                        || queryTapFlowSourcePort.equals(nsg.getTapFlowSourcePort()))) {
-                if (fields.size() > 0) {
-                    ans.add(nsg.extractFields(fields));
-                } else {
-                    ans.add(nsg);
-                }
-            }
-        }
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronTapFlowRequest(ans)).build();
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs) {
+        NeutronQuery<NeutronTapFlow> query = new NeutronQuery<NeutronTapFlow>()
+                .filter("id", queryTapFlowUUID, nsg -> queryTapFlowUUID.equals(nsg.getID()))
+                .filter("tenant_id", queryTapFlowTenantID, nsg -> queryTapFlowTenantID.equals(nsg.getTenantID()))
+                .filter("name", queryTapFlowName, nsg -> queryTapFlowName.equals(nsg.getName()))
+                .filter(queryTapServiceID, nsg -> queryTapServiceID.equals(nsg.getTapFlowServiceID()))
+                .filter(queryTapFlowDirection, nsg -> queryTapFlowDirection.equals(nsg.getTapFlowDirection()))
+                .filter(queryTapFlowSourcePort, nsg -> queryTapFlowSourcePort.equals(nsg.getTapFlowSourcePort()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
@@ -93,19 +87,20 @@ public final class NeutronTapFlowNorthbound
             @ResponseCode(code = HttpURLConnection.HTTP_UNAVAILABLE, condition = "No providers available") })
     public Response createTapFlow(@PathParam("tapServiceUUID") String tapServiceUUID,
                                   final NeutronTapFlowRequest input) {
+        return write(() -> {
+            INeutronTapFlowCRUD tapFlowInterface = getNeutronCRUD();
 
-        INeutronTapFlowCRUD tapFlowInterface = getNeutronCRUD();
+            if (input.isSingleton()) {
+                NeutronTapFlow singleton = input.getSingleton();
+                singleton.setTapFlowServiceID(tapServiceUUID);
 
-        if (input.isSingleton()) {
-            NeutronTapFlow singleton = input.getSingleton();
-            singleton.setTapFlowServiceID(tapServiceUUID);
-
-            tapFlowInterface.addTapFlow(singleton);
-        } else {
-            throw new BadRequestException("Only Singleton tapFlow creation supported");
-        }
+                tapFlowInterface.addTapFlow(singleton);
+            } else {
+                throw new BadRequestException("Only Singleton tapFlow creation supported");
+            }
 
-        return Response.status(HttpURLConnection.HTTP_CREATED).entity(input).build();
+            return Response.status(HttpURLConnection.HTTP_CREATED).entity(input).build();
+        });
     }
 
     /**
@@ -151,18 +146,19 @@ public final class NeutronTapFlowNorthbound
     public Response updateTapFlow(@PathParam("tapServiceUUID") String tapServiceUUID,
                                   @PathParam("tapFlowUUID") String tapFlowUUID,
                                   final NeutronTapFlowRequest input) {
+        return write(() -> {
+            INeutronTapFlowCRUD tapFlowInterface = getNeutronCRUD();
 
-        INeutronTapFlowCRUD tapFlowInterface = getNeutronCRUD();
-
-        if (!tapFlowInterface.tapFlowExists(tapServiceUUID, tapFlowUUID)) {
-            throw new ResourceNotFoundException("Specified UUID does not Exist");
-        }
+            if (!tapFlowInterface.tapFlowExists(tapServiceUUID, tapFlowUUID)) {
+                throw new ResourceNotFoundException("Specified UUID does not Exist");
+            }
 
-        NeutronTapFlow singleton = input.getSingleton();
-        singleton.setTapFlowServiceID(tapServiceUUID);
-        tapFlowInterface.updateTapFlow(singleton);
+            NeutronTapFlow singleton = input.getSingleton();
+            singleton.setTapFlowServiceID(tapServiceUUID);
+            tapFlowInterface.updateTapFlow(singleton);
 
-        return Response.status(HttpURLConnection.HTTP_OK).entity(input).build();
+            return Response.status(HttpURLConnection.HTTP_OK).entity(input).build();
+        });
     }
 
     /**
@@ -175,14 +171,15 @@ public final class NeutronTapFlowNorthbound
             @ResponseCode(code = HttpURLConnection.HTTP_UNAVAILABLE, condition = "No providers available") })
     public Response deleteTapFlow(@PathParam("tapServiceUUID") String tapServiceUUID,
                                   @PathParam("tapFlowUUID") String tapFlowUUID) {
+        return write(() -> {
+            INeutronTapFlowCRUD tapFlowInterface = getNeutronCRUD();
 
-        INeutronTapFlowCRUD tapFlowInterface = getNeutronCRUD();
-
-        if (!tapFlowInterface.tapFlowExists(tapServiceUUID, tapFlowUUID)) {
-            throw new ResourceNotFoundException("Specified UUID does not Exist");
-        }
+            if (!tapFlowInterface.tapFlowExists(tapServiceUUID, tapFlowUUID)) {
+                throw new ResourceNotFoundException("Specified UUID does not Exist");
+            }
 
-        tapFlowInterface.deleteTapFlow(tapServiceUUID, tapFlowUUID);
-        return Response.status(HttpURLConnection.HTTP_NO_CONTENT).build();
+            tapFlowInterface.deleteTapFlow(tapServiceUUID, tapFlowUUID);
+            return Response.status(HttpURLConnection.HTTP_NO_CONTENT).build();
+        });
     }
 }
@@ -26,9 +26,17 @@ public final class NeutronTapFlowRequest implements INeutronRequest<NeutronTapFl
     @XmlElement(name = "tap_flows")
     List<NeutronTapFlow> bulkRequest;
 
+    @XmlElement(name = "tap_flows_links")
+    List<NeutronPageLink> links;
+
     NeutronTapFlowRequest() {
     }
 
+    NeutronTapFlowRequest(List<NeutronTapFlow> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronTapFlowRequest(List<NeutronTapFlow> bulk) {
         bulkRequest = bulk;
     }
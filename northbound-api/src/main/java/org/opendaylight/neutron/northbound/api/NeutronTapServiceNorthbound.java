@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -25,6 +25,7 @@ import javax.ws.rs.core.Response;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronTapServiceCRUD;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronTapService;
 
 @Path("/tap/services")
@@ -56,24 +57,19 @@ public final class NeutronTapServiceNorthbound
             @QueryParam("name") String queryTapServiceName,
             @QueryParam("port_id") String queryTapServicePortID,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse) {
-        INeutronTapServiceCRUD tapServiceInterface = getNeutronCRUD();
-        List<NeutronTapService> ans = new ArrayList<>();
-        for (NeutronTapService nsg : tapServiceInterface.getAll()) {
-            if ((queryTapServiceUUID == null || queryTapServiceUUID.equals(nsg.getID()))
-                    && (queryTapServiceTenantID == null || queryTapServiceTenantID.equals(nsg.getTenantID()))
-                    && (queryTapServiceName == null || queryTapServiceName.equals(nsg.getName()))
-                    && (queryTapServicePortID == null || queryTapServicePortID.equals(nsg.getTapServicePortID()))) {
-                if (fields.size() > 0) {
-                    ans.add(nsg.extractFields(fields));
-                } else {
-                    ans.add(nsg);
-                }
-            }
-        }
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronTapServiceRequest(ans)).build();
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs) {
+        NeutronQuery<NeutronTapService> query = new NeutronQuery<NeutronTapService>()
+                .filter("id", queryTapServiceUUID, nsg -> queryTapServiceUUID.equals(nsg.getID()))
+                .filter("tenant_id", queryTapServiceTenantID, nsg -> queryTapServiceTenantID.equals(nsg.getTenantID()))
+                .filter("name", queryTapServiceName, nsg -> queryTapServiceName.equals(nsg.getName()))
+                .filter(queryTapServicePortID, nsg -> queryTapServicePortID.equals(nsg.getTapServicePortID()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
@@ -26,9 +26,17 @@ public final class NeutronTapServiceRequest implements INeutronRequest<NeutronTa
     @XmlElement(name = "tap_services")
     List<NeutronTapService> bulkRequest;
 
+    @XmlElement(name = "tap_services_links")
+    List<NeutronPageLink> links;
+
     NeutronTapServiceRequest() {
     }
 
+    NeutronTapServiceRequest(List<NeutronTapService> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronTapServiceRequest(List<NeutronTapService> bulk) {
         bulkRequest = bulk;
     }
@@ -27,6 +27,9 @@ public final class NeutronTrunkRequest implements INeutronRequest<NeutronTrunk>
     @XmlElement(name = "trunks")
     List<NeutronTrunk> bulkRequest;
 
+    @XmlElement(name = "trunks_links")
+    List<NeutronPageLink> links;
+
     NeutronTrunkRequest() {
     }
 
@@ -34,6 +37,11 @@ public final class NeutronTrunkRequest implements INeutronRequest<NeutronTrunk>
         singleton = trunk;
     }
 
+    NeutronTrunkRequest(List<NeutronTrunk> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronTrunkRequest(List<NeutronTrunk> bulk) {
         bulkRequest = bulk;
     }
@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -25,6 +25,7 @@ import javax.ws.rs.core.Response;
 import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.opendaylight.neutron.spi.INeutronTrunkCRUD;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronTrunk;
 
 @Path("/trunks")
@@ -56,24 +57,19 @@ public final class NeutronTrunksNorthbound
             @QueryParam("status") String queryStatus,
             @QueryParam("name") String queryName,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse) {
-        INeutronTrunkCRUD trunkInterface = getNeutronCRUD();
-        List<NeutronTrunk> ans = new ArrayList<>();
-        for (NeutronTrunk nsg : trunkInterface.getAll()) {
-            if ((queryUUID == null || queryUUID.equals(nsg.getID()))
-                    && (queryTenantID == null || queryTenantID.equals(nsg.getTenantID()))
-                    && (queryStatus == null || queryStatus.equals(nsg.getStatus()))
-                    && (queryName == null || queryName.equals(nsg.getName()))) {
-                if (fields.size() > 0) {
-                    ans.add(nsg.extractFields(fields));
-                } else {
-                    ans.add(nsg);
-                }
-            }
-        }
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronTrunkRequest(ans)).build();
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs) {
+        NeutronQuery<NeutronTrunk> query = new NeutronQuery<NeutronTrunk>()
+                .filter("id", queryUUID, nsg -> queryUUID.equals(nsg.getID()))
+                .filter("tenant_id", queryTenantID, nsg -> queryTenantID.equals(nsg.getTenantID()))
+                .filter("status", queryStatus, nsg -> queryStatus.equals(nsg.getStatus()))
+                .filter("name", queryName, nsg -> queryName.equals(nsg.getName()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -26,6 +26,7 @@ import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.codehaus.enunciate.jaxrs.TypeHint;
 import org.opendaylight.neutron.spi.INeutronVpnIkePolicyCRUD;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronVpnIkePolicy;
 
 /**
@@ -77,32 +78,28 @@ public final class NeutronVpnIkePoliciesNorthbound
             @QueryParam("encryption_algorithm") String queryEncryptionAlgorithm,
             @QueryParam("phase1_negotiation_mode") String queryPhase1NegotiationMode,
             @QueryParam("pfs") String queryPFS,
-            @QueryParam("ike_version") String queryIKEVersion
-    // pagination and sorting are TODO
+            @QueryParam("ike_version") String queryIKEVersion,
+            // pagination
+            @QueryParam("limit") Integer limit,
+            @QueryParam("marker") String marker,
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronVpnIkePolicyCRUD labelInterface = getNeutronCRUD();
-        List<NeutronVpnIkePolicy> allNeutronVpnIkePolicy = labelInterface.getAll();
-        List<NeutronVpnIkePolicy> ans = new ArrayList<>();
-        for (NeutronVpnIkePolicy policy : allNeutronVpnIkePolicy) {
-            if ((queryID == null || queryID.equals(policy.getID()))
-                    && (queryName == null || queryName.equals(policy.getName()))
-                    && (queryAuthAlgorithm == null || queryAuthAlgorithm.equals(policy.getAuthAlgorithm()))
-                    && (queryEncryptionAlgorithm == null
-                            || queryEncryptionAlgorithm.equals(policy.getEncryptionAlgorithm()))
-                    && (queryPhase1NegotiationMode == null
-                            || queryPhase1NegotiationMode.equals(policy.getPhase1NegotiationMode()))
-                    && (queryPFS == null || queryPFS.equals(policy.getPerfectForwardSecrecy()))
-                    && (queryIKEVersion == null || queryIKEVersion.equals(policy.getIkeVersion()))
-                    && (queryTenantID == null || queryTenantID.equals(policy.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(policy.extractFields(fields));
-                } else {
-                    ans.add(policy);
-                }
-            }
-        }
-        //TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronVpnIkePolicyRequest(ans)).build();
+        NeutronQuery<NeutronVpnIkePolicy> query = new NeutronQuery<NeutronVpnIkePolicy>()
+                .filter("id", queryID, policy -> queryID.equals(policy.getID()))
+                .filter("name", queryName, policy -> queryName.equals(policy.getName()))
+                .filter(queryAuthAlgorithm, policy -> queryAuthAlgorithm.equals(policy.getAuthAlgorithm()))
+                .filter(queryEncryptionAlgorithm,
+                    policy -> queryEncryptionAlgorithm.equals(policy.getEncryptionAlgorithm()))
+                .filter(queryPhase1NegotiationMode,
+                    policy -> queryPhase1NegotiationMode.equals(policy.getPhase1NegotiationMode()))
+                .filter(queryPFS, policy -> queryPFS.equals(policy.getPerfectForwardSecrecy()))
+                .filter(queryIKEVersion, policy -> queryIKEVersion.equals(policy.getIkeVersion()))
+                .filter("tenant_id", queryTenantID, policy -> queryTenantID.equals(policy.getTenantID()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
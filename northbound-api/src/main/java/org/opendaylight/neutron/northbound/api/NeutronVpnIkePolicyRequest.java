@@ -26,6 +26,9 @@ public final class NeutronVpnIkePolicyRequest implements INeutronRequest<Neutron
     @XmlElement(name = "ikepolicies")
     List<NeutronVpnIkePolicy> bulkRequest;
 
+    @XmlElement(name = "ikepolicies_links")
+    List<NeutronPageLink> links;
+
     NeutronVpnIkePolicyRequest() {
     }
 
@@ -33,6 +36,11 @@ public final class NeutronVpnIkePolicyRequest implements INeutronRequest<Neutron
         singleton = policy;
     }
 
+    NeutronVpnIkePolicyRequest(List<NeutronVpnIkePolicy> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronVpnIkePolicyRequest(List<NeutronVpnIkePolicy> policies) {
         bulkRequest = policies;
     }
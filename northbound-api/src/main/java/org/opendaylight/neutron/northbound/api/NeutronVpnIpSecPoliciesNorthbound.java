@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -26,6 +26,7 @@ import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.codehaus.enunciate.jaxrs.TypeHint;
 import org.opendaylight.neutron.spi.INeutronVpnIpSecPolicyCRUD;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronVpnIpSecPolicy;
 
 /**
@@ -78,31 +79,27 @@ public final class NeutronVpnIpSecPoliciesNorthbound extends
             @QueryParam("encapsulation_mode") String queryEncapsulationMode,
             @QueryParam("auth_algorithm") String queryAuthAlgorithm,
             @QueryParam("encryption_algorithm") String queryEncryptionAlgorithm,
-            @QueryParam("pfs") String queryPFS
-    // pagination and sorting are TODO
+            @QueryParam("pfs") String queryPFS,
+            // pagination
+            @QueryParam("limit") Integer limit,
+            @QueryParam("marker") String marker,
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronVpnIpSecPolicyCRUD policyInterface = getNeutronCRUD();
-        List<NeutronVpnIpSecPolicy> allNeutronVpnIPSecPolicies = policyInterface.getAll();
-        List<NeutronVpnIpSecPolicy> ans = new ArrayList<>();
-        for (NeutronVpnIpSecPolicy policy : allNeutronVpnIPSecPolicies) {
-            if ((queryID == null || queryID.equals(policy.getID()))
-                    && (queryName == null || queryName.equals(policy.getName()))
-                    && (queryAuthAlgorithm == null || queryAuthAlgorithm.equals(policy.getAuthAlgorithm()))
-                    && (queryEncryptionAlgorithm == null
-                            || queryEncryptionAlgorithm.equals(policy.getEncryptionAlgorithm()))
-                    && (queryPFS == null || queryPFS.equals(policy.getPerfectForwardSecrecy()))
-                    && (queryTransformProtocol == null || queryTransformProtocol.equals(policy.getTransformProtocol()))
-                    && (queryEncapsulationMode == null || queryEncapsulationMode.equals(policy.getEncapsulationMode()))
-                    && (queryTenantID == null || queryTenantID.equals(policy.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(policy.extractFields(fields));
-                } else {
-                    ans.add(policy);
-                }
-            }
-        }
-        //TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronVpnIpSecPolicyRequest(ans)).build();
+        NeutronQuery<NeutronVpnIpSecPolicy> query = new NeutronQuery<NeutronVpnIpSecPolicy>()
+                .filter("id", queryID, policy -> queryID.equals(policy.getID()))
+                .filter("name", queryName, policy -> queryName.equals(policy.getName()))
+                .filter(queryAuthAlgorithm, policy -> queryAuthAlgorithm.equals(policy.getAuthAlgorithm()))
+                .filter(queryEncryptionAlgorithm,
+                    policy -> queryEncryptionAlgorithm.equals(policy.getEncryptionAlgorithm()))
+                .filter(queryPFS, policy -> queryPFS.equals(policy.getPerfectForwardSecrecy()))
+                .filter(queryTransformProtocol, policy -> queryTransformProtocol.equals(policy.getTransformProtocol()))
+                .filter(queryEncapsulationMode, policy -> queryEncapsulationMode.equals(policy.getEncapsulationMode()))
+                .filter("tenant_id", queryTenantID, policy -> queryTenantID.equals(policy.getTenantID()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
@@ -26,6 +26,9 @@ public final class NeutronVpnIpSecPolicyRequest implements INeutronRequest<Neutr
     @XmlElement(name = "ipsecpolicies")
     List<NeutronVpnIpSecPolicy> bulkRequest;
 
+    @XmlElement(name = "ipsecpolicies_links")
+    List<NeutronPageLink> links;
+
     NeutronVpnIpSecPolicyRequest() {
     }
 
@@ -33,6 +36,11 @@ public final class NeutronVpnIpSecPolicyRequest implements INeutronRequest<Neutr
         singleton = policy;
     }
 
+    NeutronVpnIpSecPolicyRequest(List<NeutronVpnIpSecPolicy> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronVpnIpSecPolicyRequest(List<NeutronVpnIpSecPolicy> policies) {
         bulkRequest = policies;
     }
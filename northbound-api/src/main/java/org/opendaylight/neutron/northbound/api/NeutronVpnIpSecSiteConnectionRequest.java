@@ -26,6 +26,9 @@ public final class NeutronVpnIpSecSiteConnectionRequest implements INeutronReque
     @XmlElement(name = "ipsec_site_connections")
     List<NeutronVpnIpSecSiteConnection> bulkRequest;
 
+    @XmlElement(name = "ipsec_site_connections_links")
+    List<NeutronPageLink> links;
+
     NeutronVpnIpSecSiteConnectionRequest() {
     }
 
@@ -33,6 +36,11 @@ public final class NeutronVpnIpSecSiteConnectionRequest implements INeutronReque
         singleton = connection;
     }
 
+    NeutronVpnIpSecSiteConnectionRequest(List<NeutronVpnIpSecSiteConnection> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronVpnIpSecSiteConnectionRequest(List<NeutronVpnIpSecSiteConnection> connections) {
         bulkRequest = connections;
     }
@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -26,6 +26,7 @@ import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.codehaus.enunciate.jaxrs.TypeHint;
 import org.opendaylight.neutron.spi.INeutronVpnIpSecSiteConnectionsCRUD;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronVpnIpSecSiteConnection;
 
 /**
@@ -86,38 +87,35 @@ public final class NeutronVpnIpSecSiteConnectionsNorthbound
             @QueryParam("status") String queryStatus,
             @QueryParam("ikepolicy_id") String queryIkePolicyID,
             @QueryParam("ipsecpolicy_id") String queryIpSecPolicyID,
-            @QueryParam("vpnservice_id") String queryVpnServiceID
-    // pagination and sorting are TODO
+            @QueryParam("vpnservice_id") String queryVpnServiceID,
+            // pagination
+            @QueryParam("limit") Integer limit,
+            @QueryParam("marker") String marker,
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronVpnIpSecSiteConnectionsCRUD labelInterface = getNeutronCRUD();
-        List<NeutronVpnIpSecSiteConnection> allNeutronVpnIPSecSiteConnection = labelInterface.getAll();
-        List<NeutronVpnIpSecSiteConnection> ans = new ArrayList<>();
-        for (NeutronVpnIpSecSiteConnection siteConnection : allNeutronVpnIPSecSiteConnection) {
-            if ((queryID == null || queryID.equals(siteConnection.getID()))
-                    && (queryTenantID == null || queryTenantID.equals(siteConnection.getTenantID()))
-                    && (queryName == null || queryName.equals(siteConnection.getName()))
-                    && (queryPeerAddress == null || queryPeerAddress.equals(siteConnection.getPeerAddress()))
-                    && (queryPeerID == null || queryPeerID.equals(siteConnection.getPeerID()))
-                    && (queryRouteMode == null || queryRouteMode.equals(siteConnection.getRouteMode()))
-                    && (queryMtu == null || queryMtu.equals(siteConnection.getMtu()))
-                    && (queryAuthMode == null || queryAuthMode.equals(siteConnection.getAuthMode()))
-                    && (queryPsk == null || queryPsk.equals(siteConnection.getPreSharedKey()))
-                    && (queryInitiator == null || queryInitiator.equals(siteConnection.getInitiator()))
-                    && (queryAdminStateUp == null || queryAdminStateUp.equals(siteConnection.getAdminStateUp()))
-                    && (queryStatus == null || queryStatus.equals(siteConnection.getStatus()))
-                    && (queryIkePolicyID == null || queryIkePolicyID.equals(siteConnection.getIkePolicyID()))
-                    && (queryIpSecPolicyID == null || queryIpSecPolicyID.equals(siteConnection.getIpsecPolicyID()))
-                    && (queryVpnServiceID == null || queryVpnServiceID.equals(siteConnection.getVpnServiceID()))) {
-                if (fields.size() > 0) {
-                    ans.add(siteConnection.extractFields(fields));
-                } else {
-                    ans.add(siteConnection);
-                }
-            }
-        }
-
-        // TODO: apply pagination to results
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronVpnIpSecSiteConnectionRequest(ans)).build();
+        NeutronQuery<NeutronVpnIpSecSiteConnection> query = new NeutronQuery<NeutronVpnIpSecSiteConnection>()
+                .filter("id", queryID, siteConnection -> queryID.equals(siteConnection.getID()))
+                .filter("tenant_id", queryTenantID,
+                    siteConnection -> queryTenantID.equals(siteConnection.getTenantID()))
+                .filter("name", queryName, siteConnection -> queryName.equals(siteConnection.getName()))
+                .filter(queryPeerAddress, siteConnection -> queryPeerAddress.equals(siteConnection.getPeerAddress()))
+                .filter(queryPeerID, siteConnection -> queryPeerID.equals(siteConnection.getPeerID()))
+                .filter(queryRouteMode, siteConnection -> queryRouteMode.equals(siteConnection.getRouteMode()))
+                .filter(queryMtu, siteConnection -> queryMtu.equals(siteConnection.getMtu()))
+                .filter(queryAuthMode, siteConnection -> queryAuthMode.equals(siteConnection.getAuthMode()))
+                .filter(queryPsk, siteConnection -> queryPsk.equals(siteConnection.getPreSharedKey()))
+                .filter(queryInitiator, siteConnection -> queryInitiator.equals(siteConnection.getInitiator()))
+                .filter(queryAdminStateUp, siteConnection -> queryAdminStateUp.equals(siteConnection.getAdminStateUp()))
+                .filter("status", queryStatus, siteConnection -> queryStatus.equals(siteConnection.getStatus()))
+                .filter(queryIkePolicyID, siteConnection -> queryIkePolicyID.equals(siteConnection.getIkePolicyID()))
+                .filter(queryIpSecPolicyID,
+                    siteConnection -> queryIpSecPolicyID.equals(siteConnection.getIpsecPolicyID()))
+                .filter(queryVpnServiceID, siteConnection -> queryVpnServiceID.equals(siteConnection.getVpnServiceID()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
@@ -26,6 +26,9 @@ public final class NeutronVpnServiceRequest implements INeutronRequest<NeutronVp
     @XmlElement(name = "vpnservices")
     List<NeutronVpnService> bulkRequest;
 
+    @XmlElement(name = "vpnservices_links")
+    List<NeutronPageLink> links;
+
     NeutronVpnServiceRequest() {
     }
 
@@ -33,6 +36,11 @@ public final class NeutronVpnServiceRequest implements INeutronRequest<NeutronVp
         singleton = service;
     }
 
+    NeutronVpnServiceRequest(List<NeutronVpnService> bulkRequest, List<NeutronPageLink> links) {
+        this.bulkRequest = bulkRequest;
+        this.links = links;
+    }
+
     NeutronVpnServiceRequest(List<NeutronVpnService> services) {
         bulkRequest = services;
     }
@@ -9,10 +9,10 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.net.HttpURLConnection;
-import java.util.ArrayList;
 import java.util.List;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
@@ -26,6 +26,7 @@ import org.codehaus.enunciate.jaxrs.ResponseCode;
 import org.codehaus.enunciate.jaxrs.StatusCodes;
 import org.codehaus.enunciate.jaxrs.TypeHint;
 import org.opendaylight.neutron.spi.INeutronVpnServiceCRUD;
+import org.opendaylight.neutron.spi.NeutronQuery;
 import org.opendaylight.neutron.spi.NeutronVpnService;
 
 /**
@@ -79,31 +80,23 @@ public final class NeutronVpnServicesNorthbound
             @QueryParam("status") String queryStatus,
             @QueryParam("subnet_id") String querySubnetID,
             // pagination
-            @QueryParam("limit") String limit,
+            @QueryParam("limit") Integer limit,
             @QueryParam("marker") String marker,
-            @QueryParam("page_reverse") String pageReverse
-    // sorting not supported
+            @DefaultValue("false") @QueryParam("page_reverse") Boolean pageReverse,
+            // sorting
+            @QueryParam("sort_key") List<String> sortKeys,
+            @QueryParam("sort_dir") List<String> sortDirs
     ) {
-        INeutronVpnServiceCRUD vpnServiceInterface = getNeutronCRUD();
-        List<NeutronVpnService> allVPNService = vpnServiceInterface.getAll();
-        List<NeutronVpnService> ans = new ArrayList<>();
-        for (NeutronVpnService vpnService : allVPNService) {
-            if ((queryID == null || queryID.equals(vpnService.getID()))
-                    && (queryName == null || queryName.equals(vpnService.getName()))
-                    && (queryAdminStateUp == null || queryAdminStateUp.equals(vpnService.getAdminStateUp()))
-                    && (queryStatus == null || queryStatus.equals(vpnService.getStatus()))
-                    && (querySubnetID == null || querySubnetID.equals(vpnService.getSubnetUUID()))
-                    && (queryRouterID == null || queryRouterID.equals(vpnService.getRouterUUID()))
-                    && (queryTenantID == null || queryTenantID.equals(vpnService.getTenantID()))) {
-                if (fields.size() > 0) {
-                    ans.add(vpnService.extractFields(fields));
-                } else {
-                    ans.add(vpnService);
-                }
-            }
-        }
-
-        return Response.status(HttpURLConnection.HTTP_OK).entity(new NeutronVpnServiceRequest(ans)).build();
+        NeutronQuery<NeutronVpnService> query = new NeutronQuery<NeutronVpnService>()
+                .filter("id", queryID, vpnService -> queryID.equals(vpnService.getID()))
+                .filter("name", queryName, vpnService -> queryName.equals(vpnService.getName()))
+                .filter(queryAdminStateUp, vpnService -> queryAdminStateUp.equals(vpnService.getAdminStateUp()))
+                .filter("status", queryStatus, vpnService -> queryStatus.equals(vpnService.getStatus()))
+                .filter(querySubnetID, vpnService -> querySubnetID.equals(vpnService.getSubnetUUID()))
+                .filter(queryRouterID, vpnService -> queryRouterID.equals(vpnService.getRouterUUID()))
+                .filter("tenant_id", queryTenantID, vpnService -> queryTenantID.equals(vpnService.getTenantID()))
+                .fields(fields);
+        return list(query, limit, marker, pageReverse, sortKeys, sortDirs);
     }
 
     /**
@@ -9,21 +9,15 @@
 package org.opendaylight.neutron.northbound.api;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
+import javax.ws.rs.core.UriBuilder;
 import javax.ws.rs.core.UriInfo;
+import org.opendaylight.neutron.spi.INeutronCRUD;
 import org.opendaylight.neutron.spi.INeutronObject;
-import org.opendaylight.neutron.spi.NeutronNetwork;
-import org.opendaylight.neutron.spi.NeutronObject;
-import org.opendaylight.neutron.spi.NeutronPort;
-import org.opendaylight.neutron.spi.NeutronSubnet;
+import org.opendaylight.neutron.spi.NeutronQuery;
 
 public final class PaginatedRequestFactory {
 
-    private static final Comparator<INeutronObject<?>> NEUTRON_OBJECT_COMPARATOR =
-        (o1, o2) -> o1.getID().compareTo(o2.getID());
-
     public static class PaginationResults<T extends INeutronObject<T>> {
         List<T> collection;
         List<NeutronPageLink> links;
@@ -34,123 +28,67 @@ public final class PaginatedRequestFactory {
         }
     }
 
-    private static final class MarkerObject extends NeutronObject<MarkerObject> {
-        private static final long serialVersionUID = 1L;
-
-        private final String id;
-
-        MarkerObject(String id) {
-            this.id = id;
-        }
-
-        @Override
-        public String getID() {
-            return id;
-        }
-
-        @Override
-        public void setID(String newId) {
-            throw new UnsupportedOperationException("Marker has constant ID");
-        }
-
-        @Override
-        public MarkerObject extractFields(List<String> fields) {
-            throw new UnsupportedOperationException("extractFields shouldn't be called for MarkerObject");
-        }
-    }
-
     private PaginatedRequestFactory() {
     }
 
-    /*
-     * SuppressWarnings is needed because the compiler does not understand that we
-     * are actually safe here.
-     *
-     * FIXME: the only caller performs a cast back, so this is not actually necessary.
+    /**
+     * Queries one page of the objects matching the query, in the order of its sort keys and then by UUID, and
+     * links to the neighbouring pages. The marker is the UUID the page starts after (or ends before, if
+     * reversed). Without sort keys it doesn't have to be the UUID of an existing object, with sort keys the
+     * marker object gives the position of the page. One object more than the limit is queried, to know whether
+     * there is a further page.
      */
-    @SuppressWarnings("unchecked")
-    public static <T extends INeutronObject<T>> INeutronRequest<T> createRequest(Integer limit, String marker,
-            Boolean pageReverse, UriInfo uriInfo, List<T> collection, Class<T> clazz) {
-        PaginationResults<T> results = paginate(limit, marker, pageReverse, uriInfo, collection);
-
-        if (clazz.equals(NeutronNetwork.class)) {
-            return (INeutronRequest<T>) new NeutronNetworkRequest((List<NeutronNetwork>) results.collection,
-                    results.links);
+    public static <T extends INeutronObject<T>> PaginationResults<T> paginate(INeutronCRUD<T> neutronCRUD,
+            NeutronQuery<T> query, Integer limit, String marker, boolean pageReverse, UriInfo uriInfo) {
+        if (limit < 1) {
+            throw new BadRequestException("Requested page is out of bounds. Please check the supplied limit");
         }
-        if (clazz.equals(NeutronSubnet.class)) {
-            return (INeutronRequest<T>) new NeutronSubnetRequest((List<NeutronSubnet>) results.collection,
-                    results.links);
+        if (query.isSorted() && marker != null && !neutronCRUD.exists(marker)) {
+            throw new ResourceNotFoundException("UUID for marker: " + marker + " could not be found");
         }
-        if (clazz.equals(NeutronPort.class)) {
-            return (INeutronRequest<T>) new NeutronPortRequest((List<NeutronPort>) results.collection, results.links);
+        List<T> collection = neutronCRUD.query(query.page(limit + 1, marker, pageReverse));
+        final boolean more = collection.size() > limit;
+        if (more) {
+            // the additional object is the first one if reversed, as the page is still in ascending order
+            collection = pageReverse ? collection.subList(1, collection.size()) : collection.subList(0, limit);
         }
-        return null;
-    }
 
-    private static <T extends INeutronObject<T>> PaginationResults<T> paginate(Integer limit, String marker,
-            Boolean pageReverse, UriInfo uriInfo, List<T> collection) {
         List<NeutronPageLink> links = new ArrayList<>();
-        final int startPos;
-        String startMarker;
-        String endMarker;
-        Boolean firstPage;
-        Boolean lastPage = false;
-
-        Collections.sort(collection, NEUTRON_OBJECT_COMPARATOR);
-
-        if (marker != null) {
-            int offset = Collections.binarySearch(collection, new MarkerObject(marker), NEUTRON_OBJECT_COMPARATOR);
-            if (offset < 0) {
-                throw new ResourceNotFoundException("UUID for marker: " + marker + " could not be found");
-            }
-
-            if (!pageReverse) {
-                startPos = offset + 1;
-            } else {
-                startPos = offset - limit;
-            }
-        } else {
-            startPos = 0;
-        }
-
-        firstPage = startPos == 0;
-
-        if (startPos + limit >= collection.size()) {
-            collection = collection.subList(startPos, collection.size());
-            startMarker = collection.get(0).getID();
-            endMarker = collection.get(collection.size() - 1).getID();
-            lastPage = true;
-        } else if (startPos < 0) {
-            if (startPos + limit > 0) {
-                collection = collection.subList(0, startPos + limit);
-                startMarker = collection.get(0).getID();
-                endMarker = collection.get(collection.size() - 1).getID();
-                firstPage = true;
-            } else {
-                throw new BadRequestException(
-                        "Requested page is out of bounds. Please check the supplied limit and marker");
-            }
-        } else {
-            collection = collection.subList(startPos, startPos + limit);
-            startMarker = collection.get(0).getID();
-            endMarker = collection.get(limit - 1).getID();
+        if (collection.isEmpty()) {
+            return new PaginationResults<>(collection, links);
         }
+        final String startMarker = collection.get(0).getID();
+        final String endMarker = collection.get(collection.size() - 1).getID();
+        final boolean lastPage = pageReverse ? false : !more;
+        final boolean firstPage = pageReverse ? !more : marker == null;
 
         if (!lastPage) {
             NeutronPageLink next = new NeutronPageLink();
             next.setRef("next");
-            next.setHref(uriInfo.getAbsolutePath().toString() + "?limit=" + limit.toString() + "&marker=" + endMarker);
+            next.setHref(pageHref(uriInfo, endMarker, false));
             links.add(next);
         }
 
         if (!firstPage) {
             NeutronPageLink previous = new NeutronPageLink();
             previous.setRef("previous");
-            previous.setHref(uriInfo.getAbsolutePath().toString() + "?limit=" + limit.toString() + "&marker="
-                    + startMarker + "&page_reverse=True");
+            previous.setHref(pageHref(uriInfo, startMarker, true));
             links.add(previous);
         }
 
         return new PaginationResults<>(collection, links);
     }
+
+    /**
+     * Link to the page next to the marker, keeping the filters, sort keys and limit of the request.
+     */
+    private static String pageHref(UriInfo uriInfo, String marker, boolean pageReverse) {
+        UriBuilder builder = uriInfo.getRequestUriBuilder().replaceQueryParam("marker", marker);
+        if (pageReverse) {
+            builder.replaceQueryParam("page_reverse", "True");
+        } else {
+            builder.replaceQueryParam("page_reverse");
+        }
+        return builder.build().toString();
+    }
 }
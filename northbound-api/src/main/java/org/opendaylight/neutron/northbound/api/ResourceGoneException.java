@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.neutron.northbound.api;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+/**
+ * Status Code 410 (Gone)
+ *
+ * <p>
+ * The requested resource is no longer available at the server and no
+ * forwarding address is known. This condition is expected to be
+ * considered permanent.
+ *
+ *
+ */
+public class ResourceGoneException extends WebApplicationException {
+    private static final long serialVersionUID = 1L;
+
+    public ResourceGoneException(String string) {
+        super(Response.status(Response.Status.GONE).entity(string).type(MediaType.TEXT_PLAIN).build());
+    }
+}
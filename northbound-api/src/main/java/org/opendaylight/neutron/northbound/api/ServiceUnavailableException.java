@@ -26,6 +26,8 @@ import javax.ws.rs.core.Response;
 public class ServiceUnavailableException extends WebApplicationException {
     private static final long serialVersionUID = 1L;
 
+    private static final String RETRY_AFTER = "Retry-After";
+
     /**
      * Constructor for the SERVICE_UNAVAILABLE custom handler.
      *
@@ -36,4 +38,17 @@ public class ServiceUnavailableException extends WebApplicationException {
     public ServiceUnavailableException(String string) {
         super(Response.status(Response.Status.SERVICE_UNAVAILABLE).entity(string).type(MediaType.TEXT_PLAIN).build());
     }
+
+    /**
+     * Constructor for the SERVICE_UNAVAILABLE custom handler, telling when to retry.
+     *
+     * @param string Error message to specify further the
+     *            SERVICE_UNAVAILABLE response
+     * @param retryAfterSeconds delay after which the request may be retried,
+     *            sent as the Retry-After header
+     */
+    public ServiceUnavailableException(String string, int retryAfterSeconds) {
+        super(Response.status(Response.Status.SERVICE_UNAVAILABLE).entity(string).type(MediaType.TEXT_PLAIN)
+                .header(RETRY_AFTER, retryAfterSeconds).build());
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.northbound.api;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+import javax.ws.rs.core.StreamingOutput;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.namespace.QName;
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.eclipse.persistence.jaxb.MarshallerProperties;
+import org.opendaylight.neutron.spi.INeutronObject;
+
+/**
+ * JSON body of a list response which is written while the objects are read from the store.
+ *
+ * <p>Instead of marshalling a complete request object into a formatted buffer, the objects are marshalled
+ * one by one, in compact form, with the same MOXy settings as the JSON provider, and written to the response
+ * as they come out of the stream. So the memory used doesn't depend on the number of objects listed.
+ *
+ * <p>The objects are written by their {@link JsonCodec} instead of MOXy if it is enabled.
+ *
+ * <p>The response status is sent before the first object is read, so a failure while writing truncates
+ * the response.
+ */
+final class StreamingListOutput<T extends INeutronObject<T>> implements StreamingOutput {
+
+    private static final ConcurrentMap<Class<?>, JAXBContext> CONTEXTS = new ConcurrentHashMap<>();
+    private static final QName ELEMENT_NAME = new QName("");
+
+    private final String collectionName;
+    private final Class<T> objectClass;
+    private final JsonCodec<T> codec;
+    private final Stream<T> objects;
+
+    /**
+     * Constructor.
+     *
+     * @param collectionName JSON name of the list, e.g. "ports"
+     * @param objectClass class of the listed objects
+     * @param codec codec of the listed objects, null to write them with MOXy
+     * @param objects objects to list, closed once written
+     */
+    StreamingListOutput(String collectionName, Class<T> objectClass, JsonCodec<T> codec, Stream<T> objects) {
+        this.collectionName = collectionName;
+        this.objectClass = objectClass;
+        this.codec = codec;
+        this.objects = objects;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        try (Stream<T> stream = objects) {
+            final Marshaller marshaller = codec == null ? createMarshaller() : null;
+            writer.write("{\"" + collectionName + "\":[");
+            final Iterator<T> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                if (codec != null) {
+                    codec.write(iterator.next(), writer);
+                } else {
+                    marshaller.marshal(new JAXBElement<>(ELEMENT_NAME, objectClass, iterator.next()), writer);
+                }
+                if (iterator.hasNext()) {
+                    writer.write(',');
+                }
+            }
+            writer.write("]}");
+        } catch (JAXBException e) {
+            throw new IOException("Failed to marshal " + collectionName, e);
+        }
+        writer.flush();
+    }
+
+    private Marshaller createMarshaller() throws JAXBException {
+        JAXBContext context = CONTEXTS.get(objectClass);
+        if (context == null) {
+            context = JAXBContextFactory.createContext(new Class<?>[] {objectClass}, null);
+            CONTEXTS.putIfAbsent(objectClass, context);
+        }
+        final Marshaller marshaller = context.createMarshaller();
+        marshaller.setProperty(MarshallerProperties.MEDIA_TYPE, "application/json");
+        marshaller.setProperty(MarshallerProperties.JSON_ATTRIBUTE_PREFIX, "@");
+        marshaller.setProperty(MarshallerProperties.JSON_INCLUDE_ROOT, false);
+        marshaller.setProperty(MarshallerProperties.JSON_MARSHAL_EMPTY_COLLECTIONS, true);
+        marshaller.setProperty(MarshallerProperties.JSON_VALUE_WRAPPER, "$");
+        marshaller.setProperty(MarshallerProperties.NAMESPACE_PREFIX_MAPPER,
+                NeutronNorthboundRSApplication.getNamespacePrefixMapper());
+        marshaller.setProperty(MarshallerProperties.JSON_NAMESPACE_SEPARATOR, ':');
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, false);
+        return marshaller;
+    }
+}
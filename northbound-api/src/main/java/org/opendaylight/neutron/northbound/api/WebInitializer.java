@@ -11,12 +11,14 @@ import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.servlet.ServletException;
+import org.opendaylight.aaa.web.FilterDetails;
 import org.opendaylight.aaa.web.ServletDetails;
 import org.opendaylight.aaa.web.WebContext;
 import org.opendaylight.aaa.web.WebContextBuilder;
 import org.opendaylight.aaa.web.WebContextRegistration;
 import org.opendaylight.aaa.web.WebContextSecurer;
 import org.opendaylight.aaa.web.WebServer;
+import org.osgi.framework.FrameworkUtil;
 
 /**
  * Initializer for web components.
@@ -26,27 +28,50 @@ import org.opendaylight.aaa.web.WebServer;
 @Singleton
 public class WebInitializer {
 
+    private static final long MIB = 1024 * 1024;
+
     private final WebContextRegistration registraton;
+    private final NeutronCRUDServices crudServices;
+    private final AdmissionControl admissionControl;
 
     @Inject
-    public WebInitializer(WebServer webServer, WebContextSecurer webContextSecurer) throws ServletException {
+    public WebInitializer(WebServer webServer, WebContextSecurer webContextSecurer, NeutronNorthboundConfig config)
+            throws ServletException {
+        this.crudServices = new NeutronCRUDServices(FrameworkUtil.getBundle(WebInitializer.class).getBundleContext());
         WebContextBuilder webContextBuilder = WebContext.builder()
             .contextPath("/controller/nb/v2/neutron").supportsSessions(true)
             // TODO confirm through testing that Jersey & Neutron are fine without sessions, and false instead true
 
             .addServlet(ServletDetails.builder()
                     .servlet(new com.sun.jersey.spi.container.servlet.ServletContainer(
-                            new NeutronNorthboundRSApplication()))
+                            new NeutronNorthboundRSApplication(config, crudServices)))
                     .addUrlPattern("/*").build());
 
         webContextSecurer.requireAuthentication(webContextBuilder, "/*");
 
+        // after the authentication, so that the requests can be admitted by their user
+        this.admissionControl = new AdmissionControl(config.getRequestsPerSecond(), config.getRequestBurst(),
+                config.getMaxConcurrentRequests());
+        admissionControl.register();
+        webContextBuilder.addFilter(FilterDetails.builder().filter(new AdmissionControlFilter(admissionControl))
+                .addUrlPattern("/*").build());
+        // after the authentication, so that the keys are scoped by user, and after the admission control, so that the
+        // rejected requests, which weren't carried out, aren't recorded
+        if (config.getIdempotencyCacheSize() > 0) {
+            webContextBuilder.addFilter(FilterDetails.builder()
+                    .filter(new IdempotencyFilter(new IdempotencyCache(config.getIdempotencyCacheSize() * MIB,
+                            config.getIdempotencyKeyTtl())))
+                    .addUrlPattern("/*").build());
+        }
+
         this.registraton = webServer.registerWebContext(webContextBuilder.build());
     }
 
     @PreDestroy
     public void close() {
         registraton.close();
+        crudServices.close();
+        admissionControl.close();
     }
 
 }
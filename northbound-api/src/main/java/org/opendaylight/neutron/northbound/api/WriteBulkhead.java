@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.northbound.api;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Limit of the concurrent writes of one resource.
+ *
+ * <p>At most maxConcurrentWrites writes are carried out at once, and at most maxQueuedWrites more wait for their
+ * turn, in arrival order, for at most maxWaitSeconds. Further writes, and the writes which waited too long, are
+ * rejected with 503 (Service Unavailable) and a Retry-After header, instead of holding a web container thread while
+ * the datastore is slow; so a backlog of writes can only take as many threads as the limits of the resources allow,
+ * for a bounded time, and reads are still served by the other threads.
+ */
+final class WriteBulkhead {
+
+    private final String resourceName;
+    private final long maxWaitSeconds;
+    private final int retryAfterSeconds;
+    // writes which are carried out or waiting
+    private final Semaphore admitted;
+    // writes which are carried out
+    private final Semaphore running;
+
+    WriteBulkhead(String resourceName, int maxConcurrentWrites, int maxQueuedWrites, long maxWaitSeconds,
+            int retryAfterSeconds) {
+        this.resourceName = resourceName;
+        this.maxWaitSeconds = maxWaitSeconds;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.admitted = new Semaphore(maxConcurrentWrites + maxQueuedWrites);
+        this.running = new Semaphore(maxConcurrentWrites, true);
+    }
+
+    /**
+     * Carries out a write once it is its turn.
+     *
+     * @throws ServiceUnavailableException if too many writes are waiting already, or if the write waited too long
+     */
+    <R> R call(Supplier<R> write) {
+        if (!admitted.tryAcquire()) {
+            throw saturated();
+        }
+        try {
+            try {
+                if (!running.tryAcquire(maxWaitSeconds, TimeUnit.SECONDS)) {
+                    throw saturated();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw saturated();
+            }
+            try {
+                return write.get();
+            } finally {
+                running.release();
+            }
+        } finally {
+            admitted.release();
+        }
+    }
+
+    private ServiceUnavailableException saturated() {
+        return new ServiceUnavailableException(resourceName + " writes are saturated, retry later",
+                retryAfterSeconds);
+    }
+}
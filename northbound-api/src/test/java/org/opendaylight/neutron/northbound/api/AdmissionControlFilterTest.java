@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.northbound.api;
+
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AdmissionControlFilterTest {
+
+    private static final byte[] PORT_OF_T1 =
+            "{\"port\": {\"name\": \"p\", \"tenant_id\": \"t1\"}}".getBytes(StandardCharsets.UTF_8);
+
+    private static int post(AdmissionControlFilter filter, String user, byte[] body) throws Exception {
+        ServletStubs.Response response = new ServletStubs.Response();
+        filter.doFilter(ServletStubs.request("POST", "/ports", user, Collections.emptyMap(), body),
+                response.toServletResponse(), (request, unused) -> ByteStreams.toByteArray(request.getInputStream()));
+        return response.getStatus();
+    }
+
+    @Test
+    public void tenantWithinUserTest() throws Exception {
+        AdmissionControl admission = new AdmissionControl(0.001, 1, 0);
+        AdmissionControlFilter filter = new AdmissionControlFilter(admission);
+        Assert.assertEquals(200, post(filter, "user1", PORT_OF_T1));
+        Assert.assertEquals(429, post(filter, "user1", PORT_OF_T1));
+        // another user naming the same tenant doesn't spend the tokens of the first one
+        Assert.assertEquals(200, post(filter, "user2", PORT_OF_T1));
+        Assert.assertEquals(2, admission.getAdmittedRequests());
+    }
+
+    @Test
+    public void largeBodyTest() throws Exception {
+        StringBuilder json = new StringBuilder("{\"ports\": [");
+        for (int i = 0; i < 10000; i++) {
+            json.append(i > 0 ? ", " : "").append("{\"name\": \"port").append(i).append("\", \"tenant_id\": \"t1\"}");
+        }
+        byte[] body = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+        Assert.assertTrue(body.length > 64 * 1024);
+
+        // the tenant is found in the head of the body, the resource reads the whole body
+        AdmissionControl admission = new AdmissionControl(0.001, 1, 0);
+        AdmissionControlFilter filter = new AdmissionControlFilter(admission);
+        List<byte[]> read = new ArrayList<>();
+        filter.doFilter(ServletStubs.request("POST", "/ports", "user1", Collections.emptyMap(), body),
+                new ServletStubs.Response().toServletResponse(),
+                (request, unused) -> read.add(ByteStreams.toByteArray(request.getInputStream())));
+        Assert.assertArrayEquals(body, read.get(0));
+        Assert.assertEquals(429, post(filter, "user1", PORT_OF_T1));
+    }
+
+    @Test
+    public void readListenerTest() throws Exception {
+        AdmissionControlFilter filter = new AdmissionControlFilter(new AdmissionControl(0, 0, 1));
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        List<String> events = new ArrayList<>();
+        filter.doFilter(ServletStubs.request("POST", "/ports", "user1", Collections.emptyMap(), PORT_OF_T1),
+                new ServletStubs.Response().toServletResponse(), (request, unused) -> {
+                    ServletInputStream in = request.getInputStream();
+                    in.setReadListener(new ReadListener() {
+                        @Override
+                        public void onDataAvailable() throws IOException {
+                            events.add("data");
+                            while (in.isReady() && !in.isFinished()) {
+                                read.write(in.read());
+                            }
+                        }
+
+                        @Override
+                        public void onAllDataRead() {
+                            events.add("end");
+                        }
+
+                        @Override
+                        public void onError(Throwable error) {
+                            events.add("error");
+                        }
+                    });
+                });
+        Assert.assertEquals(new String(PORT_OF_T1, StandardCharsets.UTF_8),
+                new String(read.toByteArray(), StandardCharsets.UTF_8));
+        Assert.assertEquals(Arrays.asList("data", "end"), events);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.northbound.api;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AdmissionControlTest {
+
+    @Test
+    public void rateTest() {
+        AdmissionControl admission = new AdmissionControl(0.001, 2, 0);
+        Assert.assertEquals(0, admission.admit("tenant1", "ports"));
+        Assert.assertEquals(0, admission.admit("tenant1", "ports"));
+        Assert.assertTrue(admission.admit("tenant1", "ports") > 0);
+        // the other tenants and resources have their own buckets
+        Assert.assertEquals(0, admission.admit("tenant2", "ports"));
+        Assert.assertEquals(0, admission.admit("tenant1", "networks"));
+        Assert.assertEquals(1, admission.getRateLimitedRequests());
+
+        admission.setRequestsPerSecond(0);
+        Assert.assertFalse(admission.isEnabled());
+    }
+
+    @Test
+    public void concurrencyTest() {
+        AdmissionControl admission = new AdmissionControl(0, 0, 1);
+        Assert.assertEquals(0, admission.admit("tenant1", "ports"));
+        Assert.assertEquals(1, admission.admit("tenant1", "networks"));
+        Assert.assertEquals(0, admission.admit("tenant2", "ports"));
+        Assert.assertEquals(Integer.valueOf(1), admission.getConcurrentRequestsByTenant().get("tenant1"));
+
+        admission.release("tenant1");
+        Assert.assertEquals(0, admission.admit("tenant1", "networks"));
+        admission.setMaxConcurrentRequests(2);
+        Assert.assertEquals(0, admission.admit("tenant1", "networks"));
+        Assert.assertEquals(1, admission.getConcurrencyLimitedRequests());
+        Assert.assertEquals(4, admission.getAdmittedRequests());
+    }
+
+    @Test
+    public void tenantOfBodyTest() {
+        Assert.assertEquals("4ad1d6a0fd8f4e1f9bf4cc0ab1a54e1e", AdmissionControlFilter.tenantOfBody(
+                ("{\"port\": {\"name\": \"p\", \"fixed_ips\": [], \"tenant_id\": \"4AD1D6A0-FD8F-4E1F-9BF4-"
+                        + "CC0AB1A54E1E\"}}").getBytes(StandardCharsets.UTF_8)));
+        Assert.assertEquals("t1", AdmissionControlFilter.tenantOfBody(
+                "{\"ports\": [{\"project_id\": \"t1\"}, {\"project_id\": \"t2\"}]}".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertNull(AdmissionControlFilter.tenantOfBody(
+                "{\"port\": {\"name\": \"p\"}}".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertNull(AdmissionControlFilter.tenantOfBody("{\"port\": ".getBytes(StandardCharsets.UTF_8)));
+    }
+}
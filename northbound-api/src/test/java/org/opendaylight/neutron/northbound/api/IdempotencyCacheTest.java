@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.northbound.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Collections;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opendaylight.neutron.northbound.api.IdempotencyCache.CachedResponse;
+
+public class IdempotencyCacheTest {
+
+    private static CachedResponse response(int status, String body) {
+        return new CachedResponse(status,
+                Collections.singletonList(new SimpleImmutableEntry<>("Content-Type", "application/json")),
+                body.getBytes(StandardCharsets.UTF_8), new byte[0]);
+    }
+
+    @Test
+    public void replayTest() {
+        IdempotencyCache cache = new IdempotencyCache(1024 * 1024, 60);
+        Assert.assertNull(cache.begin("key1"));
+        Assert.assertSame(IdempotencyCache.PENDING, cache.begin("key1"));
+        cache.complete("key1", response(201, "{\"port\": {}}"));
+
+        CachedResponse replayed = cache.begin("key1");
+        Assert.assertEquals(201, replayed.getStatus());
+        Assert.assertEquals("{\"port\": {}}", new String(replayed.getBody(), StandardCharsets.UTF_8));
+        Assert.assertEquals("application/json", replayed.getHeaders().get(0).getValue());
+        // the other keys are independent
+        Assert.assertNull(cache.begin("key2"));
+    }
+
+    @Test
+    public void failureTest() {
+        IdempotencyCache cache = new IdempotencyCache(1024 * 1024, 60);
+        Assert.assertNull(cache.begin("key1"));
+        cache.complete("key1", response(503, "unavailable"));
+        // server errors aren't kept, the request is carried out again
+        Assert.assertNull(cache.begin("key1"));
+        cache.abort("key1");
+        Assert.assertNull(cache.begin("key1"));
+    }
+
+    @Test
+    public void transientClientErrorTest() {
+        IdempotencyCache cache = new IdempotencyCache(1024 * 1024, 60);
+        Assert.assertNull(cache.begin("key1"));
+        cache.complete("key1", response(429, "too many requests"));
+        // the request wasn't carried out, it is carried out on retry
+        Assert.assertNull(cache.begin("key1"));
+        cache.complete("key1", response(404, "not found"));
+        Assert.assertEquals(404, cache.begin("key1").getStatus());
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.northbound.api;
+
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletResponse;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IdempotencyFilterTest {
+
+    private static final String PORT = "{\"port\": {\"name\": \"p\"}}";
+    private static final String OTHER_PORT = "{\"port\": {\"name\": \"q\"}}";
+
+    private final IdempotencyFilter filter = new IdempotencyFilter(new IdempotencyCache(1024 * 1024, 60));
+    private int executions;
+
+    private ServletStubs.Response post(String key, String body, FilterChain chain)
+            throws IOException, ServletException {
+        ServletStubs.Response response = new ServletStubs.Response();
+        filter.doFilter(ServletStubs.request("POST", "/ports", "user1",
+                Collections.singletonMap(IdempotencyFilter.IDEMPOTENCY_KEY, key),
+                body.getBytes(StandardCharsets.UTF_8)), response.toServletResponse(), chain);
+        return response;
+    }
+
+    /**
+     * Posts a port which is answered with the given status, once its body is read.
+     */
+    private ServletStubs.Response post(String key, String body, int status) throws IOException, ServletException {
+        return post(key, body, (request, response) -> {
+            ByteStreams.toByteArray(request.getInputStream());
+            executions++;
+            ((HttpServletResponse) response).setStatus(status);
+            response.setContentType("application/json");
+            response.getWriter().write("{\"execution\": " + executions + "}");
+        });
+    }
+
+    @Test
+    public void replayTest() throws Exception {
+        ServletStubs.Response first = post("key1", PORT, 201);
+        ServletStubs.Response retry = post("key1", PORT, 201);
+        Assert.assertEquals(1, executions);
+        Assert.assertEquals(201, retry.getStatus());
+        Assert.assertEquals(first.getBody(), retry.getBody());
+        Assert.assertEquals("true", retry.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED));
+        Assert.assertNull(first.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED));
+        // another key is another request
+        Assert.assertEquals(201, post("key2", PORT, 201).getStatus());
+        Assert.assertEquals(2, executions);
+    }
+
+    @Test
+    public void otherBodyTest() throws Exception {
+        post("key1", PORT, 201);
+        // the key was reused for another request
+        Assert.assertEquals(422, post("key1", OTHER_PORT, 201).getStatus());
+        Assert.assertEquals(1, executions);
+
+        // the body is digested even if it isn't read
+        post("key2", PORT, (request, response) -> ((HttpServletResponse) response).setStatus(204));
+        Assert.assertEquals(422, post("key2", OTHER_PORT, 201).getStatus());
+        Assert.assertEquals(204, post("key2", PORT, 201).getStatus());
+        Assert.assertEquals(1, executions);
+    }
+
+    @Test
+    public void transientErrorTest() throws Exception {
+        Assert.assertEquals(429, post("key1", PORT, 429).getStatus());
+        Assert.assertEquals(503, post("key1", PORT, 503).getStatus());
+        // the rejected requests weren't kept, the retry is carried out
+        ServletStubs.Response retry = post("key1", PORT, 201);
+        Assert.assertEquals(201, retry.getStatus());
+        Assert.assertNull(retry.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED));
+        Assert.assertEquals(3, executions);
+    }
+
+    @Test
+    public void inProgressTest() throws Exception {
+        ServletStubs.Response[] concurrent = new ServletStubs.Response[1];
+        post("key1", PORT, (request, response) -> {
+            executions++;
+            // a retry while the request is carried out
+            concurrent[0] = post("key1", PORT, 201);
+            ((HttpServletResponse) response).setStatus(201);
+        });
+        Assert.assertEquals(409, concurrent[0].getStatus());
+        Assert.assertEquals("1", concurrent[0].getHeader("Retry-After"));
+        // the 409 of the retry isn't the response of the key
+        Assert.assertEquals(201, post("key1", PORT, 201).getStatus());
+        Assert.assertEquals(1, executions);
+    }
+}
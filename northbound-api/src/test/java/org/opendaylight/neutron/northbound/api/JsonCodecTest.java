@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.northbound.api;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.transform.stream.StreamSource;
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.eclipse.persistence.jaxb.MarshallerProperties;
+import org.eclipse.persistence.jaxb.UnmarshallerProperties;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Checks that the codecs read and write the same JSON as MOXy, configured as in
+ * {@link NeutronNorthboundRSApplication} but without formatting.
+ */
+public class JsonCodecTest {
+
+    private static final String PORT = "{ \"port\": { \"status\": \"ACTIVE\", \"name\": \"port \\\"1\\\"\\n\\u0001\", "
+            + "\"admin_state_up\": true, \"tenant_id\": \"9bacb3c5d39d41a79512987f338cf177\", "
+            + "\"fixed_ips\": [ { \"ip_address\": \"192.168.111.3\", "
+            + "\"subnet_id\": \"22b44fc2-4ffb-4de4-b0f9-69d58b37ae27\" } ], "
+            + "\"binding:vif_details\": { \"port_filter\": \"true\" }, "
+            + "\"extra_dhcp_opts\": [], \"security_groups\": [ \"\" ], "
+            + "\"allowed_address_pairs\": [ { \"ip_address\": \"10.0.0.1\", "
+            + "\"mac_address\": \"fa:16:3e:c9:cb:f1\" } ], "
+            + "\"device_id\": \"257614cc-e178-4c92-9c61-3b28d40eca44\", \"device_owner\": \"\", "
+            + "\"binding:host_id\": \"compute-1\", \"binding:vif_type\": \"unbound\", "
+            + "\"binding:vnic_type\": \"normal\", \"mac_address\": \"fa:16:3e:c9:cb:f0\", "
+            + "\"network_id\": \"e9330b1f-a2ef-4160-a991-169e56ab17f5\", \"port_security_enabled\": false, "
+            + "\"revision_number\": 4, \"unknown\": { \"ignored\": [ 1, null ] }, "
+            + "\"id\": \"4e8e5957-649f-477b-9e5b-f1f75b21c03c\" } }";
+
+    private static final String NETWORKS = "{ \"networks\": [ { \"status\": \"ACTIVE\", \"subnets\": [], "
+            + "\"name\": \"net1\", \"admin_state_up\": true, \"tenant_id\": \"9bacb3c5d39d41a79512987f338cf177\", "
+            + "\"provider:network_type\": \"vlan\", \"provider:physical_network\": \"physnet1\", "
+            + "\"provider:segmentation_id\": \"1000\", \"router:external\": false, \"shared\": false, "
+            + "\"mtu\": \"1500\", \"id\": \"4e8e5957-649f-477b-9e5b-f1f75b21c03c\" }, "
+            + "{ \"name\": \"net2\", \"segments\": [ { \"provider:network_type\": \"vxlan\", "
+            + "\"provider:segmentation_id\": \"2\" } ], \"id\": \"5e8e5957-649f-477b-9e5b-f1f75b21c03c\" } ], "
+            + "\"networks_links\": [ { \"href\": \"http://localhost/networks?marker=x\", \"ref\": \"next\" } ] }";
+
+    private static final String SUBNET = "{ \"subnet\": { \"name\": \"\", \"enable_dhcp\": true, "
+            + "\"network_id\": \"ed2e3c10-2e43-4297-9006-2863a2d1abbc\", "
+            + "\"tenant_id\": \"c1210485b2424d48804aad5d39c61b8f\", \"dns_nameservers\": [ \"8.8.8.8\" ], "
+            + "\"allocation_pools\": [ { \"start\": \"10.0.0.2\", \"end\": \"10.0.0.254\" } ], "
+            + "\"host_routes\": [ { \"destination\": \"0.0.0.0/0\", \"nexthop\": \"10.0.0.1\" } ], "
+            + "\"ip_version\": 4, \"gateway_ip\": \"10.0.0.1\", \"cidr\": \"10.0.0.0/24\", "
+            + "\"id\": \"b0e7435c-1512-45fb-aa9e-9a7c5932fb30\" } }";
+
+    private static final String ROUTER = "{ \"router\": { \"status\": \"ACTIVE\", "
+            + "\"external_gateway_info\": { \"network_id\": \"8ca37218-28ff-41cb-9b10-039601ea7e6b\", "
+            + "\"enable_snat\": true, \"external_fixed_ips\": [ { \"ip_address\": \"172.24.4.6\" } ] }, "
+            + "\"name\": \"router1\", \"admin_state_up\": true, \"tenant_id\": \"d6554fe62e2f41efbb6e026fad5c1542\", "
+            + "\"routes\": [], \"distributed\": false, \"id\": \"a07eea83-7710-4860-931b-5fe220fae533\" } }";
+
+    private static <T> String marshalWithMoxy(Class<T> type, T object) throws JAXBException {
+        final Marshaller marshaller = JAXBContextFactory.createContext(new Class<?>[] {type}, null)
+                .createMarshaller();
+        marshaller.setProperty(MarshallerProperties.MEDIA_TYPE, "application/json");
+        marshaller.setProperty(MarshallerProperties.JSON_ATTRIBUTE_PREFIX, "@");
+        marshaller.setProperty(MarshallerProperties.JSON_INCLUDE_ROOT, false);
+        marshaller.setProperty(MarshallerProperties.JSON_MARSHAL_EMPTY_COLLECTIONS, true);
+        marshaller.setProperty(MarshallerProperties.JSON_VALUE_WRAPPER, "$");
+        marshaller.setProperty(MarshallerProperties.NAMESPACE_PREFIX_MAPPER,
+                NeutronNorthboundRSApplication.getNamespacePrefixMapper());
+        marshaller.setProperty(MarshallerProperties.JSON_NAMESPACE_SEPARATOR, ':');
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, false);
+        final StringWriter writer = new StringWriter();
+        marshaller.marshal(object, writer);
+        return writer.toString();
+    }
+
+    private static <T> T unmarshalWithMoxy(Class<T> type, String json) throws JAXBException {
+        final JAXBContext context = JAXBContextFactory.createContext(new Class<?>[] {type}, null);
+        final Unmarshaller unmarshaller = context.createUnmarshaller();
+        unmarshaller.setProperty(UnmarshallerProperties.MEDIA_TYPE, "application/json");
+        unmarshaller.setProperty(UnmarshallerProperties.JSON_ATTRIBUTE_PREFIX, "@");
+        unmarshaller.setProperty(UnmarshallerProperties.JSON_INCLUDE_ROOT, false);
+        unmarshaller.setProperty(UnmarshallerProperties.JSON_VALUE_WRAPPER, "$");
+        unmarshaller.setProperty(UnmarshallerProperties.JSON_NAMESPACE_PREFIX_MAPPER,
+                NeutronNorthboundRSApplication.getNamespacePrefixMapper());
+        unmarshaller.setProperty(UnmarshallerProperties.JSON_NAMESPACE_SEPARATOR, ':');
+        return unmarshaller.unmarshal(new StreamSource(new StringReader(json)), type).getValue();
+    }
+
+    private static <T> String write(Class<T> type, T object) throws IOException {
+        final StringWriter writer = new StringWriter();
+        JsonCodec.forClass(type).write(object, writer);
+        return writer.toString();
+    }
+
+    private static <T> T read(Class<T> type, String json) throws IOException {
+        final JsonReader reader = new JsonReader(new StringReader(json));
+        final T object = JsonCodec.forClass(type).read(reader);
+        reader.endDocument();
+        return object;
+    }
+
+    private static <T> void assertCompatible(Class<T> type, String json) throws JAXBException, IOException {
+        Assert.assertNotNull("no codec for " + type, JsonCodec.forClass(type));
+        final T moxyObject = unmarshalWithMoxy(type, json);
+        final String expected = marshalWithMoxy(type, moxyObject);
+        Assert.assertEquals("written JSON differs from MOXy", expected, write(type, moxyObject));
+        Assert.assertEquals("read object differs from MOXy", expected, marshalWithMoxy(type, read(type, json)));
+    }
+
+    @Test
+    public void portTest() throws JAXBException, IOException {
+        assertCompatible(NeutronPortRequest.class, PORT);
+    }
+
+    @Test
+    public void networksTest() throws JAXBException, IOException {
+        assertCompatible(NeutronNetworkRequest.class, NETWORKS);
+    }
+
+    @Test
+    public void subnetTest() throws JAXBException, IOException {
+        assertCompatible(NeutronSubnetRequest.class, SUBNET);
+    }
+
+    @Test
+    public void routerTest() throws JAXBException, IOException {
+        assertCompatible(NeutronRouterRequest.class, ROUTER);
+    }
+
+    @Test
+    public void unsupportedTest() {
+        Assert.assertNull(JsonCodec.forClass(String.class));
+        Assert.assertNull(JsonCodec.forClass(INeutronRequest.class));
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void malformedTest() throws IOException {
+        read(NeutronPortRequest.class, "{ \"port\": { \"name\": \"port1\", } }");
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void invalidValueTest() throws IOException {
+        read(NeutronPortRequest.class, "{ \"port\": { \"admin_state_up\": \"maybe\" } }");
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.northbound.api;
+
+import java.util.Collections;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opendaylight.neutron.spi.NeutronLoadBalancerPoolMember;
+import org.opendaylight.neutron.spi.NeutronMeteringLabelRule;
+import org.opendaylight.neutron.spi.NeutronPort;
+
+public class NeutronRequestAccessorsTest {
+
+    @Test
+    public void singletonTest() {
+        NeutronPort port = new NeutronPort();
+        NeutronPortRequest request = (NeutronPortRequest) NeutronRequestAccessors.of(NeutronPortRequest.class)
+                .newRequest(port);
+        Assert.assertTrue(request.isSingleton());
+        Assert.assertSame(port, request.getSingleton());
+        Assert.assertNull(request.getBulk());
+    }
+
+    @Test
+    public void bulkTest() {
+        List<NeutronPort> ports = Collections.singletonList(new NeutronPort());
+        List<NeutronPageLink> links = Collections.singletonList(new NeutronPageLink());
+        NeutronPortRequest request = (NeutronPortRequest) NeutronRequestAccessors.of(NeutronPortRequest.class)
+                .newRequest(ports, links);
+        Assert.assertFalse(request.isSingleton());
+        Assert.assertSame(ports, request.getBulk());
+        Assert.assertSame(links, request.links);
+    }
+
+    @Test
+    public void missingTest() {
+        NeutronMeteringLabelRuleRequest rules = new NeutronMeteringLabelRuleRequest(new NeutronMeteringLabelRule());
+        Assert.assertTrue(rules.isSingleton());
+        try {
+            rules.getBulk();
+            Assert.fail("the list of metering label rules isn't held in a bulkRequest field");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            NeutronRequestAccessors.of(NeutronLoadBalancerPoolMemberRequest.class)
+                    .newRequest(Collections.emptyList(), Collections.emptyList());
+            Assert.fail("pool members aren't listed in pages");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        NeutronLoadBalancerPoolMember member = new NeutronLoadBalancerPoolMember();
+        Assert.assertSame(member, new NeutronLoadBalancerPoolMemberRequest(member).getSingleton());
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.northbound.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Requests and responses of the filter tests, without web container.
+ */
+final class ServletStubs {
+
+    static final String CONTEXT_PATH = "/controller/nb/v2/neutron";
+
+    /**
+     * Response which keeps what is sent.
+     */
+    static final class Response {
+        private final Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private int status = HttpServletResponse.SC_OK;
+        private PrintWriter writer;
+
+        int getStatus() {
+            return status;
+        }
+
+        String getHeader(String name) {
+            return headers.get(name);
+        }
+
+        String getBody() {
+            if (writer != null) {
+                writer.flush();
+            }
+            return new String(body.toByteArray(), StandardCharsets.UTF_8);
+        }
+
+        HttpServletResponse toServletResponse() {
+            final ServletOutputStream out = new ServletOutputStream() {
+                @Override
+                public void write(int byteValue) {
+                    body.write(byteValue);
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                    try {
+                        writeListener.onWritePossible();
+                    } catch (IOException e) {
+                        writeListener.onError(e);
+                    }
+                }
+            };
+            return (HttpServletResponse) Proxy.newProxyInstance(HttpServletResponse.class.getClassLoader(),
+                new Class<?>[] { HttpServletResponse.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "setStatus":
+                        case "sendError":
+                            status = (Integer) args[0];
+                            return null;
+                        case "getStatus":
+                            return status;
+                        case "setHeader":
+                        case "addHeader":
+                            headers.put((String) args[0], (String) args[1]);
+                            return null;
+                        case "getHeader":
+                            return headers.get(args[0]);
+                        case "setContentType":
+                            headers.put("Content-Type", (String) args[0]);
+                            return null;
+                        case "getCharacterEncoding":
+                            return StandardCharsets.UTF_8.name();
+                        case "getOutputStream":
+                            return out;
+                        case "getWriter":
+                            if (writer == null) {
+                                writer = new PrintWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                            }
+                            return writer;
+                        default:
+                            return defaultValue(method.getReturnType());
+                    }
+                });
+        }
+    }
+
+    private ServletStubs() {
+    }
+
+    /**
+     * Returns a request of the given user (null if anonymous) to the given path under the neutron context, with the
+     * given headers and body.
+     */
+    static HttpServletRequest request(String method, String path, String user, Map<String, String> headers,
+            byte[] body) {
+        final Map<String, String> requestHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        requestHeaders.putAll(headers);
+        final ServletInputStream in = inputStream(body);
+        return (HttpServletRequest) Proxy.newProxyInstance(HttpServletRequest.class.getClassLoader(),
+            new Class<?>[] { HttpServletRequest.class }, (proxy, requestMethod, args) -> {
+                switch (requestMethod.getName()) {
+                    case "getMethod":
+                        return method;
+                    case "getPathInfo":
+                        return path;
+                    case "getRequestURI":
+                        return CONTEXT_PATH + path;
+                    case "getRemoteUser":
+                        return user;
+                    case "getRemoteAddr":
+                        return "127.0.0.1";
+                    case "getHeader":
+                        return requestHeaders.get(args[0]);
+                    case "getContentLength":
+                        return body.length;
+                    case "getInputStream":
+                        return in;
+                    default:
+                        return defaultValue(requestMethod.getReturnType());
+                }
+            });
+    }
+
+    private static ServletInputStream inputStream(byte[] body) {
+        final ByteArrayInputStream in = new ByteArrayInputStream(body);
+        return new ServletInputStream() {
+            @Override
+            public int read() {
+                return in.read();
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) {
+                return in.read(buffer, offset, length);
+            }
+
+            @Override
+            public boolean isFinished() {
+                return in.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                // the whole body is there at once
+                try {
+                    if (!isFinished()) {
+                        readListener.onDataAvailable();
+                    }
+                    readListener.onAllDataRead();
+                } catch (IOException e) {
+                    readListener.onError(e);
+                }
+            }
+        };
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.northbound.api;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WriteBulkheadTest {
+
+    @Test
+    public void saturationTest() throws Exception {
+        WriteBulkhead bulkhead = new WriteBulkhead("Port", 1, 0, 10, 3);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> blocked = executor.submit(() -> bulkhead.call(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "first";
+            }));
+            Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+            try {
+                bulkhead.call(() -> "second");
+                Assert.fail("the write should have been rejected");
+            } catch (ServiceUnavailableException e) {
+                Assert.assertEquals(503, e.getResponse().getStatus());
+                Assert.assertEquals("3", String.valueOf(e.getResponse().getMetadata().getFirst("Retry-After")));
+            }
+            release.countDown();
+            Assert.assertEquals("first", blocked.get(10, TimeUnit.SECONDS));
+            // the permits are released once the writes are done
+            Assert.assertEquals("third", bulkhead.call(() -> "third"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void failureTest() {
+        WriteBulkhead bulkhead = new WriteBulkhead("Port", 1, 0, 10, 1);
+        try {
+            bulkhead.call(() -> {
+                throw new BadRequestException("Invalid requests");
+            });
+            Assert.fail("the failure should have been thrown");
+        } catch (BadRequestException e) {
+            // expected
+        }
+        Assert.assertEquals("next", bulkhead.call(() -> "next"));
+    }
+
+    @Test
+    public void waitTimeoutTest() throws Exception {
+        WriteBulkhead bulkhead = new WriteBulkhead("Port", 1, 1, 0, 2);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> blocked = executor.submit(() -> bulkhead.call(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "first";
+            }));
+            Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+            // admitted in the queue, but its turn doesn't come in time
+            try {
+                bulkhead.call(() -> "second");
+                Assert.fail("the write should have timed out");
+            } catch (ServiceUnavailableException e) {
+                Assert.assertEquals(503, e.getResponse().getStatus());
+                Assert.assertEquals("2", String.valueOf(e.getResponse().getMetadata().getFirst("Retry-After")));
+            }
+            release.countDown();
+            Assert.assertEquals("first", blocked.get(10, TimeUnit.SECONDS));
+            // the write which timed out gave its place in the queue back
+            Assert.assertEquals("third", bulkhead.call(() -> "third"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -32,7 +32,14 @@ public abstract class AbstractNeutronInterface<
         return Neutron.class;
     }
 
-    protected AbstractNeutronInterface(Class<? extends Builder<T>> builderClass, DataBroker db) {
-        super(builderClass, db);
+    @Override
+    protected boolean isDataTreeListenerSupported() {
+        return true;
+    }
+
+    protected AbstractNeutronInterface(Class<? extends Builder<T>> builderClass, DataBroker db,
+            NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(builderClass, db, config, writeCoalescer);
     }
 }
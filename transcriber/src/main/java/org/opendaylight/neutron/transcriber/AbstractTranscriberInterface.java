@@ -10,16 +10,44 @@ package org.opendaylight.neutron.transcriber;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Streams;
 import com.google.common.util.concurrent.CheckedFuture;
-import java.lang.reflect.InvocationTargetException;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import org.opendaylight.controller.md.sal.binding.api.DataBroker;
 import org.opendaylight.controller.md.sal.binding.api.ReadOnlyTransaction;
@@ -30,21 +58,30 @@ import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
 import org.opendaylight.controller.md.sal.common.api.data.OptimisticLockFailedException;
 import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
 import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
+import org.opendaylight.neutron.northbound.api.InternalServerErrorException;
+import org.opendaylight.neutron.spi.FieldProjection;
 import org.opendaylight.neutron.spi.INeutronAdminAttributes;
 import org.opendaylight.neutron.spi.INeutronBaseAttributes;
 import org.opendaylight.neutron.spi.INeutronCRUD;
 import org.opendaylight.neutron.spi.INeutronObject;
+import org.opendaylight.neutron.spi.NeutronCount;
+import org.opendaylight.neutron.spi.NeutronQuery;
+import org.opendaylight.neutron.spi.NeutronRevisionDiff;
+import org.opendaylight.neutron.transcriber.DataTreeViews.LocalWrite;
+import org.opendaylight.neutron.transcriber.NeutronTranscriberConfig.CacheConsistency;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Uuid;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.attrs.rev150712.AdminAttributes;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.attrs.rev150712.BaseAttributes;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.attrs.rev150712.IdAttributes;
 import org.opendaylight.yangtools.concepts.Builder;
 import org.opendaylight.yangtools.yang.binding.Augmentable;
+import org.opendaylight.yangtools.yang.binding.Augmentation;
 import org.opendaylight.yangtools.yang.binding.ChildOf;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 import org.opendaylight.yangtools.yang.binding.Identifiable;
 import org.opendaylight.yangtools.yang.binding.Identifier;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.util.BindingReflections;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -104,24 +141,346 @@ public abstract class AbstractTranscriberInterface<
     private static final int DEDASHED_UUID_DIV4 = 20;
 
     private static final int RETRY_MAX = 2;
+    // bounds the wait of the synchronous writes for the asynchronous ones they are made of
+    private static final long AWAIT_TIMEOUT_SECONDS = 60;
+
+    private static final String ID = "id";
+    private static final String TENANT_ID = "tenant_id";
+    private static final String NAME = "name";
+    private static final String STATUS = "status";
+
+    // attributes kept in order, besides the UUID, so that lists sorted by them can be paged through
+    private static final List<String> SORTED_ATTRIBUTES = Arrays.asList(NAME, STATUS, TENANT_ID);
+
+    // entries read at once when walking an order without a limit
+    private static final int PAGE_READ_BATCH = 100;
+
+    private enum WriteOperation {
+        ADD, UPDATE, REMOVE
+    }
+
+    // Unfortunately odl yangtools doesn't model yang model "uses" as
+    // class/interface hierarchy. So we need to resort to use reflection
+    // to find setter method. The setters are looked up once per builder class
+    // and bound to method handles, so the conversion itself doesn't go through
+    // Method.invoke().
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType COPY_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType AUGMENTATION_SETTER_TYPE =
+            MethodType.methodType(void.class, Object.class, Object.class, Object.class);
+
+    private static final ClassValue<IdSetters> ID_SETTERS = new ClassValue<IdSetters>() {
+        @Override
+        protected IdSetters computeValue(Class<?> builderClass) {
+            return new IdSetters(builderClass);
+        }
+    };
+
+    /**
+     * Constructor and IdAttributes setters of a builder class, bound to method handles.
+     */
+    private static final class IdSetters {
+        private final MethodHandle constructor;
+        private final MethodHandle setUuid;
+        private final MethodHandle setTenantId;
+        private final MethodHandle setProjectId;
+        private final MethodHandle setRevisionNumber;
+
+        IdSetters(Class<?> builderClass) {
+            try {
+                constructor = MethodHandles.publicLookup()
+                        .findConstructor(builderClass, MethodType.methodType(void.class)).asType(FACTORY_TYPE);
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new IllegalArgumentException(e);
+            }
+            setUuid = findSetter(builderClass, "setUuid", Uuid.class);
+            setTenantId = findSetter(builderClass, "setTenantId", Uuid.class);
+            setProjectId = findSetter(builderClass, "setProjectId", String.class);
+            setRevisionNumber = findSetter(builderClass, "setRevisionNumber", Long.class);
+        }
+
+        @SuppressWarnings("checkstyle:IllegalCatch")
+        Object newBuilder() {
+            try {
+                return constructor.invokeExact();
+            } catch (Throwable e) {
+                Throwables.throwIfUnchecked(e);
+                // should not happen.
+                throw new IllegalArgumentException(e);
+            }
+        }
+    }
+
+    private static final ClassValue<MergedAttributes> MERGED_ATTRIBUTES = new ClassValue<MergedAttributes>() {
+        @Override
+        protected MergedAttributes computeValue(Class<?> mdClass) {
+            return new MergedAttributes(mdClass);
+        }
+    };
+
+    /**
+     * Attribute getters of a data object class, e.g. of a port or of its binding augmentation, and the copy
+     * constructor and setters of its builder, bound to method handles.
+     */
+    private static final class MergedAttributes {
+        private final MethodHandle copyConstructor;
+        private final MethodHandle build;
+        private final MethodHandle addAugmentation;
+        private final List<MethodHandle> getters = new ArrayList<>();
+        private final List<MethodHandle> setters = new ArrayList<>();
+        // the lists whose entries can be written one by one, and the containers
+        private final List<MethodHandle> keyedLists = new ArrayList<>();
+        private final List<MethodHandle> containers = new ArrayList<>();
+        // the leaf-lists, and the lists without key and the choices, which can only be written with their parent
+        private final List<MethodHandle> leafLists = new ArrayList<>();
+        private final List<MethodHandle> unaddressable = new ArrayList<>();
+
+        MergedAttributes(Class<?> mdClass) {
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            try {
+                final Class<?> builderClass =
+                        Class.forName(mdClass.getName() + "Builder", true, mdClass.getClassLoader());
+                copyConstructor = lookup.findConstructor(builderClass, MethodType.methodType(void.class, mdClass))
+                        .asType(COPY_TYPE);
+                build = lookup.unreflect(builderClass.getMethod("build")).asType(GETTER_TYPE);
+                addAugmentation = Augmentable.class.isAssignableFrom(mdClass) ? lookup.unreflect(
+                        builderClass.getMethod("addAugmentation", Class.class, Augmentation.class))
+                        .asType(AUGMENTATION_SETTER_TYPE) : null;
+                for (Method getter : mdClass.getMethods()) {
+                    final String attribute = attributeOf(getter);
+                    if (attribute == null) {
+                        continue;
+                    }
+                    final Method setter;
+                    try {
+                        setter = builderClass.getMethod("set" + attribute, getter.getReturnType());
+                    } catch (NoSuchMethodException e) {
+                        // not an attribute, e.g. getImplementedInterface()
+                        continue;
+                    }
+                    final MethodHandle getterHandle = lookup.unreflect(getter).asType(GETTER_TYPE);
+                    getters.add(getterHandle);
+                    setters.add(lookup.unreflect(setter).asType(SETTER_TYPE));
+                    classify(getter, getterHandle);
+                }
+            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+
+        private void classify(Method getter, MethodHandle getterHandle) {
+            final Class<?> type = getter.getReturnType();
+            if (List.class.isAssignableFrom(type)) {
+                final Type entryType = ((ParameterizedType) getter.getGenericReturnType()).getActualTypeArguments()[0];
+                final Class<?> entryClass = entryType instanceof Class ? (Class<?>) entryType : Object.class;
+                if (Identifiable.class.isAssignableFrom(entryClass) && ChildOf.class.isAssignableFrom(entryClass)) {
+                    keyedLists.add(getterHandle);
+                } else if (DataObject.class.isAssignableFrom(entryClass)) {
+                    unaddressable.add(getterHandle);
+                } else {
+                    leafLists.add(getterHandle);
+                }
+            } else if (ChildOf.class.isAssignableFrom(type)) {
+                containers.add(getterHandle);
+            } else if (DataObject.class.isAssignableFrom(type)) {
+                unaddressable.add(getterHandle);
+            }
+        }
+
+        private static String attributeOf(Method getter) {
+            if (getter.getParameterCount() != 0 || Modifier.isStatic(getter.getModifiers())) {
+                return null;
+            }
+            final String name = getter.getName();
+            if (name.startsWith("get")) {
+                return name.substring("get".length());
+            }
+            // the getters of the boolean leaves
+            if (name.startsWith("is")) {
+                return name.substring("is".length());
+            }
+            return null;
+        }
+
+        /**
+         * Copies the stored object, with the attributes set in the delta instead of the stored ones; the attributes
+         * of an augmentation are merged the same way.
+         */
+        @SuppressWarnings("checkstyle:IllegalCatch")
+        Object merge(Object stored, Object delta) {
+            try {
+                final Object builder = copyConstructor.invokeExact(stored);
+                for (int i = 0; i < getters.size(); i++) {
+                    final Object value = getters.get(i).invokeExact(delta);
+                    if (value != null) {
+                        setters.get(i).invokeExact(builder, value);
+                    }
+                }
+                if (addAugmentation != null) {
+                    final Map<Class<? extends Augmentation<?>>, Augmentation<?>> storedAugmentations =
+                            BindingReflections.getAugmentations((Augmentable<?>) stored);
+                    for (Map.Entry<Class<? extends Augmentation<?>>, Augmentation<?>> entry
+                            : BindingReflections.getAugmentations((Augmentable<?>) delta).entrySet()) {
+                        final Object storedAugmentation = storedAugmentations.get(entry.getKey());
+                        final Object augmentation = storedAugmentation != null
+                                ? MERGED_ATTRIBUTES.get(entry.getKey()).merge(storedAugmentation, entry.getValue())
+                                : entry.getValue();
+                        addAugmentation.invokeExact(builder, (Object) entry.getKey(), augmentation);
+                    }
+                }
+                return build.invokeExact(builder);
+            } catch (Throwable e) {
+                Throwables.throwIfUnchecked(e);
+                // should not happen.
+                throw new IllegalArgumentException(e);
+            }
+        }
+
+        /**
+         * Writes the attributes set in the delta over the stored object at the given path, where the merged object
+         * is found afterwards. Only the delta is written: it is merged into the stored object, and each list it sets
+         * then replaces the stored one, by deleting the stored entries which aren't in the delta and putting the
+         * entries of the delta. A leaf-list, a list without key or a choice can't be written apart from its
+         * parent, so if the delta drops some of its stored values, the merged parent is put instead.
+         */
+        @SuppressWarnings("unchecked")
+        void write(WriteTransaction tx, InstanceIdentifier<?> iid, Object stored, Object delta, Object merged) {
+            if (dropsValues(stored, delta)) {
+                put(tx, iid, merged);
+                return;
+            }
+            tx.merge(LogicalDatastoreType.CONFIGURATION, (InstanceIdentifier<DataObject>) iid, (DataObject) delta,
+                    true);
+            replaceLists(tx, iid, stored, delta, merged);
+        }
+
+        private boolean dropsValues(Object stored, Object delta) {
+            for (MethodHandle getter : leafLists) {
+                final List<?> values = (List<?>) get(getter, delta);
+                final List<?> storedValues = (List<?>) get(getter, stored);
+                if (values != null && storedValues != null && !new HashSet<>(values).containsAll(storedValues)) {
+                    return true;
+                }
+            }
+            for (MethodHandle getter : unaddressable) {
+                final Object value = get(getter, delta);
+                final Object storedValue = get(getter, stored);
+                if (value != null && storedValue != null && !value.equals(storedValue)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Replaces the lists set in the delta, which is already merged, here and within its containers and
+         * augmentations which are stored already; the others are written with the delta.
+         */
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private void replaceLists(WriteTransaction tx, InstanceIdentifier<?> iid, Object stored, Object delta,
+                Object merged) {
+            for (MethodHandle getter : keyedLists) {
+                final List<?> entries = (List<?>) get(getter, delta);
+                if (entries == null) {
+                    continue;
+                }
+                final Set<Object> keys = new HashSet<>();
+                for (Object entry : entries) {
+                    keys.add(((Identifiable<?>) entry).getKey());
+                    put(tx, ((InstanceIdentifier) iid).child(((DataObject) entry).getImplementedInterface(),
+                            ((Identifiable<?>) entry).getKey()), entry);
+                }
+                final List<?> storedEntries = (List<?>) get(getter, stored);
+                if (storedEntries == null) {
+                    continue;
+                }
+                for (Object storedEntry : storedEntries) {
+                    final Identifier<?> key = ((Identifiable<?>) storedEntry).getKey();
+                    if (!keys.contains(key)) {
+                        tx.delete(LogicalDatastoreType.CONFIGURATION, ((InstanceIdentifier) iid)
+                                .child(((DataObject) storedEntry).getImplementedInterface(), key));
+                    }
+                }
+            }
+            for (MethodHandle getter : containers) {
+                final DataObject container = (DataObject) get(getter, delta);
+                final Object storedContainer = get(getter, stored);
+                if (container != null && storedContainer != null) {
+                    replaceChildLists(tx, ((InstanceIdentifier) iid).child(container.getImplementedInterface()),
+                            container.getImplementedInterface(), storedContainer, container, get(getter, merged));
+                }
+            }
+            if (addAugmentation != null) {
+                final Map<Class<? extends Augmentation<?>>, Augmentation<?>> storedAugmentations =
+                        BindingReflections.getAugmentations((Augmentable<?>) stored);
+                final Map<Class<? extends Augmentation<?>>, Augmentation<?>> mergedAugmentations =
+                        BindingReflections.getAugmentations((Augmentable<?>) merged);
+                for (Map.Entry<Class<? extends Augmentation<?>>, Augmentation<?>> entry
+                        : BindingReflections.getAugmentations((Augmentable<?>) delta).entrySet()) {
+                    final Object storedAugmentation = storedAugmentations.get(entry.getKey());
+                    if (storedAugmentation != null) {
+                        replaceChildLists(tx, ((InstanceIdentifier) iid).augmentation(entry.getKey()),
+                                entry.getKey(), storedAugmentation, entry.getValue(),
+                                mergedAugmentations.get(entry.getKey()));
+                    }
+                }
+            }
+        }
+
+        private static void replaceChildLists(WriteTransaction tx, InstanceIdentifier<?> iid, Class<?> mdClass,
+                Object stored, Object delta, Object merged) {
+            final MergedAttributes attributes = MERGED_ATTRIBUTES.get(mdClass);
+            if (attributes.dropsValues(stored, delta)) {
+                put(tx, iid, merged);
+            } else {
+                attributes.replaceLists(tx, iid, stored, delta, merged);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static void put(WriteTransaction tx, InstanceIdentifier<?> iid, Object dataObject) {
+            tx.put(LogicalDatastoreType.CONFIGURATION, (InstanceIdentifier<DataObject>) iid, (DataObject) dataObject,
+                    true);
+        }
+
+        @SuppressWarnings("checkstyle:IllegalCatch")
+        private static Object get(MethodHandle getter, Object dataObject) {
+            try {
+                return getter.invokeExact(dataObject);
+            } catch (Throwable e) {
+                Throwables.throwIfUnchecked(e);
+                // should not happen.
+                throw new IllegalArgumentException(e);
+            }
+        }
+    }
 
     private final DataBroker db;
+    private final NeutronTranscriberConfig config;
 
     private final Class<V> mdParentClass;
     private final Class<U> mdContainerClass;
     private final Class<T> mdListClass;
+    private final Class<S> neutronObjectClass;
 
-    // Unfortunately odl yangtools doesn't model yang model "uses" as
-    // class/interface hierarchy. So we need to resort to use reflection
-    // to call setter method.
     private final Class<? extends Builder<T>> builderClass;
-    private final Method setUuid;
-    private final Method setTenantId;
-    private final Method setProjectId;
-    private final Method setName;
-    private final Method setAdminStateUp;
-    private final Method setStatus;
-    private final Method setRevisionNumber;
+    private final IdSetters idSetters;
+    private final MethodHandle setName;
+    private final MethodHandle setAdminStateUp;
+    private final MethodHandle setStatus;
+
+    private final WriteCoalescer writeCoalescer;
+    private final Map<String, Function<T, String>> attributes = new HashMap<>();
+    private final Map<String, AttributeIndex<K, T>> indexes = new HashMap<>();
+    private PipelinedTransactionChain transactionChain;
+    private DataTreeViews<T, K> dataTreeViews;
+    private ObjectCache<K, T, S> cache;
+    private ChangeCounter<K, T> changeCounter;
+    private RevisionIndex<K, T> revisionIndex;
+    private boolean indexed;
+    private final Map<String, OrderedIndex<K, T>> orderedIndexes = new HashMap<>();
 
     protected Class<V> getMdParentClass(final Type[] types) {
         @SuppressWarnings("unchecked")
@@ -129,8 +488,11 @@ public abstract class AbstractTranscriberInterface<
         return localMdParentClass;
     }
 
-    protected AbstractTranscriberInterface(Class<? extends Builder<T>> builderClass, DataBroker db) {
+    protected AbstractTranscriberInterface(Class<? extends Builder<T>> builderClass, DataBroker db,
+            NeutronTranscriberConfig config, WriteCoalescer writeCoalescer) {
         this.db = Preconditions.checkNotNull(db);
+        this.config = Preconditions.checkNotNull(config);
+        this.writeCoalescer = Preconditions.checkNotNull(writeCoalescer);
         this.builderClass = builderClass;
 
         ParameterizedType parameterizedType = (ParameterizedType) getClass().getGenericSuperclass();
@@ -143,26 +505,57 @@ public abstract class AbstractTranscriberInterface<
         mdContainerClass = localMdContainerClass;
         mdParentClass = getMdParentClass(types);
         @SuppressWarnings("unchecked")
-        Class<S> neutronObjectClass = (Class<S>) types[NEUTRON_OBJECT_TYPE_INDEX];
+        Class<S> localNeutronObjectClass = (Class<S>) types[NEUTRON_OBJECT_TYPE_INDEX];
+        neutronObjectClass = localNeutronObjectClass;
+        idSetters = ID_SETTERS.get(builderClass);
+        if (INeutronBaseAttributes.class.isAssignableFrom(neutronObjectClass)) {
+            setName = findSetter(builderClass, "setName", String.class);
+        } else {
+            setName = null;
+        }
+
+        if (INeutronAdminAttributes.class.isAssignableFrom(neutronObjectClass)) {
+            setAdminStateUp = findSetter(builderClass, "setAdminStateUp", Boolean.class);
+            setStatus = findSetter(builderClass, "setStatus", String.class);
+        } else {
+            setAdminStateUp = null;
+            setStatus = null;
+        }
+
+        if (IdAttributes.class.isAssignableFrom(mdListClass)) {
+            addAttribute(ID, item -> {
+                final Uuid uuid = ((IdAttributes) item).getUuid();
+                return uuid != null ? uuid.getValue() : null;
+            });
+            // NeutronObject.setTenantID(Uuid) drops the dashes
+            addAttribute(TENANT_ID, item -> {
+                final Uuid tenantId = ((IdAttributes) item).getTenantId();
+                return tenantId != null ? tenantId.getValue().replace("-", "") : null;
+            });
+        }
+        if (BaseAttributes.class.isAssignableFrom(mdListClass)) {
+            addAttribute(NAME, item -> ((BaseAttributes) item).getName());
+        }
+        if (AdminAttributes.class.isAssignableFrom(mdListClass)) {
+            addAttribute(STATUS, item -> ((AdminAttributes) item).getStatus());
+        }
+    }
+
+    private static MethodHandle findSetter(Class<?> builderClass, String name, Class<?> parameterType) {
         try {
-            setUuid = builderClass.getDeclaredMethod("setUuid", Uuid.class);
-            setTenantId = builderClass.getDeclaredMethod("setTenantId", Uuid.class);
-            setProjectId = builderClass.getDeclaredMethod("setProjectId", String.class);
-            setRevisionNumber = builderClass.getDeclaredMethod("setRevisionNumber", Long.class);
-            if (INeutronBaseAttributes.class.isAssignableFrom(neutronObjectClass)) {
-                setName = builderClass.getDeclaredMethod("setName", String.class);
-            } else {
-                setName = null;
-            }
+            return MethodHandles.publicLookup().unreflect(builderClass.getMethod(name, parameterType))
+                    .asType(SETTER_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
 
-            if (INeutronAdminAttributes.class.isAssignableFrom(neutronObjectClass)) {
-                setAdminStateUp = builderClass.getDeclaredMethod("setAdminStateUp", Boolean.class);
-                setStatus = builderClass.getDeclaredMethod("setStatus", String.class);
-            } else {
-                setAdminStateUp = null;
-                setStatus = null;
-            }
-        } catch (NoSuchMethodException e) {
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private static void invokeSetter(MethodHandle setter, Object builder, Object value) {
+        try {
+            setter.invokeExact(builder, value);
+        } catch (Throwable e) {
+            Throwables.throwIfUnchecked(e);
             throw new IllegalArgumentException(e);
         }
     }
@@ -172,62 +565,198 @@ public abstract class AbstractTranscriberInterface<
         return db;
     }
 
+    /**
+     * Name of this resource in the configuration, i.e. the lower case name of the MD-SAL container.
+     */
+    protected String getResourceName() {
+        return mdContainerClass.getSimpleName().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Whether the list of this resource can be listened to on its generic path
+     * (parent / container / list), which is required for the in-memory views.
+     */
+    protected boolean isDataTreeListenerSupported() {
+        return false;
+    }
+
     private InstanceIdentifier<T> createInstanceIdentifier(T item) {
-        return InstanceIdentifier.create(mdParentClass).child(mdContainerClass).child(mdListClass, item.getKey());
+        return createInstanceIdentifier(item.getKey());
+    }
+
+    private InstanceIdentifier<T> createInstanceIdentifier(K key) {
+        return InstanceIdentifier.create(mdParentClass).child(mdContainerClass).child(mdListClass, key);
     }
 
     private InstanceIdentifier<U> createInstanceIdentifier() {
         return InstanceIdentifier.create(mdParentClass).child(mdContainerClass);
     }
 
-    protected static <S1 extends INeutronObject<S1>, M extends IdAttributes, B extends Builder<M>>
-        B toMdIds(INeutronObject<S1> neutronObject, Class<B> builderClass) {
-        B builder;
-        try {
-            builder = builderClass.newInstance();
+    private InstanceIdentifier<T> createWildcardInstanceIdentifier() {
+        return InstanceIdentifier.create(mdParentClass).child(mdContainerClass).child(mdListClass);
+    }
 
-            if (neutronObject.getID() != null) {
-                final Method setUuid = builderClass.getMethod("setUuid", Uuid.class);
-                setUuid.invoke(builder, toUuid(neutronObject.getID()));
-            }
-            if (neutronObject.getTenantID() != null && !neutronObject.getTenantID().isEmpty()) {
-                final Method setTenantId = builderClass.getMethod("setTenantId", Uuid.class);
-                setTenantId.invoke(builder, toUuid(neutronObject.getTenantID()));
-            }
-            if (neutronObject.getProjectID() != null) {
-                final Method setProjectId = builderClass.getMethod("setProjectId", String.class);
-                setProjectId.invoke(builder, neutronObject.getTenantID());
-            }
-            if (neutronObject.getRevisionNumber() != null) {
-                final Method setRevisionNumber = builderClass.getMethod("setRevisionNumber", Long.class);
-                setRevisionNumber.invoke(builder, neutronObject.getRevisionNumber());
+    /**
+     * Declares a secondary index of this resource, to be looked up with {@link #getByIndex(String, String)}.
+     * Has to be called from the constructor.
+     *
+     * @param attribute neutron name of the indexed attribute
+     * @param extractor returns the attribute value of a list entry, in the same format as the neutron-spi
+     *                  object has it, or null if the attribute isn't set
+     */
+    protected void addIndex(String attribute, Function<T, String> extractor) {
+        addAttribute(attribute, extractor);
+        indexes.put(attribute, new AttributeIndex<>(extractor));
+    }
+
+    /**
+     * Declares an attribute which {@link #query(NeutronQuery)} can filter on before converting the list
+     * entries. The id, tenant_id, name and status attributes are declared by default.
+     *
+     * @param attribute neutron name of the attribute
+     * @param extractor returns the attribute value of a list entry, in the same format as the neutron-spi
+     *                  object has it, or null if the attribute isn't set
+     */
+    protected void addAttribute(String attribute, Function<T, String> extractor) {
+        attributes.put(attribute, extractor);
+    }
+
+    @PostConstruct
+    public void init() {
+        if (config.isTransactionChainEnabled()) {
+            LOG.info("Pipelining writes of {} on a transaction chain", getResourceName());
+            transactionChain = new PipelinedTransactionChain(getDataBroker(), getResourceName());
+        }
+        if (!isDataTreeListenerSupported()) {
+            return;
+        }
+        final boolean cached = config.isCacheEnabledFor(getResourceName());
+        indexed = config.isIndexEnabled() && !indexes.isEmpty();
+        final boolean ordered = config.isIndexEnabled() && attributes.containsKey(ID);
+        dataTreeViews = new DataTreeViews<>(getDataBroker(), createWildcardInstanceIdentifier());
+        // the changes are always counted, they tag the content of the list for conditional requests
+        changeCounter = new ChangeCounter<>();
+        dataTreeViews.addView(changeCounter);
+        if (cached) {
+            LOG.info("Caching {} ({} consistency)", getResourceName(), config.getCacheConsistencyMode());
+            cache = new ObjectCache<>(this::fromMd);
+            dataTreeViews.addView(cache);
+        }
+        if (indexed) {
+            LOG.info("Indexing {} by {}", getResourceName(), indexes.keySet());
+            indexes.values().forEach(dataTreeViews::addView);
+        }
+        if (ordered) {
+            final Function<T, String> uuidOf = attributes.get(ID);
+            orderedIndexes.put(ID, new OrderedIndex<>(uuidOf, uuidOf));
+            for (final String attribute : SORTED_ATTRIBUTES) {
+                if (attributes.containsKey(attribute)) {
+                    orderedIndexes.put(attribute, new OrderedIndex<>(attributes.get(attribute), uuidOf));
+                }
             }
-        } catch (IllegalAccessException | InstantiationException | InvocationTargetException
-                | NoSuchMethodException e) {
-            throw new IllegalArgumentException(e);
+            LOG.info("Ordering {} by {}", getResourceName(), orderedIndexes.keySet());
+            orderedIndexes.values().forEach(dataTreeViews::addView);
+        }
+        if (config.isIndexEnabled() && IdAttributes.class.isAssignableFrom(mdListClass)) {
+            revisionIndex = new RevisionIndex<>(attributes.get(ID),
+                    item -> ((IdAttributes) item).getRevisionNumber());
+            dataTreeViews.addView(revisionIndex);
+        }
+        dataTreeViews.register();
+
+        // The initial notification is only sent if there is data to begin with
+        final U dataObjects = readMd(createInstanceIdentifier());
+        if (dataObjects == null || getDataObjectList(dataObjects) == null
+                || getDataObjectList(dataObjects).isEmpty()) {
+            dataTreeViews.setReady();
+        }
+    }
+
+    private boolean isCacheReady() {
+        return cache != null && dataTreeViews.isReady();
+    }
+
+    private boolean isIndexReady() {
+        return indexed && dataTreeViews.isReady();
+    }
+
+    /**
+     * Returns the ready ordered index which gives the order of the query results, or null if there is none.
+     */
+    private OrderedIndex<K, T> getOrderedIndex(NeutronQuery<S> query) {
+        if (orderedIndexes.isEmpty() || !dataTreeViews.isReady()) {
+            return null;
+        }
+        if (!query.isSorted()) {
+            return query.isPaged() ? orderedIndexes.get(ID) : null;
+        }
+        // the indexes only break ties by UUID, so they can't serve several sort keys
+        return query.getSorts().size() == 1 ? orderedIndexes.get(query.getSorts().get(0).getAttribute()) : null;
+    }
+
+    /**
+     * Begins a write of the entry with the given key, before its transaction is submitted, so that it can be read
+     * back from the views once it is committed; null unless the writes are read back.
+     */
+    private LocalWrite<K> beginWrite(K key) {
+        if (dataTreeViews != null && config.getCacheConsistencyMode() == CacheConsistency.READ_YOUR_WRITES) {
+            return dataTreeViews.beginWrite(key);
+        }
+        return null;
+    }
+
+    private void endWrite(LocalWrite<K> write) {
+        if (write != null) {
+            dataTreeViews.end(write);
+        }
+    }
+
+    /**
+     * Called once a write is committed, with the entry as written, or null if it was deleted.
+     */
+    private void written(LocalWrite<K> write, T item) {
+        if (changeCounter != null) {
+            changeCounter.changed();
+        }
+        if (write != null) {
+            dataTreeViews.written(write, item);
+        }
+    }
+
+    protected static <S1 extends INeutronObject<S1>, M extends IdAttributes, B extends Builder<M>>
+        B toMdIds(INeutronObject<S1> neutronObject, Class<B> builderClass) {
+        final IdSetters setters = ID_SETTERS.get(builderClass);
+        final B builder = builderClass.cast(setters.newBuilder());
+        if (neutronObject.getID() != null) {
+            invokeSetter(setters.setUuid, builder, toUuid(neutronObject.getID()));
+        }
+        if (neutronObject.getTenantID() != null && !neutronObject.getTenantID().isEmpty()) {
+            invokeSetter(setters.setTenantId, builder, toUuid(neutronObject.getTenantID()));
+        }
+        if (neutronObject.getProjectID() != null) {
+            invokeSetter(setters.setProjectId, builder, neutronObject.getTenantID());
+        }
+        if (neutronObject.getRevisionNumber() != null) {
+            invokeSetter(setters.setRevisionNumber, builder, neutronObject.getRevisionNumber());
         }
         return builder;
     }
 
     protected <S1 extends INeutronObject<S1>, M extends IdAttributes, B extends Builder<M>>
         void toMdIds(INeutronObject<S1> neutronObject, B builder) {
-        try {
-            if (neutronObject.getID() != null) {
-                setUuid.invoke(builder, toUuid(neutronObject.getID()));
-            } else {
-                LOG.warn("Attempting to write neutron object {} without UUID", builderClass.getSimpleName());
-            }
-            if (neutronObject.getTenantID() != null && !neutronObject.getTenantID().isEmpty()) {
-                setTenantId.invoke(builder, toUuid(neutronObject.getTenantID()));
-            }
-            if (neutronObject.getProjectID() != null) {
-                setProjectId.invoke(builder, neutronObject.getTenantID());
-            }
-            if (neutronObject.getRevisionNumber() != null) {
-                setRevisionNumber.invoke(builder, neutronObject.getRevisionNumber());
-            }
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new IllegalArgumentException(e);
+        if (neutronObject.getID() != null) {
+            invokeSetter(idSetters.setUuid, builder, toUuid(neutronObject.getID()));
+        } else {
+            LOG.warn("Attempting to write neutron object {} without UUID", builderClass.getSimpleName());
+        }
+        if (neutronObject.getTenantID() != null && !neutronObject.getTenantID().isEmpty()) {
+            invokeSetter(idSetters.setTenantId, builder, toUuid(neutronObject.getTenantID()));
+        }
+        if (neutronObject.getProjectID() != null) {
+            invokeSetter(idSetters.setProjectId, builder, neutronObject.getTenantID());
+        }
+        if (neutronObject.getRevisionNumber() != null) {
+            invokeSetter(idSetters.setRevisionNumber, builder, neutronObject.getRevisionNumber());
         }
     }
 
@@ -250,12 +779,8 @@ public abstract class AbstractTranscriberInterface<
     protected <S1 extends INeutronBaseAttributes<S1>, M extends BaseAttributes, B extends Builder<M>>
         void toMdBaseAttributes(S1 neutronObject, B builder) {
         toMdIds(neutronObject, builder);
-        try {
-            if (neutronObject.getName() != null) {
-                setName.invoke(builder, neutronObject.getName());
-            }
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new IllegalArgumentException(e);
+        if (neutronObject.getName() != null) {
+            invokeSetter(setName, builder, neutronObject.getName());
         }
     }
 
@@ -270,15 +795,11 @@ public abstract class AbstractTranscriberInterface<
     protected <S1 extends INeutronAdminAttributes<S1>, M extends BaseAttributes & AdminAttributes, B extends Builder<M>>
         void toMdAdminAttributes(S1 neutronObject, B builder) {
         toMdBaseAttributes(neutronObject, builder);
-        try {
-            if (neutronObject.getAdminStateUp() != null) {
-                setAdminStateUp.invoke(builder, neutronObject.getAdminStateUp());
-            }
-            if (neutronObject.getStatus() != null) {
-                setStatus.invoke(builder, neutronObject.getStatus());
-            }
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new IllegalArgumentException(e);
+        if (neutronObject.getAdminStateUp() != null) {
+            invokeSetter(setAdminStateUp, builder, neutronObject.getAdminStateUp());
+        }
+        if (neutronObject.getStatus() != null) {
+            invokeSetter(setStatus, builder, neutronObject.getStatus());
         }
     }
 
@@ -296,14 +817,8 @@ public abstract class AbstractTranscriberInterface<
     protected abstract T toMd(S neutronObject);
 
     protected T toMd(String uuid) {
-        Builder<T> builder;
-        try {
-            builder = builderClass.newInstance();
-            setUuid.invoke(builder, toUuid(uuid));
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            // should not happen.
-            throw new IllegalArgumentException(e);
-        }
+        final Builder<T> builder = builderClass.cast(idSetters.newBuilder());
+        invokeSetter(idSetters.setUuid, builder, toUuid(uuid));
         return builder.build();
     }
 
@@ -334,15 +849,55 @@ public abstract class AbstractTranscriberInterface<
         }
     }
 
-    private void addMd(S neutronObject, WriteTransaction tx) throws InterruptedException, ExecutionException {
-        // TODO think about adding existence logic
-        updateMd(neutronObject, tx);
+    private List<T> readMd(Collection<K> keys, ReadTransaction tx) {
+        Preconditions.checkNotNull(tx);
+        // Issue all reads before waiting for any of them
+        final List<CheckedFuture<Optional<T>, ReadFailedException>> futures = new ArrayList<>(keys.size());
+        for (final K key : keys) {
+            futures.add(tx.read(LogicalDatastoreType.CONFIGURATION, createInstanceIdentifier(key)));
+        }
+        final List<T> result = new ArrayList<>(futures.size());
+        for (final CheckedFuture<Optional<T>, ReadFailedException> future : futures) {
+            try {
+                final Optional<T> optional = future.checkedGet();
+                if (optional.isPresent()) {
+                    result.add(optional.get());
+                }
+            } catch (final ReadFailedException e) {
+                LOG.warn("Failed to read {}", getResourceName(), e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Runs a write operation in a read-write transaction and commits it: in a transaction of the transaction chain
+     * if it is enabled, otherwise together with the writes of others if they are coalesced. The operation reads its
+     * conditions from the transaction it is given, so that they hold for the commit; it may be run more than once.
+     *
+     * @return the result of the operation, once its writes are committed
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private <R> R write(Function<ReadWriteTransaction, R> operation) throws InterruptedException, ExecutionException {
+        if (transactionChain == null) {
+            return writeCoalescer.submit(operation).get();
+        }
+        final ReadWriteTransaction tx = newReadWriteTransaction();
+        final R result;
+        try {
+            result = operation.apply(tx);
+        } catch (RuntimeException e) {
+            cancel(tx);
+            throw new ExecutionException(e);
+        }
+        submit(tx).get();
+        return result;
     }
 
     protected boolean addMd(S neutronObject) {
         try {
-            final WriteTransaction tx = getDataBroker().newWriteOnlyTransaction();
-            addMd(neutronObject, tx);
+            // TODO think about adding existence logic
+            putMd(toMd(neutronObject));
             return true;
         } catch (InterruptedException | ExecutionException e) {
             LOG.warn("Transaction failed", e);
@@ -350,23 +905,39 @@ public abstract class AbstractTranscriberInterface<
         return false;
     }
 
-    private void updateMd(S neutronObject, WriteTransaction tx) throws InterruptedException, ExecutionException {
-        Preconditions.checkNotNull(tx);
+    private void putMd(T item) throws InterruptedException, ExecutionException {
+        final LocalWrite<K> local = beginWrite(item.getKey());
+        try {
+            write(tx -> {
+                tx.put(LogicalDatastoreType.CONFIGURATION, createInstanceIdentifier(item), item, true);
+                return item;
+            });
+            written(local, item);
+        } finally {
+            endWrite(local);
+        }
+    }
 
-        final T item = toMd(neutronObject);
-        final InstanceIdentifier<T> iid = createInstanceIdentifier(item);
-        tx.put(LogicalDatastoreType.CONFIGURATION, iid, item, true);
-        final CheckedFuture<Void, TransactionCommitFailedException> future = tx.submit();
-        // Check if it's successfully committed, otherwise exception will be thrown.
-        future.get();
+    /**
+     * Merges the attributes set in a delta into the stored entry, instead of replacing the entry. Only the delta is
+     * written, see {@link MergedAttributes#write}: the lists set in the delta, e.g. the security groups of a port or
+     * the VIF details of its binding, replace the stored ones, so their stored entries which aren't in the delta are
+     * gone.
+     *
+     * @return the entry as merged
+     */
+    private T mergeMd(T delta, T stored, ReadWriteTransaction tx) {
+        final MergedAttributes attributes = MERGED_ATTRIBUTES.get(mdListClass);
+        final T item = mdListClass.cast(attributes.merge(stored, delta));
+        attributes.write(tx, createInstanceIdentifier(item), stored, delta, item);
+        return item;
     }
 
     protected boolean updateMd(S neutronObject) {
         int retries = RETRY_MAX;
         while (retries-- >= 0) {
             try {
-                final WriteTransaction tx = getDataBroker().newWriteOnlyTransaction();
-                updateMd(neutronObject, tx);
+                putMd(toMd(neutronObject));
                 return true;
             } catch (InterruptedException | ExecutionException e) {
                 if (e.getCause() instanceof OptimisticLockFailedException) {
@@ -381,22 +952,19 @@ public abstract class AbstractTranscriberInterface<
         return false;
     }
 
-    private void removeMd(T item, WriteTransaction tx) throws InterruptedException, ExecutionException {
-        Preconditions.checkNotNull(tx);
-        final InstanceIdentifier<T> iid = createInstanceIdentifier(item);
-        tx.delete(LogicalDatastoreType.CONFIGURATION, iid);
-        final CheckedFuture<Void, TransactionCommitFailedException> future = tx.submit();
-        // Check if it's successfully committed, otherwise exception will be thrown.
-        future.get();
-    }
-
     protected boolean removeMd(T item) {
-        final ReadWriteTransaction tx = getDataBroker().newReadWriteTransaction();
+        final LocalWrite<K> local = beginWrite(item.getKey());
         try {
-            removeMd(item, tx);
+            write(tx -> {
+                tx.delete(LogicalDatastoreType.CONFIGURATION, createInstanceIdentifier(item));
+                return item;
+            });
+            written(local, null);
             return true;
         } catch (InterruptedException | ExecutionException e) {
             LOG.warn("Transaction failed", e);
+        } finally {
+            endWrite(local);
         }
         return false;
     }
@@ -426,6 +994,12 @@ public abstract class AbstractTranscriberInterface<
     @Override
     @PreDestroy
     public void close() throws Exception {
+        if (dataTreeViews != null) {
+            dataTreeViews.close();
+        }
+        if (transactionChain != null) {
+            transactionChain.close();
+        }
     }
 
     private boolean exists(String uuid, ReadTransaction tx) {
@@ -436,6 +1010,9 @@ public abstract class AbstractTranscriberInterface<
 
     @Override
     public boolean exists(String uuid) {
+        if (isCacheReady()) {
+            return cache.contains(toMd(uuid).getKey());
+        }
         try (ReadOnlyTransaction tx = getDataBroker().newReadOnlyTransaction()) {
             return exists(uuid, tx);
         }
@@ -452,11 +1029,195 @@ public abstract class AbstractTranscriberInterface<
 
     @Override
     public S get(String uuid) {
+        if (isCacheReady()) {
+            return cache.get(toMd(uuid).getKey());
+        }
         try (ReadOnlyTransaction tx = getDataBroker().newReadOnlyTransaction()) {
             return get(uuid, tx);
         }
     }
 
+    @Override
+    public String getVersionTag(String uuid) {
+        // only the stored entry is read, it isn't converted
+        final T dataObject = isCacheReady() ? cache.getEntry(toMd(uuid).getKey())
+                : readMd(createInstanceIdentifier(toMd(uuid)));
+        if (dataObject == null) {
+            return null;
+        }
+        // an update doesn't have to bump the revision number, the digest of the stored content tells them apart;
+        // it is the same on every node, so that a tag given by one is current on the others
+        final Long revisionNumber =
+                dataObject instanceof IdAttributes ? ((IdAttributes) dataObject).getRevisionNumber() : null;
+        final String contentDigest = ContentDigest.of(dataObject);
+        return revisionNumber != null ? revisionNumber + ":" + contentDigest : contentDigest;
+    }
+
+    @Override
+    public String getChangeTag() {
+        return changeCounter != null && dataTreeViews.isReady() ? changeCounter.getTag() : null;
+    }
+
+    @Override
+    public NeutronRevisionDiff diffRevisions(Map<String, Long> revisionNumbers) {
+        final Map<String, Long> stored = getRevisionNumbers();
+        final List<String> missing = new ArrayList<>();
+        final List<String> stale = new ArrayList<>();
+        for (final Map.Entry<String, Long> known : revisionNumbers.entrySet()) {
+            if (!stored.containsKey(known.getKey())) {
+                missing.add(known.getKey());
+            } else if (known.getValue() != null && !known.getValue().equals(stored.get(known.getKey()))) {
+                stale.add(known.getKey());
+            }
+        }
+        final List<String> extra = new ArrayList<>();
+        for (final String uuid : stored.keySet()) {
+            if (!revisionNumbers.containsKey(uuid)) {
+                extra.add(uuid);
+            }
+        }
+        return new NeutronRevisionDiff(missing, stale, extra);
+    }
+
+    /**
+     * Returns the revision numbers of the stored entries by UUID, from the revision index if it is ready, otherwise
+     * from the stored entries, which aren't converted.
+     */
+    private Map<String, Long> getRevisionNumbers() {
+        if (revisionIndex != null && dataTreeViews.isReady()) {
+            return revisionIndex.getRevisionNumbers();
+        }
+        final Map<String, Long> result = new HashMap<>();
+        final U dataObjects = readMd(createInstanceIdentifier());
+        if (dataObjects != null && getDataObjectList(dataObjects) != null) {
+            for (final T dataObject : getDataObjectList(dataObjects)) {
+                if (dataObject instanceof IdAttributes && ((IdAttributes) dataObject).getUuid() != null) {
+                    final IdAttributes idAttributes = (IdAttributes) dataObject;
+                    result.put(idAttributes.getUuid().getValue(), idAttributes.getRevisionNumber());
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public NeutronCount count(Map<String, String> filters, String groupBy) {
+        for (final String attribute : filters.keySet()) {
+            Preconditions.checkArgument(attributes.containsKey(attribute), "%s can't be counted by %s",
+                    getResourceName(), attribute);
+        }
+        Preconditions.checkArgument(groupBy == null || attributes.containsKey(groupBy), "%s can't be grouped by %s",
+                getResourceName(), groupBy);
+        if (revisionIndex != null && dataTreeViews.isReady() && filters.isEmpty() && groupBy == null) {
+            return new NeutronCount(revisionIndex.size(), null, null);
+        }
+        if (revisionIndex != null && isIndexReady() && indexes.keySet().containsAll(filters.keySet())
+                && (groupBy == null || indexes.containsKey(groupBy))) {
+            return countByIndex(filters, groupBy);
+        }
+
+        // the entries are counted on their attributes, they aren't converted
+        final Function<T, String> groupOf = groupBy != null ? attributes.get(groupBy) : null;
+        final Map<String, Long> counts = new HashMap<>();
+        long count = 0;
+        for (final T dataObject : readMatching(filters)) {
+            if (filters.entrySet().stream()
+                    .allMatch(filter -> filter.getValue().equals(attributes.get(filter.getKey()).apply(dataObject)))) {
+                count++;
+                final String value = groupOf != null ? groupOf.apply(dataObject) : null;
+                if (value != null) {
+                    counts.merge(value, 1L, Long::sum);
+                }
+            }
+        }
+        return new NeutronCount(count, groupBy, counts);
+    }
+
+    /**
+     * Counts the entries from the indexes of the filter and group attributes, the entries aren't read.
+     */
+    private NeutronCount countByIndex(Map<String, String> filters, String groupBy) {
+        final AttributeIndex<K, T> groupIndex = groupBy != null ? indexes.get(groupBy) : null;
+        if (filters.isEmpty()) {
+            return new NeutronCount(revisionIndex.size(), groupBy, groupIndex.counts());
+        }
+        if (groupIndex == null && filters.size() == 1) {
+            final Map.Entry<String, String> filter = filters.entrySet().iterator().next();
+            return new NeutronCount(indexes.get(filter.getKey()).count(filter.getValue()), null, null);
+        }
+        // the keys of the fewest entries matching one filter are checked against the other filters
+        final List<Set<K>> matching = filters.entrySet().stream()
+                .map(filter -> indexes.get(filter.getKey()).get(filter.getValue()))
+                .sorted(Comparator.comparingInt(Set::size)).collect(Collectors.toList());
+        final Map<String, Long> counts = new HashMap<>();
+        long count = 0;
+        for (final K key : matching.get(0)) {
+            if (matching.stream().allMatch(keys -> keys.contains(key))) {
+                count++;
+                final String value = groupIndex != null ? groupIndex.valueOf(key) : null;
+                if (value != null) {
+                    counts.merge(value, 1L, Long::sum);
+                }
+            }
+        }
+        return new NeutronCount(count, groupBy, counts);
+    }
+
+    /**
+     * Reads the entries which may match the filters: those an index gives for one of them if it is ready, otherwise
+     * all the entries.
+     */
+    private List<T> readMatching(Map<String, String> filters) {
+        try (ReadOnlyTransaction tx = getDataBroker().newReadOnlyTransaction()) {
+            if (isIndexReady()) {
+                for (final Map.Entry<String, String> filter : filters.entrySet()) {
+                    if (indexes.containsKey(filter.getKey())) {
+                        return readMd(indexes.get(filter.getKey()).get(filter.getValue()), tx);
+                    }
+                }
+            }
+            final U container = readMd(createInstanceIdentifier(), tx);
+            return container != null && getDataObjectList(container) != null
+                    ? getDataObjectList(container) : Collections.emptyList();
+        }
+    }
+
+    @Override
+    public Map<String, S> getMany(Collection<String> uuids) {
+        final Map<String, S> result = new LinkedHashMap<>();
+        if (isCacheReady()) {
+            for (final String uuid : uuids) {
+                final S neutronObject = cache.get(toMd(uuid).getKey());
+                if (neutronObject != null) {
+                    result.put(uuid, neutronObject);
+                }
+            }
+            return result;
+        }
+        try (ReadOnlyTransaction tx = getDataBroker().newReadOnlyTransaction()) {
+            // Issue all reads before waiting for any of them
+            final Map<String, CheckedFuture<Optional<T>, ReadFailedException>> futures = new LinkedHashMap<>();
+            for (final String uuid : uuids) {
+                if (!futures.containsKey(uuid)) {
+                    futures.put(uuid, tx.read(LogicalDatastoreType.CONFIGURATION,
+                            createInstanceIdentifier(toMd(uuid))));
+                }
+            }
+            for (final Map.Entry<String, CheckedFuture<Optional<T>, ReadFailedException>> entry
+                    : futures.entrySet()) {
+                try {
+                    final Optional<T> optional = entry.getValue().checkedGet();
+                    if (optional.isPresent()) {
+                        result.put(entry.getKey(), fromMd(optional.get()));
+                    }
+                } catch (final ReadFailedException e) {
+                    LOG.warn("Failed to read {} {}", getResourceName(), entry.getKey(), e);
+                }
+            }
+        }
+        return result;
+    }
+
     protected abstract List<T> getDataObjectList(U dataObjects);
 
     private List<S> getAll(ReadTransaction tx) {
@@ -476,99 +1237,713 @@ public abstract class AbstractTranscriberInterface<
 
     @Override
     public List<S> getAll() {
+        if (isCacheReady()) {
+            return cache.values();
+        }
         try (ReadOnlyTransaction tx = getDataBroker().newReadOnlyTransaction()) {
             return getAll(tx);
         }
     }
 
-    private boolean add(S input, ReadWriteTransaction tx) throws InterruptedException, ExecutionException {
-        Preconditions.checkNotNull(tx);
-        if (exists(input.getID(), tx)) {
-            tx.cancel();
+    /**
+     * Returns the objects whose indexed attribute has the given value. Without a ready index only the
+     * matching list entries are converted, but the whole list is read.
+     *
+     * @param attribute attribute, as passed to {@link #addIndex(String, Function)}
+     * @param value attribute value
+     */
+    protected List<S> getByIndex(String attribute, String value) {
+        final AttributeIndex<K, T> index = indexes.get(attribute);
+        Preconditions.checkArgument(index != null, "%s is not indexed by %s", getResourceName(), attribute);
+        final Function<T, String> extractor = index.getExtractor();
+        final List<S> result = new ArrayList<>();
+        if (isIndexReady()) {
+            final Set<K> keys = index.get(value);
+            if (isCacheReady()) {
+                for (final K key : keys) {
+                    final S neutronObject = cache.get(key);
+                    if (neutronObject != null) {
+                        result.add(neutronObject);
+                    }
+                }
+                return result;
+            }
+            try (ReadOnlyTransaction tx = getDataBroker().newReadOnlyTransaction()) {
+                for (final T dataObject : readMd(keys, tx)) {
+                    // the index may lag behind the datastore
+                    if (value.equals(extractor.apply(dataObject))) {
+                        result.add(fromMd(dataObject));
+                    }
+                }
+            }
+            return result;
+        }
+
+        final U dataObjects = readMd(createInstanceIdentifier());
+        if (dataObjects != null && getDataObjectList(dataObjects) != null) {
+            for (final T dataObject : getDataObjectList(dataObjects)) {
+                if (value.equals(extractor.apply(dataObject))) {
+                    result.add(fromMd(dataObject));
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<S> query(NeutronQuery<S> query) {
+        try (Stream<S> results = stream(query)) {
+            return results.collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    public Stream<S> stream(NeutronQuery<S> query) {
+        final Function<T, String> idOf = attributes.get(ID);
+        if (idOf == null) {
+            return limit(query, order(query, getAll().stream().filter(query::matches)));
+        }
+
+        // Filters on declared attributes are evaluated on the list entries, an index narrows the entries to read
+        final List<Predicate<T>> mdFilters = new ArrayList<>();
+        Set<K> keys = null;
+        for (final NeutronQuery.Filter<S> filter : query.getFilters()) {
+            final Function<T, String> extractor =
+                    filter.getAttribute() != null ? attributes.get(filter.getAttribute()) : null;
+            if (extractor == null) {
+                continue;
+            }
+            mdFilters.add(dataObject -> filter.getValue().equals(extractor.apply(dataObject)));
+            if (keys == null && isIndexReady() && indexes.containsKey(filter.getAttribute())) {
+                keys = indexes.get(filter.getAttribute()).get(filter.getValue());
+            }
+        }
+        final Predicate<T> mdFilter = dataObject -> mdFilters.stream().allMatch(test -> test.test(dataObject));
+        final Function<T, S> convert = converter(query);
+
+        final OrderedIndex<K, T> orderedIndex = keys == null ? getOrderedIndex(query) : null;
+        final OrderedIndex.Position from = orderedIndex != null ? getMarkerPosition(query, orderedIndex) : null;
+        if (orderedIndex != null && (query.getMarker() == null || from != null)) {
+            // Walk the order from the marker, only reading as many entries as needed to fill the page
+            final boolean descending = query.isSorted() && query.getSorts().get(0).isDescending();
+            final Collection<K> orderedKeys = orderedIndex.keys(from, descending != query.isPageReverse());
+            if (isCacheReady()) {
+                return limit(query, orderedKeys.stream().map(cache::getEntry).filter(Objects::nonNull)
+                        .filter(mdFilter).map(convert).filter(query::matches));
+            }
+            final int batchSize = query.getLimit() != null ? Math.max(query.getLimit(), 1) : PAGE_READ_BATCH;
+            // the entries are read batch by batch as the stream is consumed, until it is closed
+            final ReadOnlyTransaction tx = getDataBroker().newReadOnlyTransaction();
+            final Stream<T> dataObjects = Streams.stream(Iterators.partition(orderedKeys.iterator(), batchSize))
+                    .flatMap(batch -> readMd(batch, tx).stream()).onClose(tx::close);
+            return limit(query, dataObjects.filter(mdFilter).map(convert).filter(query::matches));
+        }
+        final List<T> dataObjects;
+        if (isCacheReady()) {
+            dataObjects = keys != null
+                    ? keys.stream().map(cache::getEntry).filter(Objects::nonNull).collect(Collectors.toList())
+                    : cache.entries();
+        } else {
+            try (ReadOnlyTransaction tx = getDataBroker().newReadOnlyTransaction()) {
+                if (keys != null) {
+                    dataObjects = readMd(keys, tx);
+                } else {
+                    final U container = readMd(createInstanceIdentifier(), tx);
+                    dataObjects = container != null && getDataObjectList(container) != null
+                            ? getDataObjectList(container) : Collections.emptyList();
+                }
+            }
+        }
+        if (query.isSorted()) {
+            // the sort keys are compared on the neutron-spi objects, so all matching entries are converted
+            return limit(query, order(query, dataObjects.stream().filter(mdFilter).map(convert)
+                    .filter(query::matches)));
+        }
+        // Only the entries up to the end of the page are converted, the remaining filters are checked on them
+        return limit(query, order(query, dataObjects.stream().filter(mdFilter), idOf).map(convert)
+                .filter(query::matches));
+    }
+
+    /**
+     * Returns the conversion of the list entries for the query. If the query only needs declared attributes,
+     * for its fields, filters and sort keys, only these are set, from the list entry, instead of converting
+     * the whole entry with {@link #fromMd}.
+     */
+    private Function<T, S> converter(NeutronQuery<S> query) {
+        if (query.getFields().isEmpty()) {
+            return this::fromMd;
+        }
+        final Set<String> needed = new LinkedHashSet<>(query.getFields());
+        // the UUID orders pages and breaks ties between sort keys
+        needed.add(ID);
+        for (final NeutronQuery.Filter<S> filter : query.getFilters()) {
+            if (filter.getAttribute() == null) {
+                return this::fromMd;
+            }
+            needed.add(filter.getAttribute());
+        }
+        for (final NeutronQuery.Sort<S> sort : query.getSorts()) {
+            needed.add(sort.getAttribute());
+        }
+        if (!attributes.keySet().containsAll(needed)) {
+            return this::fromMd;
+        }
+        final FieldProjection<S> projection = FieldProjection.of(neutronObjectClass, new ArrayList<>(needed));
+        if (!projection.isDirect()) {
+            return this::fromMd;
+        }
+        return dataObject -> projection.build(attribute -> attributes.get(attribute).apply(dataObject));
+    }
+
+    /**
+     * Returns the position of the marker in the ordered index, null if there is no marker or the marker entry
+     * doesn't exist. Without sort keys the position is given by the marker UUID alone.
+     */
+    private OrderedIndex.Position getMarkerPosition(NeutronQuery<S> query, OrderedIndex<K, T> orderedIndex) {
+        final String marker = query.getMarker();
+        if (marker == null) {
+            return null;
+        }
+        if (!query.isSorted()) {
+            return new OrderedIndex.Position(marker, marker);
+        }
+        return orderedIndex.getPosition(toMd(marker).getKey());
+    }
+
+    private static <E> Stream<E> order(NeutronQuery<?> query, Stream<E> candidates, Function<E, String> idOf) {
+        if (!query.isPaged()) {
+            return candidates;
+        }
+        final Comparator<E> byId = Comparator.comparing(idOf);
+        return candidates.filter(candidate -> query.isAfterMarker(idOf.apply(candidate)))
+                .sorted(query.isPageReverse() ? byId.reversed() : byId);
+    }
+
+    /**
+     * Orders neutron-spi objects, by the sort keys if there are any. With sort keys, the marker is positioned
+     * by its current attributes, so it has to exist.
+     */
+    private Stream<S> order(NeutronQuery<S> query, Stream<S> candidates) {
+        if (!query.isSorted()) {
+            return order(query, candidates, S::getID);
+        }
+        Stream<S> ordered = candidates;
+        if (query.getMarker() != null) {
+            final S markerObject = get(query.getMarker());
+            if (markerObject == null) {
+                return Stream.empty();
+            }
+            ordered = ordered.filter(candidate -> query.isAfterMarker(candidate, markerObject));
+        }
+        return ordered.sorted(query.isPageReverse() ? query.getOrder().reversed() : query.getOrder());
+    }
+
+    private Stream<S> limit(NeutronQuery<S> query, Stream<S> matching) {
+        final Stream<S> limited = query.getLimit() != null ? matching.limit(query.getLimit()) : matching;
+        if (!query.isPaged() || !query.isPageReverse()) {
+            return limited.map(query::project);
+        }
+        // a reversed page was read backwards, so it has to be collected to be returned in order
+        try (Stream<S> page = limited) {
+            final List<S> result = page.map(query::project).collect(Collectors.toList());
+            Collections.reverse(result);
+            return result.stream();
+        }
+    }
+
+    private boolean add(T item, ReadWriteTransaction tx) {
+        final InstanceIdentifier<T> iid = createInstanceIdentifier(item);
+        if (readMd(iid, tx) != null) {
             return false;
         }
-        addMd(input, tx);
+        tx.put(LogicalDatastoreType.CONFIGURATION, iid, item, true);
         return true;
     }
 
     @Override
     public boolean add(S input) {
+        if (transactionChain != null) {
+            return await(addAsync(input));
+        }
+        final T item = toMd(input);
+        final LocalWrite<K> local = beginWrite(item.getKey());
         int retries = RETRY_MAX;
-        while (retries-- >= 0) {
-            final ReadWriteTransaction tx = getDataBroker().newReadWriteTransaction();
-            try {
-                return add(input, tx);
-            } catch (InterruptedException | ExecutionException e) {
-                if (e.getCause() instanceof OptimisticLockFailedException) {
-                    LOG.warn("Got OptimisticLockFailedException - {} {}", input, retries);
-                    continue;
+        try {
+            while (true) {
+                try {
+                    if (!write(tx -> add(item, tx))) {
+                        return false;
+                    }
+                    written(local, item);
+                    return true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw transactionFailed(e);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof OptimisticLockFailedException && retries-- > 0) {
+                        LOG.warn("Got OptimisticLockFailedException - {} {}", input, retries);
+                        continue;
+                    }
+                    throw transactionFailed(e);
                 }
-                // TODO: rethrow exception. don't mask exception
-                LOG.error("Transaction failed", e);
             }
-            break;
+        } finally {
+            endWrite(local);
         }
-        return false;
     }
 
-    private boolean remove(String uuid, ReadWriteTransaction tx) throws InterruptedException, ExecutionException {
+    /**
+     * Adds the items which don't exist yet in the given transaction and commits it. The transaction is submitted
+     * or cancelled exactly once, whatever fails, so that a transaction chain can always hand out the next one.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private List<Boolean> addAll(List<T> items, Map<K, LocalWrite<K>> localWrites, ReadWriteTransaction tx)
+            throws InterruptedException, ExecutionException {
         Preconditions.checkNotNull(tx);
-        if (!exists(uuid, tx)) {
-            tx.cancel();
+        final List<Boolean> result = new ArrayList<>(items.size());
+        final List<T> added = new ArrayList<>(items.size());
+        try {
+            final List<CheckedFuture<Optional<T>, ReadFailedException>> futures = new ArrayList<>(items.size());
+            // Issue all existence reads before waiting for any of them
+            for (final T item : items) {
+                futures.add(tx.read(LogicalDatastoreType.CONFIGURATION, createInstanceIdentifier(item)));
+            }
+
+            final Set<K> keys = new HashSet<>();
+            for (int i = 0; i < items.size(); i++) {
+                final T item = items.get(i);
+                // a duplicate within the input behaves as if it was added after the first one
+                if (futures.get(i).checkedGet().isPresent() || !keys.add(item.getKey())) {
+                    result.add(Boolean.FALSE);
+                    continue;
+                }
+                tx.put(LogicalDatastoreType.CONFIGURATION, createInstanceIdentifier(item), item, true);
+                added.add(item);
+                result.add(Boolean.TRUE);
+            }
+        } catch (final ReadFailedException e) {
+            cancel(tx);
+            throw new ExecutionException(e);
+        } catch (RuntimeException e) {
+            cancel(tx);
+            throw e;
+        }
+        if (added.isEmpty()) {
+            cancel(tx);
+            return result;
+        }
+
+        final CheckedFuture<Void, TransactionCommitFailedException> future = submit(tx);
+        // Check if it's successfully committed, otherwise exception will be thrown.
+        future.get();
+        added.forEach(item -> written(localWrites.get(item.getKey()), item));
+        return result;
+    }
+
+    @Override
+    public List<Boolean> addAll(List<S> input) {
+        final List<T> items = new ArrayList<>(input.size());
+        final Map<K, LocalWrite<K>> localWrites = new HashMap<>();
+        for (final S neutronObject : input) {
+            final T item = toMd(neutronObject);
+            items.add(item);
+            localWrites.computeIfAbsent(item.getKey(), this::beginWrite);
+        }
+        int retries = RETRY_MAX;
+        try {
+            while (true) {
+                try {
+                    return addAll(items, localWrites, newReadWriteTransaction());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw transactionFailed(e);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof OptimisticLockFailedException && retries-- > 0) {
+                        LOG.warn("Got OptimisticLockFailedException - {} {}", input.size(), retries);
+                        continue;
+                    }
+                    throw transactionFailed(e);
+                }
+            }
+        } finally {
+            localWrites.values().forEach(this::endWrite);
+        }
+    }
+
+    private boolean remove(T item, ReadWriteTransaction tx) {
+        final InstanceIdentifier<T> iid = createInstanceIdentifier(item);
+        if (readMd(iid, tx) == null) {
             return false;
         }
-        removeMd(toMd(uuid), tx);
+        tx.delete(LogicalDatastoreType.CONFIGURATION, iid);
         return true;
     }
 
     @Override
     public boolean remove(String uuid) {
+        if (transactionChain != null) {
+            return await(removeAsync(uuid));
+        }
+        final T item = toMd(uuid);
+        final LocalWrite<K> local = beginWrite(item.getKey());
         int retries = RETRY_MAX;
-        while (retries-- >= 0) {
-            final ReadWriteTransaction tx = getDataBroker().newReadWriteTransaction();
-            try {
-                return remove(uuid, tx);
-            } catch (InterruptedException | ExecutionException e) {
-                if (e.getCause() instanceof OptimisticLockFailedException) {
-                    LOG.warn("Got OptimisticLockFailedException - {} {}", uuid, retries);
-                    continue;
+        try {
+            while (true) {
+                try {
+                    if (!write(tx -> remove(item, tx))) {
+                        return false;
+                    }
+                    written(local, null);
+                    return true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw transactionFailed(e);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof OptimisticLockFailedException && retries-- > 0) {
+                        LOG.warn("Got OptimisticLockFailedException - {} {}", uuid, retries);
+                        continue;
+                    }
+                    throw transactionFailed(e);
                 }
-                // TODO: rethrow exception. don't mask exception
-                LOG.error("Transaction failed", e);
             }
-            break;
+        } finally {
+            endWrite(local);
         }
-        return false;
     }
 
-    private boolean update(String uuid, S delta, ReadWriteTransaction tx)
-            throws InterruptedException, ExecutionException {
-        Preconditions.checkNotNull(tx);
+    /**
+     * Returns the entry of an update. A merged delta is merged into the entry named by the request, whatever ID it
+     * has, as in {@link #updateIfRevision(String, INeutronObject, Long, BiConsumer)}; otherwise the delta replaces
+     * the entry of its ID.
+     */
+    private T toUpdateMd(String uuid, S delta) {
+        if (!config.isUpdateMergeEnabled()) {
+            return toMd(delta);
+        }
+        final S completed = FieldProjection.copy(delta);
+        completed.setID(uuid);
+        return toMd(completed);
+    }
+
+    /**
+     * Updates the entry, or merges the update into it if the updates are merged.
+     *
+     * @return the entry written, null if the entry doesn't exist
+     */
+    private T update(String uuid, T item, ReadWriteTransaction tx) {
+        if (config.isUpdateMergeEnabled()) {
+            final T stored = readMd(createInstanceIdentifier(toMd(uuid)), tx);
+            return stored != null ? mergeMd(item, stored, tx) : null;
+        }
         if (!exists(uuid, tx)) {
-            tx.cancel();
-            return false;
+            return null;
         }
-        updateMd(delta, tx);
-        return true;
+        tx.put(LogicalDatastoreType.CONFIGURATION, createInstanceIdentifier(item), item, true);
+        return item;
     }
 
     @Override
     public boolean update(String uuid, S delta) {
+        if (transactionChain != null) {
+            return await(updateAsync(uuid, delta));
+        }
+        final T item = toUpdateMd(uuid, delta);
+        final LocalWrite<K> local = beginWrite(item.getKey());
         int retries = RETRY_MAX;
-        while (retries-- >= 0) {
-            final ReadWriteTransaction tx = getDataBroker().newReadWriteTransaction();
+        try {
+            while (true) {
+                try {
+                    final T written = write(tx -> update(uuid, item, tx));
+                    if (written == null) {
+                        return false;
+                    }
+                    written(local, written);
+                    return true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw transactionFailed(e);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof OptimisticLockFailedException && retries-- > 0) {
+                        LOG.warn("Got OptimisticLockFailedException - {} {} {}", uuid, delta, retries);
+                        continue;
+                    }
+                    throw transactionFailed(e);
+                }
+            }
+        } finally {
+            endWrite(local);
+        }
+    }
+
+    /**
+     * Outcome of a conditional update: the object to return, and the entry written if the update was applied.
+     */
+    private static final class UpdateOutcome<T, S> {
+        private final S result;
+        private final T written;
+
+        UpdateOutcome(S result, T written) {
+            this.result = result;
+            this.written = written;
+        }
+    }
+
+    private UpdateOutcome<T, S> updateIfRevision(String uuid, S delta, Long expectedRevision,
+            BiConsumer<S, S> merge, ReadWriteTransaction tx) {
+        final T stored = readMd(createInstanceIdentifier(toMd(uuid)), tx);
+        if (stored == null) {
+            return new UpdateOutcome<>(null, null);
+        }
+        final S original = fromMd(stored);
+        if (expectedRevision != null && original.getRevisionNumber() != null
+                && original.getRevisionNumber() > expectedRevision) {
+            return new UpdateOutcome<>(original, null);
+        }
+        // the operation may be run again, e.g. after a conflict, with what the last run read: it completes a copy
+        // of the delta, so that the attributes completed from another stored object aren't taken as the request's
+        final S completed = FieldProjection.copy(delta);
+        // the updated entry is the one named by the request, whatever ID the delta has
+        completed.setID(uuid);
+        if (merge != null) {
+            // also when merging, as it pins the attributes which can't be updated
+            merge.accept(completed, original);
+        }
+        final T item;
+        if (config.isUpdateMergeEnabled()) {
+            // the attributes missing from the delta keep their stored value
+            item = mergeMd(toMd(completed), stored, tx);
+        } else {
+            item = toMd(completed);
+            tx.put(LogicalDatastoreType.CONFIGURATION, createInstanceIdentifier(item), item, true);
+        }
+        return new UpdateOutcome<>(fromMd(item), item);
+    }
+
+    @Override
+    public S updateIfRevision(String uuid, S delta, Long expectedRevision, BiConsumer<S, S> merge) {
+        final LocalWrite<K> local = beginWrite(toMd(uuid).getKey());
+        int retries = RETRY_MAX;
+        try {
+            while (true) {
+                try {
+                    final UpdateOutcome<T, S> outcome =
+                            write(tx -> updateIfRevision(uuid, delta, expectedRevision, merge, tx));
+                    if (outcome.written != null) {
+                        written(local, outcome.written);
+                    }
+                    return outcome.result;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw transactionFailed(e);
+                } catch (ExecutionException e) {
+                    // the exceptions of the merge are the caller's own
+                    Throwables.throwIfUnchecked(e.getCause());
+                    if (e.getCause() instanceof OptimisticLockFailedException && retries-- > 0) {
+                        LOG.warn("Got OptimisticLockFailedException - {} {} {}", uuid, delta, retries);
+                        continue;
+                    }
+                    throw transactionFailed(e);
+                }
+            }
+        } finally {
+            endWrite(local);
+        }
+    }
+
+    @Override
+    public ListenableFuture<S> getAsync(String uuid) {
+        final T item = toMd(uuid);
+        if (isCacheReady()) {
+            return Futures.immediateFuture(cache.get(item.getKey()));
+        }
+        final ReadOnlyTransaction tx = getDataBroker().newReadOnlyTransaction();
+        final ListenableFuture<Optional<T>> future =
+                tx.read(LogicalDatastoreType.CONFIGURATION, createInstanceIdentifier(item));
+        future.addListener(tx::close, MoreExecutors.directExecutor());
+        return Futures.transform(future, optional -> optional.isPresent() ? fromMd(optional.get()) : null,
+            MoreExecutors.directExecutor());
+    }
+
+    @Override
+    public ListenableFuture<Boolean> addAsync(S input) {
+        final T item = toMd(input);
+        return writeAsync(WriteOperation.ADD, item, item);
+    }
+
+    @Override
+    public ListenableFuture<Boolean> updateAsync(String uuid, S delta) {
+        return writeAsync(WriteOperation.UPDATE, toMd(uuid), toUpdateMd(uuid, delta));
+    }
+
+    @Override
+    public ListenableFuture<Boolean> removeAsync(String uuid) {
+        final T item = toMd(uuid);
+        return writeAsync(WriteOperation.REMOVE, item, item);
+    }
+
+    private ListenableFuture<Boolean> writeAsync(WriteOperation operation, T target, T item) {
+        final LocalWrite<K> local = beginWrite(item.getKey());
+        final ListenableFuture<Boolean> result = writeAsync(operation, target, item, local, RETRY_MAX);
+        result.addListener(() -> endWrite(local), MoreExecutors.directExecutor());
+        return result;
+    }
+
+    /**
+     * Checks the existence of the target and writes the item in one read-write transaction, chaining the read
+     * and the commit instead of waiting for them.
+     */
+    private ListenableFuture<Boolean> writeAsync(WriteOperation operation, T target, T item, LocalWrite<K> local,
+            int retries) {
+        final ListenableFuture<Boolean> result = Futures.transformAsync(newReadWriteTransactionAsync(),
+            tx -> writeAsync(operation, target, item, local, tx), MoreExecutors.directExecutor());
+        if (retries <= 0) {
+            return result;
+        }
+        return Futures.catchingAsync(result, OptimisticLockFailedException.class, e -> {
+            LOG.warn("Got OptimisticLockFailedException - {} {}", item.getKey(), retries);
+            return writeAsync(operation, target, item, local, retries - 1);
+        }, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Writes the item in the given transaction if the check of the target passes, an update being merged into the
+     * target if the updates are merged. The transaction is submitted or cancelled exactly once, whatever fails, so
+     * that a transaction chain can always hand out the next one.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private ListenableFuture<Boolean> writeAsync(WriteOperation operation, T target, T item, LocalWrite<K> local,
+            ReadWriteTransaction tx) {
+        final InstanceIdentifier<T> iid;
+        final ListenableFuture<Optional<T>> read;
+        try {
+            iid = createInstanceIdentifier(item);
+            read = tx.read(LogicalDatastoreType.CONFIGURATION, createInstanceIdentifier(target));
+        } catch (RuntimeException e) {
+            cancel(tx);
+            return Futures.immediateFailedFuture(e);
+        }
+        Futures.addCallback(read, new FutureCallback<Optional<T>>() {
+            @Override
+            public void onSuccess(Optional<T> existing) {
+            }
+
+            @Override
+            public void onFailure(Throwable cause) {
+                cancel(tx);
+            }
+        }, MoreExecutors.directExecutor());
+        return Futures.transformAsync(read, existing -> {
+            if (existing.isPresent() == (operation == WriteOperation.ADD)) {
+                cancel(tx);
+                return Futures.immediateFuture(Boolean.FALSE);
+            }
+            final T written;
             try {
-                return update(uuid, delta, tx);
-            } catch (InterruptedException | ExecutionException e) {
-                if (e.getCause() instanceof OptimisticLockFailedException) {
-                    LOG.warn("Got OptimisticLockFailedException - {} {} {}", uuid, delta, retries);
-                    continue;
+                if (operation == WriteOperation.REMOVE) {
+                    tx.delete(LogicalDatastoreType.CONFIGURATION, iid);
+                    written = null;
+                } else if (operation == WriteOperation.UPDATE && config.isUpdateMergeEnabled()) {
+                    written = mergeMd(item, existing.get(), tx);
+                } else {
+                    tx.put(LogicalDatastoreType.CONFIGURATION, iid, item, true);
+                    written = item;
                 }
-                // TODO: rethrow exception. don't mask exception
-                LOG.error("Transaction failed", e);
+            } catch (RuntimeException e) {
+                cancel(tx);
+                throw e;
             }
-            break;
+            return Futures.transform(submit(tx), unused -> {
+                written(local, written);
+                return Boolean.TRUE;
+            }, MoreExecutors.directExecutor());
+        }, MoreExecutors.directExecutor());
+    }
+
+    /**
+     * New read-write transaction for the asynchronous writes, which is allocated from the transaction chain
+     * if it is enabled. Such a transaction has to be submitted with {@link #submit(WriteTransaction)} or
+     * cancelled with {@link #cancel(WriteTransaction)}, so that the chain can hand out the next one.
+     */
+    private ListenableFuture<ReadWriteTransaction> newReadWriteTransactionAsync() {
+        if (transactionChain != null) {
+            return transactionChain.newReadWriteTransaction();
         }
-        return false;
+        return Futures.immediateFuture(getDataBroker().newReadWriteTransaction());
+    }
+
+    /**
+     * New read-write transaction for the blocking writes, allocated as {@link #newReadWriteTransactionAsync()} and
+     * submitted or cancelled the same way. The wait for the transaction chain is bounded by
+     * {@link #AWAIT_TIMEOUT_SECONDS}.
+     */
+    private ReadWriteTransaction newReadWriteTransaction() throws InterruptedException, ExecutionException {
+        final ListenableFuture<ReadWriteTransaction> future = newReadWriteTransactionAsync();
+        try {
+            return future.get(AWAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            giveBack(future);
+            throw e;
+        } catch (TimeoutException e) {
+            giveBack(future);
+            throw new ExecutionException(e);
+        }
+    }
+
+    /**
+     * Gives up waiting for a transaction: the chain hands it to the next one, or it is cancelled if it was
+     * allocated meanwhile.
+     */
+    private void giveBack(ListenableFuture<ReadWriteTransaction> future) {
+        future.cancel(false);
+        Futures.addCallback(future, new FutureCallback<ReadWriteTransaction>() {
+            @Override
+            public void onSuccess(ReadWriteTransaction tx) {
+                cancel(tx);
+            }
+
+            @Override
+            public void onFailure(Throwable cause) {
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    private CheckedFuture<Void, TransactionCommitFailedException> submit(WriteTransaction tx) {
+        try {
+            return tx.submit();
+        } finally {
+            if (transactionChain != null) {
+                transactionChain.transactionDone();
+            }
+        }
+    }
+
+    private void cancel(WriteTransaction tx) {
+        try {
+            tx.cancel();
+        } finally {
+            if (transactionChain != null) {
+                transactionChain.transactionDone();
+            }
+        }
+    }
+
+    /**
+     * Waits for an asynchronous write, for at most {@link #AWAIT_TIMEOUT_SECONDS}. A write which times out isn't
+     * cancelled, it may still be applied.
+     */
+    private static boolean await(ListenableFuture<Boolean> future) {
+        try {
+            return future.get(AWAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw transactionFailed(e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw transactionFailed(e);
+        }
+    }
+
+    private static InternalServerErrorException transactionFailed(Exception cause) {
+        LOG.error("Transaction failed", cause);
+        return new InternalServerErrorException("Transaction failed: " + cause.getMessage());
     }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Hash index of the entries of one MD-SAL list by the value of one of their attributes.
+ * Entries for which the attribute is not set are not indexed. The number of entries with
+ * each value is kept along, so that they can be counted without being read.
+ *
+ * @param <K> key of the list entries
+ * @param <T> list entry
+ */
+final class AttributeIndex<K, T> implements DataTreeView<K, T> {
+
+    private final ConcurrentMap<String, Set<K>> keysByValue = new ConcurrentHashMap<>();
+    private final ConcurrentMap<K, String> valueByKey = new ConcurrentHashMap<>();
+    private final Function<T, String> extractor;
+
+    AttributeIndex(Function<T, String> extractor) {
+        this.extractor = extractor;
+    }
+
+    Function<T, String> getExtractor() {
+        return extractor;
+    }
+
+    @Override
+    public synchronized void put(K key, T dataObject) {
+        final String value = extractor.apply(dataObject);
+        final String oldValue = value != null ? valueByKey.put(key, value) : valueByKey.remove(key);
+        if (Objects.equals(value, oldValue)) {
+            return;
+        }
+        if (oldValue != null) {
+            removeKey(oldValue, key);
+        }
+        if (value != null) {
+            keysByValue.computeIfAbsent(value, unused -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    @Override
+    public synchronized void remove(K key) {
+        final String oldValue = valueByKey.remove(key);
+        if (oldValue != null) {
+            removeKey(oldValue, key);
+        }
+    }
+
+    private void removeKey(String value, K key) {
+        keysByValue.computeIfPresent(value, (unused, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    /**
+     * Returns the keys of the entries which have the given attribute value.
+     */
+    Set<K> get(String value) {
+        final Set<K> keys = keysByValue.get(value);
+        return keys != null ? ImmutableSet.copyOf(keys) : ImmutableSet.of();
+    }
+
+    /**
+     * Returns the number of entries which have the given attribute value.
+     */
+    int count(String value) {
+        final Set<K> keys = keysByValue.get(value);
+        return keys != null ? keys.size() : 0;
+    }
+
+    /**
+     * Returns the number of entries by attribute value.
+     */
+    Map<String, Long> counts() {
+        final Map<String, Long> counts = new HashMap<>();
+        keysByValue.forEach((value, keys) -> counts.put(value, (long) keys.size()));
+        return counts;
+    }
+
+    /**
+     * Returns the attribute value of an entry, null if it isn't set or the entry isn't indexed.
+     */
+    String valueOf(K key) {
+        return valueByKey.get(key);
+    }
+}
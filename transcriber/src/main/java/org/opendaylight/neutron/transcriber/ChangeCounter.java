@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counter of the changes of one MD-SAL list, which gives the tag of its current content.
+ *
+ * <p>The tag starts with a random epoch, so that the tags given before a restart, when the counter starts over,
+ * can't be mistaken for current ones.
+ *
+ * @param <K> key of the list entries
+ * @param <T> list entry
+ */
+final class ChangeCounter<K, T> implements DataTreeView<K, T> {
+
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final AtomicLong changes = new AtomicLong();
+
+    @Override
+    public void put(K key, T dataObject) {
+        changes.incrementAndGet();
+    }
+
+    @Override
+    public void remove(K key) {
+        changes.incrementAndGet();
+    }
+
+    /**
+     * Counts a change written by this instance, before it is notified.
+     */
+    void changed() {
+        changes.incrementAndGet();
+    }
+
+    String getTag() {
+        return epoch + '-' + Long.toHexString(changes.get());
+    }
+}
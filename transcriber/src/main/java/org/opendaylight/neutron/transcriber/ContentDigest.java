@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import com.google.common.base.Throwables;
+import com.google.common.hash.Hashing;
+import com.google.common.io.BaseEncoding;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.opendaylight.yangtools.yang.binding.Augmentable;
+import org.opendaylight.yangtools.yang.binding.Augmentation;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.util.BindingReflections;
+
+/**
+ * Digest of the content of an MD-SAL data object, which is the same on every node and after a restart, unlike its
+ * hash code: the hash code of an enumeration is the identity hash code of its constant.
+ *
+ * <p>The content is encoded with the attributes in the order of their names and the augmentations in the order of
+ * their classes. The entries of a list are sorted, as the unordered lists aren't read in the same order on every
+ * node. The encoding is digested with SHA-256.
+ */
+final class ContentDigest {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<SortedMap<String, MethodHandle>> ATTRIBUTES =
+            new ClassValue<SortedMap<String, MethodHandle>>() {
+                @Override
+                protected SortedMap<String, MethodHandle> computeValue(Class<?> mdClass) {
+                    return attributesOf(mdClass);
+                }
+            };
+
+    private ContentDigest() {
+    }
+
+    /**
+     * Returns the digest of the content of the data object, in hexadecimal.
+     */
+    static String of(DataObject dataObject) {
+        final StringBuilder encoding = new StringBuilder();
+        encode(dataObject, encoding);
+        return Hashing.sha256().hashString(encoding, StandardCharsets.UTF_8).toString();
+    }
+
+    private static SortedMap<String, MethodHandle> attributesOf(Class<?> mdClass) {
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        final SortedMap<String, MethodHandle> attributes = new TreeMap<>();
+        for (Method getter : mdClass.getMethods()) {
+            final String name = getter.getName();
+            if (getter.getParameterCount() != 0 || Modifier.isStatic(getter.getModifiers())
+                    || !(name.startsWith("get") || name.startsWith("is")) || name.equals("getImplementedInterface")) {
+                continue;
+            }
+            try {
+                attributes.put(name, lookup.unreflect(getter).asType(GETTER_TYPE));
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+        return attributes;
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private static Object get(MethodHandle getter, Object dataObject) {
+        try {
+            return getter.invokeExact(dataObject);
+        } catch (Throwable e) {
+            Throwables.throwIfUnchecked(e);
+            // should not happen.
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static void encode(Object value, StringBuilder encoding) {
+        if (value instanceof DataObject) {
+            encodeDataObject((DataObject) value, encoding);
+        } else if (value instanceof Collection) {
+            final List<String> entries = new ArrayList<>();
+            for (Object entry : (Collection<?>) value) {
+                final StringBuilder entryEncoding = new StringBuilder();
+                encode(entry, entryEncoding);
+                entries.add(entryEncoding.toString());
+            }
+            Collections.sort(entries);
+            encoding.append('[');
+            entries.forEach(entry -> encoding.append(entry).append(','));
+            encoding.append(']');
+        } else if (value instanceof Enum) {
+            encodeString(((Enum<?>) value).name(), encoding);
+        } else if (value instanceof byte[]) {
+            encodeString(BaseEncoding.base16().encode((byte[]) value), encoding);
+        } else {
+            // the strings, numbers and booleans, and the type objects, whose string is made of their value
+            encodeString(String.valueOf(value), encoding);
+        }
+    }
+
+    private static void encodeDataObject(DataObject dataObject, StringBuilder encoding) {
+        encoding.append('{');
+        for (Map.Entry<String, MethodHandle> attribute
+                : ATTRIBUTES.get(dataObject.getImplementedInterface()).entrySet()) {
+            final Object value = get(attribute.getValue(), dataObject);
+            if (value != null) {
+                encoding.append(attribute.getKey()).append('=');
+                encode(value, encoding);
+                encoding.append(';');
+            }
+        }
+        if (dataObject instanceof Augmentable) {
+            final SortedMap<String, Augmentation<?>> augmentations = new TreeMap<>();
+            for (Map.Entry<Class<? extends Augmentation<?>>, Augmentation<?>> augmentation
+                    : BindingReflections.getAugmentations((Augmentable<?>) dataObject).entrySet()) {
+                augmentations.put(augmentation.getKey().getName(), augmentation.getValue());
+            }
+            for (Map.Entry<String, Augmentation<?>> augmentation : augmentations.entrySet()) {
+                encoding.append(augmentation.getKey()).append('=');
+                encode(augmentation.getValue(), encoding);
+                encoding.append(';');
+            }
+        }
+        encoding.append('}');
+    }
+
+    // prefixed with its length, so that the strings can't be mistaken for the delimiters around them
+    private static void encodeString(String value, StringBuilder encoding) {
+        encoding.append(value.length()).append(':').append(value);
+    }
+}
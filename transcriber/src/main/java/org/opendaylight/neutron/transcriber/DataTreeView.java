@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+/**
+ * In-memory state derived from the entries of one MD-SAL list, kept current by {@link DataTreeViews}.
+ *
+ * <p>Implementations must be thread safe: updates are delivered from the data tree change notification
+ * thread (and, for read-your-writes consistency, from the writing thread) while readers query concurrently.
+ *
+ * @param <K> key of the list entries
+ * @param <T> list entry
+ */
+interface DataTreeView<K, T> {
+
+    /**
+     * Called when the list entry with the given key was created or modified.
+     */
+    void put(K key, T dataObject);
+
+    /**
+     * Called when the list entry with the given key was deleted.
+     */
+    void remove(K key);
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.annotation.Nonnull;
+import org.opendaylight.controller.md.sal.binding.api.ClusteredDataTreeChangeListener;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.api.DataObjectModification;
+import org.opendaylight.controller.md.sal.binding.api.DataTreeIdentifier;
+import org.opendaylight.controller.md.sal.binding.api.DataTreeModification;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.Identifiable;
+import org.opendaylight.yangtools.yang.binding.Identifier;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps a set of {@link DataTreeView}s of one MD-SAL list current, using a single
+ * ClusteredDataTreeChangeListener on the (wildcarded) list entries in the CONFIGURATION datastore.
+ *
+ * <p>The data broker sends an initial notification with the entries present at registration time.
+ * Until that notification was processed (or the list was found to be empty, in which case there is no
+ * initial notification) the views are not {@link #isReady() ready} and callers have to read from the
+ * datastore instead.
+ *
+ * <p>The writes of this node can be applied to the views once they are committed, before they are notified,
+ * see {@link #beginWrite(Identifier)}. Such a write is only applied if no change of its entry was notified since
+ * it began: that change may be a newer one, which the late write must not overwrite.
+ *
+ * @param <T> list entry
+ * @param <K> key of the list entries
+ */
+final class DataTreeViews<T extends DataObject & Identifiable<K>, K extends Identifier<T>>
+        implements ClusteredDataTreeChangeListener<T>, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(DataTreeViews.class);
+
+    private final DataBroker db;
+    private final InstanceIdentifier<T> wildcardPath;
+    private final Class<T> listClass;
+    private final List<DataTreeView<K, T>> views = new CopyOnWriteArrayList<>();
+    // the writes of this node which began and didn't end yet, by key; guarded by this
+    private final Map<K, List<LocalWrite<K>>> localWrites = new HashMap<>();
+    private volatile boolean ready;
+    private ListenerRegistration<DataTreeViews<T, K>> registration;
+
+    DataTreeViews(DataBroker db, InstanceIdentifier<T> wildcardPath) {
+        this.db = Preconditions.checkNotNull(db);
+        this.wildcardPath = Preconditions.checkNotNull(wildcardPath);
+        this.listClass = wildcardPath.getTargetType();
+    }
+
+    void addView(DataTreeView<K, T> view) {
+        Preconditions.checkState(registration == null, "Views have to be added before registration");
+        views.add(view);
+    }
+
+    void register() {
+        LOG.debug("Register listener for {}", wildcardPath);
+        registration = db.registerDataTreeChangeListener(
+                new DataTreeIdentifier<>(LogicalDatastoreType.CONFIGURATION, wildcardPath), this);
+    }
+
+    /**
+     * Marks the views as ready without waiting for an initial notification, which is what callers
+     * should do after registration if they found the list to be empty.
+     */
+    void setReady() {
+        ready = true;
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Write of an entry by this node, from before its transaction is submitted until it is applied or abandoned.
+     */
+    static final class LocalWrite<K> {
+        private final K key;
+        // a change of the entry was notified since the write began; guarded by the views
+        private boolean overtaken;
+        private boolean ended;
+
+        LocalWrite(K key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * Begins a write of the entry with the given key by this node. It has to begin before its transaction is
+     * submitted, and has to be ended by {@link #written(LocalWrite, DataObject)} or {@link #end(LocalWrite)}.
+     */
+    synchronized LocalWrite<K> beginWrite(K key) {
+        final LocalWrite<K> write = new LocalWrite<>(key);
+        localWrites.computeIfAbsent(key, unused -> new ArrayList<>(1)).add(write);
+        return write;
+    }
+
+    /**
+     * Applies a committed write to the views and ends it, unless a change of its entry was notified since it began:
+     * the notification of the write itself, or one which may be newer.
+     *
+     * @param dataObject the entry as written, null if it was deleted
+     */
+    synchronized void written(LocalWrite<K> write, T dataObject) {
+        if (!write.ended && !write.overtaken) {
+            if (dataObject != null) {
+                put(write.key, dataObject);
+            } else {
+                remove(write.key);
+            }
+        }
+        end(write);
+    }
+
+    /**
+     * Ends a write without applying it, e.g. because it failed; ending a write again does nothing.
+     */
+    synchronized void end(LocalWrite<K> write) {
+        if (write.ended) {
+            return;
+        }
+        write.ended = true;
+        final List<LocalWrite<K>> writes = localWrites.get(write.key);
+        writes.remove(write);
+        if (writes.isEmpty()) {
+            localWrites.remove(write.key);
+        }
+    }
+
+    private void put(K key, T dataObject) {
+        for (DataTreeView<K, T> view : views) {
+            view.put(key, dataObject);
+        }
+    }
+
+    private void remove(K key) {
+        for (DataTreeView<K, T> view : views) {
+            view.remove(key);
+        }
+    }
+
+    @Override
+    public synchronized void onDataTreeChanged(@Nonnull Collection<DataTreeModification<T>> changes) {
+        for (DataTreeModification<T> change : changes) {
+            final K key = change.getRootPath().getRootIdentifier().firstKeyOf(listClass);
+            final List<LocalWrite<K>> writes = localWrites.get(key);
+            if (writes != null) {
+                writes.forEach(write -> write.overtaken = true);
+            }
+            final DataObjectModification<T> node = change.getRootNode();
+            switch (node.getModificationType()) {
+                case WRITE:
+                case SUBTREE_MODIFIED:
+                    put(key, node.getDataAfter());
+                    break;
+                case DELETE:
+                    remove(key);
+                    break;
+                default:
+                    LOG.warn("Unknown modification type {} of {}", node.getModificationType(), key);
+                    break;
+            }
+        }
+        ready = true;
+    }
+
+    @Override
+    public void close() {
+        if (registration != null) {
+            registration.close();
+            registration = null;
+        }
+        ready = false;
+    }
+}
@@ -35,8 +35,9 @@ public final class NeutronBgpvpnInterface extends AbstractNeutronInterface<Bgpvp
                     .put(BgpvpnTypeL2.class, "l2").put(BgpvpnTypeL3.class, "l3").build();
 
     @Inject
-    public NeutronBgpvpnInterface(DataBroker db) {
-        super(BgpvpnBuilder.class, db);
+    public NeutronBgpvpnInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(BgpvpnBuilder.class, db, config, writeCoalescer);
     }
 
     @Override
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.opendaylight.controller.md.sal.binding.api.ClusteredDataTreeChangeListener;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.api.DataObjectModification;
+import org.opendaylight.controller.md.sal.binding.api.DataObjectModification.ModificationType;
+import org.opendaylight.controller.md.sal.binding.api.DataTreeIdentifier;
+import org.opendaylight.controller.md.sal.binding.api.DataTreeModification;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.neutron.spi.INeutronChangeFeed;
+import org.opendaylight.neutron.spi.NeutronChange;
+import org.opendaylight.neutron.spi.NeutronChanges;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.attrs.rev150712.IdAttributes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.rev150712.Neutron;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.ops4j.pax.cdi.api.OsgiServiceProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Feed of the changes of the Neutron objects, fed by a ClusteredDataTreeChangeListener on the Neutron container
+ * in the CONFIGURATION datastore.
+ *
+ * <p>The last changes are kept in a ring buffer of the configured size. A cursor is the number of the last change
+ * before it, prefixed by a random epoch, so that the cursors given before a restart, when the numbering starts
+ * over, are found out. The readers waiting for changes are woken up once per notification.
+ */
+@Singleton
+@OsgiServiceProvider(classes = INeutronChangeFeed.class)
+public final class NeutronChangeFeed
+        implements INeutronChangeFeed, ClusteredDataTreeChangeListener<Neutron>, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NeutronChangeFeed.class);
+
+    private final DataBroker db;
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    // change n is kept at (n - 1) % length, the changes are numbered from 1; guarded by this
+    private final NeutronChange[] changes;
+    // number of the next change; guarded by this
+    private long next = 1;
+    private ListenerRegistration<NeutronChangeFeed> registration;
+
+    @Inject
+    public NeutronChangeFeed(DataBroker db, NeutronTranscriberConfig config) {
+        this.db = db;
+        this.changes = new NeutronChange[Math.max(0, config.getChangeFeedSize())];
+    }
+
+    @PostConstruct
+    public void init() {
+        if (isEnabled()) {
+            LOG.info("Keeping the last {} changes of the Neutron objects", changes.length);
+            registration = db.registerDataTreeChangeListener(new DataTreeIdentifier<>(
+                    LogicalDatastoreType.CONFIGURATION, InstanceIdentifier.create(Neutron.class)), this);
+        }
+    }
+
+    @Override
+    @PreDestroy
+    public void close() {
+        if (registration != null) {
+            registration.close();
+            registration = null;
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return changes.length > 0;
+    }
+
+    @Override
+    public synchronized String getCursor() {
+        return cursor(next - 1);
+    }
+
+    @Override
+    public NeutronChanges getChanges(String cursor, Set<String> resources, int limit, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        long last = parseCursor(cursor);
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        final List<NeutronChange> found = new ArrayList<>();
+        synchronized (this) {
+            while (true) {
+                // the changes after the cursor may have been overwritten while waiting
+                if (last < 0 || last >= next || next - last > changes.length + 1) {
+                    return null;
+                }
+                while (last + 1 < next && found.size() < limit) {
+                    last++;
+                    final NeutronChange change = changes[index(last)];
+                    if (resources.isEmpty() || resources.contains(change.getResource())) {
+                        found.add(change);
+                    }
+                }
+                final long remaining = deadline - System.nanoTime();
+                if (!found.isEmpty() || last + 1 < next || remaining <= 0) {
+                    break;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        }
+        return new NeutronChanges(found, cursor(last));
+    }
+
+    @Override
+    public void onDataTreeChanged(@Nonnull Collection<DataTreeModification<Neutron>> modifications) {
+        final List<NeutronChange> found = new ArrayList<>();
+        for (DataTreeModification<Neutron> modification : modifications) {
+            collect(modification.getRootNode(), null, found);
+        }
+        if (found.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            for (NeutronChange change : found) {
+                changes[index(next)] = change;
+                next++;
+            }
+            notifyAll();
+        }
+    }
+
+    /**
+     * Collects the changes of the Neutron objects in a modification, i.e. of the modified list entries with a
+     * UUID, including the nested ones, such as the members of a load balancer pool.
+     */
+    private static void collect(DataObjectModification<? extends DataObject> node, String resource,
+            List<NeutronChange> found) {
+        final ModificationType type = node.getModificationType();
+        final DataObject data = type == ModificationType.DELETE ? node.getDataBefore() : node.getDataAfter();
+        if (data instanceof IdAttributes && ((IdAttributes) data).getUuid() != null) {
+            final IdAttributes object = (IdAttributes) data;
+            final String action = type == ModificationType.DELETE ? NeutronChange.DELETE
+                    : node.getDataBefore() == null ? NeutronChange.CREATE : NeutronChange.UPDATE;
+            found.add(new NeutronChange(action, resource, object.getUuid().getValue(),
+                    type == ModificationType.DELETE ? null : object.getRevisionNumber()));
+        }
+        final String childResource = node.getDataType().getSimpleName().toLowerCase(Locale.ROOT);
+        for (DataObjectModification<? extends DataObject> child : node.getModifiedChildren()) {
+            collect(child, childResource, found);
+        }
+    }
+
+    private int index(long number) {
+        return (int) ((number - 1) % changes.length);
+    }
+
+    private String cursor(long number) {
+        return epoch + '-' + Long.toHexString(number);
+    }
+
+    /**
+     * Returns the number of the last change before a cursor, -1 if it isn't a cursor of this feed.
+     */
+    private long parseCursor(String cursor) {
+        if (!isEnabled() || cursor == null || !cursor.startsWith(epoch + '-')) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(cursor.substring(epoch.length() + 1), 16);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -27,8 +27,9 @@ public final class NeutronFirewallInterface
         implements INeutronFirewallCRUD {
 
     @Inject
-    public NeutronFirewallInterface(DataBroker db) {
-        super(FirewallBuilder.class, db);
+    public NeutronFirewallInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(FirewallBuilder.class, db, config, writeCoalescer);
     }
 
     @Override
@@ -26,8 +26,9 @@ public final class NeutronFirewallPolicyInterface
         implements INeutronFirewallPolicyCRUD {
 
     @Inject
-    public NeutronFirewallPolicyInterface(DataBroker db) {
-        super(FirewallPolicyBuilder.class, db);
+    public NeutronFirewallPolicyInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(FirewallPolicyBuilder.class, db, config, writeCoalescer);
     }
 
     @Override
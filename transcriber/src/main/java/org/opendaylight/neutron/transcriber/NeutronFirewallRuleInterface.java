@@ -45,8 +45,9 @@ public final class NeutronFirewallRuleInterface
                     .put(IpVersionV4.class, Integer.valueOf(4)).put(IpVersionV6.class, Integer.valueOf(6)).build();
 
     @Inject
-    public NeutronFirewallRuleInterface(DataBroker db) {
-        super(FirewallRuleBuilder.class, db);
+    public NeutronFirewallRuleInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(FirewallRuleBuilder.class, db, config, writeCoalescer);
     }
 
     @Override
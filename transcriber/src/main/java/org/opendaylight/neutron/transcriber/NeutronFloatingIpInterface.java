@@ -27,8 +27,13 @@ public final class NeutronFloatingIpInterface
         implements INeutronFloatingIpCRUD {
 
     @Inject
-    public NeutronFloatingIpInterface(DataBroker db) {
-        super(FloatingipBuilder.class, db);
+    public NeutronFloatingIpInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(FloatingipBuilder.class, db, config, writeCoalescer);
+        addAttribute("floating_network_id",
+            fip -> fip.getFloatingNetworkId() != null ? fip.getFloatingNetworkId().getValue() : null);
+        addAttribute("port_id", fip -> fip.getPortId() != null ? fip.getPortId().getValue() : null);
+        addAttribute("router_id", fip -> fip.getRouterId() != null ? fip.getRouterId().getValue() : null);
     }
 
     // IfNBFloatingIpCRUD interface methods
@@ -27,8 +27,9 @@ public final class NeutronL2gatewayConnectionInterface
         implements INeutronL2gatewayConnectionCRUD {
 
     @Inject
-    public NeutronL2gatewayConnectionInterface(DataBroker db) {
-        super(L2gatewayConnectionBuilder.class, db);
+    public NeutronL2gatewayConnectionInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(L2gatewayConnectionBuilder.class, db, config, writeCoalescer);
     }
 
     @Override
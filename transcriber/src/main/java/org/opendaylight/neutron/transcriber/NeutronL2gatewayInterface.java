@@ -33,8 +33,9 @@ public final class NeutronL2gatewayInterface
         implements INeutronL2gatewayCRUD {
 
     @Inject
-    public NeutronL2gatewayInterface(DataBroker db) {
-        super(L2gatewayBuilder.class, db);
+    public NeutronL2gatewayInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(L2gatewayBuilder.class, db, config, writeCoalescer);
     }
 
     @Override
@@ -41,8 +41,9 @@ public final class NeutronLoadBalancerHealthMonitorInterface
                     .put(ProbeTcp.class, "TCP").build();
 
     @Inject
-    public NeutronLoadBalancerHealthMonitorInterface(DataBroker db) {
-        super(HealthmonitorBuilder.class, db);
+    public NeutronLoadBalancerHealthMonitorInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(HealthmonitorBuilder.class, db, config, writeCoalescer);
     }
 
     @Override
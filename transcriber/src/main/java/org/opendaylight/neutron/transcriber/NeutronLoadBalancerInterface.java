@@ -27,8 +27,9 @@ public final class NeutronLoadBalancerInterface
         implements INeutronLoadBalancerCRUD {
 
     @Inject
-    public NeutronLoadBalancerInterface(DataBroker db) {
-        super(LoadbalancerBuilder.class, db);
+    public NeutronLoadBalancerInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(LoadbalancerBuilder.class, db, config, writeCoalescer);
     }
 
     @Override
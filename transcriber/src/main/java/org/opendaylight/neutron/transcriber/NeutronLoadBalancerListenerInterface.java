@@ -41,8 +41,9 @@ public final class NeutronLoadBalancerListenerInterface
                     .put(ProtocolTerminatedHttps.class, "TERMINATED_HTTPS").build();
 
     @Inject
-    public NeutronLoadBalancerListenerInterface(DataBroker db) {
-        super(ListenerBuilder.class, db);
+    public NeutronLoadBalancerListenerInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(ListenerBuilder.class, db, config, writeCoalescer);
     }
 
     @Override
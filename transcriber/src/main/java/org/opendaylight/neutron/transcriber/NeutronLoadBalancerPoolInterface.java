@@ -63,8 +63,9 @@ public final class NeutronLoadBalancerPoolInterface
                     .put(ProtocolTerminatedHttps.class, "TERMINATED_HTTPS").build();
 
     @Inject
-    public NeutronLoadBalancerPoolInterface(DataBroker db) {
-        super(PoolBuilder.class, db);
+    public NeutronLoadBalancerPoolInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(PoolBuilder.class, db, config, writeCoalescer);
     }
 
     @Override
@@ -26,8 +26,9 @@ public final class NeutronMeteringLabelInterface
         implements INeutronMeteringLabelCRUD {
 
     @Inject
-    public NeutronMeteringLabelInterface(DataBroker db) {
-        super(MeteringLabelBuilder.class, db);
+    public NeutronMeteringLabelInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(MeteringLabelBuilder.class, db, config, writeCoalescer);
     }
 
     // IfNBMeteringLabelCRUD methods
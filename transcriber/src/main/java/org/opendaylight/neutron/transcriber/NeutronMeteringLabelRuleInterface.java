@@ -28,8 +28,9 @@ public final class NeutronMeteringLabelRuleInterface
         implements INeutronMeteringLabelRuleCRUD {
 
     @Inject
-    public NeutronMeteringLabelRuleInterface(DataBroker db) {
-        super(MeteringRuleBuilder.class, db);
+    public NeutronMeteringLabelRuleInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(MeteringRuleBuilder.class, db, config, writeCoalescer);
     }
 
     // IfNBMeteringLabelRuleCRUD methods
@@ -47,8 +47,9 @@ public final class NeutronNetworkInterface
                     .put(NetworkTypeVlan.class, "vlan").put(NetworkTypeVxlan.class, "vxlan").build();
 
     @Inject
-    public NeutronNetworkInterface(DataBroker db) {
-        super(NetworkBuilder.class, db);
+    public NeutronNetworkInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(NetworkBuilder.class, db, config, writeCoalescer);
     }
 
     // IfNBNetworkCRUD methods
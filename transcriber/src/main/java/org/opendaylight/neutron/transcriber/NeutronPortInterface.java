@@ -60,9 +60,51 @@ public final class NeutronPortInterface extends AbstractNeutronInterface<Port, P
             Integer> IPV_MAP = new ImmutableBiMap.Builder<Class<? extends IpVersionBase>, Integer>()
                     .put(IpVersionV4.class, Integer.valueOf(4)).put(IpVersionV6.class, Integer.valueOf(6)).build();
 
+    private static final String NETWORK_ID = "network_id";
+    private static final String DEVICE_ID = "device_id";
+    private static final String DEVICE_OWNER = "device_owner";
+    private static final String MAC_ADDRESS = "mac_address";
+    private static final String TENANT_ID = "tenant_id";
+    private static final String STATUS = "status";
+
     @Inject
-    public NeutronPortInterface(DataBroker db) {
-        super(PortBuilder.class, db);
+    public NeutronPortInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(PortBuilder.class, db, config, writeCoalescer);
+        addIndex(NETWORK_ID, port -> port.getNetworkId() != null ? port.getNetworkId().getValue() : null);
+        addIndex(DEVICE_ID, Port::getDeviceId);
+        addIndex(DEVICE_OWNER, Port::getDeviceOwner);
+        addIndex(MAC_ADDRESS, port -> port.getMacAddress() != null ? port.getMacAddress().getValue() : null);
+        // NeutronObject.setTenantID(Uuid) drops the dashes, so index the tenant the same way
+        addIndex(TENANT_ID,
+            port -> port.getTenantId() != null ? port.getTenantId().getValue().replace("-", "") : null);
+        // so that the ports can be counted by status
+        addIndex(STATUS, Port::getStatus);
+    }
+
+    @Override
+    public List<NeutronPort> getByNetworkUUID(String networkUUID) {
+        return getByIndex(NETWORK_ID, networkUUID);
+    }
+
+    @Override
+    public List<NeutronPort> getByDeviceID(String deviceID) {
+        return getByIndex(DEVICE_ID, deviceID);
+    }
+
+    @Override
+    public List<NeutronPort> getByDeviceOwner(String deviceOwner) {
+        return getByIndex(DEVICE_OWNER, deviceOwner);
+    }
+
+    @Override
+    public List<NeutronPort> getByMacAddress(String macAddress) {
+        return getByIndex(MAC_ADDRESS, macAddress);
+    }
+
+    @Override
+    public List<NeutronPort> getByTenantID(String tenantID) {
+        return getByIndex(TENANT_ID, tenantID);
     }
 
     // IfNBPortCRUD methods
@@ -37,8 +37,9 @@ public final class NeutronQosPolicyInterface
         implements INeutronQosPolicyCRUD {
 
     @Inject
-    public NeutronQosPolicyInterface(DataBroker db) {
-        super(QosPolicyBuilder.class, db);
+    public NeutronQosPolicyInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(QosPolicyBuilder.class, db, config, writeCoalescer);
     }
 
     @Override
@@ -38,8 +38,9 @@ public final class NeutronRouterInterface extends AbstractNeutronInterface<Route
     // methods needed for creating caches
 
     @Inject
-    public NeutronRouterInterface(DataBroker db) {
-        super(RouterBuilder.class, db);
+    public NeutronRouterInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(RouterBuilder.class, db, config, writeCoalescer);
     }
 
     // IfNBRouterCRUD Interface methods
@@ -59,8 +59,9 @@ public final class NeutronSFCFlowClassifierInterface
                     .build();
 
     @Inject
-    public NeutronSFCFlowClassifierInterface(DataBroker db) {
-        super(SfcFlowClassifierBuilder.class, db);
+    public NeutronSFCFlowClassifierInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(SfcFlowClassifierBuilder.class, db, config, writeCoalescer);
     }
 
     @Override
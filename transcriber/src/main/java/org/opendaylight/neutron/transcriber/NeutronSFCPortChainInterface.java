@@ -39,8 +39,9 @@ public final class NeutronSFCPortChainInterface
     private static final Logger LOG = LoggerFactory.getLogger(NeutronSFCPortChainInterface.class);
 
     @Inject
-    public NeutronSFCPortChainInterface(DataBroker db) {
-        super(PortChainBuilder.class, db);
+    public NeutronSFCPortChainInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(PortChainBuilder.class, db, config, writeCoalescer);
     }
 
     @Override
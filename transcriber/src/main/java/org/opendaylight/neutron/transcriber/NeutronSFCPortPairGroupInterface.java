@@ -35,8 +35,9 @@ public final class NeutronSFCPortPairGroupInterface
     private static final Logger LOG = LoggerFactory.getLogger(NeutronSFCPortPairGroupInterface.class);
 
     @Inject
-    public NeutronSFCPortPairGroupInterface(DataBroker db) {
-        super(PortPairGroupBuilder.class, db);
+    public NeutronSFCPortPairGroupInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(PortPairGroupBuilder.class, db, config, writeCoalescer);
     }
 
     @Override
@@ -39,8 +39,9 @@ public final class NeutronSFCPortPairInterface
     private static final Logger LOG = LoggerFactory.getLogger(NeutronSFCPortPairInterface.class);
 
     @Inject
-    public NeutronSFCPortPairInterface(DataBroker db) {
-        super(PortPairBuilder.class, db);
+    public NeutronSFCPortPairInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(PortPairBuilder.class, db, config, writeCoalescer);
     }
 
     @Override
@@ -26,8 +26,9 @@ public final class NeutronSecurityGroupInterface
         implements INeutronSecurityGroupCRUD {
 
     @Inject
-    public NeutronSecurityGroupInterface(DataBroker db) {
-        super(SecurityGroupBuilder.class, db);
+    public NeutronSecurityGroupInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(SecurityGroupBuilder.class, db, config, writeCoalescer);
     }
 
     @Override
@@ -40,8 +40,9 @@ public final class NeutronSecurityRuleInterface extends
                     .put(EthertypeV4.class, "IPv4").put(EthertypeV6.class, "IPv6").build();
 
     @Inject
-    public NeutronSecurityRuleInterface(DataBroker db) {
-        super(SecurityRuleBuilder.class, db);
+    public NeutronSecurityRuleInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(SecurityRuleBuilder.class, db, config, writeCoalescer);
     }
 
     @Override
@@ -57,8 +57,12 @@ public final class NeutronSubnetInterface extends AbstractNeutronInterface<Subne
                     .put(Dhcpv6Slaac.class, "slaac").put(Dhcpv6Stateless.class, "dhcpv6-stateless").build();
 
     @Inject
-    public NeutronSubnetInterface(DataBroker db) {
-        super(SubnetBuilder.class, db);
+    public NeutronSubnetInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(SubnetBuilder.class, db, config, writeCoalescer);
+        addAttribute("network_id",
+            subnet -> subnet.getNetworkId() != null ? subnet.getNetworkId().getValue() : null);
+        addAttribute("cidr", subnet -> subnet.getCidr() != null ? String.valueOf(subnet.getCidr().getValue()) : null);
     }
 
     // IfNBSubnetCRUD methods
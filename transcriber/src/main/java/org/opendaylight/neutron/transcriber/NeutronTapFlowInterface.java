@@ -52,8 +52,9 @@ public final class NeutronTapFlowInterface
                     .put(DirectionBoth.class, "BOTH").build();
 
     @Inject
-    public NeutronTapFlowInterface(DataBroker db) {
-        super(TapFlowBuilder.class, db);
+    public NeutronTapFlowInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(TapFlowBuilder.class, db, config, writeCoalescer);
     }
 
     protected InstanceIdentifier<TapFlow> createTapFlowInstanceIdentifier(String tapServiceUUID, TapFlow item) {
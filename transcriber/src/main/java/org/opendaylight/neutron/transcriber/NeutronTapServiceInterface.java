@@ -26,8 +26,9 @@ public final class NeutronTapServiceInterface
         implements INeutronTapServiceCRUD {
 
     @Inject
-    public NeutronTapServiceInterface(DataBroker db) {
-        super(TapServiceBuilder.class, db);
+    public NeutronTapServiceInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(TapServiceBuilder.class, db, config, writeCoalescer);
     }
 
     @Override
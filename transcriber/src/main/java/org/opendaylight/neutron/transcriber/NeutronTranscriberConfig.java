@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Configuration of the transcribers, see the org.opendaylight.neutron.transcriber
+ * configuration (transcriber.xml) for the available properties.
+ *
+ * <p>Resources are identified by the lower case name of their MD-SAL container,
+ * e.g. "ports", "networks", "subnets" or "floatingips".
+ */
+public class NeutronTranscriberConfig {
+
+    /**
+     * How up to date the cached objects and indexes are with respect to writes done through the same
+     * transcriber.
+     */
+    public enum CacheConsistency {
+        /**
+         * The cache is only updated by datastore change notifications, so a read right after a write may
+         * still return the previous object.
+         */
+        EVENTUAL,
+        /**
+         * Successful writes through the transcriber are also applied to the cache before they return, so a
+         * caller always reads its own writes. Writes by other datastore users are still eventually consistent.
+         */
+        READ_YOUR_WRITES
+    }
+
+    private static final Splitter LIST_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
+
+    private boolean cacheEnabled;
+    private boolean indexEnabled;
+    private Set<String> cacheDisabledResources = ImmutableSet.of();
+    private CacheConsistency cacheConsistency = CacheConsistency.EVENTUAL;
+    private boolean writeCoalescingEnabled;
+    private boolean transactionChainEnabled;
+    private long writeCoalescingWindowMillis = 2;
+    private int writeCoalescingMaxBatchSize = 64;
+    private int changeFeedSize;
+    private boolean updateMergeEnabled;
+
+    public void setCacheEnabled(boolean cacheEnabled) {
+        this.cacheEnabled = cacheEnabled;
+    }
+
+    public void setIndexEnabled(boolean indexEnabled) {
+        this.indexEnabled = indexEnabled;
+    }
+
+    public void setCacheDisabledResources(String cacheDisabledResources) {
+        this.cacheDisabledResources = parseResources(cacheDisabledResources);
+    }
+
+    public void setCacheConsistency(String cacheConsistency) {
+        this.cacheConsistency = CacheConsistency.valueOf(
+                cacheConsistency.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+
+    public void setWriteCoalescingEnabled(boolean writeCoalescingEnabled) {
+        this.writeCoalescingEnabled = writeCoalescingEnabled;
+    }
+
+    public void setWriteCoalescingWindow(long writeCoalescingWindowMillis) {
+        this.writeCoalescingWindowMillis = writeCoalescingWindowMillis;
+    }
+
+    public void setWriteCoalescingMaxBatch(int writeCoalescingMaxBatchSize) {
+        this.writeCoalescingMaxBatchSize = writeCoalescingMaxBatchSize;
+    }
+
+    public void setTransactionChainEnabled(boolean transactionChainEnabled) {
+        this.transactionChainEnabled = transactionChainEnabled;
+    }
+
+    public void setChangeFeedSize(int changeFeedSize) {
+        this.changeFeedSize = changeFeedSize;
+    }
+
+    public void setUpdateMergeEnabled(boolean updateMergeEnabled) {
+        this.updateMergeEnabled = updateMergeEnabled;
+    }
+
+    public boolean isCacheEnabledFor(String resource) {
+        return cacheEnabled && !cacheDisabledResources.contains(resource);
+    }
+
+    public boolean isIndexEnabled() {
+        return indexEnabled;
+    }
+
+    public CacheConsistency getCacheConsistencyMode() {
+        return cacheConsistency;
+    }
+
+    public boolean isWriteCoalescingEnabled() {
+        return writeCoalescingEnabled;
+    }
+
+    public long getWriteCoalescingWindowMillis() {
+        return writeCoalescingWindowMillis;
+    }
+
+    public int getWriteCoalescingMaxBatchSize() {
+        return writeCoalescingMaxBatchSize;
+    }
+
+    public boolean isTransactionChainEnabled() {
+        return transactionChainEnabled;
+    }
+
+    public int getChangeFeedSize() {
+        return changeFeedSize;
+    }
+
+    public boolean isUpdateMergeEnabled() {
+        return updateMergeEnabled;
+    }
+
+    private static Set<String> parseResources(String resources) {
+        if (resources == null) {
+            return ImmutableSet.of();
+        }
+        return ImmutableSet.copyOf(LIST_SPLITTER.split(resources.toLowerCase(Locale.ROOT)));
+    }
+}
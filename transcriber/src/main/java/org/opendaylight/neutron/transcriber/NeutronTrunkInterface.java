@@ -40,8 +40,9 @@ public final class NeutronTrunkInterface extends AbstractNeutronInterface<Trunk,
             .put(NetworkTypeVlan.class, "vlan").put(NetworkTypeVxlan.class, "vxlan").build();
 
     @Inject
-    public NeutronTrunkInterface(DataBroker db) {
-        super(TrunkBuilder.class, db);
+    public NeutronTrunkInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(TrunkBuilder.class, db, config, writeCoalescer);
     }
 
     @Override
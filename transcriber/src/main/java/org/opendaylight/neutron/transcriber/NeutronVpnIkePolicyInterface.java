@@ -28,8 +28,9 @@ public final class NeutronVpnIkePolicyInterface
         implements INeutronVpnIkePolicyCRUD {
 
     @Inject
-    public NeutronVpnIkePolicyInterface(DataBroker db) {
-        super(IkepolicyBuilder.class, db);
+    public NeutronVpnIkePolicyInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(IkepolicyBuilder.class, db, config, writeCoalescer);
     }
 
     // IfNBVPNIKEPolicyCRUD methods
@@ -28,8 +28,9 @@ public final class NeutronVpnIpSecPolicyInterface
         implements INeutronVpnIpSecPolicyCRUD {
 
     @Inject
-    public NeutronVpnIpSecPolicyInterface(DataBroker db) {
-        super(IpsecpolicyBuilder.class, db);
+    public NeutronVpnIpSecPolicyInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(IpsecpolicyBuilder.class, db, config, writeCoalescer);
     }
 
     // IfNBVPNIPSECPolicyCRUD methods
@@ -30,8 +30,9 @@ public final class NeutronVpnIpSecSiteConnectionsInterface
         implements INeutronVpnIpSecSiteConnectionsCRUD {
 
     @Inject
-    public NeutronVpnIpSecSiteConnectionsInterface(DataBroker db) {
-        super(IpsecsiteconnectionBuilder.class, db);
+    public NeutronVpnIpSecSiteConnectionsInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(IpsecsiteconnectionBuilder.class, db, config, writeCoalescer);
     }
 
     // INeutronVpnIpSecSiteConnectionsCRUD methods
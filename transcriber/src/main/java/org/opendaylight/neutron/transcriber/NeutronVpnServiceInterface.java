@@ -26,8 +26,9 @@ public final class NeutronVpnServiceInterface
         implements INeutronVpnServiceCRUD {
 
     @Inject
-    public NeutronVpnServiceInterface(DataBroker db) {
-        super(VpnserviceBuilder.class, db);
+    public NeutronVpnServiceInterface(DataBroker db, NeutronTranscriberConfig config,
+            WriteCoalescer writeCoalescer) {
+        super(VpnserviceBuilder.class, db, config, writeCoalescer);
     }
 
     @Override
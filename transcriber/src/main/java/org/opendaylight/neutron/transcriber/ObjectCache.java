@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Cache of the entries of one MD-SAL list, converted to neutron-spi objects when they are read.
+ *
+ * <p>The list entries are immutable, so they are shared between all readers. The neutron-spi objects aren't, so
+ * every read converts the entry again and returns an object of its own to the caller, which may modify it.
+ *
+ * @param <K> key of the list entries
+ * @param <T> list entry
+ * @param <S> neutron-spi class
+ */
+final class ObjectCache<K, T, S> implements DataTreeView<K, T> {
+
+    private final ConcurrentMap<K, T> entries = new ConcurrentHashMap<>();
+    private final Function<T, S> converter;
+
+    ObjectCache(Function<T, S> converter) {
+        this.converter = converter;
+    }
+
+    @Override
+    public void put(K key, T dataObject) {
+        entries.put(key, dataObject);
+    }
+
+    @Override
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    S get(K key) {
+        final T dataObject = entries.get(key);
+        return dataObject != null ? converter.apply(dataObject) : null;
+    }
+
+    /**
+     * Returns the cached entry with the given key, which isn't converted, or null if there is none.
+     */
+    T getEntry(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Returns all cached entries, which aren't converted.
+     */
+    List<T> entries() {
+        return new ArrayList<>(entries.values());
+    }
+
+    boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    List<S> values() {
+        final List<S> values = new ArrayList<>(entries.size());
+        for (T dataObject : entries.values()) {
+            values.add(converter.apply(dataObject));
+        }
+        return values;
+    }
+}
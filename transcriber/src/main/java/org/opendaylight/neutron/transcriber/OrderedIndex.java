@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+/**
+ * Keys of the list entries ordered by an attribute, and by UUID among entries with the same attribute
+ * value, so that pages can be read starting at any entry without sorting the list.
+ */
+final class OrderedIndex<K, T> implements DataTreeView<K, T> {
+
+    /**
+     * Position of an entry in the order, entries without attribute value come first.
+     */
+    static final class Position implements Comparable<Position> {
+        private static final Comparator<Position> ORDER =
+                Comparator.comparing((Position position) -> position.value, Comparator.nullsFirst(String::compareTo))
+                        .thenComparing(position -> position.uuid);
+
+        private final String value;
+        private final String uuid;
+
+        Position(String value, String uuid) {
+            this.value = value;
+            this.uuid = uuid;
+        }
+
+        @Override
+        public int compareTo(Position other) {
+            return ORDER.compare(this, other);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Position)) {
+                return false;
+            }
+            final Position other = (Position) obj;
+            return Objects.equals(value, other.value) && uuid.equals(other.uuid);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(value, uuid);
+        }
+    }
+
+    private final ConcurrentSkipListMap<Position, K> keysByPosition = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<K, Position> positionByKey = new ConcurrentHashMap<>();
+    private final Function<T, String> extractor;
+    private final Function<T, String> uuidOf;
+
+    OrderedIndex(Function<T, String> extractor, Function<T, String> uuidOf) {
+        this.extractor = extractor;
+        this.uuidOf = uuidOf;
+    }
+
+    @Override
+    public synchronized void put(K key, T dataObject) {
+        final Position position = new Position(extractor.apply(dataObject), uuidOf.apply(dataObject));
+        final Position oldPosition = positionByKey.put(key, position);
+        if (oldPosition != null && !oldPosition.equals(position)) {
+            keysByPosition.remove(oldPosition);
+        }
+        keysByPosition.put(position, key);
+    }
+
+    @Override
+    public synchronized void remove(K key) {
+        final Position oldPosition = positionByKey.remove(key);
+        if (oldPosition != null) {
+            keysByPosition.remove(oldPosition);
+        }
+    }
+
+    /**
+     * Returns the current position of the entry with the given key, or null if there is no such entry.
+     */
+    Position getPosition(K key) {
+        return positionByKey.get(key);
+    }
+
+    /**
+     * Returns the keys following the given position, in order (or in reverse order, preceding the position).
+     * The returned collection is a live view, which is iterated lazily.
+     *
+     * @param from position to start after, exclusive; null to start at the first (or last) entry
+     * @param reverse whether to return the preceding keys, in reverse order
+     */
+    Collection<K> keys(Position from, boolean reverse) {
+        NavigableMap<Position, K> view = keysByPosition;
+        if (from != null) {
+            view = reverse ? view.headMap(from, false) : view.tailMap(from, false);
+        }
+        return reverse ? view.descendingMap().values() : view.values();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import org.opendaylight.controller.md.sal.binding.api.BindingTransactionChain;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncTransaction;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionChain;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionChainListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Read-write transactions of one transcriber, allocated from a transaction chain.
+ *
+ * <p>Transactions of a chain are committed in the order they were submitted, and a transaction
+ * sees the writes of the ones submitted before it even if they aren't committed yet. So a
+ * transaction can be allocated as soon as the previous one was submitted, without waiting for
+ * its commit. As a chain only allows one open transaction at a time, the transactions are
+ * handed out one after the other: {@link #newReadWriteTransaction()} completes once the
+ * previous transaction was given back with {@link #transactionDone()}.
+ *
+ * <p>If the chain fails, it is replaced by a new one. The transactions pending on the failed
+ * chain fail, the following ones are allocated from the new chain.
+ */
+final class PipelinedTransactionChain implements TransactionChainListener, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PipelinedTransactionChain.class);
+
+    private final DataBroker db;
+    private final String name;
+
+    // guarded by this
+    private final Queue<SettableFuture<ReadWriteTransaction>> waiting = new ArrayDeque<>();
+    private BindingTransactionChain chain;
+    private boolean busy;
+
+    PipelinedTransactionChain(DataBroker db, String name) {
+        this.db = db;
+        this.name = name;
+        this.chain = db.createTransactionChain(this);
+    }
+
+    /**
+     * Allocates the next transaction of the chain, once the previous one is done. The caller
+     * has to call {@link #transactionDone()} right after submitting or cancelling it.
+     */
+    ListenableFuture<ReadWriteTransaction> newReadWriteTransaction() {
+        final SettableFuture<ReadWriteTransaction> future = SettableFuture.create();
+        synchronized (this) {
+            if (busy) {
+                waiting.add(future);
+                return future;
+            }
+            busy = true;
+        }
+        handOut(future);
+        return future;
+    }
+
+    void transactionDone() {
+        final SettableFuture<ReadWriteTransaction> next;
+        synchronized (this) {
+            next = waiting.poll();
+            if (next == null) {
+                busy = false;
+                return;
+            }
+        }
+        handOut(next);
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void handOut(SettableFuture<ReadWriteTransaction> future) {
+        final ReadWriteTransaction tx;
+        try {
+            synchronized (this) {
+                tx = chain.newReadWriteTransaction();
+            }
+        } catch (RuntimeException e) {
+            future.setException(e);
+            transactionDone();
+            return;
+        }
+        if (!future.set(tx)) {
+            // the caller gave up waiting, the transaction goes to the next one
+            tx.cancel();
+            transactionDone();
+        }
+    }
+
+    @Override
+    public void onTransactionChainFailed(TransactionChain<?, ?> failedChain, AsyncTransaction<?, ?> transaction,
+            Throwable cause) {
+        LOG.warn("Transaction chain of {} failed, replacing it", name, cause);
+        synchronized (this) {
+            if (failedChain == chain) {
+                chain.close();
+                chain = db.createTransactionChain(this);
+            }
+        }
+    }
+
+    @Override
+    public void onTransactionChainSuccessful(TransactionChain<?, ?> successfulChain) {
+        LOG.debug("Transaction chain of {} closed", name);
+    }
+
+    @Override
+    public synchronized void close() {
+        chain.close();
+    }
+}
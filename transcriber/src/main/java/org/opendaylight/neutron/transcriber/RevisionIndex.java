@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Index of the revision numbers of the entries of one MD-SAL list by UUID, so that the revisions of the whole list
+ * can be compared without reading and converting the entries. Entries without UUID are not indexed.
+ *
+ * @param <K> key of the list entries
+ * @param <T> list entry
+ */
+final class RevisionIndex<K, T> implements DataTreeView<K, T> {
+
+    private static final class Revision {
+        private final String uuid;
+        private final Long number;
+
+        Revision(String uuid, Long number) {
+            this.uuid = uuid;
+            this.number = number;
+        }
+    }
+
+    private final ConcurrentMap<K, Revision> revisions = new ConcurrentHashMap<>();
+    private final Function<T, String> uuidOf;
+    private final Function<T, Long> revisionOf;
+
+    RevisionIndex(Function<T, String> uuidOf, Function<T, Long> revisionOf) {
+        this.uuidOf = uuidOf;
+        this.revisionOf = revisionOf;
+    }
+
+    @Override
+    public void put(K key, T dataObject) {
+        final String uuid = uuidOf.apply(dataObject);
+        if (uuid != null) {
+            revisions.put(key, new Revision(uuid, revisionOf.apply(dataObject)));
+        } else {
+            revisions.remove(key);
+        }
+    }
+
+    @Override
+    public void remove(K key) {
+        revisions.remove(key);
+    }
+
+    /**
+     * Returns the number of indexed entries.
+     */
+    int size() {
+        return revisions.size();
+    }
+
+    /**
+     * Returns the revision numbers by UUID, a null revision number for the entries which have none.
+     */
+    Map<String, Long> getRevisionNumbers() {
+        final Map<String, Long> result = new HashMap<>(revisions.size() * 4 / 3 + 1);
+        for (Revision revision : revisions.values()) {
+            result.put(revision.uuid, revision.number);
+        }
+        return result;
+    }
+}
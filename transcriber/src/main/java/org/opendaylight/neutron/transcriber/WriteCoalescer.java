@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Group commit of the writes of all transcribers.
+ *
+ * <p>Operations submitted within the configured window, or until the configured number of them is reached,
+ * are run on one shared read-write transaction, and every caller's future completes with the result of its
+ * operation once that transaction is committed. An operation checks its conditions by reading the transaction
+ * it is given, so the checks hold for the commit which contains its writes. If an operation fails, or the shared
+ * commit fails, the operations of the batch are run again, each in a transaction of its own, so that one bad
+ * operation only fails its own caller.
+ *
+ * <p>When write coalescing isn't enabled, {@link #submit(Function)} runs every operation in its own
+ * transaction right away.
+ */
+@Singleton
+public class WriteCoalescer implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WriteCoalescer.class);
+
+    private static final class PendingWrite<R> {
+        private final Function<ReadWriteTransaction, R> operation;
+        private final SettableFuture<R> future = SettableFuture.create();
+        private R result;
+
+        PendingWrite(Function<ReadWriteTransaction, R> operation) {
+            this.operation = operation;
+        }
+
+        void applyTo(ReadWriteTransaction tx) {
+            result = operation.apply(tx);
+        }
+
+        void committed() {
+            future.set(result);
+        }
+    }
+
+    private final DataBroker db;
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService executor;
+
+    // guarded by this
+    private List<PendingWrite<?>> pending = new ArrayList<>();
+
+    @Inject
+    public WriteCoalescer(DataBroker db, NeutronTranscriberConfig config) {
+        this.db = db;
+        this.enabled = config.isWriteCoalescingEnabled();
+        this.windowMillis = config.getWriteCoalescingWindowMillis();
+        this.maxBatchSize = config.getWriteCoalescingMaxBatchSize();
+        if (enabled) {
+            LOG.info("Coalescing writes within {}ms, up to {} per transaction", windowMillis, maxBatchSize);
+            executor = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("neutron-write-coalescer").setDaemon(true).build());
+        } else {
+            executor = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Runs the operation and commits its writes, possibly together with others.
+     *
+     * @param operation reads and writes the given transaction, and returns the result of the caller; must not
+     *     submit or cancel the transaction, and may be run more than once
+     * @return future of the result of the operation, set once the transaction containing its writes is committed
+     */
+    public <R> ListenableFuture<R> submit(Function<ReadWriteTransaction, R> operation) {
+        if (!enabled) {
+            return commitAlone(operation);
+        }
+
+        final PendingWrite<R> write = new PendingWrite<>(operation);
+        final boolean first;
+        final boolean full;
+        synchronized (this) {
+            pending.add(write);
+            first = pending.size() == 1;
+            full = pending.size() >= maxBatchSize;
+        }
+        if (full) {
+            executor.execute(this::flush);
+        } else if (first) {
+            executor.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+        }
+        return write.future;
+    }
+
+    private void flush() {
+        final List<PendingWrite<?>> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                // already flushed because the batch was full
+                return;
+            }
+            batch = pending;
+            pending = new ArrayList<>();
+        }
+
+        final ReadWriteTransaction tx = db.newReadWriteTransaction();
+        try {
+            for (PendingWrite<?> write : batch) {
+                write.applyTo(tx);
+            }
+        } catch (RuntimeException e) {
+            tx.cancel();
+            LOG.warn("Coalesced write failed, running the {} writes one by one", batch.size(), e);
+            batch.forEach(this::commitAlone);
+            return;
+        }
+        Futures.addCallback(tx.submit(), new FutureCallback<Void>() {
+            @Override
+            public void onSuccess(Void result) {
+                batch.forEach(PendingWrite::committed);
+            }
+
+            @Override
+            public void onFailure(Throwable cause) {
+                if (batch.size() == 1) {
+                    batch.get(0).future.setException(cause);
+                    return;
+                }
+                LOG.warn("Coalesced commit of {} writes failed, retrying them one by one", batch.size(), cause);
+                batch.forEach(WriteCoalescer.this::commitAlone);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    private <R> void commitAlone(PendingWrite<R> write) {
+        write.future.setFuture(commitAlone(write.operation));
+    }
+
+    private <R> ListenableFuture<R> commitAlone(Function<ReadWriteTransaction, R> operation) {
+        final ReadWriteTransaction tx = db.newReadWriteTransaction();
+        final R result;
+        try {
+            result = operation.apply(tx);
+        } catch (RuntimeException e) {
+            tx.cancel();
+            return Futures.immediateFailedFuture(e);
+        }
+        return Futures.transform(tx.submit(), unused -> result, MoreExecutors.directExecutor());
+    }
+
+    @Override
+    @PreDestroy
+    public void close() {
+        if (executor != null) {
+            executor.shutdown();
+            // commit whatever is still waiting for its window
+            flush();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSet.Builder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.After;
+import org.junit.Assert;
+import org.opendaylight.controller.md.sal.binding.test.AbstractDataChangeListenerTest;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.binding.rev150712.PortBindingExtension;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.l3.ext.rev150712.NetworkL3Extension;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.portsecurity.rev150712.PortSecurityExtension;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.provider.ext.rev150712.NetworkProviderExtension;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.qos.ext.rev160613.QosNetworkExtension;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.qos.ext.rev160613.QosPortExtension;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.rev150712.Neutron;
+import org.opendaylight.yangtools.yang.binding.YangModuleInfo;
+import org.opendaylight.yangtools.yang.binding.util.BindingReflections;
+
+/**
+ * Base class of the transcriber tests which run against an in-memory data broker with the neutron model.
+ */
+public abstract class AbstractTranscriberDataBrokerTest extends AbstractDataChangeListenerTest {
+
+    private static final long TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+    private static final long POLL_MILLIS = 10;
+
+    private final List<AutoCloseable> started = new ArrayList<>();
+
+    @Override
+    protected Iterable<YangModuleInfo> getModuleInfos() throws Exception {
+        Builder<YangModuleInfo> moduleInfoSet = ImmutableSet.<YangModuleInfo>builder();
+        // the extensions augment the neutron model, which doesn't import them
+        for (Class<?> modelClass : Arrays.asList(Neutron.class, PortBindingExtension.class,
+                PortSecurityExtension.class, QosPortExtension.class, NetworkL3Extension.class,
+                NetworkProviderExtension.class, QosNetworkExtension.class)) {
+            YangModuleInfo moduleInfo = BindingReflections.getModuleInfo(modelClass);
+            Preconditions.checkNotNull(moduleInfo, "Module Info for %s is not available.", modelClass);
+            collectYangModuleInfo(moduleInfo, moduleInfoSet);
+        }
+        return moduleInfoSet.build();
+    }
+
+    private static void collectYangModuleInfo(final YangModuleInfo moduleInfo,
+            final Builder<YangModuleInfo> moduleInfoSet) {
+        moduleInfoSet.add(moduleInfo);
+        for (YangModuleInfo dependency : moduleInfo.getImportedModules()) {
+            collectYangModuleInfo(dependency, moduleInfoSet);
+        }
+    }
+
+    @After
+    public void closeStarted() throws Exception {
+        for (AutoCloseable closeable : started) {
+            closeable.close();
+        }
+        started.clear();
+    }
+
+    /**
+     * Configuration with the cache and the indexes enabled, the writes read back by their writer.
+     */
+    protected static NeutronTranscriberConfig cachedConfig() {
+        NeutronTranscriberConfig config = new NeutronTranscriberConfig();
+        config.setCacheEnabled(true);
+        config.setIndexEnabled(true);
+        config.setCacheConsistency("read-your-writes");
+        return config;
+    }
+
+    /**
+     * Write coalescer of the config, closed after the test.
+     */
+    protected WriteCoalescer newWriteCoalescer(NeutronTranscriberConfig config) {
+        WriteCoalescer writeCoalescer = new WriteCoalescer(getDataBroker(), config);
+        started.add(writeCoalescer);
+        return writeCoalescer;
+    }
+
+    /**
+     * Initializes a transcriber, which is closed after the test, and waits for its views to be ready.
+     */
+    protected <I extends AbstractTranscriberInterface<?, ?, ?, ?, ?>> I start(I transcriber) {
+        transcriber.init();
+        started.add(transcriber);
+        awaitTrue(() -> transcriber.getChangeTag() != null);
+        return transcriber;
+    }
+
+    protected static void awaitTrue(BooleanSupplier condition) {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            Assert.assertTrue("Timed out waiting for the condition", System.currentTimeMillis() < deadline);
+            try {
+                Thread.sleep(POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
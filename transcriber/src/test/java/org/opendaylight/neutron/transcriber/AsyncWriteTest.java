@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.binding.api.BindingTransactionChain;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
+import org.opendaylight.neutron.northbound.api.InternalServerErrorException;
+
+/**
+ * Tests the asynchronous writes, and the synchronous ones, on a transaction chain, and how the failed writes are
+ * reported.
+ */
+public class AsyncWriteTest extends AbstractTranscriberDataBrokerTest {
+
+    private static final String UUID1 = "4e8e5957-649f-477b-9e5b-f1f75b21c03c";
+    private static final String UUID2 = "a7bf6bd1-2a63-4d5c-9c8d-8f3d8d6a3e4b";
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final AtomicBoolean failWrites = new AtomicBoolean();
+
+    private static <I> I delegate(Class<I> type, Object target, InvocationHandler override) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+            (proxy, method, args) -> {
+                Object result = override.invoke(proxy, method, args);
+                if (result != null) {
+                    return result;
+                }
+                try {
+                    return method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }));
+    }
+
+    private ReadWriteTransaction failing(ReadWriteTransaction tx) {
+        return delegate(ReadWriteTransaction.class, tx, (txProxy, txMethod, txArgs) -> {
+            if (failWrites.get() && (txMethod.getName().equals("put") || txMethod.getName().equals("delete"))) {
+                throw new IllegalStateException("write failed");
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Data broker whose transactions, chained or not, fail to write while {@link #failWrites} is set.
+     */
+    private DataBroker failingDataBroker() {
+        DataBroker db = getDataBroker();
+        return delegate(DataBroker.class, db, (proxy, method, args) -> {
+            if (method.getName().equals("newReadWriteTransaction")) {
+                return failing(db.newReadWriteTransaction());
+            }
+            if (!method.getName().equals("createTransactionChain")) {
+                return null;
+            }
+            BindingTransactionChain chain = (BindingTransactionChain) method.invoke(db, args);
+            return delegate(BindingTransactionChain.class, chain, (chainProxy, chainMethod, chainArgs) -> {
+                if (!chainMethod.getName().equals("newReadWriteTransaction")) {
+                    return null;
+                }
+                return failing(chain.newReadWriteTransaction());
+            });
+        });
+    }
+
+    private NeutronNetworkInterface startWithChain(DataBroker db) {
+        NeutronTranscriberConfig config = cachedConfig();
+        config.setTransactionChainEnabled(true);
+        return start(new NeutronNetworkInterface(db, config, newWriteCoalescer(config)));
+    }
+
+    private static <R> R get(ListenableFuture<R> future) throws Exception {
+        return future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testAsyncWrites() throws Exception {
+        NeutronNetworkInterface transcriber = startWithChain(getDataBroker());
+
+        Assert.assertTrue(get(transcriber.addAsync(ObjectCacheTest.network(UUID1, "net1"))));
+        Assert.assertFalse(get(transcriber.addAsync(ObjectCacheTest.network(UUID1, "again"))));
+        Assert.assertTrue(get(transcriber.updateAsync(UUID1, ObjectCacheTest.network(UUID1, "renamed"))));
+        Assert.assertFalse(get(transcriber.updateAsync(UUID2, ObjectCacheTest.network(UUID2, "net2"))));
+        Assert.assertEquals("renamed", transcriber.get(UUID1).getName());
+        Assert.assertTrue(get(transcriber.removeAsync(UUID1)));
+        Assert.assertFalse(get(transcriber.removeAsync(UUID1)));
+        Assert.assertFalse(transcriber.exists(UUID1));
+    }
+
+    @Test
+    public void testPipelinedWrites() throws Exception {
+        NeutronNetworkInterface transcriber = startWithChain(getDataBroker());
+
+        // the writes are issued without waiting for each other, each sees the ones before it
+        List<ListenableFuture<Boolean>> futures = new ArrayList<>();
+        futures.add(transcriber.addAsync(ObjectCacheTest.network(UUID1, "net1")));
+        futures.add(transcriber.updateAsync(UUID1, ObjectCacheTest.network(UUID1, "renamed")));
+        futures.add(transcriber.addAsync(ObjectCacheTest.network(UUID2, "net2")));
+        futures.add(transcriber.removeAsync(UUID2));
+        for (ListenableFuture<Boolean> future : futures) {
+            Assert.assertTrue(get(future));
+        }
+        Assert.assertEquals("renamed", transcriber.get(UUID1).getName());
+        Assert.assertFalse(transcriber.exists(UUID2));
+    }
+
+    @Test
+    public void testFailedWriteReleasesChain() throws Exception {
+        NeutronNetworkInterface transcriber = startWithChain(failingDataBroker());
+
+        failWrites.set(true);
+        try {
+            get(transcriber.addAsync(ObjectCacheTest.network(UUID1, "net1")));
+            Assert.fail("The failed write succeeded");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        try {
+            transcriber.add(ObjectCacheTest.network(UUID1, "net1"));
+            Assert.fail("The failed write succeeded");
+        } catch (InternalServerErrorException e) {
+            // expected
+        }
+
+        // the failed transactions were given back, the next writes aren't stuck behind them
+        failWrites.set(false);
+        Assert.assertTrue(get(transcriber.addAsync(ObjectCacheTest.network(UUID1, "net1"))));
+        Assert.assertTrue(transcriber.add(ObjectCacheTest.network(UUID2, "net2")));
+        Assert.assertTrue(transcriber.remove(UUID1));
+    }
+
+    @Test
+    public void testChainedBulkAndConditionalWrites() throws Exception {
+        NeutronNetworkInterface transcriber = startWithChain(getDataBroker());
+
+        Assert.assertEquals(Arrays.asList(true, true), transcriber.addAll(Arrays.asList(
+                ObjectCacheTest.network(UUID1, "net1"), ObjectCacheTest.network(UUID2, "net2"))));
+        Assert.assertEquals(Arrays.asList(false), transcriber.addAll(Arrays.asList(
+                ObjectCacheTest.network(UUID1, "again"))));
+        Assert.assertEquals("renamed",
+                transcriber.updateIfRevision(UUID1, ObjectCacheTest.network(UUID1, "renamed"), null, null).getName());
+        // the chain was given back by each of them
+        Assert.assertTrue(get(transcriber.removeAsync(UUID2)));
+        Assert.assertEquals("renamed", transcriber.get(UUID1).getName());
+    }
+
+    @Test
+    public void testFailedBlockingWriteThrowsWithoutChain() throws Exception {
+        DataBroker db = failingDataBroker();
+        NeutronTranscriberConfig config = cachedConfig();
+        NeutronNetworkInterface transcriber = start(new NeutronNetworkInterface(db, config,
+                new WriteCoalescer(db, config)));
+        Assert.assertTrue(transcriber.add(ObjectCacheTest.network(UUID1, "net1")));
+
+        // as on a transaction chain, a failed write is thrown, false only tells it didn't apply
+        failWrites.set(true);
+        try {
+            transcriber.add(ObjectCacheTest.network(UUID2, "net2"));
+            Assert.fail("The failed write succeeded");
+        } catch (InternalServerErrorException e) {
+            // expected
+        }
+        try {
+            transcriber.remove(UUID1);
+            Assert.fail("The failed write succeeded");
+        } catch (InternalServerErrorException e) {
+            // expected
+        }
+        Assert.assertFalse(transcriber.remove(UUID2));
+        Assert.assertTrue(transcriber.exists(UUID1));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AttributeIndexTest {
+
+    // the entries are (key, value) pairs, the value is the indexed attribute
+    private final AttributeIndex<String, String[]> index = new AttributeIndex<>(entry -> entry[1]);
+
+    private void put(String key, String value) {
+        index.put(key, new String[] { key, value });
+    }
+
+    @Test
+    public void testGet() {
+        put("1", "a");
+        put("2", "a");
+        put("3", "b");
+        put("4", null);
+
+        Assert.assertEquals(ImmutableSet.of("1", "2"), index.get("a"));
+        Assert.assertEquals(ImmutableSet.of("3"), index.get("b"));
+        Assert.assertEquals(ImmutableSet.of(), index.get("c"));
+        Assert.assertEquals("a", index.valueOf("1"));
+        Assert.assertNull("entries without the attribute shouldn't be indexed", index.valueOf("4"));
+    }
+
+    @Test
+    public void testUpdate() {
+        put("1", "a");
+        put("2", "a");
+        put("1", "b");
+        Assert.assertEquals(ImmutableSet.of("2"), index.get("a"));
+        Assert.assertEquals(ImmutableSet.of("1"), index.get("b"));
+
+        put("2", null);
+        Assert.assertEquals(ImmutableSet.of(), index.get("a"));
+        Assert.assertNull(index.valueOf("2"));
+
+        index.remove("1");
+        index.remove("5");
+        Assert.assertEquals(ImmutableSet.of(), index.get("b"));
+        Assert.assertNull(index.valueOf("1"));
+    }
+
+    @Test
+    public void testCount() {
+        put("1", "a");
+        put("2", "a");
+        put("3", "b");
+        put("4", null);
+
+        Assert.assertEquals(2, index.count("a"));
+        Assert.assertEquals(0, index.count("c"));
+        Assert.assertEquals(ImmutableMap.of("a", 2L, "b", 1L), index.counts());
+
+        index.remove("3");
+        Assert.assertEquals("values without entries shouldn't be counted", ImmutableMap.of("a", 2L),
+                index.counts());
+    }
+
+    @Test
+    public void testGetIsSnapshot() {
+        put("1", "a");
+        Set<String> keys = index.get("a");
+        put("2", "a");
+        Assert.assertEquals(ImmutableSet.of("1"), keys);
+    }
+}
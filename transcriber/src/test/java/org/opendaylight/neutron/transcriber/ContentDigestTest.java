@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.neutron.spi.NeutronIps;
+import org.opendaylight.neutron.spi.NeutronPort;
+import org.opendaylight.neutron.spi.NeutronSecurityGroup;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.ports.rev150712.ports.attributes.ports.Port;
+
+/**
+ * Tests that the digest of the content of an entry only depends on that content.
+ */
+public class ContentDigestTest extends AbstractTranscriberDataBrokerTest {
+
+    private static final String SECURITY_GROUP1 = "5f1c2b3a-7d6e-4f5a-8b9c-0a1b2c3d4e01";
+    private static final String SECURITY_GROUP2 = "5f1c2b3a-7d6e-4f5a-8b9c-0a1b2c3d4e02";
+    private static final String SUBNET1 = "7a1b2c3d-4e5f-4a6b-8c7d-9e0f1a2b3c01";
+
+    private NeutronPortInterface transcriber;
+
+    @Before
+    public void setUpTranscriber() {
+        NeutronTranscriberConfig config = new NeutronTranscriberConfig();
+        transcriber = new NeutronPortInterface(getDataBroker(), config, newWriteCoalescer(config));
+    }
+
+    private static NeutronPort port(String deviceId, String... securityGroups) {
+        NeutronPort port = NeutronPortInterfaceTest.port(NeutronPortInterfaceTest.PORT1,
+                NeutronPortInterfaceTest.NETWORK1, NeutronPortInterfaceTest.TENANT1, deviceId);
+        List<NeutronSecurityGroup> groups = Stream.of(securityGroups).map(uuid -> {
+            NeutronSecurityGroup securityGroup = new NeutronSecurityGroup();
+            securityGroup.setID(uuid);
+            return securityGroup;
+        }).collect(Collectors.toList());
+        port.setSecurityGroups(groups);
+        NeutronIps fixedIp = new NeutronIps(SUBNET1);
+        fixedIp.setIpAddress("10.0.0.5");
+        port.setFixedIps(Stream.of(fixedIp).collect(Collectors.toList()));
+        return port;
+    }
+
+    private String digest(NeutronPort port) {
+        Port item = transcriber.toMd(port);
+        return ContentDigest.of(item);
+    }
+
+    @Test
+    public void testSameContentSameDigest() {
+        String digest = digest(port("vm1", SECURITY_GROUP1, SECURITY_GROUP2));
+        // built again, and with the entries of its lists in another order
+        Assert.assertEquals(digest, digest(port("vm1", SECURITY_GROUP1, SECURITY_GROUP2)));
+        Assert.assertEquals(digest, digest(port("vm1", SECURITY_GROUP2, SECURITY_GROUP1)));
+    }
+
+    @Test
+    public void testChangedContentChangedDigest() {
+        String digest = digest(port("vm1", SECURITY_GROUP1, SECURITY_GROUP2));
+        Assert.assertNotEquals(digest, digest(port("vm2", SECURITY_GROUP1, SECURITY_GROUP2)));
+        Assert.assertNotEquals(digest, digest(port("vm1", SECURITY_GROUP1)));
+
+        // an attribute of an augmentation
+        NeutronPort bound = port("vm1", SECURITY_GROUP1, SECURITY_GROUP2);
+        bound.setBindinghostID("host1");
+        String boundDigest = digest(bound);
+        Assert.assertNotEquals(digest, boundDigest);
+        bound.setBindinghostID("host2");
+        Assert.assertNotEquals(boundDigest, digest(bound));
+    }
+}
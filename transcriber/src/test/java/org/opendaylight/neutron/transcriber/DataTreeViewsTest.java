@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.binding.api.WriteTransaction;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.neutron.transcriber.DataTreeViews.LocalWrite;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.networks.rev150712.networks.attributes.Networks;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.networks.rev150712.networks.attributes.networks.Network;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.networks.rev150712.networks.attributes.networks.NetworkKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.rev150712.Neutron;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Tests that the writes of this node applied to the views don't overwrite the changes notified since they began.
+ */
+public class DataTreeViewsTest extends AbstractTranscriberDataBrokerTest {
+
+    private static final String UUID1 = "4e8e5957-649f-477b-9e5b-f1f75b21c03c";
+    private static final InstanceIdentifier<Network> NETWORKS =
+            InstanceIdentifier.create(Neutron.class).child(Networks.class).child(Network.class);
+
+    private final Map<NetworkKey, Network> entries = new ConcurrentHashMap<>();
+    private DataTreeViews<Network, NetworkKey> views;
+    private NeutronNetworkInterface transcriber;
+
+    @Before
+    public void setUpViews() {
+        transcriber = new NeutronNetworkInterface(getDataBroker(), new NeutronTranscriberConfig(),
+                newWriteCoalescer(new NeutronTranscriberConfig()));
+        views = new DataTreeViews<>(getDataBroker(), NETWORKS);
+        views.addView(new DataTreeView<NetworkKey, Network>() {
+            @Override
+            public void put(NetworkKey key, Network dataObject) {
+                entries.put(key, dataObject);
+            }
+
+            @Override
+            public void remove(NetworkKey key) {
+                entries.remove(key);
+            }
+        });
+        views.register();
+    }
+
+    @After
+    public void closeViews() {
+        views.close();
+    }
+
+    private Network network(String name) {
+        return transcriber.toMd(ObjectCacheTest.network(UUID1, name));
+    }
+
+    private void writeDirectly(Network item) throws Exception {
+        WriteTransaction tx = getDataBroker().newWriteOnlyTransaction();
+        tx.put(LogicalDatastoreType.CONFIGURATION, NETWORKS.firstIdentifierOf(Networks.class)
+                .child(Network.class, item.getKey()), item, true);
+        tx.submit().get();
+    }
+
+    private String nameOf(NetworkKey key) {
+        Network network = entries.get(key);
+        return network != null ? network.getName() : null;
+    }
+
+    @Test
+    public void testWriteApplied() {
+        Network item = network("net1");
+        LocalWrite<NetworkKey> write = views.beginWrite(item.getKey());
+        views.written(write, item);
+        Assert.assertEquals("net1", nameOf(item.getKey()));
+        // ended, it isn't applied again
+        views.written(write, null);
+        Assert.assertEquals("net1", nameOf(item.getKey()));
+    }
+
+    @Test
+    public void testLateWriteSkipped() throws Exception {
+        Network item = network("net1");
+        LocalWrite<NetworkKey> write = views.beginWrite(item.getKey());
+        // another node writes the entry before the write of this node is applied
+        writeDirectly(network("net2"));
+        awaitTrue(() -> "net2".equals(nameOf(item.getKey())));
+        views.written(write, item);
+        Assert.assertEquals("net2", nameOf(item.getKey()));
+    }
+
+    @Test
+    public void testLateRemoveSkipped() throws Exception {
+        Network item = network("net1");
+        LocalWrite<NetworkKey> write = views.beginWrite(item.getKey());
+        // the entry is created again before the removal of this node is applied
+        writeDirectly(item);
+        awaitTrue(() -> entries.containsKey(item.getKey()));
+        views.written(write, null);
+        Assert.assertEquals("net1", nameOf(item.getKey()));
+    }
+
+    @Test
+    public void testEndedWriteNotApplied() {
+        Network item = network("net1");
+        LocalWrite<NetworkKey> write = views.beginWrite(item.getKey());
+        views.end(write);
+        views.written(write, item);
+        Assert.assertNull(nameOf(item.getKey()));
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opendaylight.neutron.spi.NeutronChanges;
+
+/**
+ * Tests the feed of the changes of the neutron objects.
+ */
+public class NeutronChangeFeedTest extends AbstractTranscriberDataBrokerTest {
+
+    private static final String NETWORK1 = NeutronNetworkInterfaceTest.NETWORK1;
+    private static final String NETWORK2 = NeutronNetworkInterfaceTest.NETWORK2;
+    private static final String NETWORK3 = NeutronNetworkInterfaceTest.NETWORK3;
+    private static final String NETWORK4 = NeutronNetworkInterfaceTest.NETWORK4;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private NeutronChangeFeed newChangeFeed(int size) {
+        NeutronTranscriberConfig config = new NeutronTranscriberConfig();
+        config.setChangeFeedSize(size);
+        NeutronChangeFeed changeFeed = new NeutronChangeFeed(getDataBroker(), config);
+        changeFeed.init();
+        return changeFeed;
+    }
+
+    private NeutronNetworkInterface networks() {
+        NeutronTranscriberConfig config = new NeutronTranscriberConfig();
+        return start(new NeutronNetworkInterface(getDataBroker(), config, newWriteCoalescer(config)));
+    }
+
+    private NeutronPortInterface ports() {
+        NeutronTranscriberConfig config = new NeutronTranscriberConfig();
+        return start(new NeutronPortInterface(getDataBroker(), config, newWriteCoalescer(config)));
+    }
+
+    private static NeutronChanges changesAfter(NeutronChangeFeed changeFeed, String cursor, Set<String> resources,
+            int limit) throws InterruptedException {
+        return changeFeed.getChanges(cursor, resources, limit, TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static List<String> describe(NeutronChanges changes) {
+        return changes.getChanges().stream().map(change -> change.getAction() + ' ' + change.getResource() + ' '
+                + change.getID()).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testChanges() throws Exception {
+        try (NeutronChangeFeed changeFeed = newChangeFeed(16)) {
+            NeutronNetworkInterface networks = networks();
+            String cursor = changeFeed.getCursor();
+
+            Assert.assertTrue(networks.add(ObjectCacheTest.network(NETWORK1, "net1")));
+            NeutronChanges changes = changesAfter(changeFeed, cursor, Collections.emptySet(), 10);
+            Assert.assertEquals(Arrays.asList("create networks " + NETWORK1), describe(changes));
+
+            // the next changes are the ones after the given cursor
+            Assert.assertTrue(networks.update(NETWORK1, ObjectCacheTest.network(NETWORK1, "renamed")));
+            Assert.assertTrue(networks.remove(NETWORK1));
+            awaitTrue(() -> changeFeed.getCursor().endsWith("-3"));
+            NeutronChanges next = changesAfter(changeFeed, changes.getCursor(), Collections.emptySet(), 10);
+            Assert.assertEquals(Arrays.asList("update networks " + NETWORK1, "delete networks " + NETWORK1),
+                    describe(next));
+            Assert.assertNull(next.getChanges().get(1).getRevisionNumber());
+            Assert.assertEquals(changeFeed.getCursor(), next.getCursor());
+
+            // nothing after the last change, once the timeout is over
+            NeutronChanges none = changeFeed.getChanges(next.getCursor(), Collections.emptySet(), 10, 10,
+                    TimeUnit.MILLISECONDS);
+            Assert.assertEquals(Collections.emptyList(), none.getChanges());
+            Assert.assertEquals(next.getCursor(), none.getCursor());
+        }
+    }
+
+    @Test
+    public void testLimitAndResources() throws Exception {
+        try (NeutronChangeFeed changeFeed = newChangeFeed(16)) {
+            NeutronNetworkInterface networks = networks();
+            NeutronPortInterface ports = ports();
+            String cursor = changeFeed.getCursor();
+
+            Assert.assertTrue(networks.add(ObjectCacheTest.network(NETWORK1, "net1")));
+            Assert.assertTrue(ports.add(NeutronPortInterfaceTest.port(NeutronPortInterfaceTest.PORT1, NETWORK1,
+                    NeutronPortInterfaceTest.TENANT1, "vm1")));
+            Assert.assertTrue(networks.add(ObjectCacheTest.network(NETWORK2, "net2")));
+            awaitTrue(() -> changeFeed.getCursor().endsWith("-3"));
+
+            NeutronChanges first = changesAfter(changeFeed, cursor, Collections.emptySet(), 2);
+            Assert.assertEquals(Arrays.asList("create networks " + NETWORK1,
+                    "create ports " + NeutronPortInterfaceTest.PORT1), describe(first));
+            NeutronChanges second = changesAfter(changeFeed, first.getCursor(), Collections.emptySet(), 2);
+            Assert.assertEquals(Arrays.asList("create networks " + NETWORK2), describe(second));
+
+            // the changes of the other resources are skipped, but the cursor moves past them
+            NeutronChanges portChanges = changesAfter(changeFeed, cursor, Collections.singleton("ports"), 10);
+            Assert.assertEquals(Arrays.asList("create ports " + NeutronPortInterfaceTest.PORT1),
+                    describe(portChanges));
+            Assert.assertEquals(changeFeed.getCursor(), portChanges.getCursor());
+            NeutronChanges networkChanges = changesAfter(changeFeed, first.getCursor(),
+                    Collections.singleton("networks"), 10);
+            Assert.assertEquals(Arrays.asList("create networks " + NETWORK2), describe(networkChanges));
+        }
+    }
+
+    @Test
+    public void testOverflow() throws Exception {
+        try (NeutronChangeFeed changeFeed = newChangeFeed(2)) {
+            NeutronNetworkInterface networks = networks();
+            String cursor = changeFeed.getCursor();
+
+            Assert.assertTrue(networks.add(ObjectCacheTest.network(NETWORK1, "net1")));
+            awaitTrue(() -> changeFeed.getCursor().endsWith("-1"));
+            String afterFirst = changeFeed.getCursor();
+            Assert.assertTrue(networks.add(ObjectCacheTest.network(NETWORK2, "net2")));
+            Assert.assertTrue(networks.add(ObjectCacheTest.network(NETWORK3, "net3")));
+            Assert.assertTrue(networks.add(ObjectCacheTest.network(NETWORK4, "net4")));
+            awaitTrue(() -> changeFeed.getCursor().endsWith("-4"));
+
+            // the first changes were overwritten in the ring, their cursors are gone
+            Assert.assertNull(changesAfter(changeFeed, cursor, Collections.emptySet(), 10));
+            Assert.assertNull(changesAfter(changeFeed, afterFirst, Collections.emptySet(), 10));
+            // the last two changes are still there
+            NeutronChanges kept = changesAfter(changeFeed,
+                    afterFirst.substring(0, afterFirst.length() - 1) + "2", Collections.emptySet(), 10);
+            Assert.assertEquals(Arrays.asList("create networks " + NETWORK3, "create networks " + NETWORK4),
+                    describe(kept));
+        }
+    }
+
+    @Test
+    public void testCursorOfAnotherEpoch() throws Exception {
+        try (NeutronChangeFeed changeFeed = newChangeFeed(16); NeutronChangeFeed restarted = newChangeFeed(16)) {
+            // the cursors of a feed before a restart aren't taken by the feed after it
+            Assert.assertNotEquals(changeFeed.getCursor(), restarted.getCursor());
+            Assert.assertNull(changesAfter(restarted, changeFeed.getCursor(), Collections.emptySet(), 10));
+            Assert.assertNull(changesAfter(changeFeed, "not-a-cursor", Collections.emptySet(), 10));
+            // nor the cursors ahead of the feed
+            String cursor = changeFeed.getCursor();
+            Assert.assertNull(changesAfter(changeFeed, cursor.substring(0, cursor.length() - 1) + "5",
+                    Collections.emptySet(), 10));
+        }
+    }
+
+    @Test
+    public void testDisabled() throws Exception {
+        try (NeutronChangeFeed changeFeed = newChangeFeed(0)) {
+            Assert.assertFalse(changeFeed.isEnabled());
+            Assert.assertNull(changesAfter(changeFeed, changeFeed.getCursor(), Collections.emptySet(), 10));
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opendaylight.neutron.spi.NeutronNetwork;
+import org.opendaylight.neutron.spi.NeutronQuery;
+import org.opendaylight.neutron.spi.NeutronRevisionDiff;
+
+/**
+ * Tests the reads of several networks at once, the pages of networks in the order of their UUIDs or names,
+ * the version tags of networks, and the comparison of their revisions with the ones known to a client.
+ */
+public class NeutronNetworkInterfaceTest extends AbstractTranscriberDataBrokerTest {
+
+    static final String NETWORK1 = "0d2ea8a1-9c6a-4c43-a4a1-8e2a5b9c1f01";
+    static final String NETWORK2 = "0d2ea8a1-9c6a-4c43-a4a1-8e2a5b9c1f02";
+    static final String NETWORK3 = "0d2ea8a1-9c6a-4c43-a4a1-8e2a5b9c1f03";
+    static final String NETWORK4 = "0d2ea8a1-9c6a-4c43-a4a1-8e2a5b9c1f04";
+    static final String MISSING = "0d2ea8a1-9c6a-4c43-a4a1-8e2a5b9c1f99";
+
+    private static final Comparator<NeutronNetwork> BY_NAME =
+            Comparator.comparing(NeutronNetwork::getName, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private NeutronNetworkInterface startWithNetworks(NeutronTranscriberConfig config) {
+        NeutronNetworkInterface transcriber =
+                start(new NeutronNetworkInterface(getDataBroker(), config, newWriteCoalescer(config)));
+        Assert.assertTrue(transcriber.add(ObjectCacheTest.network(NETWORK1, "net-c")));
+        Assert.assertTrue(transcriber.add(ObjectCacheTest.network(NETWORK2, "net-a")));
+        Assert.assertTrue(transcriber.add(ObjectCacheTest.network(NETWORK3, "net-d")));
+        Assert.assertTrue(transcriber.add(ObjectCacheTest.network(NETWORK4, "net-b")));
+        return transcriber;
+    }
+
+    private static List<String> uuids(List<NeutronNetwork> networks) {
+        return networks.stream().map(NeutronNetwork::getID).collect(Collectors.toList());
+    }
+
+    private static List<String> page(NeutronNetworkInterface transcriber, Integer limit, String marker,
+            boolean pageReverse) {
+        return uuids(transcriber.query(new NeutronQuery<NeutronNetwork>().page(limit, marker, pageReverse)));
+    }
+
+    private static List<String> sortedByName(NeutronNetworkInterface transcriber, boolean descending,
+            Integer limit, String marker, boolean pageReverse) {
+        return uuids(transcriber.query(new NeutronQuery<NeutronNetwork>()
+                .sort("name", descending, BY_NAME).page(limit, marker, pageReverse)));
+    }
+
+    private static void assertGetMany(NeutronNetworkInterface transcriber) {
+        Map<String, NeutronNetwork> networks =
+                transcriber.getMany(Arrays.asList(NETWORK3, MISSING, NETWORK1, NETWORK3));
+        // in the requested order, without the missing network and the duplicate
+        Assert.assertEquals(Arrays.asList(NETWORK3, NETWORK1), Arrays.asList(networks.keySet().toArray()));
+        Assert.assertEquals("net-d", networks.get(NETWORK3).getName());
+        Assert.assertEquals("net-c", networks.get(NETWORK1).getName());
+        Assert.assertTrue(transcriber.getMany(Arrays.asList(MISSING)).isEmpty());
+    }
+
+    @Test
+    public void testGetManyWithCache() {
+        assertGetMany(startWithNetworks(cachedConfig()));
+    }
+
+    @Test
+    public void testGetManyWithoutCache() {
+        assertGetMany(startWithNetworks(new NeutronTranscriberConfig()));
+    }
+
+    private static void assertPages(NeutronNetworkInterface transcriber) {
+        Assert.assertEquals(Arrays.asList(NETWORK1, NETWORK2), page(transcriber, 2, null, false));
+        Assert.assertEquals(Arrays.asList(NETWORK3, NETWORK4), page(transcriber, 2, NETWORK2, false));
+        Assert.assertEquals(Arrays.asList(), page(transcriber, 2, NETWORK4, false));
+        Assert.assertEquals(Arrays.asList(NETWORK2, NETWORK3, NETWORK4), page(transcriber, null, NETWORK1, false));
+        // a reversed page ends right before the marker, and is returned in order too
+        Assert.assertEquals(Arrays.asList(NETWORK1, NETWORK2), page(transcriber, 2, NETWORK3, true));
+        Assert.assertEquals(Arrays.asList(NETWORK3), page(transcriber, 1, NETWORK4, true));
+
+        // the page of a filtered query only counts the matching networks
+        NeutronQuery<NeutronNetwork> query = new NeutronQuery<NeutronNetwork>()
+                .filter("net-a", network -> !"net-a".equals(network.getName())).page(2, null, false);
+        Assert.assertEquals(Arrays.asList(NETWORK1, NETWORK3), uuids(transcriber.query(query)));
+        try (Stream<NeutronNetwork> networks = transcriber.stream(query.page(2, NETWORK1, false))) {
+            Assert.assertEquals(Arrays.asList(NETWORK3, NETWORK4),
+                    networks.map(NeutronNetwork::getID).collect(Collectors.toList()));
+        }
+
+        // a removed marker still gives the position of the next page
+        Assert.assertTrue(transcriber.remove(NETWORK2));
+        Assert.assertEquals(Arrays.asList(NETWORK3), page(transcriber, 1, NETWORK2, false));
+        Assert.assertEquals(Arrays.asList(NETWORK1), page(transcriber, 1, NETWORK2, true));
+    }
+
+    @Test
+    public void testPagesWithCache() {
+        assertPages(startWithNetworks(cachedConfig()));
+    }
+
+    @Test
+    public void testPagesWithIndexOnly() {
+        NeutronTranscriberConfig config = cachedConfig();
+        config.setCacheEnabled(false);
+        assertPages(startWithNetworks(config));
+    }
+
+    @Test
+    public void testPagesWithoutIndex() {
+        assertPages(startWithNetworks(new NeutronTranscriberConfig()));
+    }
+
+    private static void assertSortedPages(NeutronNetworkInterface transcriber) {
+        // by name: NETWORK2 (net-a), NETWORK4 (net-b), NETWORK1 (net-c), NETWORK3 (net-d)
+        Assert.assertEquals(Arrays.asList(NETWORK2, NETWORK4, NETWORK1, NETWORK3),
+                sortedByName(transcriber, false, null, null, false));
+        Assert.assertEquals(Arrays.asList(NETWORK2, NETWORK4), sortedByName(transcriber, false, 2, null, false));
+        Assert.assertEquals(Arrays.asList(NETWORK1, NETWORK3), sortedByName(transcriber, false, 2, NETWORK4, false));
+        Assert.assertEquals(Arrays.asList(NETWORK2, NETWORK4), sortedByName(transcriber, false, 2, NETWORK1, true));
+        Assert.assertEquals(Arrays.asList(NETWORK3, NETWORK1), sortedByName(transcriber, true, 2, null, false));
+        Assert.assertEquals(Arrays.asList(NETWORK4, NETWORK2), sortedByName(transcriber, true, 2, NETWORK1, false));
+        Assert.assertEquals(Arrays.asList(NETWORK3), sortedByName(transcriber, true, 2, NETWORK1, true));
+        // the marker is positioned by its name, so it has to exist
+        Assert.assertEquals(Arrays.asList(), sortedByName(transcriber, false, 2, MISSING, false));
+
+        // a renamed marker is positioned by its current name, equal names are ordered by UUID
+        Assert.assertTrue(transcriber.update(NETWORK3, ObjectCacheTest.network(NETWORK3, "net-a")));
+        Assert.assertEquals(Arrays.asList(NETWORK2, NETWORK3, NETWORK4, NETWORK1),
+                sortedByName(transcriber, false, null, null, false));
+        Assert.assertEquals(Arrays.asList(NETWORK4, NETWORK1), sortedByName(transcriber, false, 2, NETWORK3, false));
+        Assert.assertEquals(Arrays.asList(NETWORK3, NETWORK2), sortedByName(transcriber, true, 2, NETWORK4, false));
+    }
+
+    @Test
+    public void testSortedPagesWithCache() {
+        assertSortedPages(startWithNetworks(cachedConfig()));
+    }
+
+    @Test
+    public void testSortedPagesWithIndexOnly() {
+        NeutronTranscriberConfig config = cachedConfig();
+        config.setCacheEnabled(false);
+        assertSortedPages(startWithNetworks(config));
+    }
+
+    @Test
+    public void testSortedPagesWithoutIndex() {
+        assertSortedPages(startWithNetworks(new NeutronTranscriberConfig()));
+    }
+
+    private static void assertVersionTags(NeutronNetworkInterface transcriber) {
+        String tag = transcriber.getVersionTag(NETWORK1);
+        Assert.assertNotNull(tag);
+        Assert.assertEquals(tag, transcriber.getVersionTag(NETWORK1));
+        Assert.assertNotEquals(tag, transcriber.getVersionTag(NETWORK2));
+
+        // an update which doesn't bump the revision number still changes the tag
+        NeutronNetwork network = ObjectCacheTest.network(NETWORK1, "renamed");
+        network.setRevisionNumber(1L);
+        Assert.assertTrue(transcriber.update(NETWORK1, network));
+        String updatedTag = transcriber.getVersionTag(NETWORK1);
+        network.setName("renamed again");
+        Assert.assertTrue(transcriber.update(NETWORK1, network));
+        Assert.assertNotEquals(tag, updatedTag);
+        Assert.assertNotEquals(updatedTag, transcriber.getVersionTag(NETWORK1));
+        Assert.assertNull(transcriber.getVersionTag(MISSING));
+    }
+
+    @Test
+    public void testVersionTagsWithCache() {
+        assertVersionTags(startWithNetworks(cachedConfig()));
+    }
+
+    @Test
+    public void testVersionTagsWithoutCache() {
+        assertVersionTags(startWithNetworks(new NeutronTranscriberConfig()));
+    }
+
+    private static void assertRevisionDiff(NeutronNetworkInterface transcriber) {
+        NeutronNetwork network1 = ObjectCacheTest.network(NETWORK1, "net-c");
+        network1.setRevisionNumber(2L);
+        Assert.assertTrue(transcriber.update(NETWORK1, network1));
+        NeutronNetwork network2 = ObjectCacheTest.network(NETWORK2, "net-a");
+        network2.setRevisionNumber(1L);
+        Assert.assertTrue(transcriber.update(NETWORK2, network2));
+
+        Map<String, Long> known = new HashMap<>();
+        known.put(NETWORK1, 2L);
+        known.put(NETWORK2, 5L);
+        // a network known without revision is only compared by its existence
+        known.put(NETWORK3, null);
+        known.put(MISSING, 1L);
+        NeutronRevisionDiff diff = transcriber.diffRevisions(known);
+        Assert.assertEquals(Arrays.asList(MISSING), diff.getMissing());
+        Assert.assertEquals(Arrays.asList(NETWORK2), diff.getStale());
+        Assert.assertEquals(Arrays.asList(NETWORK4), diff.getExtra());
+
+        // a removed network is missing, and nothing is extra once the client knows all the networks
+        Assert.assertTrue(transcriber.remove(NETWORK3));
+        known.put(NETWORK2, 1L);
+        known.put(NETWORK4, null);
+        diff = transcriber.diffRevisions(known);
+        Assert.assertEquals(new HashSet<>(Arrays.asList(MISSING, NETWORK3)), new HashSet<>(diff.getMissing()));
+        Assert.assertEquals(Arrays.asList(), diff.getStale());
+        Assert.assertEquals(Arrays.asList(), diff.getExtra());
+    }
+
+    @Test
+    public void testRevisionDiffWithCache() {
+        assertRevisionDiff(startWithNetworks(cachedConfig()));
+    }
+
+    @Test
+    public void testRevisionDiffWithIndexOnly() {
+        NeutronTranscriberConfig config = cachedConfig();
+        config.setCacheEnabled(false);
+        assertRevisionDiff(startWithNetworks(config));
+    }
+
+    @Test
+    public void testRevisionDiffWithoutIndex() {
+        assertRevisionDiff(startWithNetworks(new NeutronTranscriberConfig()));
+    }
+}
@@ -0,0 +1,385 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.binding.api.WriteTransaction;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.neutron.spi.INeutronObject;
+import org.opendaylight.neutron.spi.NeutronCount;
+import org.opendaylight.neutron.spi.NeutronPort;
+import org.opendaylight.neutron.spi.NeutronQuery;
+import org.opendaylight.neutron.spi.NeutronSecurityGroup;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.ports.rev150712.ports.attributes.Ports;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.ports.rev150712.ports.attributes.ports.Port;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.rev150712.Neutron;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Tests the lookups of the ports by their indexed attributes, with and without the indexes and the cache.
+ */
+public class NeutronPortInterfaceTest extends AbstractTranscriberDataBrokerTest {
+
+    static final String NETWORK1 = "0d2ea8a1-9c6a-4c43-a4a1-8e2a5b9c1f01";
+    static final String NETWORK2 = "0d2ea8a1-9c6a-4c43-a4a1-8e2a5b9c1f02";
+    static final String TENANT1 = "9bacb3c5d39d41a79512987f338cf177";
+    static final String TENANT2 = "9bacb3c5d39d41a79512987f338cf178";
+
+    static final String PORT1 = "4e8e5957-649f-477b-9e5b-f1f75b21c001";
+    static final String PORT2 = "4e8e5957-649f-477b-9e5b-f1f75b21c002";
+    static final String PORT3 = "4e8e5957-649f-477b-9e5b-f1f75b21c003";
+
+    private static final String SECURITY_GROUP1 = "5f1c2b3a-7d6e-4f5a-8b9c-0a1b2c3d4e01";
+    private static final String SECURITY_GROUP2 = "5f1c2b3a-7d6e-4f5a-8b9c-0a1b2c3d4e02";
+
+    static NeutronPort port(String uuid, String networkUuid, String tenantId, String deviceId) {
+        NeutronPort port = new NeutronPort();
+        port.setID(uuid);
+        port.setTenantID(tenantId);
+        port.setNetworkUUID(networkUuid);
+        port.setName("port-" + uuid.substring(uuid.length() - 3));
+        port.setAdminStateUp(Boolean.TRUE);
+        port.setStatus("ACTIVE");
+        port.setMacAddress("fa:16:3e:00:00:" + uuid.substring(uuid.length() - 2));
+        port.setDeviceID(deviceId);
+        port.setDeviceOwner("compute:nova");
+        return port;
+    }
+
+    private NeutronPortInterface startWithPorts(NeutronTranscriberConfig config) {
+        NeutronPortInterface transcriber =
+                start(new NeutronPortInterface(getDataBroker(), config, newWriteCoalescer(config)));
+        Assert.assertTrue(transcriber.add(port(PORT1, NETWORK1, TENANT1, "vm1")));
+        Assert.assertTrue(transcriber.add(port(PORT2, NETWORK1, TENANT2, "vm2")));
+        Assert.assertTrue(transcriber.add(port(PORT3, NETWORK2, TENANT1, "vm1")));
+        return transcriber;
+    }
+
+    private static List<NeutronSecurityGroup> securityGroups(String... uuids) {
+        return Stream.of(uuids).map(uuid -> {
+            NeutronSecurityGroup securityGroup = new NeutronSecurityGroup();
+            securityGroup.setID(uuid);
+            return securityGroup;
+        }).collect(Collectors.toList());
+    }
+
+    private static Set<String> ids(List<? extends INeutronObject<?>> objects) {
+        return objects.stream().map(INeutronObject::getID).collect(Collectors.toSet());
+    }
+
+    private static Set<String> ids(String... uuids) {
+        return Stream.of(uuids).collect(Collectors.toSet());
+    }
+
+    private static void assertLookups(NeutronPortInterface transcriber) {
+        Assert.assertEquals(ids(PORT1, PORT2), ids(transcriber.getByNetworkUUID(NETWORK1)));
+        Assert.assertEquals(ids(PORT1, PORT3), ids(transcriber.getByDeviceID("vm1")));
+        Assert.assertEquals(ids(PORT1, PORT2, PORT3), ids(transcriber.getByDeviceOwner("compute:nova")));
+        Assert.assertEquals(ids(PORT2), ids(transcriber.getByMacAddress("fa:16:3e:00:00:02")));
+        Assert.assertEquals(ids(PORT1, PORT3), ids(transcriber.getByTenantID(TENANT1)));
+        Assert.assertEquals(ids(), ids(transcriber.getByNetworkUUID("0d2ea8a1-9c6a-4c43-a4a1-8e2a5b9c1f03")));
+    }
+
+    @Test
+    public void testLookupsWithCache() {
+        NeutronPortInterface transcriber = startWithPorts(cachedConfig());
+        assertLookups(transcriber);
+
+        Assert.assertTrue(transcriber.update(PORT2, port(PORT2, NETWORK2, TENANT2, "vm2")));
+        Assert.assertEquals(ids(PORT1), ids(transcriber.getByNetworkUUID(NETWORK1)));
+        Assert.assertEquals(ids(PORT2, PORT3), ids(transcriber.getByNetworkUUID(NETWORK2)));
+        Assert.assertTrue(transcriber.remove(PORT3));
+        Assert.assertEquals(ids(PORT2), ids(transcriber.getByNetworkUUID(NETWORK2)));
+    }
+
+    @Test
+    public void testLookupsWithIndexOnly() {
+        NeutronTranscriberConfig config = cachedConfig();
+        config.setCacheEnabled(false);
+        assertLookups(startWithPorts(config));
+    }
+
+    @Test
+    public void testLookupsWithoutIndex() {
+        NeutronTranscriberConfig config = new NeutronTranscriberConfig();
+        assertLookups(startWithPorts(config));
+    }
+
+    private static void assertQueries(NeutronPortInterface transcriber) {
+        // filters evaluated on the stored entries
+        NeutronQuery<NeutronPort> query = new NeutronQuery<NeutronPort>()
+                .filter("network_id", NETWORK1, port -> NETWORK1.equals(port.getNetworkUUID()))
+                .filter("tenant_id", TENANT1, port -> TENANT1.equals(port.getTenantID()));
+        Assert.assertEquals(ids(PORT1), ids(transcriber.query(query)));
+
+        // a filter only evaluated on the converted objects
+        query = new NeutronQuery<NeutronPort>().filter("vm1", port -> "vm1".equals(port.getDeviceID()))
+                .filter("status", "ACTIVE", port -> "ACTIVE".equals(port.getStatus()));
+        Assert.assertEquals(ids(PORT1, PORT3), ids(transcriber.query(query)));
+        query.filter("tenant_id", TENANT2, port -> TENANT2.equals(port.getTenantID()));
+        Assert.assertEquals(ids(), ids(transcriber.query(query)));
+
+        // the projected objects only have the requested fields
+        query = new NeutronQuery<NeutronPort>()
+                .filter("network_id", NETWORK2, port -> NETWORK2.equals(port.getNetworkUUID()))
+                .fields(Arrays.asList("id", "name"));
+        List<NeutronPort> projected = transcriber.query(query);
+        Assert.assertEquals(1, projected.size());
+        Assert.assertEquals(PORT3, projected.get(0).getID());
+        Assert.assertEquals("port-003", projected.get(0).getName());
+        Assert.assertNull(projected.get(0).getNetworkUUID());
+        Assert.assertNull(projected.get(0).getTenantID());
+
+        try (Stream<NeutronPort> ports = transcriber.stream(new NeutronQuery<NeutronPort>()
+                .filter("tenant_id", TENANT1, port -> TENANT1.equals(port.getTenantID())))) {
+            Assert.assertEquals(ids(PORT1, PORT3), ids(ports.collect(Collectors.toList())));
+        }
+    }
+
+    @Test
+    public void testQueriesWithCache() {
+        assertQueries(startWithPorts(cachedConfig()));
+    }
+
+    @Test
+    public void testQueriesWithIndexOnly() {
+        NeutronTranscriberConfig config = cachedConfig();
+        config.setCacheEnabled(false);
+        assertQueries(startWithPorts(config));
+    }
+
+    @Test
+    public void testQueriesWithoutIndex() {
+        assertQueries(startWithPorts(new NeutronTranscriberConfig()));
+    }
+
+    @Test
+    public void testQueryUsesIndex() {
+        NeutronPortInterface transcriber = startWithPorts(cachedConfig());
+
+        // the predicate accepts every port, the ports of the other network are left out by the index lookup
+        NeutronQuery<NeutronPort> query = new NeutronQuery<NeutronPort>().filter("network_id", NETWORK1, port -> true);
+        Assert.assertEquals(ids(PORT1, PORT2), ids(transcriber.query(query)));
+
+        query.filter("tenant_id", TENANT2, port -> TENANT2.equals(port.getTenantID()));
+        Assert.assertEquals(ids(PORT2), ids(transcriber.query(query)));
+
+        query.page(1, null, false);
+        Assert.assertEquals(ids(PORT2), ids(transcriber.query(query)));
+    }
+
+    private static void assertCounts(NeutronPortInterface transcriber) {
+        // the indexes may be behind the writes
+        awaitTrue(() -> transcriber.count(Collections.emptyMap(), null).getCount() == 3);
+        Assert.assertNull(transcriber.count(Collections.emptyMap(), null).getCounts());
+        Assert.assertEquals(Long.valueOf(2),
+                transcriber.count(ImmutableMap.of("network_id", NETWORK1), null).getCount());
+        Assert.assertEquals(Long.valueOf(1),
+                transcriber.count(ImmutableMap.of("network_id", NETWORK1, "tenant_id", TENANT2), null).getCount());
+        Assert.assertEquals(Long.valueOf(0), transcriber.count(ImmutableMap.of("device_id", "vm3"), null).getCount());
+        // an attribute without index
+        Assert.assertEquals(Long.valueOf(1),
+                transcriber.count(ImmutableMap.of("name", "port-003", "tenant_id", TENANT1), null).getCount());
+
+        NeutronCount byNetwork = transcriber.count(ImmutableMap.of("tenant_id", TENANT1), "network_id");
+        Assert.assertEquals(Long.valueOf(2), byNetwork.getCount());
+        Assert.assertEquals("network_id", byNetwork.getGroupBy());
+        Assert.assertEquals(ImmutableMap.of(NETWORK1, 1L, NETWORK2, 1L), byNetwork.getCounts());
+        NeutronCount byTenant = transcriber.count(Collections.emptyMap(), "tenant_id");
+        Assert.assertEquals(Long.valueOf(3), byTenant.getCount());
+        Assert.assertEquals(ImmutableMap.of(TENANT1, 2L, TENANT2, 1L), byTenant.getCounts());
+
+        // the counts follow the updates
+        Assert.assertTrue(transcriber.remove(PORT1));
+        awaitTrue(() -> transcriber.count(Collections.emptyMap(), null).getCount() == 2);
+        Assert.assertEquals(ImmutableMap.of(NETWORK2, 1L),
+                transcriber.count(ImmutableMap.of("tenant_id", TENANT1), "network_id").getCounts());
+
+        try {
+            transcriber.count(ImmutableMap.of("fixed_ips", "10.0.0.1"), null);
+            Assert.fail("ports can't be counted by fixed_ips");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            transcriber.count(Collections.emptyMap(), "fixed_ips");
+            Assert.fail("ports can't be grouped by fixed_ips");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testCountsWithCache() {
+        assertCounts(startWithPorts(cachedConfig()));
+    }
+
+    @Test
+    public void testCountsWithIndexOnly() {
+        NeutronTranscriberConfig config = cachedConfig();
+        config.setCacheEnabled(false);
+        assertCounts(startWithPorts(config));
+    }
+
+    @Test
+    public void testCountsWithoutIndex() {
+        assertCounts(startWithPorts(new NeutronTranscriberConfig()));
+    }
+
+    private static void assertMergedUpdate(NeutronPortInterface transcriber) {
+        NeutronPort port = port(PORT1, NETWORK1, TENANT1, "vm1");
+        port.setSecurityGroups(securityGroups(SECURITY_GROUP1, SECURITY_GROUP2));
+        Map<String, String> vifDetails = new HashMap<>();
+        vifDetails.put("port_filter", "true");
+        vifDetails.put("ovs_hybrid_plug", "false");
+        port.setVIFDetails(vifDetails);
+        port.setBindinghostID("compute1");
+        Assert.assertTrue(transcriber.add(port));
+
+        // the delta names another port and tenant, the merge pins the tenant
+        NeutronPort delta = new NeutronPort();
+        delta.setID(PORT2);
+        delta.setTenantID(TENANT2);
+        delta.setSecurityGroups(securityGroups(SECURITY_GROUP1));
+        delta.setVIFDetails(Collections.singletonMap("port_filter", "true"));
+        NeutronPort updated = transcriber.updateIfRevision(PORT1, delta, null,
+                (completedDelta, original) -> completedDelta.setTenantID(original.getTenantID()));
+        Assert.assertEquals(PORT1, updated.getID());
+        Assert.assertEquals(ids(SECURITY_GROUP1), ids(updated.getSecurityGroups()));
+
+        NeutronPort stored = transcriber.get(PORT1);
+        // the entries missing from the lists of the delta are removed, also within the binding
+        Assert.assertEquals(ids(SECURITY_GROUP1), ids(stored.getSecurityGroups()));
+        Assert.assertEquals(Collections.singletonMap("port_filter", "true"), stored.getVIFDetails());
+        // the attributes missing from the delta keep their value, also within the binding
+        Assert.assertEquals("port-001", stored.getName());
+        Assert.assertEquals(NETWORK1, stored.getNetworkUUID());
+        Assert.assertEquals("compute1", stored.getBindinghostID());
+        Assert.assertEquals(TENANT1, stored.getTenantID());
+        Assert.assertNull(transcriber.get(PORT2));
+    }
+
+    private static NeutronTranscriberConfig mergingConfig(NeutronTranscriberConfig config) {
+        config.setUpdateMergeEnabled(true);
+        return config;
+    }
+
+    @Test
+    public void testMergedUpdateWithCache() {
+        NeutronTranscriberConfig config = mergingConfig(cachedConfig());
+        assertMergedUpdate(start(new NeutronPortInterface(getDataBroker(), config, newWriteCoalescer(config))));
+    }
+
+    @Test
+    public void testMergedUpdateWithoutCache() {
+        NeutronTranscriberConfig config = mergingConfig(new NeutronTranscriberConfig());
+        assertMergedUpdate(start(new NeutronPortInterface(getDataBroker(), config, newWriteCoalescer(config))));
+    }
+
+    private static void assertMergedUpdates(NeutronPortInterface transcriber) throws Exception {
+        NeutronPort port = port(PORT1, NETWORK1, TENANT1, "vm1");
+        port.setSecurityGroups(securityGroups(SECURITY_GROUP1, SECURITY_GROUP2));
+        Map<String, String> vifDetails = new HashMap<>();
+        vifDetails.put("port_filter", "true");
+        vifDetails.put("ovs_hybrid_plug", "false");
+        port.setVIFDetails(vifDetails);
+        port.setBindinghostID("compute1");
+        Assert.assertTrue(transcriber.add(port));
+
+        // the delta has no ID, and keeps the security groups: the lists are replaced entry by entry
+        NeutronPort delta = new NeutronPort();
+        delta.setName("renamed");
+        delta.setSecurityGroups(securityGroups(SECURITY_GROUP2, SECURITY_GROUP1));
+        delta.setVIFDetails(Collections.singletonMap("ovs_hybrid_plug", "true"));
+        Assert.assertTrue(transcriber.update(PORT1, delta));
+        Assert.assertNull(delta.getID());
+        NeutronPort stored = transcriber.get(PORT1);
+        Assert.assertEquals("renamed", stored.getName());
+        Assert.assertEquals(ids(SECURITY_GROUP1, SECURITY_GROUP2), ids(stored.getSecurityGroups()));
+        Assert.assertEquals(Collections.singletonMap("ovs_hybrid_plug", "true"), stored.getVIFDetails());
+        Assert.assertEquals("compute1", stored.getBindinghostID());
+        Assert.assertEquals("vm1", stored.getDeviceID());
+
+        NeutronPort asyncDelta = new NeutronPort();
+        asyncDelta.setDeviceID("vm2");
+        Assert.assertTrue(transcriber.updateAsync(PORT1, asyncDelta).get(10, TimeUnit.SECONDS));
+        stored = transcriber.get(PORT1);
+        Assert.assertEquals("vm2", stored.getDeviceID());
+        Assert.assertEquals("renamed", stored.getName());
+        Assert.assertEquals(Collections.singletonMap("ovs_hybrid_plug", "true"), stored.getVIFDetails());
+        Assert.assertEquals("compute1", stored.getBindinghostID());
+
+        Assert.assertFalse(transcriber.update(PORT2, delta));
+        Assert.assertFalse(transcriber.updateAsync(PORT2, delta).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testMergedUpdatesWithCache() throws Exception {
+        NeutronTranscriberConfig config = mergingConfig(cachedConfig());
+        assertMergedUpdates(start(new NeutronPortInterface(getDataBroker(), config, newWriteCoalescer(config))));
+    }
+
+    @Test
+    public void testMergedUpdatesWithoutCache() throws Exception {
+        NeutronTranscriberConfig config = mergingConfig(new NeutronTranscriberConfig());
+        assertMergedUpdates(start(new NeutronPortInterface(getDataBroker(), config, newWriteCoalescer(config))));
+    }
+
+    @Test
+    public void testMergedUpdatesWithChain() throws Exception {
+        NeutronTranscriberConfig config = mergingConfig(cachedConfig());
+        config.setTransactionChainEnabled(true);
+        assertMergedUpdates(start(new NeutronPortInterface(getDataBroker(), config, newWriteCoalescer(config))));
+    }
+
+    @Test
+    public void testUpdateRunAgainCompletesNewCopy() {
+        NeutronTranscriberConfig config = mergingConfig(new NeutronTranscriberConfig());
+        NeutronPortInterface transcriber = startWithPorts(config);
+        NeutronPort delta = new NeutronPort();
+        delta.setName("renamed");
+
+        List<String> completedDevices = new ArrayList<>();
+        NeutronPort updated = transcriber.updateIfRevision(PORT1, delta, null, (completed, original) -> {
+            completedDevices.add(completed.getDeviceID());
+            if (completedDevices.size() == 1) {
+                // a concurrent change of the port, the update conflicts with it and is run again
+                Port item = transcriber.toMd(port(PORT1, NETWORK1, TENANT1, "vm9"));
+                WriteTransaction tx = getDataBroker().newWriteOnlyTransaction();
+                tx.put(LogicalDatastoreType.CONFIGURATION, InstanceIdentifier.create(Neutron.class)
+                        .child(Ports.class).child(Port.class, item.getKey()), item, true);
+                try {
+                    tx.submit().get();
+                } catch (InterruptedException | ExecutionException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            completed.setDeviceID(original.getDeviceID());
+        });
+
+        // each run completed a new copy of the delta, from the port it read
+        Assert.assertEquals(Arrays.asList(null, null), completedDevices);
+        Assert.assertEquals("vm9", updated.getDeviceID());
+        Assert.assertEquals("renamed", updated.getName());
+        Assert.assertNull(delta.getID());
+        Assert.assertNull(delta.getDeviceID());
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import java.util.Collections;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.binding.api.WriteTransaction;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.neutron.spi.NeutronNetwork;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.networks.rev150712.networks.attributes.Networks;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.networks.rev150712.networks.attributes.networks.Network;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.rev150712.Neutron;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Tests the cache of the transcribers, on the networks.
+ */
+public class ObjectCacheTest extends AbstractTranscriberDataBrokerTest {
+
+    private static final String UUID1 = "4e8e5957-649f-477b-9e5b-f1f75b21c03c";
+    private static final String UUID2 = "a7bf6bd1-2a63-4d5c-9c8d-8f3d8d6a3e4b";
+
+    static NeutronNetwork network(String uuid, String name) {
+        NeutronNetwork network = new NeutronNetwork();
+        network.setID(uuid);
+        network.setTenantID("9bacb3c5d39d41a79512987f338cf177");
+        network.setName(name);
+        network.setAdminStateUp(Boolean.TRUE);
+        network.setStatus("ACTIVE");
+        network.setShared(false);
+        network.setRouterExternal(false);
+        return network;
+    }
+
+    private NeutronNetworkInterface newTranscriber(NeutronTranscriberConfig config) {
+        return new NeutronNetworkInterface(getDataBroker(), config, newWriteCoalescer(config));
+    }
+
+    /**
+     * Writes a network to the datastore without going through the transcriber.
+     */
+    private void writeDirectly(NeutronNetworkInterface transcriber, NeutronNetwork network) throws Exception {
+        Network item = transcriber.toMd(network);
+        WriteTransaction tx = getDataBroker().newWriteOnlyTransaction();
+        tx.put(LogicalDatastoreType.CONFIGURATION, InstanceIdentifier.create(Neutron.class).child(Networks.class)
+                .child(Network.class, item.getKey()), item, true);
+        tx.submit().get();
+    }
+
+    @Test
+    public void testReadyWithStoredEntries() throws Exception {
+        writeDirectly(newTranscriber(cachedConfig()), network(UUID1, "net1"));
+        NeutronNetworkInterface transcriber = start(newTranscriber(cachedConfig()));
+
+        // the views are only ready once the initial notification of the stored entries was processed
+        Assert.assertTrue(transcriber.exists(UUID1));
+        Assert.assertEquals("net1", transcriber.get(UUID1).getName());
+        Assert.assertEquals(1, transcriber.getAll().size());
+    }
+
+    @Test
+    public void testReturnsCopies() throws Exception {
+        NeutronNetworkInterface transcriber = start(newTranscriber(cachedConfig()));
+        Assert.assertTrue(transcriber.add(network(UUID1, "net1")));
+
+        transcriber.get(UUID1).setName("modified");
+        transcriber.getAll().get(0).setName("modified");
+        transcriber.getMany(Collections.singletonList(UUID1)).get(UUID1).setName("modified");
+        transcriber.getAsync(UUID1).get().setName("modified");
+
+        Assert.assertEquals("net1", transcriber.get(UUID1).getName());
+        Assert.assertNotSame(transcriber.get(UUID1), transcriber.get(UUID1));
+    }
+
+    @Test
+    public void testReadYourWrites() throws Exception {
+        NeutronNetworkInterface transcriber = start(newTranscriber(cachedConfig()));
+
+        Assert.assertTrue(transcriber.add(network(UUID1, "net1")));
+        Assert.assertEquals("net1", transcriber.get(UUID1).getName());
+        Assert.assertTrue(transcriber.update(UUID1, network(UUID1, "renamed")));
+        Assert.assertEquals("renamed", transcriber.get(UUID1).getName());
+        Assert.assertTrue(transcriber.remove(UUID1));
+        Assert.assertNull(transcriber.get(UUID1));
+        Assert.assertFalse(transcriber.exists(UUID1));
+    }
+
+    @Test
+    public void testEventualConsistency() throws Exception {
+        NeutronTranscriberConfig config = cachedConfig();
+        config.setCacheConsistency("eventual");
+        NeutronNetworkInterface transcriber = start(newTranscriber(config));
+
+        Assert.assertTrue(transcriber.add(network(UUID1, "net1")));
+        awaitTrue(() -> transcriber.exists(UUID1));
+        Assert.assertEquals("net1", transcriber.get(UUID1).getName());
+
+        // the writes of other datastore users reach the cache the same way
+        writeDirectly(transcriber, network(UUID2, "net2"));
+        awaitTrue(() -> transcriber.exists(UUID2));
+        Assert.assertEquals(2, transcriber.getAll().size());
+    }
+
+    @Test
+    public void testCacheDisabledForResource() throws Exception {
+        NeutronTranscriberConfig config = cachedConfig();
+        config.setCacheDisabledResources("subnets, networks");
+        NeutronNetworkInterface transcriber = start(newTranscriber(config));
+
+        // without the cache the reads go to the datastore, so they see a direct write at once
+        writeDirectly(transcriber, network(UUID1, "net1"));
+        Assert.assertTrue(transcriber.exists(UUID1));
+        Assert.assertEquals("net1", transcriber.get(UUID1).getName());
+        Assert.assertEquals(1, transcriber.getAll().size());
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OrderedIndexTest {
+
+    // the entries are (uuid, value) pairs keyed by their uuid, ordered by value
+    private final OrderedIndex<String, String[]> index = new OrderedIndex<>(entry -> entry[1], entry -> entry[0]);
+
+    private void put(String uuid, String value) {
+        index.put(uuid, new String[] { uuid, value });
+    }
+
+    private static Collection<String> list(Collection<String> keys) {
+        return new ArrayList<>(keys);
+    }
+
+    @Test
+    public void testOrder() {
+        put("3", "b");
+        put("1", "b");
+        put("2", "a");
+        put("4", null);
+
+        Assert.assertEquals("entries without value should come first, ties broken by uuid",
+                Arrays.asList("4", "2", "1", "3"), list(index.keys(null, false)));
+        Assert.assertEquals(Arrays.asList("3", "1", "2", "4"), list(index.keys(null, true)));
+    }
+
+    @Test
+    public void testKeysFromPosition() {
+        put("1", "b");
+        put("2", "a");
+        put("3", "b");
+        put("4", "c");
+
+        OrderedIndex.Position marker = index.getPosition("1");
+        Assert.assertEquals("the position itself should be excluded", Arrays.asList("3", "4"),
+                list(index.keys(marker, false)));
+        Assert.assertEquals(Arrays.asList("2"), list(index.keys(marker, true)));
+
+        // a position of a removed entry still splits the order
+        index.remove("1");
+        Assert.assertNull(index.getPosition("1"));
+        Assert.assertEquals(Arrays.asList("3", "4"), list(index.keys(marker, false)));
+        Assert.assertEquals(Arrays.asList("3", "4"),
+                list(index.keys(new OrderedIndex.Position("b", "1"), false)));
+    }
+
+    @Test
+    public void testUpdate() {
+        put("1", "a");
+        put("2", "b");
+        put("1", "c");
+
+        Assert.assertEquals(Arrays.asList("2", "1"), list(index.keys(null, false)));
+        Assert.assertEquals(new OrderedIndex.Position("c", "1"), index.getPosition("1"));
+
+        index.remove("2");
+        Assert.assertEquals(Arrays.asList("1"), list(index.keys(null, false)));
+    }
+
+    @Test
+    public void testKeysAreLive() {
+        put("1", "a");
+        Collection<String> keys = index.keys(null, false);
+        put("2", "b");
+        Assert.assertEquals(Arrays.asList("1", "2"), list(keys));
+    }
+}
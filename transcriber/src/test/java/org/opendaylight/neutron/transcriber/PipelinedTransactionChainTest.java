@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Uuid;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.networks.rev150712.networks.attributes.Networks;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.networks.rev150712.networks.attributes.networks.Network;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.networks.rev150712.networks.attributes.networks.NetworkBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.rev150712.Neutron;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Tests the hand out of the transactions of a chain.
+ */
+public class PipelinedTransactionChainTest extends AbstractTranscriberDataBrokerTest {
+
+    private static final String UUID1 = "4e8e5957-649f-477b-9e5b-f1f75b21c03c";
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private PipelinedTransactionChain transactionChain;
+
+    @Before
+    public void createChain() {
+        transactionChain = new PipelinedTransactionChain(getDataBroker(), "networks");
+    }
+
+    @After
+    public void closeChain() {
+        transactionChain.close();
+    }
+
+    private static ReadWriteTransaction get(ListenableFuture<ReadWriteTransaction> future) throws Exception {
+        return future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testOneTransactionAtATime() throws Exception {
+        ListenableFuture<ReadWriteTransaction> first = transactionChain.newReadWriteTransaction();
+        ListenableFuture<ReadWriteTransaction> second = transactionChain.newReadWriteTransaction();
+        ListenableFuture<ReadWriteTransaction> third = transactionChain.newReadWriteTransaction();
+        Assert.assertTrue(first.isDone());
+        Assert.assertFalse(second.isDone());
+
+        get(first).cancel();
+        transactionChain.transactionDone();
+        Assert.assertTrue(second.isDone());
+        Assert.assertFalse(third.isDone());
+
+        get(second).cancel();
+        transactionChain.transactionDone();
+        get(third).cancel();
+        transactionChain.transactionDone();
+
+        // nothing is open any more, the next transaction is handed out at once
+        ListenableFuture<ReadWriteTransaction> next = transactionChain.newReadWriteTransaction();
+        Assert.assertTrue(next.isDone());
+        get(next).cancel();
+        transactionChain.transactionDone();
+    }
+
+    @Test
+    public void testSeesSubmittedWrites() throws Exception {
+        Network network = new NetworkBuilder().setUuid(new Uuid(UUID1)).setName("net1").build();
+        InstanceIdentifier<Network> iid =
+                InstanceIdentifier.create(Neutron.class).child(Networks.class).child(Network.class, network.getKey());
+
+        ReadWriteTransaction tx = get(transactionChain.newReadWriteTransaction());
+        tx.put(LogicalDatastoreType.CONFIGURATION, iid, network, true);
+        ListenableFuture<Void> commit = tx.submit();
+        transactionChain.transactionDone();
+
+        // the next transaction sees the write, whether it is committed yet or not
+        ReadWriteTransaction next = get(transactionChain.newReadWriteTransaction());
+        Assert.assertEquals("net1",
+                next.read(LogicalDatastoreType.CONFIGURATION, iid).checkedGet().get().getName());
+        next.cancel();
+        transactionChain.transactionDone();
+        commit.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testCancelledWaiterSkipped() throws Exception {
+        ListenableFuture<ReadWriteTransaction> first = transactionChain.newReadWriteTransaction();
+        ListenableFuture<ReadWriteTransaction> abandoned = transactionChain.newReadWriteTransaction();
+        ListenableFuture<ReadWriteTransaction> third = transactionChain.newReadWriteTransaction();
+        abandoned.cancel(false);
+
+        // the transaction of the abandoned waiter is given back at once, it doesn't block the chain
+        get(first).cancel();
+        transactionChain.transactionDone();
+        Assert.assertTrue(third.isDone());
+        get(third).cancel();
+        transactionChain.transactionDone();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import java.lang.reflect.ParameterizedType;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.neutron.spi.INeutronAdminAttributes;
+import org.opendaylight.neutron.spi.NeutronNetwork;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.attrs.rev150712.AdminAttributes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.attrs.rev150712.BaseAttributes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.attrs.rev150712.IdAttributes;
+import org.opendaylight.yangtools.concepts.Builder;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+
+/**
+ * Checks that the builder constructors and setters the transcribers bind to method handles resolve, and can be
+ * invoked exactly, for every transcriber.
+ */
+public class TranscriberSettersTest extends AbstractTranscriberDataBrokerTest {
+
+    private static final String UUID = "4e8e5957-649f-477b-9e5b-f1f75b21c03c";
+    private static final String TENANT_ID = "9bacb3c5d39d41a79512987f338cf177";
+    private static final Long REVISION_NUMBER = 3L;
+
+    private static final List<Class<? extends AbstractNeutronInterface<?, ?, ?, ?>>> TRANSCRIBERS = Arrays.asList(
+            NeutronBgpvpnInterface.class, NeutronFirewallInterface.class, NeutronFirewallPolicyInterface.class,
+            NeutronFirewallRuleInterface.class, NeutronFloatingIpInterface.class,
+            NeutronL2gatewayConnectionInterface.class, NeutronL2gatewayInterface.class,
+            NeutronLoadBalancerHealthMonitorInterface.class, NeutronLoadBalancerInterface.class,
+            NeutronLoadBalancerListenerInterface.class, NeutronLoadBalancerPoolInterface.class,
+            NeutronMeteringLabelInterface.class, NeutronMeteringLabelRuleInterface.class,
+            NeutronNetworkInterface.class, NeutronPortInterface.class, NeutronQosPolicyInterface.class,
+            NeutronRouterInterface.class, NeutronSFCFlowClassifierInterface.class,
+            NeutronSFCPortChainInterface.class, NeutronSFCPortPairGroupInterface.class,
+            NeutronSFCPortPairInterface.class, NeutronSecurityGroupInterface.class,
+            NeutronSecurityRuleInterface.class, NeutronSubnetInterface.class, NeutronTapFlowInterface.class,
+            NeutronTapServiceInterface.class, NeutronTrunkInterface.class, NeutronVpnIkePolicyInterface.class,
+            NeutronVpnIpSecPolicyInterface.class, NeutronVpnIpSecSiteConnectionsInterface.class,
+            NeutronVpnServiceInterface.class);
+
+    private final NeutronTranscriberConfig config = new NeutronTranscriberConfig();
+
+    @Test
+    public void testToMdUuid() throws Exception {
+        for (Class<? extends AbstractNeutronInterface<?, ?, ?, ?>> transcriberClass : TRANSCRIBERS) {
+            DataObject item = newTranscriber(transcriberClass).toMd(UUID);
+            Assert.assertEquals(transcriberClass.getSimpleName(), UUID, ((IdAttributes) item).getUuid().getValue());
+        }
+    }
+
+    @Test
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public void testToMdIds() throws Exception {
+        NeutronNetwork neutronObject = new NeutronNetwork();
+        neutronObject.setID(UUID);
+        neutronObject.setTenantID(TENANT_ID);
+        neutronObject.setRevisionNumber(REVISION_NUMBER);
+        for (Class<? extends AbstractNeutronInterface<?, ?, ?, ?>> transcriberClass : TRANSCRIBERS) {
+            Class builderClass = builderClassOf(newTranscriber(transcriberClass));
+            IdAttributes item = (IdAttributes) ((Builder) AbstractTranscriberInterface.toMdIds(neutronObject,
+                    builderClass)).build();
+            String message = transcriberClass.getSimpleName();
+            Assert.assertEquals(message, UUID, item.getUuid().getValue());
+            Assert.assertEquals(message, TENANT_ID, item.getTenantId().getValue().replace("-", ""));
+            Assert.assertEquals(message, REVISION_NUMBER, item.getRevisionNumber());
+        }
+    }
+
+    @Test
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public void testToMdAdminAttributes() throws Exception {
+        for (Class<? extends AbstractNeutronInterface<?, ?, ?, ?>> transcriberClass : TRANSCRIBERS) {
+            Class<?> neutronObjectClass = (Class<?>) ((ParameterizedType) transcriberClass.getGenericSuperclass())
+                    .getActualTypeArguments()[3];
+            if (!INeutronAdminAttributes.class.isAssignableFrom(neutronObjectClass)) {
+                continue;
+            }
+            AbstractNeutronInterface transcriber = newTranscriber(transcriberClass);
+            INeutronAdminAttributes neutronObject = (INeutronAdminAttributes) neutronObjectClass.newInstance();
+            neutronObject.setID(UUID);
+            neutronObject.setName("name");
+            neutronObject.setAdminStateUp(Boolean.FALSE);
+            neutronObject.setStatus("DOWN");
+            Builder builder = (Builder) builderClassOf(transcriber).newInstance();
+            transcriber.toMdAdminAttributes(neutronObject, builder);
+            Object item = builder.build();
+            String message = transcriberClass.getSimpleName();
+            Assert.assertEquals(message, UUID, ((IdAttributes) item).getUuid().getValue());
+            Assert.assertEquals(message, "name", ((BaseAttributes) item).getName());
+            Assert.assertEquals(message, Boolean.FALSE, ((AdminAttributes) item).isAdminStateUp());
+            Assert.assertEquals(message, "DOWN", ((AdminAttributes) item).getStatus());
+        }
+    }
+
+    private AbstractNeutronInterface<?, ?, ?, ?> newTranscriber(
+            Class<? extends AbstractNeutronInterface<?, ?, ?, ?>> transcriberClass) throws Exception {
+        return transcriberClass.getConstructor(DataBroker.class, NeutronTranscriberConfig.class,
+                WriteCoalescer.class).newInstance(getDataBroker(), config, newWriteCoalescer(config));
+    }
+
+    /**
+     * Returns the builder class of the list entries of a transcriber, named after the entry interface.
+     */
+    private static Class<?> builderClassOf(AbstractNeutronInterface<?, ?, ?, ?> transcriber) throws Exception {
+        Class<?> entryClass = ((DataObject) transcriber.toMd(UUID)).getImplementedInterface();
+        return Class.forName(entryClass.getName() + "Builder", true, entryClass.getClassLoader());
+    }
+}
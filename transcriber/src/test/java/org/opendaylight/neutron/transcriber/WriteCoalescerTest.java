@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2018 Red Hat, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.neutron.transcriber;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.binding.api.ReadOnlyTransaction;
+import org.opendaylight.controller.md.sal.binding.api.ReadTransaction;
+import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
+import org.opendaylight.controller.md.sal.binding.api.WriteTransaction;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.networks.rev150712.networks.attributes.Networks;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.networks.rev150712.networks.attributes.networks.Network;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.neutron.rev150712.Neutron;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Tests the group commit of the writes.
+ */
+public class WriteCoalescerTest extends AbstractTranscriberDataBrokerTest {
+
+    private static final String UUID1 = "4e8e5957-649f-477b-9e5b-f1f75b21c03c";
+    private static final String UUID2 = "a7bf6bd1-2a63-4d5c-9c8d-8f3d8d6a3e4b";
+    private static final String UUID3 = "c1f2a9e0-6b0a-4b38-9d3e-2f6a3c8e7d51";
+
+    private static final long TIMEOUT_SECONDS = 10;
+    private static final long LONG_WINDOW_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final Set<ReadWriteTransaction> transactions =
+            Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    private WriteCoalescer newWriteCoalescer(long windowMillis, int maxBatchSize) {
+        NeutronTranscriberConfig config = new NeutronTranscriberConfig();
+        config.setWriteCoalescingEnabled(true);
+        config.setWriteCoalescingWindow(windowMillis);
+        config.setWriteCoalescingMaxBatch(maxBatchSize);
+        return newWriteCoalescer(config);
+    }
+
+    private Network network(String uuid, String name) {
+        NeutronTranscriberConfig config = new NeutronTranscriberConfig();
+        return new NeutronNetworkInterface(getDataBroker(), config, newWriteCoalescer(config))
+                .toMd(ObjectCacheTest.network(uuid, name));
+    }
+
+    private static InstanceIdentifier<Network> iid(Network network) {
+        return InstanceIdentifier.create(Neutron.class).child(Networks.class).child(Network.class, network.getKey());
+    }
+
+    private static Network read(ReadTransaction tx, Network network) {
+        try {
+            return tx.read(LogicalDatastoreType.CONFIGURATION, iid(network)).checkedGet().orNull();
+        } catch (ReadFailedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Network read(Network network) {
+        try (ReadOnlyTransaction tx = getDataBroker().newReadOnlyTransaction()) {
+            return read(tx, network);
+        }
+    }
+
+    /**
+     * Adds the network if it doesn't exist, in the given transaction.
+     */
+    private boolean addIfAbsent(ReadWriteTransaction tx, Network network) {
+        transactions.add(tx);
+        if (read(tx, network) != null) {
+            return false;
+        }
+        tx.put(LogicalDatastoreType.CONFIGURATION, iid(network), network, true);
+        return true;
+    }
+
+    private static <R> R get(ListenableFuture<R> future) throws Exception {
+        return future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testBatching() throws Exception {
+        WriteCoalescer writeCoalescer = newWriteCoalescer(500, 64);
+        Network network1 = network(UUID1, "net1");
+        Network network2 = network(UUID2, "net2");
+
+        ListenableFuture<Boolean> add1 = writeCoalescer.submit(tx -> addIfAbsent(tx, network1));
+        ListenableFuture<Boolean> add2 = writeCoalescer.submit(tx -> addIfAbsent(tx, network2));
+        // the check of the second add of a network sees the first one, in the shared transaction
+        ListenableFuture<Boolean> add1Again = writeCoalescer.submit(tx -> addIfAbsent(tx, network(UUID1, "other")));
+
+        Assert.assertTrue(get(add1));
+        Assert.assertTrue(get(add2));
+        Assert.assertFalse(get(add1Again));
+        Assert.assertEquals(1, transactions.size());
+        Assert.assertEquals("net1", read(network1).getName());
+        Assert.assertEquals("net2", read(network2).getName());
+    }
+
+    @Test
+    public void testFlushWhenFull() throws Exception {
+        WriteCoalescer writeCoalescer = newWriteCoalescer(LONG_WINDOW_MILLIS, 2);
+        Network network1 = network(UUID1, "net1");
+        Network network2 = network(UUID2, "net2");
+
+        // the batch is committed once full, long before its window ends
+        ListenableFuture<Boolean> add1 = writeCoalescer.submit(tx -> addIfAbsent(tx, network1));
+        ListenableFuture<Boolean> add2 = writeCoalescer.submit(tx -> addIfAbsent(tx, network2));
+        Assert.assertTrue(get(add1));
+        Assert.assertTrue(get(add2));
+        Assert.assertEquals(1, transactions.size());
+        Assert.assertNotNull(read(network1));
+        Assert.assertNotNull(read(network2));
+    }
+
+    @Test
+    public void testFailedOperationOnlyFailsItsCaller() throws Exception {
+        WriteCoalescer writeCoalescer = newWriteCoalescer(LONG_WINDOW_MILLIS, 3);
+        Network network1 = network(UUID1, "net1");
+        Network network3 = network(UUID3, "net3");
+
+        ListenableFuture<Boolean> add1 = writeCoalescer.submit(tx -> addIfAbsent(tx, network1));
+        ListenableFuture<Boolean> failed = writeCoalescer.submit(tx -> {
+            throw new IllegalStateException("failed");
+        });
+        ListenableFuture<Boolean> add3 = writeCoalescer.submit(tx -> addIfAbsent(tx, network3));
+
+        Assert.assertTrue(get(add1));
+        Assert.assertTrue(get(add3));
+        try {
+            get(failed);
+            Assert.fail("The failed operation was committed");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        Assert.assertNotNull(read(network1));
+        Assert.assertNotNull(read(network3));
+    }
+
+    @Test
+    public void testFailedCommitRetriedPerWrite() throws Exception {
+        WriteCoalescer writeCoalescer = newWriteCoalescer(LONG_WINDOW_MILLIS, 2);
+        Network network1 = network(UUID1, "net1");
+        Network network2 = network(UUID2, "net2");
+        Network otherNetwork1 = network(UUID1, "other");
+        AtomicInteger runs = new AtomicInteger();
+
+        ListenableFuture<Boolean> conflicting = writeCoalescer.submit(tx -> {
+            if (read(tx, network1) != null) {
+                return false;
+            }
+            if (runs.incrementAndGet() == 1) {
+                // another writer adds the network after it was read, so the coalesced commit fails
+                WriteTransaction other = getDataBroker().newWriteOnlyTransaction();
+                other.put(LogicalDatastoreType.CONFIGURATION, iid(network1), otherNetwork1, true);
+                try {
+                    other.submit().checkedGet();
+                } catch (TransactionCommitFailedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            tx.put(LogicalDatastoreType.CONFIGURATION, iid(network1), network1, true);
+            return true;
+        });
+        ListenableFuture<Boolean> add2 = writeCoalescer.submit(tx -> addIfAbsent(tx, network2));
+
+        // run again alone, the conditional write sees the write of the other writer
+        Assert.assertFalse(get(conflicting));
+        Assert.assertTrue(get(add2));
+        Assert.assertEquals(1, runs.get());
+        Assert.assertEquals("other", read(network1).getName());
+        Assert.assertEquals("net2", read(network2).getName());
+    }
+
+    @Test
+    public void testDisabled() throws Exception {
+        WriteCoalescer writeCoalescer = newWriteCoalescer(new NeutronTranscriberConfig());
+        Network network1 = network(UUID1, "net1");
+
+        Assert.assertTrue(get(writeCoalescer.submit(tx -> addIfAbsent(tx, network1))));
+        Assert.assertFalse(get(writeCoalescer.submit(tx -> addIfAbsent(tx, network1))));
+        Assert.assertEquals(2, transactions.size());
+        Assert.assertNotNull(read(network1));
+    }
+}